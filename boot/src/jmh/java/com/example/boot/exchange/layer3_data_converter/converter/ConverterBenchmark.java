@@ -0,0 +1,187 @@
+package com.example.boot.exchange.layer3_data_converter.converter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.converter.binance.BinanceConverterImpl;
+import com.example.boot.exchange.layer3_data_converter.converter.bithumb.BithumbConverterImpl;
+import com.example.boot.exchange.layer3_data_converter.converter.upbit.UpbitConverterImpl;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 거래소 Ticker 변환 벤치마크 (스트리밍 JsonParser vs 기존 readTree 방식)
+ * ./gradlew jmh -PjmhIncludes=ConverterBenchmark 로 실행하며, gc 프로파일러로 op당 할당량(gc.alloc.rate.norm)도 출력합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+    private static final String BINANCE_TICKER = "{\"e\":\"24hrTicker\",\"E\":1735689600123,\"s\":\"BTCUSDT\","
+        + "\"p\":\"-123.45000000\",\"P\":\"-0.129\",\"w\":\"95000.1\",\"c\":\"95123.45000000\","
+        + "\"Q\":\"0.01\",\"h\":\"96000.00\",\"l\":\"94000.00\",\"v\":\"12345.6789\",\"q\":\"1.2E9\","
+        + "\"O\":1735603200000,\"C\":1735689600000,\"F\":1,\"L\":2,\"n\":2}";
+    private static final String UPBIT_TICKER = "{\"ty\":\"ticker\",\"cd\":\"KRW-BTC\",\"op\":139000000,"
+        + "\"hp\":140500000.0,\"lp\":138000000,\"tp\":139500000.5,\"pcp\":139100000,\"c\":\"RISE\","
+        + "\"cp\":400000.5,\"scp\":400000,\"cr\":0.0028,\"scr\":0.0028,\"tv\":0.00123456,"
+        + "\"atv\":1234.56789012,\"atv24h\":2345.6,\"tms\":1735689600123,\"st\":\"REALTIME\"}";
+    private static final String BITHUMB_TICKER = "{\"type\":\"ticker\",\"content\":{\"tickType\":\"24H\","
+        + "\"date\":\"20250101\",\"time\":\"090000\",\"openPrice\":\"139000000\",\"closePrice\":\"139500000\","
+        + "\"lowPrice\":\"138000000\",\"highPrice\":\"140500000\",\"value\":\"172000000000.5\","
+        + "\"volume\":\"1234.56789012\",\"sellVolume\":\"600.1\",\"buyVolume\":\"634.4\","
+        + "\"prevClosePrice\":\"139100000\",\"chgRate\":\"0.29\",\"chgAmt\":\"400000\","
+        + "\"volumePower\":\"105.7\",\"symbol\":\"BTC_KRW\"}}";
+
+    @Param({"binance", "upbit", "bithumb"})
+    public String exchange;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExchangeDataConverter converter;
+    private ExchangeMessage message;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        TradingPairRegistry registry = new TradingPairRegistry(null, 8, 8);
+        String raw;
+        switch (exchange) {
+            case "binance" -> {
+                registry.register(exchange, new CurrencyPair("USDT", "BTC"));
+                converter = new BinanceConverterImpl(objectMapper, registry);
+                raw = BINANCE_TICKER;
+            }
+            case "upbit" -> {
+                registry.register(exchange, new CurrencyPair("KRW", "BTC"));
+                converter = new UpbitConverterImpl(objectMapper, registry);
+                raw = UPBIT_TICKER;
+            }
+            case "bithumb" -> {
+                registry.register(exchange, new CurrencyPair("KRW", "BTC"));
+                converter = new BithumbConverterImpl(objectMapper, registry);
+                raw = BITHUMB_TICKER;
+            }
+            default -> throw new IllegalArgumentException("Unknown exchange: " + exchange);
+        }
+        message = new ExchangeMessage(exchange, raw, Instant.now(), ExchangeMessage.MessageType.TICKER);
+        payload = raw.getBytes(StandardCharsets.UTF_8);
+        if (streaming() == null || tree() == null) {
+            throw new IllegalStateException("Benchmark ticker did not convert: " + exchange);
+        }
+    }
+
+    @Benchmark
+    public StandardExchangeData streaming() {
+        return converter.convert(message).block();
+    }
+
+    /**
+     * WebSocket 수신 버퍼에서 바로 변환 (String 디코딩 없음)
+     */
+    @Benchmark
+    public StandardExchangeData streamingBuffer() {
+        return converter.convert(DefaultDataBufferFactory.sharedInstance.wrap(payload)).block();
+    }
+
+    /**
+     * 기존 변환 방식 (readTree 후 필드별 BigDecimal 생성, 심볼 분해)
+     */
+    @Benchmark
+    public StandardExchangeData tree() {
+        return Mono.fromCallable(() -> switch (exchange) {
+                case "binance" -> treeBinance(objectMapper.readTree(message.rawMessage()));
+                case "upbit" -> treeUpbit(objectMapper.readTree(message.rawMessage()));
+                default -> treeBithumb(objectMapper.readTree(message.rawMessage()));
+            })
+            .onErrorResume(e -> Mono.empty())
+            .block();
+    }
+
+    private static StandardExchangeData treeBinance(JsonNode node) {
+        if (!"24hrTicker".equals(node.get("e").asText())) {
+            return null;
+        }
+        String symbol = node.get("s").asText();
+        CurrencyPair currencyPair = symbol.endsWith("BTC")
+            ? new CurrencyPair("BTC", symbol.substring(0, symbol.length() - 3))
+            : new CurrencyPair("USDT", symbol.substring(0, symbol.length() - 4));
+        return StandardExchangeData.builder()
+            .exchange("binance")
+            .currencyPair(currencyPair)
+            .price(new BigDecimal(node.get("c").asText()))
+            .volume(new BigDecimal(node.get("v").asText()))
+            .highPrice(new BigDecimal(node.get("h").asText()))
+            .lowPrice(new BigDecimal(node.get("l").asText()))
+            .priceChange(new BigDecimal(node.get("p").asText()))
+            .priceChangePercent(new BigDecimal(node.get("P").asText()))
+            .volume24h(new BigDecimal(node.get("v").asText()))
+            .timestamp(Instant.ofEpochMilli(node.get("E").asLong()))
+            .metadata(new HashMap<>())
+            .build();
+    }
+
+    private static StandardExchangeData treeUpbit(JsonNode node) {
+        if (!"ticker".equals(node.get("ty").asText())) {
+            return null;
+        }
+        String[] currencies = node.get("cd").asText().split("-");
+        return StandardExchangeData.builder()
+            .exchange("upbit")
+            .currencyPair(new CurrencyPair(currencies[0], currencies[1]))
+            .price(new BigDecimal(node.get("tp").asText()))
+            .volume(new BigDecimal(node.get("tv").asText()))
+            .highPrice(new BigDecimal(node.get("hp").asText()))
+            .lowPrice(new BigDecimal(node.get("lp").asText()))
+            .priceChange(new BigDecimal(node.get("cp").asText()))
+            .priceChangePercent(new BigDecimal(node.get("cr").asText()))
+            .volume24h(new BigDecimal(node.get("atv").asText()))
+            .timestamp(Instant.ofEpochMilli(node.get("tms").asLong()))
+            .metadata(new HashMap<>())
+            .build();
+    }
+
+    private static StandardExchangeData treeBithumb(JsonNode node) {
+        if (!"ticker".equals(node.get("type").asText())) {
+            return null;
+        }
+        JsonNode content = node.get("content");
+        String[] currencies = content.get("symbol").asText().split("_");
+        return StandardExchangeData.builder()
+            .exchange("bithumb")
+            .currencyPair(new CurrencyPair(currencies[1], currencies[0]))
+            .price(new BigDecimal(content.get("closePrice").asText()))
+            .volume(new BigDecimal(content.get("volume").asText()))
+            .highPrice(new BigDecimal(content.get("highPrice").asText()))
+            .lowPrice(new BigDecimal(content.get("lowPrice").asText()))
+            .priceChange(new BigDecimal(content.get("chgAmt").asText()))
+            .priceChangePercent(new BigDecimal(content.get("chgRate").asText()))
+            .volume24h(new BigDecimal(content.get("volume").asText()))
+            .timestamp(Instant.now())
+            .metadata(new HashMap<>())
+            .build();
+    }
+}
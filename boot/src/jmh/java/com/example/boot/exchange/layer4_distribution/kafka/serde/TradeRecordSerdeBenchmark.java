@@ -0,0 +1,93 @@
+package com.example.boot.exchange.layer4_distribution.kafka.serde;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.boot.exchange.layer1_core.config.ExchangeConfig;
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * trades 토픽 레코드 직렬화 벤치마크 (바이너리 vs JSON)
+ * ./gradlew jmh -PjmhIncludes=TradeRecordSerdeBenchmark 로 실행하며, 레코드 크기는 setup에서 한 번 출력합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TradeRecordSerdeBenchmark {
+    private static final String TOPIC = "exchange.trades";
+
+    @Param({"BINARY", "JSON"})
+    public TradeRecordFormat format;
+
+    private TradeRecordSerializer serializer;
+    private TradeRecordDeserializer deserializer;
+    private StandardExchangeData data;
+    private RecordHeaders headers;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        TradingPairRegistry registry = new TradingPairRegistry(createConfig(), 8, 8);
+        TickBinaryCodec codec = new TickBinaryCodec(registry);
+        serializer = new TradeRecordSerializer(format, codec);
+        deserializer = new TradeRecordDeserializer(codec);
+        data = StandardExchangeData.from(new CompactTick(
+            registry.register("binance", new CurrencyPair("USDT", "BTC")),
+            Instant.parse("2025-01-01T00:00:00Z").toEpochMilli(),
+            9_512_345_000_000L,   // 95123.45
+            1_250_000L,           // 0.0125
+            9_600_000_000_000L,
+            9_400_000_000_000L,
+            -12_345_000_000L,
+            -129_000_000L,
+            1_234_567_890_000L
+        ));
+        headers = new RecordHeaders();
+        bytes = serializer.serialize(TOPIC, headers, data);
+        System.out.printf("%n%s record: %d bytes%n", format, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), data);
+    }
+
+    @Benchmark
+    public StandardExchangeData decode() {
+        return deserializer.deserialize(TOPIC, headers, bytes);
+    }
+
+    private static ExchangeConfig createConfig() {
+        ExchangeConfig config = new ExchangeConfig();
+        ExchangeConfig.Common common = new ExchangeConfig.Common();
+        common.setSupportedSymbols(List.of("BTC", "ETH"));
+        config.setCommon(common);
+
+        ExchangeConfig.Exchange binance = new ExchangeConfig.Exchange();
+        binance.setSupportedCurrencies(List.of("USDT", "BTC"));
+        ExchangeConfig.Exchanges exchanges = new ExchangeConfig.Exchanges();
+        exchanges.setBinance(binance);
+        config.setExchanges(exchanges);
+        return config;
+    }
+}
@@ -1,67 +1,191 @@
 package com.example.boot.common.logging;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.helpers.MessageFormatter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 주기적 집계 로거
+ * (로거, 메시지 템플릿)을 키로 슬롯을 하나씩 두고, 호출 시에는 카운터 증가와
+ * 마지막 인자 기록만 수행합니다(엔트리 객체/정규식/큐 없음).
+ * flush 시 이번 주기에 호출된 슬롯의 마지막 메시지만 포맷해 출력합니다.
+ * 이번 주기에 호출되지 않은 슬롯은 제거되므로 메모리는 활성 템플릿 수로 제한됩니다.
+ * 메시지는 상수 템플릿이어야 합니다 (호출마다 만든 문자열은 매번 새 슬롯이 됨). 주기적인 상태 보고는 log.info로 직접 남깁니다.
+ */
 @Component
 public class ScheduledLogger {
-    private final Map<String, Queue<LogEntry>> logQueues = new ConcurrentHashMap<>();
+    private static final int MAX_INLINE_ARGS = 4;
 
-    private static class LogEntry {
-        final Logger logger;
-        final String message;
-        final Object[] args;
-        final String messagePattern;
+    private final int maxPatterns;
+    private final Map<String, LoggerSlots> loggers = new ConcurrentHashMap<>();
+    private final AtomicInteger patternCount = new AtomicInteger(0);
+    private final AtomicLong droppedCount = new AtomicLong(0);
 
-        LogEntry(Logger logger, String message, Object... args) {
-            this.logger = logger;
-            this.message = message;
-            this.args = args;
-            this.messagePattern = message.replaceAll("\\{\\}", ".*?");
+    public ScheduledLogger(@Value("${logging.scheduled.max-patterns:512}") int maxPatterns) {
+        this.maxPatterns = maxPatterns;
+    }
+
+    public void scheduleLog(Logger log, String message) {
+        Slot slot = slotFor(log, message);
+        if (slot != null) {
+            slot.record(0, null, null, null, null);
+        }
+    }
+
+    public void scheduleLog(Logger log, String message, Object arg1) {
+        Slot slot = slotFor(log, message);
+        if (slot != null) {
+            slot.record(1, arg1, null, null, null);
+        }
+    }
+
+    public void scheduleLog(Logger log, String message, Object arg1, Object arg2) {
+        Slot slot = slotFor(log, message);
+        if (slot != null) {
+            slot.record(2, arg1, arg2, null, null);
+        }
+    }
+
+    public void scheduleLog(Logger log, String message, Object arg1, Object arg2, Object arg3) {
+        Slot slot = slotFor(log, message);
+        if (slot != null) {
+            slot.record(3, arg1, arg2, arg3, null);
         }
+    }
 
-        String getFormattedMessage() {
-            return MessageFormatter.arrayFormat(message, args).getMessage();
+    public void scheduleLog(Logger log, String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        Slot slot = slotFor(log, message);
+        if (slot != null) {
+            slot.record(4, arg1, arg2, arg3, arg4);
         }
     }
-    
+
     public void scheduleLog(Logger log, String message, Object... args) {
-        String key = log.getName();
-        logQueues.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>())
-                .offer(new LogEntry(log, message, args));
+        Slot slot = slotFor(log, message);
+        if (slot != null) {
+            slot.recordArray(args);
+        }
+    }
+
+    /**
+     * 슬롯 수 제한으로 기록되지 못한 호출 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
     }
 
     @Scheduled(fixedRateString = "${logging.scheduled.default-interval:10000}")
     public void flushLogs() {
-        logQueues.forEach((loggerName, queue) -> {
-            if (!queue.isEmpty()) {
-                StringBuilder sb = new StringBuilder("\n=== Aggregated Logs ===\n");
-                Queue<LogEntry> entries = new ConcurrentLinkedQueue<>(queue);
-                
-                // 스케줄이 돌 때마다 큐를 비움
-                queue.clear();
-
-                // 중복 제거를 위한 Map (패턴별로 마지막 메시지만 유지)
-                Map<String, LogEntry> uniquePatterns = new LinkedHashMap<>();
-                entries.forEach(entry -> uniquePatterns.put(entry.messagePattern, entry));
-
-                // 대표 메시지만 출력
-                uniquePatterns.values().forEach(entry -> 
-                    sb.append(String.format("- %s\n", entry.getFormattedMessage()))
-                );
-
-                if (!entries.isEmpty()) {
-                    entries.peek().logger.info(sb.toString());
+        loggers.values().forEach(loggerSlots -> {
+            StringBuilder sb = null;
+
+            for (Map.Entry<String, Slot> entry : loggerSlots.slots.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.pending.getAndSet(0) == 0) {
+                    // 이번 주기에 호출되지 않은 슬롯 정리
+                    if (loggerSlots.slots.remove(entry.getKey(), slot)) {
+                        patternCount.decrementAndGet();
+                        // 제거 직전에 기록된 호출이 있으면 다음 주기에 출력되도록 되돌림
+                        if (slot.pending.get() > 0 && loggerSlots.slots.putIfAbsent(entry.getKey(), slot) == null) {
+                            patternCount.incrementAndGet();
+                        }
+                    }
+                    continue;
+                }
+                if (sb == null) {
+                    sb = new StringBuilder("\n=== Aggregated Logs ===\n");
                 }
+                // 대표 메시지(마지막 호출)만 출력
+                sb.append(String.format("- %s\n", slot.format()));
+            }
+
+            if (sb != null) {
+                loggerSlots.logger.info(sb.toString());
             }
         });
     }
-} 
\ No newline at end of file
+
+    private Slot slotFor(Logger log, String message) {
+        LoggerSlots loggerSlots = loggers.get(log.getName());
+        if (loggerSlots == null) {
+            loggerSlots = loggers.computeIfAbsent(log.getName(), name -> new LoggerSlots(log));
+        }
+
+        Slot slot = loggerSlots.slots.get(message);
+        if (slot != null) {
+            return slot;
+        }
+        if (patternCount.get() >= maxPatterns) {
+            droppedCount.incrementAndGet();
+            return null;
+        }
+        Slot created = new Slot(message);
+        Slot existing = loggerSlots.slots.putIfAbsent(message, created);
+        if (existing != null) {
+            return existing;
+        }
+        patternCount.incrementAndGet();
+        return created;
+    }
+
+    private static final class LoggerSlots {
+        final Logger logger;
+        final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+        LoggerSlots(Logger logger) {
+            this.logger = logger;
+        }
+    }
+
+    /**
+     * 템플릿별 호출 카운터와 마지막 인자 (인자 슬롯은 미리 할당)
+     */
+    private static final class Slot {
+        final String message;
+        final AtomicLong pending = new AtomicLong(0);
+        private final Object[] args = new Object[MAX_INLINE_ARGS];
+        private int argCount = 0;
+        private Object[] overflowArgs;  // 인자가 MAX_INLINE_ARGS개를 넘는 경우 호출자 배열을 그대로 참조
+
+        Slot(String message) {
+            this.message = message;
+        }
+
+        synchronized void record(int count, Object arg1, Object arg2, Object arg3, Object arg4) {
+            args[0] = arg1;
+            args[1] = arg2;
+            args[2] = arg3;
+            args[3] = arg4;
+            argCount = count;
+            overflowArgs = null;
+            pending.incrementAndGet();
+        }
+
+        synchronized void recordArray(Object[] array) {
+            if (array == null || array.length <= MAX_INLINE_ARGS) {
+                int count = array == null ? 0 : array.length;
+                for (int i = 0; i < MAX_INLINE_ARGS; i++) {
+                    args[i] = i < count ? array[i] : null;
+                }
+                argCount = count;
+                overflowArgs = null;
+            } else {
+                overflowArgs = array;
+            }
+            pending.incrementAndGet();
+        }
+
+        synchronized String format() {
+            Object[] snapshot = overflowArgs != null ? overflowArgs : Arrays.copyOf(args, argCount);
+            return MessageFormatter.arrayFormat(message, snapshot).getMessage();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.boot.exchange.layer1_core.config;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -17,6 +19,7 @@ public class ExchangeConfig {
     private Common common;
     private Exchanges exchanges;
     private Connection connection;
+    private Tick tick;
 
     @Getter
     @Setter
@@ -46,6 +49,24 @@ public class ExchangeConfig {
         private List<String> supportedCurrencies;
     }
 
+    /**
+     * 고정소수점 틱 소수 자릿수 덮어쓰기 (기본값은 exchange.tick.price-scale/volume-scale)
+     * 코인별 설정이 기준통화별 설정보다 우선하며, 지정하지 않은 항목은 다음 단계 값을 사용합니다.
+     */
+    @Getter
+    @Setter
+    public static class Tick {
+        private Map<String, Scale> quotes = new HashMap<>();  // 기준통화별 (KRW 등)
+        private Map<String, Scale> bases = new HashMap<>();   // 코인별 (저가 코인 등)
+    }
+
+    @Getter
+    @Setter
+    public static class Scale {
+        private Integer priceScale;
+        private Integer volumeScale;
+    }
+
     @Getter
     @Setter
     public static class Connection {
@@ -0,0 +1,110 @@
+package com.example.boot.exchange.layer1_core.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래소 심볼 -> TradingPair 완전 해시 테이블 (불변)
+ * 등록된 심볼이 서로 충돌하지 않는 seed/크기를 생성 시 찾아 두므로, 조회는 해시 한 번과 문자 비교 한 번입니다.
+ * 파서의 문자 버퍼를 그대로 조회할 수 있어 심볼 String을 만들지 않습니다.
+ */
+final class SymbolTable {
+    static final SymbolTable EMPTY = new SymbolTable(new char[1][], new TradingPair[1], 0, 0);
+
+    private static final int MAX_SEED_ATTEMPTS = 64;
+
+    private final char[][] keys;
+    private final TradingPair[] values;
+    private final int seed;
+    private final int mask;
+
+    private SymbolTable(char[][] keys, TradingPair[] values, int seed, int mask) {
+        this.keys = keys;
+        this.values = values;
+        this.seed = seed;
+        this.mask = mask;
+    }
+
+    /**
+     * 충돌 없는 테이블 생성 (seed를 바꿔 보고, 실패하면 크기를 두 배로)
+     */
+    static SymbolTable build(Map<String, TradingPair> symbols) {
+        if (symbols.isEmpty()) {
+            return EMPTY;
+        }
+        List<Map.Entry<String, TradingPair>> entries = List.copyOf(symbols.entrySet());
+        int size = Integer.highestOneBit(Math.max(entries.size() * 2 - 1, 1)) << 1;
+        while (true) {
+            for (int seed = 1; seed <= MAX_SEED_ATTEMPTS; seed++) {
+                SymbolTable table = tryBuild(entries, seed, size - 1);
+                if (table != null) {
+                    return table;
+                }
+            }
+            size <<= 1;
+        }
+    }
+
+    private static SymbolTable tryBuild(List<Map.Entry<String, TradingPair>> entries, int seed, int mask) {
+        char[][] keys = new char[mask + 1][];
+        TradingPair[] values = new TradingPair[mask + 1];
+        for (Map.Entry<String, TradingPair> entry : entries) {
+            char[] key = entry.getKey().toCharArray();
+            int slot = hash(seed, key, 0, key.length) & mask;
+            if (keys[slot] != null) {
+                return null;
+            }
+            keys[slot] = key;
+            values[slot] = entry.getValue();
+        }
+        return new SymbolTable(keys, values, seed, mask);
+    }
+
+    TradingPair get(char[] chars, int offset, int length) {
+        int slot = hash(seed, chars, offset, length) & mask;
+        char[] key = keys[slot];
+        if (key == null || key.length != length) {
+            return null;
+        }
+        return Arrays.equals(key, 0, length, chars, offset, offset + length) ? values[slot] : null;
+    }
+
+    TradingPair get(String symbol) {
+        int slot = hash(seed, symbol) & mask;
+        char[] key = keys[slot];
+        if (key == null || key.length != symbol.length()) {
+            return null;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != symbol.charAt(i)) {
+                return null;
+            }
+        }
+        return values[slot];
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    int seed() {
+        return seed;
+    }
+
+    private static int hash(int seed, char[] chars, int offset, int length) {
+        int h = seed * 0x9E3779B9;
+        for (int i = offset; i < offset + length; i++) {
+            h = (h ^ chars[i]) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(int seed, String symbol) {
+        int h = seed * 0x9E3779B9;
+        for (int i = 0; i < symbol.length(); i++) {
+            h = (h ^ symbol.charAt(i)) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.boot.exchange.layer1_core.model;
+
+/**
+ * 거래소별 거래쌍 (TradingPairRegistry에서 한 번만 생성되어 공유됨)
+ * id는 0부터 빈틈없이 부여되므로 배열 인덱스로 쓸 수 있습니다.
+ * 가격/거래량은 거래쌍별 소수 자릿수(scale)의 고정소수점 long으로 표현합니다.
+ * 틱마다 문자열을 다시 만들지 않도록 파생 키와 거래소별 심볼 형식을 생성 시 한 번만 계산합니다.
+ */
+public final class TradingPair {
+    public static final String ANALYSIS_KEY_PREFIX = "analysis:";
+    public static final String MARKET_DATA_CHANNEL_PREFIX = "market-data:";
+
+    private final int id;
+    private final String exchange;
+    private final CurrencyPair currencyPair;
+    private final int priceScale;     // 가격, 고가/저가, 변동, 등락률
+    private final int volumeScale;    // 거래량, 24시간 거래량
+
+    private final String pairKey;          // USDT-BTC
+    private final String topicKey;         // binance:USDT-BTC
+    private final String redisBaseKey;     // analysis:binance:USDT-BTC
+    private final String channelName;      // market-data:binance:USDT-BTC
+    private final String subscriptionKey;  // binance-usdt-btc
+    private final String binanceSymbol;    // btcusdt
+    private final String upbitSymbol;      // USDT-BTC
+    private final String bithumbSymbol;    // BTC_USDT
+    private final String nativeSymbol;     // 이 거래소 Ticker 메시지의 심볼 (BTCUSDT, KRW-BTC, BTC_KRW)
+
+    public TradingPair(int id, String exchange, CurrencyPair currencyPair, int priceScale, int volumeScale) {
+        this.id = id;
+        this.exchange = exchange;
+        this.currencyPair = currencyPair;
+        this.priceScale = priceScale;
+        this.volumeScale = volumeScale;
+
+        String exchangeKey = exchange.toLowerCase();
+        this.pairKey = currencyPair.toString();
+        this.topicKey = exchangeKey + ":" + pairKey;
+        this.redisBaseKey = ANALYSIS_KEY_PREFIX + topicKey;
+        this.channelName = MARKET_DATA_CHANNEL_PREFIX + topicKey;
+        this.subscriptionKey = exchangeKey + "-" + pairKey.toLowerCase();
+        this.binanceSymbol = currencyPair.formatForBinance();
+        this.upbitSymbol = currencyPair.formatForUpbit();
+        this.bithumbSymbol = currencyPair.formatForBithumb();
+        this.nativeSymbol = nativeSymbolOf(exchangeKey, currencyPair);
+    }
+
+    /**
+     * 거래소 Ticker 메시지에 실려 오는 심볼 형식
+     */
+    static String nativeSymbolOf(String exchange, CurrencyPair currencyPair) {
+        return switch (exchange.toLowerCase()) {
+            case "binance" -> currencyPair.formatForBinance().toUpperCase();
+            case "upbit" -> currencyPair.formatForUpbit();
+            case "bithumb" -> currencyPair.formatForBithumb();
+            default -> currencyPair.toString();
+        };
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String exchange() {
+        return exchange;
+    }
+
+    public CurrencyPair currencyPair() {
+        return currencyPair;
+    }
+
+    public int priceScale() {
+        return priceScale;
+    }
+
+    public int volumeScale() {
+        return volumeScale;
+    }
+
+    public String pairKey() {
+        return pairKey;
+    }
+
+    /**
+     * exchange(소문자):PAIR - 구독 토픽, 시계열, 중복 제거, 브로드캐스트 conflation 키
+     */
+    public String topicKey() {
+        return topicKey;
+    }
+
+    public String redisBaseKey() {
+        return redisBaseKey;
+    }
+
+    public String channelName() {
+        return channelName;
+    }
+
+    /**
+     * 분석 구독 키 (exchange-pair 소문자)
+     */
+    public String subscriptionKey() {
+        return subscriptionKey;
+    }
+
+    public String binanceSymbol() {
+        return binanceSymbol;
+    }
+
+    public String upbitSymbol() {
+        return upbitSymbol;
+    }
+
+    public String bithumbSymbol() {
+        return bithumbSymbol;
+    }
+
+    public String nativeSymbol() {
+        return nativeSymbol;
+    }
+
+    @Override
+    public String toString() {
+        return topicKey;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.boot.exchange.layer1_core.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.config.ExchangeConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래쌍 레지스트리
+ * 시작 시 ExchangeConfig의 (거래소, 심볼 x 기준통화) 조합을 모두 등록하고 0부터 순서대로 int id를 부여합니다.
+ * 거래소 Ticker 심볼은 거래소별 완전 해시 테이블로 조회하며(문자 버퍼 그대로, 분해 없음),
+ * 설정에 없는 심볼은 처음 볼 때 한 번만 분해해 등록하고 테이블을 다시 만듭니다.
+ * 가격/거래량 소수 자릿수는 거래쌍마다 코인별 -> 기준통화별 -> 기본값 순서로 정합니다
+ * (long 범위 안에 들어가도록 거래량이 큰 저가 코인과 KRW 마켓은 자릿수를 줄임).
+ */
+@Slf4j
+@Component
+public class TradingPairRegistry {
+    private static final int MAX_SCALE = 18;
+
+    private final int priceScale;
+    private final int volumeScale;
+    private final Map<String, ExchangeConfig.Scale> quoteScales;  // 대문자 기준통화 -> 자릿수
+    private final Map<String, ExchangeConfig.Scale> baseScales;   // 대문자 코인 -> 자릿수
+
+    // exchange -> (CurrencyPair -> TradingPair): JSON에서 읽은 CurrencyPair로도 키 생성 없이 조회
+    private final Map<String, Map<CurrencyPair, TradingPair>> pairsByExchange = new ConcurrentHashMap<>();
+    // exchange -> 심볼 테이블 (불변, 등록 시 교체)
+    private final Map<String, SymbolTable> symbolTables = new ConcurrentHashMap<>();
+    // 테이블 재생성용 원본 (register로 보호)
+    private final Map<String, Map<String, TradingPair>> symbolsByExchange = new HashMap<>();
+    private volatile TradingPair[] pairsById = new TradingPair[0];  // 등록 시 복사 후 교체
+    private final int configuredCount;  // 설정에서 등록된 거래쌍 수 (같은 설정이면 노드 간 id가 같음)
+
+    public TradingPairRegistry(
+            ExchangeConfig config,
+            @Value("${exchange.tick.price-scale:8}") int priceScale,
+            @Value("${exchange.tick.volume-scale:8}") int volumeScale) {
+        this.priceScale = validateScale(priceScale, "price-scale");
+        this.volumeScale = validateScale(volumeScale, "volume-scale");
+        ExchangeConfig.Tick tick = config != null ? config.getTick() : null;
+        this.quoteScales = normalizeScales(tick != null ? tick.getQuotes() : null);
+        this.baseScales = normalizeScales(tick != null ? tick.getBases() : null);
+        registerConfigured(config);
+        this.configuredCount = pairsById.length;
+    }
+
+    /**
+     * 거래쌍 조회 (처음이면 등록)
+     */
+    public TradingPair register(String exchange, CurrencyPair currencyPair) {
+        Map<CurrencyPair, TradingPair> pairs = pairsByExchange.get(exchange);
+        TradingPair pair = pairs != null ? pairs.get(currencyPair) : null;
+        if (pair != null) {
+            return pair;
+        }
+        synchronized (this) {
+            pair = registerLocked(exchange, currencyPair);
+            addSymbolLocked(exchange, pair.nativeSymbol(), pair);
+            return pair;
+        }
+    }
+
+    /**
+     * 파서 문자 버퍼의 거래소 심볼로 조회 (String 생성 없음)
+     * @return 등록된 심볼이 아니면 null (resolveSymbol로 등록)
+     */
+    public TradingPair findSymbol(String exchange, char[] chars, int offset, int length) {
+        SymbolTable table = symbolTables.get(exchange);
+        return table != null ? table.get(chars, offset, length) : null;
+    }
+
+    /**
+     * 거래소 원본 심볼(예: ETHUSDT, KRW-BTC)로 조회
+     * 처음 보는 심볼만 splitter로 분해해 등록하며, splitter가 null을 반환하면(지원하지 않는 심볼) null
+     */
+    public TradingPair resolveSymbol(String exchange, String symbol, Function<String, CurrencyPair> splitter) {
+        SymbolTable table = symbolTables.get(exchange);
+        TradingPair pair = table != null ? table.get(symbol) : null;
+        if (pair != null) {
+            return pair;
+        }
+        CurrencyPair currencyPair = splitter.apply(symbol);
+        if (currencyPair == null) {
+            return null;
+        }
+        synchronized (this) {
+            pair = registerLocked(exchange, currencyPair);
+            addSymbolLocked(exchange, symbol, pair);
+            return pair;
+        }
+    }
+
+    public TradingPair get(int id) {
+        TradingPair[] pairs = pairsById;
+        if (id < 0 || id >= pairs.length) {
+            throw new IllegalArgumentException("Unknown pair id: " + id);
+        }
+        return pairs[id];
+    }
+
+    public int size() {
+        return pairsById.length;
+    }
+
+    /**
+     * 설정에서 등록된 거래쌍인지 (실행 중 등록된 거래쌍의 id는 노드마다 다를 수 있음)
+     */
+    public boolean isConfigured(TradingPair pair) {
+        return pair.id() < configuredCount && pairsById[pair.id()] == pair;
+    }
+
+    private void registerConfigured(ExchangeConfig config) {
+        if (config == null || config.getCommon() == null || config.getExchanges() == null) {
+            return;
+        }
+        List<String> symbols = config.getCommon().getSupportedSymbols();
+        registerAll("binance", symbols, config.getExchanges().getBinance());
+        registerAll("upbit", symbols, config.getExchanges().getUpbit());
+        registerAll("bithumb", symbols, config.getExchanges().getBithumb());
+        log.info("Registered {} trading pairs from config", size());
+    }
+
+    private synchronized void registerAll(String exchange, List<String> symbols, ExchangeConfig.Exchange exchangeConfig) {
+        if (symbols == null || exchangeConfig == null || exchangeConfig.getSupportedCurrencies() == null) {
+            return;
+        }
+        for (String symbol : symbols) {
+            for (String currency : exchangeConfig.getSupportedCurrencies()) {
+                TradingPair pair = registerLocked(exchange, new CurrencyPair(currency, symbol));
+                symbolsByExchange.computeIfAbsent(exchange, e -> new HashMap<>()).put(pair.nativeSymbol(), pair);
+            }
+        }
+        symbolTables.put(exchange, SymbolTable.build(symbolsByExchange.get(exchange)));
+    }
+
+    private TradingPair registerLocked(String exchange, CurrencyPair currencyPair) {
+        Map<CurrencyPair, TradingPair> pairs = pairsByExchange.computeIfAbsent(exchange, e -> new ConcurrentHashMap<>());
+        TradingPair pair = pairs.get(currencyPair);
+        if (pair != null) {
+            return pair;
+        }
+        TradingPair[] current = pairsById;
+        pair = new TradingPair(current.length, exchange, currencyPair,
+            resolveScale(currencyPair, ExchangeConfig.Scale::getPriceScale, priceScale),
+            resolveScale(currencyPair, ExchangeConfig.Scale::getVolumeScale, volumeScale));
+        TradingPair[] next = Arrays.copyOf(current, current.length + 1);
+        next[pair.id()] = pair;
+        pairsById = next;
+        pairs.put(currencyPair, pair);
+        return pair;
+    }
+
+    private void addSymbolLocked(String exchange, String symbol, TradingPair pair) {
+        Map<String, TradingPair> symbols = symbolsByExchange.computeIfAbsent(exchange, e -> new HashMap<>());
+        if (pair.equals(symbols.get(symbol))) {
+            return;
+        }
+        symbols.put(symbol, pair);
+        symbolTables.put(exchange, SymbolTable.build(symbols));
+    }
+
+    /**
+     * 코인별 -> 기준통화별 -> 기본값 순서로 자릿수 결정
+     */
+    private int resolveScale(CurrencyPair currencyPair, Function<ExchangeConfig.Scale, Integer> field, int defaultScale) {
+        Integer scale = scaleOf(baseScales.get(currencyPair.symbol().toUpperCase()), field);
+        if (scale == null) {
+            scale = scaleOf(quoteScales.get(currencyPair.quoteCurrency().toUpperCase()), field);
+        }
+        return scale != null ? scale : defaultScale;
+    }
+
+    private static Integer scaleOf(ExchangeConfig.Scale scale, Function<ExchangeConfig.Scale, Integer> field) {
+        return scale != null ? field.apply(scale) : null;
+    }
+
+    private static Map<String, ExchangeConfig.Scale> normalizeScales(Map<String, ExchangeConfig.Scale> scales) {
+        Map<String, ExchangeConfig.Scale> normalized = new HashMap<>();
+        if (scales == null) {
+            return normalized;
+        }
+        scales.forEach((currency, scale) -> {
+            if (scale.getPriceScale() != null) {
+                validateScale(scale.getPriceScale(), currency + ".price-scale");
+            }
+            if (scale.getVolumeScale() != null) {
+                validateScale(scale.getVolumeScale(), currency + ".volume-scale");
+            }
+            normalized.put(currency.toUpperCase(), scale);
+        });
+        return normalized;
+    }
+
+    private static int validateScale(int scale, String name) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Tick " + name + " must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+        return scale;
+    }
+}
@@ -28,7 +28,8 @@ public class ConnectionFactoryImpl implements ConnectionFactory {
             session -> {
                 MessageHandler handler = new MessageHandlerImpl(session, exchange);
                 sink.tryEmitNext(handler);
-                return handler.receiveMessage().then();
+                // 수신 스트림은 데이터 소비자(통합 서비스)가 구독하고, 여기서는 연결 종료만 기다림
+                return handler.awaitClose();
             }
         ).subscribe(
             null,
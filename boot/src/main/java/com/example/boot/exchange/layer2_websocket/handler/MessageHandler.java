@@ -1,11 +1,27 @@
 package com.example.boot.exchange.layer2_websocket.handler;
 
+import org.springframework.core.io.buffer.DataBuffer;
+
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface MessageHandler {
     Flux<String> receiveMessage();
+
+    /**
+     * 수신 프레임을 문자열로 바꾸지 않고 원본 바이트 버퍼로 전달
+     * 각 버퍼는 구독자가 사용 후 DataBufferUtils.release로 해제해야 하며,
+     * 수신 스트림은 하나이므로 receiveMessage와 동시에 구독하지 않습니다.
+     */
+    Flux<DataBuffer> receivePayload();
+
     Flux<Void> sendMessage(String message);
     Flux<Void> sendBinaryMessage(byte[] message);
     Flux<Void> disconnect();
     boolean isConnected();
-} 
\ No newline at end of file
+
+    /**
+     * 연결이 닫히면 완료
+     */
+    Mono<Void> awaitClose();
+} 
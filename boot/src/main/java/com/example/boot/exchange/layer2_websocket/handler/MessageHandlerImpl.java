@@ -1,6 +1,9 @@
 package com.example.boot.exchange.layer2_websocket.handler;
 
-import org.springframework.web.reactive.socket.WebSocketMessage;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.web.reactive.socket.WebSocketSession;
 
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +14,7 @@ import reactor.core.publisher.Mono;
 public class MessageHandlerImpl implements MessageHandler {
     private final WebSocketSession session;
     private final String exchange;
-    private final Flux<String> messageStream;
+    private final Flux<DataBuffer> payloadStream;
     private volatile boolean connected;
 
     public MessageHandlerImpl(WebSocketSession session, String exchange) {
@@ -19,16 +22,17 @@ public class MessageHandlerImpl implements MessageHandler {
         this.exchange = exchange;
         this.connected = true;
 
-        this.messageStream = session.receive()
+        // 프레임 버퍼는 onNext가 끝나면 Netty가 해제하므로, 공유/버퍼링 단계를 지나도록 한 번 retain
+        this.payloadStream = session.receive()
             .doOnSubscribe(s -> {
                 log.info("Message stream started for {}", exchange);
                 connected = true;
             })
-            .map(WebSocketMessage::getPayloadAsText)
-            .doOnNext(message -> {
+            .map(message -> DataBufferUtils.retain(message.getPayload()))
+            .doOnNext(payload -> {
                 if (log.isDebugEnabled()) {
-                    log.debug("Received from {}: {}", exchange, 
-                        message.substring(0, Math.min(message.length(), 100)));
+                    log.debug("Received from {}: {}", exchange, payload.toString(payload.readPosition(),
+                        Math.min(payload.readableByteCount(), 100), StandardCharsets.UTF_8));
                 }
             })
             .doOnError(error -> {
@@ -44,7 +48,9 @@ public class MessageHandlerImpl implements MessageHandler {
             .onBackpressureBuffer(
                 256,
                 dropped -> log.warn("Dropped message from {} due to backpressure", exchange)
-            );
+            )
+            // 넘치거나 취소로 버려진 버퍼 해제
+            .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
     }
 
     @Override
@@ -53,7 +59,16 @@ public class MessageHandlerImpl implements MessageHandler {
             return Flux.error(new IllegalStateException("WebSocket is not connected"));
         }
         
-        return messageStream
+        return receivePayload().map(MessageHandlerImpl::decodeText);
+    }
+
+    @Override
+    public Flux<DataBuffer> receivePayload() {
+        if (!connected) {
+            return Flux.error(new IllegalStateException("WebSocket is not connected"));
+        }
+
+        return payloadStream
             .doOnSubscribe(s -> log.debug("New subscription to {} message stream", exchange))
             .doOnCancel(() -> log.debug("Subscription to {} message stream cancelled", exchange));
     }
@@ -97,4 +112,17 @@ public class MessageHandlerImpl implements MessageHandler {
     public boolean isConnected() {
         return connected && session.isOpen();
     }
+
+    @Override
+    public Mono<Void> awaitClose() {
+        return session.closeStatus().then();
+    }
+
+    private static String decodeText(DataBuffer payload) {
+        try {
+            return payload.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(payload);
+        }
+    }
 } 
\ No newline at end of file
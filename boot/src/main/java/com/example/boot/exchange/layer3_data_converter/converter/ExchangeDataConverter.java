@@ -1,5 +1,7 @@
 package com.example.boot.exchange.layer3_data_converter.converter;
 
+import org.springframework.core.io.buffer.DataBuffer;
+
 import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 
@@ -10,6 +12,12 @@ public interface ExchangeDataConverter {
      * 거래소 메시지를 표준 형식으로 변환
      */
     Mono<StandardExchangeData> convert(ExchangeMessage message);
+
+    /**
+     * 수신 버퍼(UTF-8 JSON)를 String 변환 없이 표준 형식으로 변환
+     * 버퍼는 변환이 끝나면(실패/취소 포함) 해제됩니다.
+     */
+    Mono<StandardExchangeData> convert(DataBuffer payload);
     
     /**
      * 지원하는 거래소 이름
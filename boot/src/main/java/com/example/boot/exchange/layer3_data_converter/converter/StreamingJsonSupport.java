@@ -0,0 +1,235 @@
+package com.example.boot.exchange.layer3_data_converter.converter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 스트리밍 JSON 파싱 도구
+ * 컨버터가 JsonNode 트리 없이 JsonParser 토큰에서 바로 값을 읽을 때 사용합니다.
+ * 문자열 값은 파서의 문자 버퍼에서 직접 읽어 중간 String을 만들지 않습니다.
+ *
+ * 고정소수점 값은 두 단계로 읽습니다. 거래쌍 필드보다 값이 먼저 나올 수 있으므로
+ * readPacked로 (unscaled, 소수 자릿수)를 long 하나에 묶어 두었다가, 거래쌍을 확인한 뒤 toScaled로 맞춥니다.
+ */
+public final class StreamingJsonSupport {
+    /** readPacked에서 JSON null 또는 값 없음 */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    // 하위 6비트: 소수 자릿수, 상위 58비트: 부호 있는 unscaled 값
+    private static final int SCALE_BITS = 6;
+    private static final int MAX_PACKED_SCALE = (1 << SCALE_BITS) - 1;
+    private static final long MAX_PACKED_UNSCALED = (1L << (Long.SIZE - 1 - SCALE_BITS)) - 1;
+    private static final int MAX_POW10 = 18;
+
+    private StreamingJsonSupport() {
+    }
+
+    /**
+     * 현재 값을 BigDecimal로 읽기 ("123.45" 문자열과 숫자 모두 지원, null이면 null)
+     */
+    public static BigDecimal readDecimal(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return new BigDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            // 숫자 원문 그대로 변환 (double을 거치지 않음)
+            return parser.getDecimalValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw new IllegalStateException("Expected decimal value for '" + parser.currentName() + "' but was " + token);
+    }
+
+    /**
+     * 현재 값을 long으로 읽기 (숫자와 숫자 문자열 지원)
+     */
+    public static long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Long.parseLong(parser.getText());
+        }
+        throw new IllegalStateException("Expected long value for '" + parser.currentName() + "' but was " + token);
+    }
+
+    /**
+     * 현재 문자열 값이 expected와 같은지 비교 (String 생성 없음)
+     */
+    public static boolean textEquals(JsonParser parser, String expected) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return false;
+        }
+        int length = parser.getTextLength();
+        if (length != expected.length()) {
+            return false;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 값을 (unscaled, 소수 자릿수)로 묶어 읽기 ("123.45" 문자열과 숫자, 지수 표기 지원)
+     * 유효 자릿수는 17자리까지 보관하며 그보다 긴 소수 자리는 버립니다.
+     * @return 묶인 값, null이면 MISSING
+     * @throws ArithmeticException 정수부가 범위를 넘는 경우
+     */
+    public static long readPacked(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return MISSING;
+        }
+        if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT
+                && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw new IllegalStateException("Expected decimal value for '" + parser.currentName() + "' but was " + token);
+        }
+        return pack(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * readPacked 값을 scale 자리 고정소수점 long으로 변환 (버려지는 자리는 반올림)
+     * @throws ArithmeticException 결과가 long 범위를 넘는 경우
+     */
+    public static long toScaled(long packed, int scale) {
+        long unscaled = packed >> SCALE_BITS;
+        int packedScale = (int) (packed & MAX_PACKED_SCALE);
+        if (packedScale == scale) {
+            return unscaled;
+        }
+        if (packedScale < scale) {
+            int diff = scale - packedScale;
+            if (diff > MAX_POW10) {
+                if (unscaled == 0) {
+                    return 0;
+                }
+                throw new ArithmeticException("Decimal out of range for scale " + scale);
+            }
+            return Math.multiplyExact(unscaled, CompactTick.pow10(diff));
+        }
+        int diff = packedScale - scale;
+        // |unscaled| < 10^18 / 2 이므로 18자리 이상 버리면 0
+        return diff > MAX_POW10 ? 0 : roundHalfUp(unscaled, CompactTick.pow10(diff));
+    }
+
+    static long pack(char[] chars, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int fractionDigits = 0;
+        int exponent = 0;
+        boolean seenDot = false;
+        boolean seenDigit = false;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                seenDigit = true;
+                if (unscaled <= (MAX_PACKED_UNSCALED - digit) / 10) {
+                    unscaled = unscaled * 10 + digit;
+                    if (seenDot) {
+                        fractionDigits++;
+                    }
+                } else if (!seenDot) {
+                    throw new ArithmeticException("Decimal out of range: " + new String(chars, offset, length));
+                }
+                // 정밀도 밖의 소수 자리는 버림
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else if ((c == 'e' || c == 'E') && seenDigit) {
+                exponent = parseExponent(chars, i + 1, end, offset, length);
+                break;
+            } else {
+                throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+            }
+        }
+        if (!seenDigit) {
+            throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+        }
+
+        int scale = fractionDigits - exponent;
+        if (scale < 0) {
+            if (-scale > MAX_POW10 && unscaled != 0) {
+                throw new ArithmeticException("Decimal out of range: " + new String(chars, offset, length));
+            }
+            unscaled = unscaled == 0 ? 0 : Math.multiplyExact(unscaled, CompactTick.pow10(-scale));
+            if (unscaled > MAX_PACKED_UNSCALED) {
+                throw new ArithmeticException("Decimal out of range: " + new String(chars, offset, length));
+            }
+            scale = 0;
+        } else if (scale > MAX_PACKED_SCALE) {
+            int drop = scale - MAX_PACKED_SCALE;
+            unscaled = drop > MAX_POW10 ? 0 : roundHalfUp(unscaled, CompactTick.pow10(drop));
+            scale = MAX_PACKED_SCALE;
+        }
+        return ((negative ? -unscaled : unscaled) << SCALE_BITS) | scale;
+    }
+
+    private static int parseExponent(char[] chars, int start, int end, int offset, int length) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > 3) {
+            throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+        }
+        int exponent = 0;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+            }
+            exponent = exponent * 10 + (c - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private static long roundHalfUp(long value, long divisor) {
+        long quotient = value / divisor;
+        long remainder = Math.abs(value % divisor);
+        if (remainder * 2 >= divisor) {
+            quotient += value < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * 필수 필드 확인 (readPacked 값)
+     */
+    public static long require(long packed, String fieldName) {
+        if (packed == MISSING) {
+            throw new IllegalStateException("Missing field: " + fieldName);
+        }
+        return packed;
+    }
+
+    /**
+     * 필수 필드 확인
+     */
+    public static <T> T require(T value, String fieldName) {
+        if (value == null) {
+            throw new IllegalStateException("Missing field: " + fieldName);
+        }
+        return value;
+    }
+}
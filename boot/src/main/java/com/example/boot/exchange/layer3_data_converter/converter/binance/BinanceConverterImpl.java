@@ -1,16 +1,21 @@
 package com.example.boot.exchange.layer3_data_converter.converter.binance;
 
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Objects;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
 import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.converter.StreamingJsonSupport;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,52 +25,30 @@ import reactor.core.publisher.Mono;
 @Component
 public class BinanceConverterImpl implements BinanceConverter {
     private final ObjectMapper objectMapper;
+    private final TradingPairRegistry pairRegistry;
 
-    public BinanceConverterImpl(ObjectMapper objectMapper) {
+    public BinanceConverterImpl(ObjectMapper objectMapper, TradingPairRegistry pairRegistry) {
         this.objectMapper = objectMapper;
+        this.pairRegistry = pairRegistry;
     }
 
     @Override
     public Mono<StandardExchangeData> convert(ExchangeMessage message) {
-        return Mono.fromCallable(() -> {
-            JsonNode node = objectMapper.readTree(message.rawMessage());
-            String eventType = node.get("e").asText();
-
-            // 24시간 Ticker 데이터만 처리
-            if ("24hrTicker".equals(eventType)) {
-                String symbol = node.get("s").asText();
-                String baseSymbol;
-                String quoteCurrency;
-
-                // BTC 마켓과 USDT 마켓 구분
-                if (symbol.endsWith("BTC")) {
-                    quoteCurrency = "BTC";
-                    baseSymbol = symbol.substring(0, symbol.length() - 3);
-                } else if (symbol.endsWith("USDT")) {
-                    quoteCurrency = "USDT";
-                    baseSymbol = symbol.substring(0, symbol.length() - 4);
-                } else {
-                    log.warn("Unsupported symbol format: {}", symbol);
-                    return null;
-                }
-
-                return StandardExchangeData.builder()
-                    .exchange(EXCHANGE_NAME)
-                    .currencyPair(new CurrencyPair(quoteCurrency, baseSymbol))
-                    .price(new BigDecimal(node.get("c").asText()))        // closePrice
-                    .volume(new BigDecimal(node.get("v").asText()))       // volume
-                    .highPrice(new BigDecimal(node.get("h").asText()))    // highPrice
-                    .lowPrice(new BigDecimal(node.get("l").asText()))     // lowPrice
-                    .priceChange(new BigDecimal(node.get("p").asText()))  // priceChange
-                    .priceChangePercent(new BigDecimal(node.get("P").asText())) // priceChangePercent
-                    .volume24h(new BigDecimal(node.get("v").asText()))    // volume24h
-                    .timestamp(Instant.ofEpochMilli(node.get("E").asLong()))
-                    .metadata(new HashMap<>())
-                    .build();
-            }
+        return Mono.fromCallable(() -> parse(objectMapper.getFactory().createParser(message.rawMessage())))
+        .filter(Objects::nonNull)
+        .onErrorResume(e -> {
+            log.error("Failed to convert message: {}", e.getMessage());
+            return Mono.empty();
+        });
+    }
 
-            return null;
-        })
+    @Override
+    public Mono<StandardExchangeData> convert(DataBuffer payload) {
+        // 바이트 기반 파서로 버퍼를 바로 읽고, 변환이 끝나면(실패/취소 포함) 버퍼 해제
+        return Mono.using(
+            () -> payload,
+            buffer -> Mono.fromCallable(() -> parse(objectMapper.getFactory().createParser(buffer.asInputStream()))),
+            DataBufferUtils::release)
         .filter(Objects::nonNull)
         .onErrorResume(e -> {
             log.error("Failed to convert message: {}", e.getMessage());
@@ -73,6 +56,118 @@ public class BinanceConverterImpl implements BinanceConverter {
         });
     }
 
+    /**
+     * 24시간 Ticker 메시지를 한 번의 토큰 순회로 변환 (JsonNode 트리 없음)
+     * @param parser 문자열 또는 바이트 입력 파서 (변환 후 닫힘)
+     * @return 변환 결과, Ticker가 아니면 null
+     */
+    StandardExchangeData parse(JsonParser parser) throws IOException {
+        TradingPair pair = null;
+        String symbol = null;  // 레지스트리에 없는 심볼만
+        long closePrice = StreamingJsonSupport.MISSING;
+        long volume = StreamingJsonSupport.MISSING;
+        long highPrice = StreamingJsonSupport.MISSING;
+        long lowPrice = StreamingJsonSupport.MISSING;
+        long priceChange = StreamingJsonSupport.MISSING;
+        long priceChangePercent = StreamingJsonSupport.MISSING;
+        long eventTime = 0;
+        boolean hasEventTime = false;
+        boolean isTicker = false;
+
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "e":
+                        // 24시간 Ticker 데이터만 처리
+                        if (!StreamingJsonSupport.textEquals(parser, "24hrTicker")) {
+                            return null;
+                        }
+                        isTicker = true;
+                        break;
+                    case "E":
+                        eventTime = StreamingJsonSupport.readLong(parser);
+                        hasEventTime = true;
+                        break;
+                    case "s":
+                        // 등록된 심볼은 파서 문자 버퍼로 바로 조회 (분해/String 생성 없음)
+                        pair = pairRegistry.findSymbol(EXCHANGE_NAME, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                        symbol = pair == null ? parser.getText() : null;
+                        break;
+                    case "c":
+                        closePrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "v":
+                        volume = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "h":
+                        highPrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "l":
+                        lowPrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "p":
+                        priceChange = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "P":
+                        priceChangePercent = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+
+        if (!isTicker) {
+            return null;
+        }
+        if (pair == null) {
+            StreamingJsonSupport.require(symbol, "s");
+        }
+        if (!hasEventTime) {
+            throw new IllegalStateException("Missing field: E");
+        }
+
+        if (pair == null) {
+            pair = pairRegistry.resolveSymbol(EXCHANGE_NAME, symbol, BinanceConverterImpl::splitSymbol);
+            if (pair == null) {
+                log.warn("Unsupported symbol format: {}", symbol);
+                return null;
+            }
+        }
+
+        long scaledVolume = StreamingJsonSupport.toScaled(StreamingJsonSupport.require(volume, "v"), pair.volumeScale());
+        return StandardExchangeData.from(new CompactTick(
+            pair,
+            eventTime,
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(closePrice, "c"), pair.priceScale()),  // closePrice
+            scaledVolume,  // volume
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(highPrice, "h"), pair.priceScale()),  // highPrice
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(lowPrice, "l"), pair.priceScale()),  // lowPrice
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(priceChange, "p"), pair.priceScale()),  // priceChange
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(priceChangePercent, "P"), pair.priceScale()),  // priceChangePercent
+            scaledVolume   // volume24h
+        ));
+    }
+
+    /**
+     * BTC 마켓과 USDT 마켓 구분 (처음 보는 심볼만 호출됨)
+     */
+    private static CurrencyPair splitSymbol(String symbol) {
+        if (symbol.endsWith("BTC")) {
+            return new CurrencyPair("BTC", symbol.substring(0, symbol.length() - 3));
+        }
+        if (symbol.endsWith("USDT")) {
+            return new CurrencyPair("USDT", symbol.substring(0, symbol.length() - 4));
+        }
+        return null;
+    }
+
     @Override
     public String getExchangeName() {
         return EXCHANGE_NAME;
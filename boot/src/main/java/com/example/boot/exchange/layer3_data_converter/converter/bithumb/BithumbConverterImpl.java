@@ -1,16 +1,21 @@
 package com.example.boot.exchange.layer3_data_converter.converter.bithumb;
 
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Objects;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
 import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.converter.StreamingJsonSupport;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,42 +25,30 @@ import reactor.core.publisher.Mono;
 @Component
 public class BithumbConverterImpl implements BithumbConverter {
     private final ObjectMapper objectMapper;
+    private final TradingPairRegistry pairRegistry;
 
-    public BithumbConverterImpl(ObjectMapper objectMapper) {
+    public BithumbConverterImpl(ObjectMapper objectMapper, TradingPairRegistry pairRegistry) {
         this.objectMapper = objectMapper;
+        this.pairRegistry = pairRegistry;
     }
 
     @Override
     public Mono<StandardExchangeData> convert(ExchangeMessage message) {
-        return Mono.fromCallable(() -> {
-            JsonNode node = objectMapper.readTree(message.rawMessage());
-            String type = node.get("type").asText();
-
-            // Ticker 데이터만 처리
-            if ("ticker".equals(type)) {
-                JsonNode content = node.get("content");
-                String symbol = content.get("symbol").asText();
-                String[] currencies = symbol.split("_");
-                String baseSymbol = currencies[0];    // BTC, ETH 등
-                String quoteCurrency = currencies[1]; // KRW
-
-                return StandardExchangeData.builder()
-                    .exchange(EXCHANGE_NAME)
-                    .currencyPair(new CurrencyPair(quoteCurrency, baseSymbol))
-                    .price(new BigDecimal(content.get("closePrice").asText()))
-                    .volume(new BigDecimal(content.get("volume").asText()))
-                    .highPrice(new BigDecimal(content.get("highPrice").asText()))
-                    .lowPrice(new BigDecimal(content.get("lowPrice").asText()))
-                    .priceChange(new BigDecimal(content.get("chgAmt").asText()))
-                    .priceChangePercent(new BigDecimal(content.get("chgRate").asText()))
-                    .volume24h(new BigDecimal(content.get("volume").asText()))
-                    .timestamp(Instant.now())
-                    .metadata(new HashMap<>())
-                    .build();
-            }
+        return Mono.fromCallable(() -> parse(objectMapper.getFactory().createParser(message.rawMessage())))
+        .filter(Objects::nonNull)
+        .onErrorResume(e -> {
+            log.error("[컨버터-5] 변환 실패: {}", e.getMessage());
+            return Mono.empty();
+        });
+    }
 
-            return null;
-        })
+    @Override
+    public Mono<StandardExchangeData> convert(DataBuffer payload) {
+        // 바이트 기반 파서로 버퍼를 바로 읽고, 변환이 끝나면(실패/취소 포함) 버퍼 해제
+        return Mono.using(
+            () -> payload,
+            buffer -> Mono.fromCallable(() -> parse(objectMapper.getFactory().createParser(buffer.asInputStream()))),
+            DataBufferUtils::release)
         .filter(Objects::nonNull)
         .onErrorResume(e -> {
             log.error("[컨버터-5] 변환 실패: {}", e.getMessage());
@@ -63,6 +56,124 @@ public class BithumbConverterImpl implements BithumbConverter {
         });
     }
 
+    /**
+     * Ticker 메시지를 한 번의 토큰 순회로 변환 (JsonNode 트리 없음)
+     * "type"과 "content"의 순서는 보장되지 않으므로 content를 먼저 읽고 마지막에 type을 확인합니다.
+     * @param parser 문자열 또는 바이트 입력 파서 (변환 후 닫힘)
+     * @return 변환 결과, Ticker가 아니면 null
+     */
+    StandardExchangeData parse(JsonParser parser) throws IOException {
+        boolean isTicker = false;
+        TickerContent content = null;
+
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("type".equals(field)) {
+                    // Ticker 데이터만 처리
+                    if (!StreamingJsonSupport.textEquals(parser, "ticker")) {
+                        return null;
+                    }
+                    isTicker = true;
+                } else if ("content".equals(field) && value == JsonToken.START_OBJECT) {
+                    content = readContent(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (!isTicker) {
+            return null;
+        }
+        StreamingJsonSupport.require(content, "content");
+        TradingPair pair = content.pair;
+        if (pair == null) {
+            String symbol = StreamingJsonSupport.require(content.symbol, "symbol");
+            pair = pairRegistry.resolveSymbol(EXCHANGE_NAME, symbol, BithumbConverterImpl::splitSymbol);
+        }
+        long volume = StreamingJsonSupport.toScaled(StreamingJsonSupport.require(content.volume, "volume"), pair.volumeScale());
+        return StandardExchangeData.from(new CompactTick(
+            pair,
+            System.currentTimeMillis(),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(content.closePrice, "closePrice"), pair.priceScale()),
+            volume,
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(content.highPrice, "highPrice"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(content.lowPrice, "lowPrice"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(content.chgAmt, "chgAmt"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(content.chgRate, "chgRate"), pair.priceScale()),
+            volume
+        ));
+    }
+
+    /**
+     * 심볼 분해 (처음 보는 심볼만 호출됨)
+     */
+    private static CurrencyPair splitSymbol(String symbol) {
+        int separator = symbol.indexOf('_');
+        if (separator < 0) {
+            throw new IllegalStateException("Invalid symbol: " + symbol);
+        }
+        String baseSymbol = symbol.substring(0, separator);      // BTC, ETH 등
+        String quoteCurrency = symbol.substring(separator + 1);  // KRW
+        return new CurrencyPair(quoteCurrency, baseSymbol);
+    }
+
+    private TickerContent readContent(JsonParser parser) throws IOException {
+        TickerContent content = new TickerContent();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "symbol":
+                    // 등록된 심볼은 파서 문자 버퍼로 바로 조회 (분해/String 생성 없음)
+                    content.pair = pairRegistry.findSymbol(EXCHANGE_NAME, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    content.symbol = content.pair == null ? parser.getText() : null;
+                    break;
+                case "closePrice":
+                    content.closePrice = StreamingJsonSupport.readPacked(parser);
+                    break;
+                case "volume":
+                    content.volume = StreamingJsonSupport.readPacked(parser);
+                    break;
+                case "highPrice":
+                    content.highPrice = StreamingJsonSupport.readPacked(parser);
+                    break;
+                case "lowPrice":
+                    content.lowPrice = StreamingJsonSupport.readPacked(parser);
+                    break;
+                case "chgAmt":
+                    content.chgAmt = StreamingJsonSupport.readPacked(parser);
+                    break;
+                case "chgRate":
+                    content.chgRate = StreamingJsonSupport.readPacked(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return content;
+    }
+
+    /**
+     * content 객체에서 사용하는 필드
+     */
+    private static final class TickerContent {
+        TradingPair pair;
+        String symbol;  // 레지스트리에 없는 심볼만
+        long closePrice = StreamingJsonSupport.MISSING;
+        long volume = StreamingJsonSupport.MISSING;
+        long highPrice = StreamingJsonSupport.MISSING;
+        long lowPrice = StreamingJsonSupport.MISSING;
+        long chgAmt = StreamingJsonSupport.MISSING;
+        long chgRate = StreamingJsonSupport.MISSING;
+    }
+
     @Override
     public String getExchangeName() {
         return EXCHANGE_NAME;
@@ -1,16 +1,21 @@
 package com.example.boot.exchange.layer3_data_converter.converter.upbit;
 
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Objects;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
 import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.converter.StreamingJsonSupport;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,41 +25,30 @@ import reactor.core.publisher.Mono;
 @Component
 public class UpbitConverterImpl implements UpbitConverter {
     private final ObjectMapper objectMapper;
+    private final TradingPairRegistry pairRegistry;
 
-    public UpbitConverterImpl(ObjectMapper objectMapper) {
+    public UpbitConverterImpl(ObjectMapper objectMapper, TradingPairRegistry pairRegistry) {
         this.objectMapper = objectMapper;
+        this.pairRegistry = pairRegistry;
     }
 
     @Override
     public Mono<StandardExchangeData> convert(ExchangeMessage message) {
-        return Mono.fromCallable(() -> {
-            JsonNode node = objectMapper.readTree(message.rawMessage());
-            String type = node.get("ty").asText();
-
-            // Ticker 데이터만 처리
-            if ("ticker".equals(type)) {
-                String code = node.get("cd").asText();
-                String[] currencies = code.split("-");
-                String quoteCurrency = currencies[0];  // KRW
-                String baseSymbol = currencies[1];     // BTC, ETH 등
-
-                return StandardExchangeData.builder()
-                    .exchange(EXCHANGE_NAME)
-                    .currencyPair(new CurrencyPair(quoteCurrency, baseSymbol))
-                    .price(new BigDecimal(node.get("tp").asText()))
-                    .volume(new BigDecimal(node.get("tv").asText()))
-                    .highPrice(new BigDecimal(node.get("hp").asText()))
-                    .lowPrice(new BigDecimal(node.get("lp").asText()))
-                    .priceChange(new BigDecimal(node.get("cp").asText()))
-                    .priceChangePercent(new BigDecimal(node.get("cr").asText()))
-                    .volume24h(new BigDecimal(node.get("atv").asText()))
-                    .timestamp(Instant.ofEpochMilli(node.get("tms").asLong()))
-                    .metadata(new HashMap<>())
-                    .build();
-            }
+        return Mono.fromCallable(() -> parse(objectMapper.getFactory().createParser(message.rawMessage())))
+        .filter(Objects::nonNull)
+        .onErrorResume(e -> {
+            log.error("[컨버터-4] 변환 실패: {}", e.getMessage());
+            return Mono.empty();
+        });
+    }
 
-            return null;
-        })
+    @Override
+    public Mono<StandardExchangeData> convert(DataBuffer payload) {
+        // 바이트 기반 파서로 버퍼를 바로 읽고, 변환이 끝나면(실패/취소 포함) 버퍼 해제
+        return Mono.using(
+            () -> payload,
+            buffer -> Mono.fromCallable(() -> parse(objectMapper.getFactory().createParser(buffer.asInputStream()))),
+            DataBufferUtils::release)
         .filter(Objects::nonNull)
         .onErrorResume(e -> {
             log.error("[컨버터-4] 변환 실패: {}", e.getMessage());
@@ -62,6 +56,116 @@ public class UpbitConverterImpl implements UpbitConverter {
         });
     }
 
+    /**
+     * Ticker(SIMPLE 포맷) 메시지를 한 번의 토큰 순회로 변환 (JsonNode 트리 없음)
+     * @param parser 문자열 또는 바이트 입력 파서 (변환 후 닫힘)
+     * @return 변환 결과, Ticker가 아니면 null
+     */
+    StandardExchangeData parse(JsonParser parser) throws IOException {
+        TradingPair pair = null;
+        String code = null;  // 레지스트리에 없는 마켓 코드만
+        long tradePrice = StreamingJsonSupport.MISSING;
+        long tradeVolume = StreamingJsonSupport.MISSING;
+        long highPrice = StreamingJsonSupport.MISSING;
+        long lowPrice = StreamingJsonSupport.MISSING;
+        long changePrice = StreamingJsonSupport.MISSING;
+        long changeRate = StreamingJsonSupport.MISSING;
+        long accTradeVolume = StreamingJsonSupport.MISSING;
+        long timestamp = 0;
+        boolean hasTimestamp = false;
+        boolean isTicker = false;
+
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "ty":
+                        // Ticker 데이터만 처리
+                        if (!StreamingJsonSupport.textEquals(parser, "ticker")) {
+                            return null;
+                        }
+                        isTicker = true;
+                        break;
+                    case "cd":
+                        // 등록된 코드는 파서 문자 버퍼로 바로 조회 (분해/String 생성 없음)
+                        pair = pairRegistry.findSymbol(EXCHANGE_NAME, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                        code = pair == null ? parser.getText() : null;
+                        break;
+                    case "tp":
+                        tradePrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "tv":
+                        tradeVolume = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "hp":
+                        highPrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "lp":
+                        lowPrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "cp":
+                        changePrice = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "cr":
+                        changeRate = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "atv":
+                        accTradeVolume = StreamingJsonSupport.readPacked(parser);
+                        break;
+                    case "tms":
+                        timestamp = StreamingJsonSupport.readLong(parser);
+                        hasTimestamp = true;
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+
+        if (!isTicker) {
+            return null;
+        }
+        if (pair == null) {
+            StreamingJsonSupport.require(code, "cd");
+        }
+        if (!hasTimestamp) {
+            throw new IllegalStateException("Missing field: tms");
+        }
+
+        if (pair == null) {
+            pair = pairRegistry.resolveSymbol(EXCHANGE_NAME, code, UpbitConverterImpl::splitCode);
+        }
+        return StandardExchangeData.from(new CompactTick(
+            pair,
+            timestamp,
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(tradePrice, "tp"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(tradeVolume, "tv"), pair.volumeScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(highPrice, "hp"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(lowPrice, "lp"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(changePrice, "cp"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(changeRate, "cr"), pair.priceScale()),
+            StreamingJsonSupport.toScaled(StreamingJsonSupport.require(accTradeVolume, "atv"), pair.volumeScale())
+        ));
+    }
+
+    /**
+     * 마켓 코드 분해 (처음 보는 코드만 호출됨)
+     */
+    private static CurrencyPair splitCode(String code) {
+        int separator = code.indexOf('-');
+        if (separator < 0) {
+            throw new IllegalStateException("Invalid market code: " + code);
+        }
+        String quoteCurrency = code.substring(0, separator);  // KRW
+        String baseSymbol = code.substring(separator + 1);    // BTC, ETH 등
+        return new CurrencyPair(quoteCurrency, baseSymbol);
+    }
+
     @Override
     public String getExchangeName() {
         return EXCHANGE_NAME;
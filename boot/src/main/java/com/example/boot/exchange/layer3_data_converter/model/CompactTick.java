@@ -0,0 +1,70 @@
+package com.example.boot.exchange.layer3_data_converter.model;
+
+import java.math.BigDecimal;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+
+/**
+ * 고정소수점 틱
+ * 값은 거래쌍의 scale만큼 10^scale을 곱한 long으로 보관합니다 (예: scale 8에서 2000.12 -> 200012000000).
+ * 거래쌍은 레지스트리가 공유하는 객체를 참조하므로 틱 하나당 할당은 이 객체 하나입니다.
+ * 외부(JSON/Kafka)로는 StandardExchangeData.from(tick)으로 감싸 기존 형식 그대로 내보냅니다.
+ */
+public record CompactTick(
+    TradingPair pair,
+    long timestampMillis,
+    long price,               // priceScale
+    long volume,              // volumeScale
+    long highPrice,           // priceScale
+    long lowPrice,            // priceScale
+    long priceChange,         // priceScale
+    long priceChangePercent,  // priceScale
+    long volume24h            // volumeScale
+) {
+    private static final long[] POW10 = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+        10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    public int pairId() {
+        return pair.id();
+    }
+
+    public double priceAsDouble() {
+        return toDouble(price, pair.priceScale());
+    }
+
+    public double volumeAsDouble() {
+        return toDouble(volume, pair.volumeScale());
+    }
+
+    public double volume24hAsDouble() {
+        return toDouble(volume24h, pair.volumeScale());
+    }
+
+    /**
+     * 10^exponent (0 <= exponent <= 18)
+     */
+    public static long pow10(int exponent) {
+        return POW10[exponent];
+    }
+
+    public static double toDouble(long scaled, int scale) {
+        // 2^53 미만 값은 나눗셈 한 번으로 가장 가까운 double이 됨
+        return (double) scaled / POW10[scale];
+    }
+
+    /**
+     * BigDecimal로 변환 (뒤쪽 0은 정수 자리까지 제거: 200010000000(scale 8) -> 2000.1)
+     * JSON으로 내보낸 값을 다시 BigDecimal로 읽어도 scale이 같아 equals/hashCode가 일치합니다.
+     */
+    public static BigDecimal toDecimal(long scaled, int scale) {
+        while (scale > 0 && scaled % 10 == 0) {
+            scaled /= 10;
+            scale--;
+        }
+        return BigDecimal.valueOf(scaled, scale);
+    }
+}
@@ -2,15 +2,23 @@ package com.example.boot.exchange.layer3_data_converter.model;
 
 import java.math.BigDecimal;  // 정확한 수치 계산을 위해 BigDecimal 사용
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
 
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 표준 거래소 데이터 (클라이언트/Kafka JSON 형식)
+ * 컨버터가 만든 데이터는 CompactTick을 감싸며, BigDecimal/Instant 값은 처음 조회할 때 만들어 둡니다.
+ * 수치 계산에는 priceAsDouble/volumeAsDouble을 사용해 BigDecimal 생성을 피합니다.
+ */
 @Getter
 @Builder
 @NoArgsConstructor
@@ -28,6 +36,128 @@ public class StandardExchangeData {
     private BigDecimal priceChangePercent; // 등락률
     private BigDecimal volume24h;     // 24시간 거래량
     private Map<String, Object> metadata; // 거래소별 추가 데이터
+    @Getter(AccessLevel.NONE)
+    private CompactTick compact;      // 컨버터가 만든 고정소수점 원본 (JSON/빌더로 만든 경우 null)
+
+    /**
+     * 고정소수점 틱을 기존 형식으로 감싸기 (값은 조회 시점에 변환)
+     */
+    public static StandardExchangeData from(CompactTick tick) {
+        StandardExchangeData data = new StandardExchangeData();
+        data.exchange = tick.pair().exchange();
+        data.currencyPair = tick.pair().currencyPair();
+        data.compact = tick;
+        return data;
+    }
+
+    /**
+     * 고정소수점 원본 (컨버터에서 만든 경우만, 아니면 null)
+     */
+    public CompactTick compact() {
+        return compact;
+    }
+
+    /**
+     * 레지스트리 거래쌍 (미리 계산된 키 사용, 컨버터에서 만든 경우만, 아니면 null)
+     */
+    public TradingPair tradingPair() {
+        return compact != null ? compact.pair() : null;
+    }
+
+    public BigDecimal getPrice() {
+        if (price == null && compact != null) {
+            price = CompactTick.toDecimal(compact.price(), compact.pair().priceScale());
+        }
+        return price;
+    }
+
+    public BigDecimal getVolume() {
+        if (volume == null && compact != null) {
+            volume = CompactTick.toDecimal(compact.volume(), compact.pair().volumeScale());
+        }
+        return volume;
+    }
+
+    public Instant getTimestamp() {
+        if (timestamp == null && compact != null) {
+            timestamp = Instant.ofEpochMilli(compact.timestampMillis());
+        }
+        return timestamp;
+    }
+
+    public BigDecimal getHighPrice() {
+        if (highPrice == null && compact != null) {
+            highPrice = CompactTick.toDecimal(compact.highPrice(), compact.pair().priceScale());
+        }
+        return highPrice;
+    }
+
+    public BigDecimal getLowPrice() {
+        if (lowPrice == null && compact != null) {
+            lowPrice = CompactTick.toDecimal(compact.lowPrice(), compact.pair().priceScale());
+        }
+        return lowPrice;
+    }
+
+    public BigDecimal getPriceChange() {
+        if (priceChange == null && compact != null) {
+            priceChange = CompactTick.toDecimal(compact.priceChange(), compact.pair().priceScale());
+        }
+        return priceChange;
+    }
+
+    public BigDecimal getPriceChangePercent() {
+        if (priceChangePercent == null && compact != null) {
+            priceChangePercent = CompactTick.toDecimal(compact.priceChangePercent(), compact.pair().priceScale());
+        }
+        return priceChangePercent;
+    }
+
+    public BigDecimal getVolume24h() {
+        if (volume24h == null && compact != null) {
+            volume24h = CompactTick.toDecimal(compact.volume24h(), compact.pair().volumeScale());
+        }
+        return volume24h;
+    }
+
+    public Map<String, Object> getMetadata() {
+        // 컨버터는 메타데이터를 만들지 않음 (JSON에는 기존처럼 빈 객체로 나감)
+        return metadata == null && compact != null ? Collections.emptyMap() : metadata;
+    }
+
+    public double priceAsDouble() {
+        return compact != null ? compact.priceAsDouble() : price.doubleValue();
+    }
+
+    /**
+     * 거래량 (없으면 0)
+     */
+    public double volumeAsDouble() {
+        if (compact != null) {
+            return compact.volumeAsDouble();
+        }
+        return volume != null ? volume.doubleValue() : 0.0;
+    }
+
+    /**
+     * 24시간 누적 거래량 (없으면 0)
+     */
+    public double volume24hAsDouble() {
+        if (compact != null) {
+            return compact.volume24hAsDouble();
+        }
+        return volume24h != null ? volume24h.doubleValue() : 0.0;
+    }
+
+    /**
+     * 타임스탬프 밀리초 (없으면 0)
+     */
+    public long timestampMillis() {
+        if (compact != null) {
+            return compact.timestampMillis();
+        }
+        return timestamp != null ? timestamp.toEpochMilli() : 0L;
+    }
 
     @Override
     public String toString() {
@@ -49,14 +179,14 @@ public class StandardExchangeData {
             └─────────────────────────────────────────────""",
             exchange,
             currencyPair,
-            price,
-            volume,
-            highPrice,
-            lowPrice,
-            priceChange,
-            priceChangePercent,
-            volume24h,
-            timestamp,
-            metadata);
+            getPrice(),
+            getVolume(),
+            getHighPrice(),
+            getLowPrice(),
+            getPriceChange(),
+            getPriceChangePercent(),
+            getVolume24h(),
+            getTimestamp(),
+            getMetadata());
     }
 } 
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.example.boot.exchange.layer3_data_converter.service;
 
-import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,7 +10,6 @@ import org.springframework.stereotype.Service;
 
 import com.example.boot.exchange.layer1_core.config.ExchangeConfig;
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
-import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
 import com.example.boot.exchange.layer1_core.protocol.BaseExchangeProtocol;
 import com.example.boot.exchange.layer2_websocket.connection.ConnectionFactory;
 import com.example.boot.exchange.layer2_websocket.handler.MessageHandler;
@@ -150,14 +148,9 @@ public class ExchangeDataIntegrationServiceImpl implements ExchangeDataIntegrati
                 activeHandlers.put(exchange, handler);
                 
                 return sendSubscribeMessage(exchange, handler, protocol, pairs)
-                    .thenMany(handler.receiveMessage())
-                    .map(raw -> new ExchangeMessage(
-                        exchange, 
-                        raw, 
-                        Instant.now(), 
-                        ExchangeMessage.MessageType.TICKER
-                    ))
-                    .flatMap(msg -> converter.convert(msg)
+                    .thenMany(handler.receivePayload())
+                    // 프레임 바이트를 그대로 변환 (컨버터가 변환 후 버퍼 해제)
+                    .flatMap(payload -> converter.convert(payload)
                         .doOnError(e -> log.error("Error converting message from {}: {}", 
                             exchange, e.getMessage()))
                         .onErrorResume(e -> Mono.empty())
@@ -0,0 +1,73 @@
+package com.example.boot.exchange.layer4_distribution.common.factory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+import com.example.boot.exchange.layer4_distribution.common.service.ClientDeliveryQueue;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 세션별 전송 큐 생성
+ * 전송 정책(최대 대기 시간, 최대 전송률, 전송 시간/버퍼 한도)과 전송 워커 풀을 모든 세션이 공유합니다.
+ */
+@Slf4j
+@Component
+public class ClientDeliveryQueueFactory {
+    private final long maxPendingAgeMillis;
+    private final int maxRatePerSecond;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final DataFlowMonitor dataFlowMonitor;
+    private final Scheduler deliveryScheduler;
+
+    public ClientDeliveryQueueFactory(
+            @Value("${distribution.delivery.max-pending-age:5000}") long maxPendingAgeMillis,
+            @Value("${distribution.delivery.max-rate:0}") int maxRatePerSecond,
+            @Value("${distribution.delivery.send-time-limit:10000}") int sendTimeLimitMillis,
+            @Value("${distribution.delivery.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+            @Value("${distribution.delivery.worker-threads:8}") int workerThreads,
+            DataFlowMonitor dataFlowMonitor) {
+        this.maxPendingAgeMillis = maxPendingAgeMillis;
+        this.maxRatePerSecond = maxRatePerSecond;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.dataFlowMonitor = dataFlowMonitor;
+        // 세션마다 동시에 하나의 전송 작업만 예약되므로 대기 작업 수는 세션 수로 제한됨
+        this.deliveryScheduler = Schedulers.newBoundedElastic(
+            workerThreads, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "client-delivery");
+        log.info("Client delivery policy - max pending age: {}ms, max rate: {}/s, send time limit: {}ms, "
+            + "send buffer limit: {} bytes, workers: {}", maxPendingAgeMillis,
+            maxRatePerSecond > 0 ? maxRatePerSecond : "unlimited", sendTimeLimitMillis, sendBufferSizeLimit, workerThreads);
+    }
+
+    /**
+     * 세션 전송용 데코레이터
+     * 전송이 블로킹된 동안 다른 스레드의 전송은 버퍼에 쌓이고, 진행 중인 전송이 sendTimeLimit을 넘거나
+     * 버퍼가 sendBufferSizeLimit을 넘으면 SessionLimitExceededException이 발생합니다.
+     */
+    public WebSocketSession decorate(WebSocketSession session) {
+        return new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, sendBufferSizeLimit);
+    }
+
+    /**
+     * @param sessionId 세션 ID
+     * @param sender 실제 전송 (세션 단위로 순차 호출)
+     * @param onOverflow 최대 대기 시간 초과 시 호출 (연결 종료용)
+     */
+    public ClientDeliveryQueue create(String sessionId, ClientDeliveryQueue.Sender sender, Runnable onOverflow) {
+        return new ClientDeliveryQueue(sessionId, maxPendingAgeMillis, maxRatePerSecond,
+            deliveryScheduler, sender, onOverflow, dataFlowMonitor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryScheduler.dispose();
+    }
+}
@@ -9,12 +9,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.example.boot.common.session.registry.SessionRegistry;
-import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 import com.example.boot.exchange.layer4_distribution.common.event.InfrastructureStatusChangeEvent;
+import com.example.boot.exchange.layer4_distribution.common.health.InfrastructureHealthState;
+import com.example.boot.exchange.layer4_distribution.common.service.ClientDeliveryQueue;
 import com.example.boot.exchange.layer4_distribution.common.service.DistributionService;
 import com.example.boot.exchange.layer4_distribution.direct.service.DirectDistributionService;
-import com.example.boot.exchange.layer4_distribution.kafka.health.KafkaHealthIndicator;
-import com.example.boot.exchange.layer4_distribution.kafka.health.ZookeeperHealthIndicator;
 import com.example.boot.exchange.layer4_distribution.kafka.service.KafkaDistributionService;
 
 import jakarta.annotation.PostConstruct;
@@ -27,22 +26,19 @@ import reactor.core.publisher.Sinks;
 public class DistributionServiceFactory {
     private final KafkaDistributionService kafkaService;
     private final DirectDistributionService directService;
-    private final KafkaHealthIndicator kafkaHealthIndicator;
-    private final ZookeeperHealthIndicator zookeeperHealthIndicator;
+    private final InfrastructureHealthState healthState;
     private final SessionRegistry sessionRegistry;
     private volatile DistributionService currentService;
 
     public DistributionServiceFactory(
         @Autowired(required = false) KafkaDistributionService kafkaService,
         DirectDistributionService directService,
-        @Autowired(required = false) KafkaHealthIndicator kafkaHealthIndicator,
-        @Autowired(required = false) ZookeeperHealthIndicator zookeeperHealthIndicator,
+        @Autowired(required = false) InfrastructureHealthState healthState,
         SessionRegistry sessionRegistry
     ) {
         this.kafkaService = kafkaService;
         this.directService = directService;
-        this.kafkaHealthIndicator = kafkaHealthIndicator;
-        this.zookeeperHealthIndicator = zookeeperHealthIndicator;
+        this.healthState = healthState;
         this.sessionRegistry = sessionRegistry;
     }
 
@@ -79,7 +75,7 @@ public class DistributionServiceFactory {
         if (currentService != null) {
             log.info("Switching to Kafka service...");
             // 현재 활성 세션 정보 저장
-            Map<String, Sinks.Many<StandardExchangeData>> activeSinks = currentService.getActiveSinks();
+            Map<String, ClientDeliveryQueue> activeSinks = currentService.getActiveSinks();
             int activeSessionCount = sessionRegistry.getActiveSessionCount();
             
             log.info("Current active sessions: {}, sinks: {}", 
@@ -104,7 +100,7 @@ public class DistributionServiceFactory {
             
             // 1. 먼저 Sink 정보 저장
             KafkaDistributionService kafkaService = (KafkaDistributionService) currentService;
-            Map<String, Sinks.Many<StandardExchangeData>> activeSinks = new HashMap<>(kafkaService.clientSinks);
+            Map<String, ClientDeliveryQueue> activeSinks = new HashMap<>(kafkaService.clientSinks);
             
             log.info("Current State:");
             log.info("├─ Active Sessions: {}", sessionRegistry.getActiveSessionCount());
@@ -139,10 +135,8 @@ public class DistributionServiceFactory {
     }
 
     private boolean isKafkaAvailable() {
-        return kafkaHealthIndicator != null && 
-               zookeeperHealthIndicator != null && 
-               kafkaHealthIndicator.isAvailable() && 
-               zookeeperHealthIndicator.isAvailable();
+        // 초기화 시점에는 스냅샷이 비어 있으므로 동기 점검으로 갱신
+        return healthState != null && healthState.refresh().isInfrastructureAvailable();
     }
 
     public DistributionService getCurrentService() {
@@ -1,22 +1,17 @@
 package com.example.boot.exchange.layer4_distribution.common.health;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.example.boot.exchange.layer4_distribution.common.event.InfrastructureStatusChangeEvent;
 import com.example.boot.exchange.layer4_distribution.common.factory.DistributionServiceFactory;
 import com.example.boot.exchange.layer4_distribution.common.service.DistributionService;
-import com.example.boot.exchange.layer4_distribution.kafka.health.KafkaHealthIndicator;
-import com.example.boot.exchange.layer4_distribution.kafka.health.ZookeeperHealthIndicator;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,20 +21,16 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(name = "infrastructure.health-check.enabled", havingValue = "true", matchIfMissing = true)
 public class InfrastructureHealthManager {
     private final List<HealthCheckable> healthCheckers;
-    private final ApplicationEventPublisher eventPublisher;
+    private final InfrastructureHealthState healthState;
     private final DistributionServiceFactory distributionServiceFactory;
-    private final Map<String, InfrastructureStatus> healthStatuses = new ConcurrentHashMap<>();
-    
-    private volatile boolean lastKafkaStatus = false;
-    private volatile boolean lastZookeeperStatus = false;
 
     public InfrastructureHealthManager(
         List<HealthCheckable> healthCheckers,
-        ApplicationEventPublisher eventPublisher,
+        InfrastructureHealthState healthState,
         DistributionServiceFactory distributionServiceFactory
     ) {
         this.healthCheckers = healthCheckers;
-        this.eventPublisher = eventPublisher;
+        this.healthState = healthState;
         this.distributionServiceFactory = distributionServiceFactory;
         
         if (healthCheckers.isEmpty()) {
@@ -52,50 +43,26 @@ public class InfrastructureHealthManager {
         }
     }
     
+    /**
+     * 상태 점검과 이벤트 발행은 InfrastructureHealthState가 전용 스케줄러에서 수행하며,
+     * 여기서는 마지막 스냅샷만 읽어 로깅합니다.
+     */
     @Scheduled(fixedRateString = "${infrastructure.health-check.interval:10000}")
     public void checkAllHealth() {
         if (healthCheckers.isEmpty()) {
             return;
         }
 
-        boolean currentKafkaStatus = false;
-        boolean currentZookeeperStatus = false;
-        List<InfrastructureStatus> statuses = new ArrayList<>();
-
-        for (HealthCheckable checker : healthCheckers) {
-            InfrastructureStatus status = checker.checkHealth();
-            statuses.add(status);
-            healthStatuses.put(checker.getServiceName(), status);
-            
-            boolean isAvailable = checker.isAvailable();
-            
-            if (checker instanceof KafkaHealthIndicator) {
-                currentKafkaStatus = isAvailable;
-            } else if (checker instanceof ZookeeperHealthIndicator) {
-                currentZookeeperStatus = isAvailable;
-            }
-        }
-
-        // 상태가 변경된 경우에만 이벤트 발행
-        if (currentKafkaStatus != lastKafkaStatus || currentZookeeperStatus != lastZookeeperStatus) {
-            log.info("Infrastructure status changed - Kafka: {} -> {}, Zookeeper: {} -> {}", 
-                lastKafkaStatus, currentKafkaStatus,
-                lastZookeeperStatus, currentZookeeperStatus);
-                
-            InfrastructureStatusChangeEvent event = new InfrastructureStatusChangeEvent(
-                currentKafkaStatus, currentZookeeperStatus);
-            
-            eventPublisher.publishEvent(event);
-            
-            lastKafkaStatus = currentKafkaStatus;
-            lastZookeeperStatus = currentZookeeperStatus;
+        InfrastructureHealthState.Snapshot snapshot = healthState.getSnapshot();
+        if (snapshot.state() == InfrastructureHealthState.State.UNKNOWN) {
+            return;
         }
 
         // 상태 로깅
-        logHealthStatus(statuses);
+        logHealthStatus(snapshot.statuses().values());
     }
     
-    private void logHealthStatus(List<InfrastructureStatus> statuses) {
+    private void logHealthStatus(Collection<InfrastructureStatus> statuses) {
         // 각 서비스의 상태를 한 줄로 표현
         statuses.forEach(status -> {
             String statusEmoji = "CONNECTED".equals(status.getStatus()) ? "🟢" : "🔴";
@@ -124,6 +91,6 @@ public class InfrastructureHealthManager {
     }
     
     public Map<String, InfrastructureStatus> getCurrentStatus() {
-        return new HashMap<>(healthStatuses);
+        return new HashMap<>(healthState.getSnapshot().statuses());
     }
 } 
\ No newline at end of file
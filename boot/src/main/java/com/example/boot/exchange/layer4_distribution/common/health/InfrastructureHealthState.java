@@ -0,0 +1,204 @@
+package com.example.boot.exchange.layer4_distribution.common.health;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer4_distribution.common.event.InfrastructureStatusChangeEvent;
+import com.example.boot.exchange.layer4_distribution.kafka.health.KafkaHealthIndicator;
+import com.example.boot.exchange.layer4_distribution.kafka.health.ZookeeperHealthIndicator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인프라(Kafka/Zookeeper) 상태 머신
+ * 전용 스케줄러에서 주기적으로 상태를 점검하고, 핫패스에서는 volatile 스냅샷만 읽도록 합니다.
+ * 상태가 바뀐 경우에만 InfrastructureStatusChangeEvent를 발행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "infrastructure.health-check.enabled", havingValue = "true", matchIfMissing = true)
+public class InfrastructureHealthState {
+
+    public enum State {
+        UNKNOWN,     // 아직 점검 전
+        UP,          // Kafka, Zookeeper 모두 사용 가능
+        DEGRADED,    // 둘 중 하나만 사용 가능
+        DOWN         // 모두 사용 불가
+    }
+
+    /**
+     * 불변 상태 스냅샷
+     */
+    public record Snapshot(
+        State state,
+        boolean kafkaAvailable,
+        boolean zookeeperAvailable,
+        Map<String, InfrastructureStatus> statuses,
+        long checkedAtMillis
+    ) {
+        public boolean isInfrastructureAvailable() {
+            return kafkaAvailable && zookeeperAvailable;
+        }
+    }
+
+    private static final Snapshot INITIAL = new Snapshot(State.UNKNOWN, false, false, Collections.emptyMap(), 0L);
+
+    private final List<HealthCheckable> healthCheckers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Snapshot snapshot = INITIAL;
+
+    // 마지막으로 이벤트를 발행한 상태 (스케줄러 스레드에서만 접근)
+    private boolean lastPublishedKafka = false;
+    private boolean lastPublishedZookeeper = false;
+
+    public InfrastructureHealthState(
+        List<HealthCheckable> healthCheckers,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${infrastructure.health-check.interval:10000}") long intervalMillis
+    ) {
+        this.healthCheckers = healthCheckers;
+        this.eventPublisher = eventPublisher;
+        this.intervalMillis = intervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "infra-health-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 컨텍스트 준비 완료 후 백그라운드 점검 시작
+     * (이벤트 리스너가 모두 등록된 뒤 첫 전이가 발행되도록 ApplicationReadyEvent 이후 시작)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Starting infrastructure health probe (interval: {}ms, checkers: {})",
+            intervalMillis, healthCheckers.size());
+        scheduler.scheduleWithFixedDelay(this::probeAndPublish, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 동기 점검 후 스냅샷 갱신 (이벤트는 발행하지 않음)
+     * 초기화 시점처럼 즉시 판단이 필요한 경우에만 사용합니다.
+     */
+    public Snapshot refresh() {
+        Snapshot current = probe();
+        snapshot = current;
+        return current;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 핫패스용: Kafka 경로 사용 가능 여부 (Kafka는 Zookeeper가 먼저 연결되어 있어야 함)
+     */
+    public boolean isKafkaAvailable() {
+        return snapshot.isInfrastructureAvailable();
+    }
+
+    public boolean isZookeeperAvailable() {
+        return snapshot.zookeeperAvailable();
+    }
+
+    public State getState() {
+        return snapshot.state();
+    }
+
+    private void probeAndPublish() {
+        try {
+            Snapshot current = refresh();
+
+            // 상태가 변경된 경우에만 이벤트 발행
+            if (current.kafkaAvailable() != lastPublishedKafka
+                    || current.zookeeperAvailable() != lastPublishedZookeeper) {
+                log.info("Infrastructure status changed - Kafka: {} -> {}, Zookeeper: {} -> {} ({})",
+                    lastPublishedKafka, current.kafkaAvailable(),
+                    lastPublishedZookeeper, current.zookeeperAvailable(),
+                    current.state());
+
+                lastPublishedKafka = current.kafkaAvailable();
+                lastPublishedZookeeper = current.zookeeperAvailable();
+
+                eventPublisher.publishEvent(new InfrastructureStatusChangeEvent(
+                    current.kafkaAvailable(), current.zookeeperAvailable()));
+            }
+        } catch (Exception e) {
+            // 스케줄러가 중단되지 않도록 예외는 여기서 처리
+            log.error("Error during infrastructure health probe", e);
+        }
+    }
+
+    private Snapshot probe() {
+        boolean kafkaAvailable = false;
+        boolean zookeeperAvailable = false;
+        Map<String, InfrastructureStatus> statuses = new LinkedHashMap<>();
+
+        for (HealthCheckable checker : healthCheckers) {
+            InfrastructureStatus status = safeCheck(checker);
+            statuses.put(checker.getServiceName(), status);
+
+            // checkHealth 결과로 판단하여 점검당 한 번만 브로커/ZK에 접근
+            boolean available = "CONNECTED".equals(status.getStatus());
+            if (checker instanceof KafkaHealthIndicator) {
+                kafkaAvailable = available;
+            } else if (checker instanceof ZookeeperHealthIndicator) {
+                zookeeperAvailable = available;
+            }
+        }
+
+        return new Snapshot(
+            resolveState(kafkaAvailable, zookeeperAvailable),
+            kafkaAvailable,
+            zookeeperAvailable,
+            Collections.unmodifiableMap(statuses),
+            System.currentTimeMillis()
+        );
+    }
+
+    private InfrastructureStatus safeCheck(HealthCheckable checker) {
+        try {
+            return checker.checkHealth();
+        } catch (Exception e) {
+            return InfrastructureStatus.builder()
+                .serviceName(checker.getServiceName())
+                .status("DISCONNECTED")
+                .details(Map.of("error", String.valueOf(e.getMessage())))
+                .lastChecked(LocalDateTime.now())
+                .build();
+        }
+    }
+
+    private State resolveState(boolean kafkaAvailable, boolean zookeeperAvailable) {
+        if (kafkaAvailable && zookeeperAvailable) {
+            return State.UP;
+        }
+        if (kafkaAvailable || zookeeperAvailable) {
+            return State.DEGRADED;
+        }
+        return State.DOWN;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.boot.exchange.layer4_distribution.common.model;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.service.BroadcastFrameEncoder;
+
+/**
+ * 브로드캐스트 프레임
+ * 틱 하나에 대한 불변 프레임으로, 모든 구독 세션이 같은 인스턴스를 공유합니다.
+ * 직렬화는 전송 형식(LEGACY/JSON/CBOR x 전체/delta)별로 처음 요청될 때 한 번만 수행해 캐시하므로,
+ * 아무 세션도 쓰지 않는 형식은 인코딩하지 않습니다.
+ */
+public final class BroadcastFrame {
+    private static final int VARIANTS = 5;
+
+    private final BroadcastFrameEncoder encoder;
+    private final String key;                   // exchange:pair (세션 큐의 conflation 키)
+    private final StandardExchangeData data;    // 원본 틱 (스냅샷 프레임은 null)
+    private final long seq;                     // 거래쌍별 순번 (1부터, 0이면 순번 없음)
+    private final StandardExchangeData base;    // delta 기준 틱 (seq - 1번 틱, 없으면 null)
+    private final List<BroadcastFrame> entries; // 스냅샷에 담긴 틱 프레임 (틱 프레임은 빈 목록)
+    private final AtomicReferenceArray<WebSocketMessage<?>> messages = new AtomicReferenceArray<>(VARIANTS);
+
+    public BroadcastFrame(BroadcastFrameEncoder encoder, String key, StandardExchangeData data,
+            long seq, StandardExchangeData base, List<BroadcastFrame> entries) {
+        this.encoder = encoder;
+        this.key = key;
+        this.data = data;
+        this.seq = seq;
+        this.base = base;
+        this.entries = entries;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public StandardExchangeData data() {
+        return data;
+    }
+
+    public long seq() {
+        return seq;
+    }
+
+    public StandardExchangeData base() {
+        return base;
+    }
+
+    public List<BroadcastFrame> entries() {
+        return entries;
+    }
+
+    public boolean isSnapshot() {
+        return data == null;
+    }
+
+    /**
+     * 형식별 직렬화 메시지 (여러 전송 워커가 동시에 처음 요청하면 중복 인코딩될 수 있으나 결과는 같음)
+     * @param asDelta 직전 틱 대비 바뀐 필드만 (base가 있을 때만 의미 있음)
+     * @return 직렬화된 메시지, 실패하면 null
+     */
+    public WebSocketMessage<?> message(WireFormat format, boolean asDelta) {
+        int slot = slot(format.encoding(), asDelta && base != null);
+        WebSocketMessage<?> message = messages.get(slot);
+        if (message == null) {
+            message = encoder.encodeMessage(this, format.encoding(), asDelta && base != null);
+            if (message != null && !messages.compareAndSet(slot, null, message)) {
+                message = messages.get(slot);
+            }
+        }
+        return message;
+    }
+
+    private static int slot(WireFormat.Encoding encoding, boolean asDelta) {
+        return switch (encoding) {
+            case LEGACY -> 0;
+            case JSON -> asDelta ? 2 : 1;
+            case CBOR -> asDelta ? 4 : 3;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.boot.exchange.layer4_distribution.common.model;
+
+/**
+ * 프론트엔드 피드 전송 형식 (접속 URL 쿼리로 협상: /ws/exchange?encoding=cbor&delta=true)
+ * - LEGACY: 기존 StandardExchangeData JSON 전체 (쿼리가 없을 때, 기존 클라이언트 호환)
+ * - JSON/CBOR: 짧은 필드명의 틱 프레임, delta이면 거래쌍별로 직전 틱과 달라진 필드만 전송
+ * 구독 응답/오류 같은 제어 메시지는 형식과 관계없이 JSON 텍스트로 보냅니다.
+ */
+public record WireFormat(Encoding encoding, boolean delta) {
+
+    public enum Encoding {
+        LEGACY, JSON, CBOR
+    }
+
+    public static final WireFormat LEGACY = new WireFormat(Encoding.LEGACY, false);
+
+    /**
+     * 쿼리 값으로 형식 결정 (둘 다 없으면 LEGACY, encoding만 없으면 json, delta만 없으면 사용)
+     * @throws IllegalArgumentException 알 수 없는 encoding
+     */
+    public static WireFormat negotiate(String encoding, String delta) {
+        if (encoding == null && delta == null) {
+            return LEGACY;
+        }
+        Encoding resolved = encoding == null ? Encoding.JSON : parseEncoding(encoding);
+        if (resolved == Encoding.LEGACY) {
+            return LEGACY;
+        }
+        return new WireFormat(resolved, delta == null || Boolean.parseBoolean(delta));
+    }
+
+    private static Encoding parseEncoding(String encoding) {
+        try {
+            return Encoding.valueOf(encoding.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown encoding: " + encoding);
+        }
+    }
+}
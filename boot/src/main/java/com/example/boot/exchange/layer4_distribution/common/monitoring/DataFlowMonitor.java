@@ -1,5 +1,7 @@
 package com.example.boot.exchange.layer4_distribution.common.monitoring;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +12,8 @@ import org.springframework.stereotype.Component;
 
 import com.example.boot.common.session.registry.SessionRegistry;
 import com.example.boot.exchange.layer4_distribution.common.health.DistributionStatus;
-import com.example.boot.exchange.layer4_distribution.kafka.health.KafkaHealthIndicator;
-import com.example.boot.exchange.layer4_distribution.kafka.health.ZookeeperHealthIndicator;
+import com.example.boot.exchange.layer4_distribution.common.health.InfrastructureHealthState;
+import com.example.boot.exchange.layer4_distribution.common.service.TickDeduplicator;
 import com.example.boot.exchange.layer4_distribution.kafka.service.LeaderElectionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,12 +32,33 @@ public class DataFlowMonitor {
     private final AtomicLong lastKafkaMessagesSent = new AtomicLong(0);
     private final AtomicLong lastKafkaMessagesReceived = new AtomicLong(0);
     private final AtomicLong lastClientMessagesSent = new AtomicLong(0);
+    private final AtomicLong lastDuplicatesDropped = new AtomicLong(0);
+    
+    // 프레임 인코딩 / 세션 전송 지표 (주기마다 초기화)
+    private final AtomicLong frameEncodeCount = new AtomicLong(0);
+    private final AtomicLong frameEncodeNanosTotal = new AtomicLong(0);
+    private final AtomicLong frameEncodeNanosMax = new AtomicLong(0);
+    private final AtomicLong clientSendCount = new AtomicLong(0);
+    private final AtomicLong clientSendNanosTotal = new AtomicLong(0);
+    private final AtomicLong clientSendNanosMax = new AtomicLong(0);
+    private final AtomicLong clientSendErrors = new AtomicLong(0);
+    
+    // 세션 전송 큐 지표 (주기마다 초기화)
+    private final AtomicLong deliveryConflated = new AtomicLong(0);
+    private final AtomicLong deliveryOverflows = new AtomicLong(0);
+    private final AtomicLong deliveryQueueDepthMax = new AtomicLong(0);
+    
+    // Kafka 발행 지표 (주기마다 초기화): 거래소별 전송(ack) 지연
+    private final Map<String, SendLatency> kafkaSendLatency = new ConcurrentHashMap<>();
+    private final AtomicLong kafkaSendErrors = new AtomicLong(0);
+    private final AtomicLong kafkaSendDropped = new AtomicLong(0);
+    private final AtomicLong kafkaPublishRestarts = new AtomicLong(0);
     
     private final LeaderElectionService leaderElectionService;
     private final DistributionStatus distributionStatus;
-    private final KafkaHealthIndicator healthIndicator;
-    private final ZookeeperHealthIndicator zookeeperHealthIndicator;
+    private final InfrastructureHealthState healthState;
     private final SessionRegistry sessionRegistry;
+    private final TickDeduplicator deduplicator;
     
     @Value("${infrastructure.monitoring.data-flow.logging.interval:10000}")
     private long monitoringInterval;
@@ -43,15 +66,15 @@ public class DataFlowMonitor {
     public DataFlowMonitor(
         LeaderElectionService leaderElectionService,
         DistributionStatus distributionStatus,
-        @Autowired(required = false) KafkaHealthIndicator healthIndicator,
-        @Autowired(required = false) ZookeeperHealthIndicator zookeeperHealthIndicator,
-        SessionRegistry sessionRegistry
+        @Autowired(required = false) InfrastructureHealthState healthState,
+        SessionRegistry sessionRegistry,
+        TickDeduplicator deduplicator
     ) {
         this.leaderElectionService = leaderElectionService;
         this.distributionStatus = distributionStatus;
-        this.healthIndicator = healthIndicator;
-        this.zookeeperHealthIndicator = zookeeperHealthIndicator;
+        this.healthState = healthState;
         this.sessionRegistry = sessionRegistry;
+        this.deduplicator = deduplicator;
     }
     
     @Scheduled(fixedRateString = "${infrastructure.monitoring.data-flow.logging.interval:10000}")
@@ -67,10 +90,12 @@ public class DataFlowMonitor {
             // 모니터링 간격을 초 단위로 변환
             long intervalSeconds = monitoringInterval / 1000;
             
-            boolean isKafkaMode = healthIndicator != null && 
-                                zookeeperHealthIndicator != null && 
-                                healthIndicator.isAvailable() && 
-                                zookeeperHealthIndicator.isAvailable();
+            boolean isKafkaMode = healthState != null && healthState.isKafkaAvailable();
+            
+            // 중복/재전송 제거 건수 (중복 + 과거 틱)
+            long currentDropped = deduplicator.getDuplicateCount() + deduplicator.getStaleCount();
+            long droppedDelta = currentDropped - lastDuplicatesDropped.getAndSet(currentDropped);
+            String broadcastMetrics = formatBroadcastMetrics(intervalSeconds);
             
             // Direct 모드일 때
             if (!isKafkaMode) {
@@ -84,6 +109,9 @@ public class DataFlowMonitor {
                 
                 sb.append("├─ Mode: DIRECT\n");
                 sb.append(String.format("├─ Exchange Data (Last %ds): +%d\n", intervalSeconds, receivedDelta));
+                sb.append(String.format("├─ Duplicates Dropped (Last %ds): +%d (tracked pairs: %d)\n", 
+                    intervalSeconds, droppedDelta, deduplicator.getTrackedPairCount()));
+                sb.append(broadcastMetrics);
                 sb.append(String.format("├─ Clients Connected: %d\n", activeClients));
                 sb.append(String.format("└─ Client Messages (Last %ds): +%d", intervalSeconds, sentDelta));
             } 
@@ -104,6 +132,10 @@ public class DataFlowMonitor {
                 sb.append(String.format("├─ Role: %s\n", role));
                 sb.append(String.format("├─ Kafka Messages (Last %ds): Sent=+%d, Received=+%d (Lag: %d)\n", 
                     intervalSeconds, sentDelta, receivedDelta, lag));
+                sb.append(formatKafkaSendMetrics(intervalSeconds));
+                sb.append(String.format("├─ Duplicates Dropped (Last %ds): +%d (tracked pairs: %d)\n", 
+                    intervalSeconds, droppedDelta, deduplicator.getTrackedPairCount()));
+                sb.append(broadcastMetrics);
                 sb.append(String.format("├─ Clients Connected: %d\n", activeClients));
                 
                 long currentClientSent = clientMessagesSent.get();
@@ -133,4 +165,116 @@ public class DataFlowMonitor {
     public void incrementClientSent() {
         clientMessagesSent.incrementAndGet();
     }
-} 
\ No newline at end of file
+    
+    public void recordFrameEncode(long elapsedNanos) {
+        frameEncodeCount.incrementAndGet();
+        frameEncodeNanosTotal.addAndGet(elapsedNanos);
+        frameEncodeNanosMax.accumulateAndGet(elapsedNanos, Math::max);
+    }
+    
+    public void recordClientSend(long elapsedNanos) {
+        clientSendCount.incrementAndGet();
+        clientSendNanosTotal.addAndGet(elapsedNanos);
+        clientSendNanosMax.accumulateAndGet(elapsedNanos, Math::max);
+    }
+    
+    public void incrementClientSendError() {
+        clientSendErrors.incrementAndGet();
+    }
+    
+    public void incrementDeliveryConflated() {
+        deliveryConflated.incrementAndGet();
+    }
+    
+    public void incrementDeliveryOverflow() {
+        deliveryOverflows.incrementAndGet();
+    }
+    
+    public void recordDeliveryQueueDepth(int depth) {
+        deliveryQueueDepthMax.accumulateAndGet(depth, Math::max);
+    }
+    
+    /**
+     * Kafka 전송 시작부터 ack까지의 지연 (거래소별)
+     */
+    public void recordKafkaSend(String exchange, long elapsedNanos) {
+        SendLatency latency = kafkaSendLatency.get(exchange);
+        if (latency == null) {
+            latency = kafkaSendLatency.computeIfAbsent(exchange, e -> new SendLatency());
+        }
+        latency.record(elapsedNanos);
+    }
+    
+    public void incrementKafkaSendError() {
+        kafkaSendErrors.incrementAndGet();
+    }
+    
+    /**
+     * 발행 버퍼 overflow 정책으로 버린 틱
+     */
+    public void incrementKafkaSendDropped() {
+        kafkaSendDropped.incrementAndGet();
+    }
+    
+    /**
+     * 버퍼 초과로 중단된 발행 단계를 다시 시작한 횟수
+     */
+    public void incrementKafkaPublishRestart() {
+        kafkaPublishRestarts.incrementAndGet();
+    }
+    
+    private String formatKafkaSendMetrics(long intervalSeconds) {
+        StringBuilder sb = new StringBuilder();
+        kafkaSendLatency.forEach((exchange, latency) -> {
+            long count = latency.count.getAndSet(0);
+            long nanos = latency.nanosTotal.getAndSet(0);
+            long max = latency.nanosMax.getAndSet(0);
+            if (count > 0) {
+                sb.append(String.format("├─ Kafka Send %s (Last %ds): +%d, avg=%.2fms, max=%.2fms\n",
+                    exchange, intervalSeconds, count, nanos / 1_000_000.0 / count, max / 1_000_000.0));
+            }
+        });
+        long errors = kafkaSendErrors.getAndSet(0);
+        long dropped = kafkaSendDropped.getAndSet(0);
+        long restarts = kafkaPublishRestarts.getAndSet(0);
+        if (errors > 0 || dropped > 0 || restarts > 0) {
+            sb.append(String.format("├─ Kafka Send Issues (Last %ds): errors=+%d, overflow dropped=+%d, publisher restarts=+%d\n",
+                intervalSeconds, errors, dropped, restarts));
+        }
+        return sb.toString();
+    }
+    
+    private String formatBroadcastMetrics(long intervalSeconds) {
+        long encodes = frameEncodeCount.getAndSet(0);
+        long encodeNanos = frameEncodeNanosTotal.getAndSet(0);
+        long encodeMax = frameEncodeNanosMax.getAndSet(0);
+        long sends = clientSendCount.getAndSet(0);
+        long sendNanos = clientSendNanosTotal.getAndSet(0);
+        long sendMax = clientSendNanosMax.getAndSet(0);
+        long errors = clientSendErrors.getAndSet(0);
+        long conflated = deliveryConflated.getAndSet(0);
+        long overflows = deliveryOverflows.getAndSet(0);
+        long depthMax = deliveryQueueDepthMax.getAndSet(0);
+        
+        double avgEncodeUs = encodes > 0 ? encodeNanos / 1_000.0 / encodes : 0.0;
+        double avgSendUs = sends > 0 ? sendNanos / 1_000.0 / sends : 0.0;
+        return String.format("├─ Frame Encode (Last %ds): +%d, avg=%.1fµs, max=%.1fµs\n", 
+                intervalSeconds, encodes, avgEncodeUs, encodeMax / 1_000.0)
+            + String.format("├─ Session Send (Last %ds): +%d, avg=%.1fµs, max=%.1fµs, errors=+%d\n", 
+                intervalSeconds, sends, avgSendUs, sendMax / 1_000.0, errors)
+            + String.format("├─ Session Queues (Last %ds): conflated=+%d, max pending=%d, overflow disconnects=+%d\n", 
+                intervalSeconds, conflated, depthMax, overflows);
+    }
+    
+    private static final class SendLatency {
+        final AtomicLong count = new AtomicLong(0);
+        final AtomicLong nanosTotal = new AtomicLong(0);
+        final AtomicLong nanosMax = new AtomicLong(0);
+        
+        void record(long elapsedNanos) {
+            count.incrementAndGet();
+            nanosTotal.addAndGet(elapsedNanos);
+            nanosMax.accumulateAndGet(elapsedNanos, Math::max);
+        }
+    }
+}
\ No newline at end of file
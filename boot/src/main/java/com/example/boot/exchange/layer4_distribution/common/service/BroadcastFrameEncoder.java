@@ -0,0 +1,211 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.model.WireFormat;
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 브로드캐스트 프레임 인코더
+ * 틱마다 거래쌍별 순번을 붙인 프레임을 만들고, 직렬화는 형식별로 처음 필요할 때 한 번만 수행합니다.
+ * 인코딩 시간은 DataFlowMonitor에 기록합니다.
+ *
+ * LEGACY 형식은 기존 StandardExchangeData JSON을 그대로 보내고, 새 세션에는 최신 틱 묶음을
+ * {"type": "snapshot", "data": [...]} 프레임 하나로 보냅니다.
+ * JSON/CBOR 형식의 틱 프레임은 같은 구조를 씁니다 (값은 표시용 double):
+ * {"k": "binance:USDT-BTC", "s": 42, "t": 1700000000000, "c": 가격, "v": 거래량, "h": 고가, "l": 저가,
+ *  "ch": 변동, "cp": 등락률, "v24": 24시간 거래량, "m": {메타데이터, 있을 때만}}
+ * delta 프레임은 "d": true와 함께 s-1번 틱에서 바뀐 값만 담고, 없어진 값은 null로 보냅니다.
+ */
+@Slf4j
+@Component
+public class BroadcastFrameEncoder {
+    // 스냅샷 프레임의 큐 키 (거래쌍 키와 겹치지 않음)
+    public static final String SNAPSHOT_KEY = "snapshot";
+
+    // 틱 필드 순서 (values 배열 인덱스와 같음)
+    private static final String[] FIELDS = {"c", "v", "h", "l", "ch", "cp", "v24"};
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final DataFlowMonitor dataFlowMonitor;
+    // 거래쌍별 마지막 프레임 (순번과 delta 기준)
+    private final Map<String, BroadcastFrame> lastFrames = new ConcurrentHashMap<>();
+
+    public BroadcastFrameEncoder(ObjectMapper objectMapper, DataFlowMonitor dataFlowMonitor) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+        this.dataFlowMonitor = dataFlowMonitor;
+    }
+
+    /**
+     * 틱 프레임 (직전 틱보다 순번 하나 증가)
+     * 이미 프레임을 만든 틱이면 같은 프레임을, 직전 틱보다 오래된 틱이면 순번 없는 프레임을 돌려줍니다.
+     */
+    public BroadcastFrame encode(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        String key = pair != null ? pair.topicKey() : data.getExchange() + ":" + data.getCurrencyPair();
+        BroadcastFrame[] result = new BroadcastFrame[1];
+        lastFrames.compute(key, (k, last) -> {
+            if (last != null && last.data() == data) {
+                result[0] = last;
+                return last;
+            }
+            if (last != null && data.timestampMillis() < last.data().timestampMillis()) {
+                result[0] = new BroadcastFrame(this, k, data, 0, null, List.of());
+                return last;
+            }
+            result[0] = last != null
+                ? new BroadcastFrame(this, k, data, last.seq() + 1, last.data(), List.of())
+                : new BroadcastFrame(this, k, data, 1, null, List.of());
+            return result[0];
+        });
+        return result[0];
+    }
+
+    /**
+     * 스냅샷 프레임 (틱 여러 개를 배열 하나로 직렬화)
+     */
+    public BroadcastFrame encodeSnapshot(List<StandardExchangeData> ticks) {
+        List<BroadcastFrame> entries = new ArrayList<>(ticks.size());
+        for (StandardExchangeData data : ticks) {
+            entries.add(encode(data));
+        }
+        return new BroadcastFrame(this, SNAPSHOT_KEY, null, 0, null, entries);
+    }
+
+    /**
+     * 프레임 직렬화 (BroadcastFrame이 형식별로 한 번 호출)
+     * @return 직렬화된 메시지, 실패하면 null
+     */
+    public WebSocketMessage<?> encodeMessage(BroadcastFrame frame, WireFormat.Encoding encoding, boolean asDelta) {
+        long start = System.nanoTime();
+        try {
+            WebSocketMessage<?> message = switch (encoding) {
+                case LEGACY -> new TextMessage(frame.isSnapshot()
+                    ? objectMapper.writeValueAsBytes(Map.of("type", "snapshot", "data", snapshotData(frame)))
+                    : objectMapper.writeValueAsBytes(frame.data()));
+                case JSON -> new TextMessage(write(objectMapper, frame, asDelta));
+                case CBOR -> new BinaryMessage(write(cborMapper, frame, asDelta));
+            };
+            dataFlowMonitor.recordFrameEncode(System.nanoTime() - start);
+            return message;
+        } catch (IOException e) {
+            log.error("Error encoding {} frame for {}: {}", encoding, frame.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<StandardExchangeData> snapshotData(BroadcastFrame frame) {
+        List<StandardExchangeData> data = new ArrayList<>(frame.entries().size());
+        for (BroadcastFrame entry : frame.entries()) {
+            data.add(entry.data());
+        }
+        return data;
+    }
+
+    private static byte[] write(ObjectMapper mapper, BroadcastFrame frame, boolean asDelta) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(frame.isSnapshot() ? 128 * frame.entries().size() : 128);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            if (frame.isSnapshot()) {
+                generator.writeStartObject();
+                generator.writeStringField("type", "snapshot");
+                generator.writeArrayFieldStart("data");
+                for (BroadcastFrame entry : frame.entries()) {
+                    writeTick(generator, entry, false);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } else {
+                writeTick(generator, frame, asDelta);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeTick(JsonGenerator generator, BroadcastFrame frame, boolean asDelta) throws IOException {
+        StandardExchangeData data = frame.data();
+        double[] values = values(data);
+        double[] baseValues = asDelta ? values(frame.base()) : null;
+
+        generator.writeStartObject();
+        generator.writeStringField("k", frame.key());
+        if (frame.seq() > 0) {
+            generator.writeNumberField("s", frame.seq());
+        }
+        if (asDelta) {
+            generator.writeBooleanField("d", true);
+        }
+        generator.writeNumberField("t", data.timestampMillis());
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (asDelta && Double.compare(values[i], baseValues[i]) == 0) {
+                continue;
+            }
+            if (Double.isNaN(values[i])) {
+                if (asDelta) {
+                    generator.writeNullField(FIELDS[i]);
+                }
+                continue;
+            }
+            generator.writeNumberField(FIELDS[i], values[i]);
+        }
+        Map<String, Object> metadata = data.getMetadata();
+        if (!asDelta && metadata != null && !metadata.isEmpty()) {
+            generator.writeObjectField("m", metadata);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * FIELDS 순서의 값 (없는 값은 NaN, 컨버터가 만든 틱은 BigDecimal을 만들지 않음)
+     */
+    private static double[] values(StandardExchangeData data) {
+        CompactTick tick = data.compact();
+        if (tick != null) {
+            int priceScale = tick.pair().priceScale();
+            int volumeScale = tick.pair().volumeScale();
+            return new double[] {
+                CompactTick.toDouble(tick.price(), priceScale),
+                CompactTick.toDouble(tick.volume(), volumeScale),
+                CompactTick.toDouble(tick.highPrice(), priceScale),
+                CompactTick.toDouble(tick.lowPrice(), priceScale),
+                CompactTick.toDouble(tick.priceChange(), priceScale),
+                CompactTick.toDouble(tick.priceChangePercent(), priceScale),
+                CompactTick.toDouble(tick.volume24h(), volumeScale)
+            };
+        }
+        return new double[] {
+            toDouble(data.getPrice()),
+            toDouble(data.getVolume()),
+            toDouble(data.getHighPrice()),
+            toDouble(data.getLowPrice()),
+            toDouble(data.getPriceChange()),
+            toDouble(data.getPriceChangePercent()),
+            toDouble(data.getVolume24h())
+        };
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 세션별 전송 큐
+ * 브로드캐스트 스레드는 offer로 프레임을 넣기만 하고, 실제 전송은 공유 워커에서 세션 단위로 순차 수행합니다.
+ * - conflation: 아직 보내지 못한 같은 exchange:pair 프레임은 최신 값으로 교체 (느린 세션은 거래쌍별 최신 틱만 받음)
+ * - 최대 전송률: 프레임 간 최소 간격을 두고, 대기 중에 들어온 프레임은 conflation으로 합쳐짐
+ * - overflow: 가장 오래 기다린 프레임의 대기 시간이 maxPendingAge를 넘으면 큐를 닫고 onOverflow 호출 (연결 종료)
+ *   conflation으로 대기 프레임 수는 거래쌍 수를 넘지 않으므로, 수 대신 대기 시간으로 멈춘 세션을 판단합니다.
+ *   전송이 블로킹된 세션은 큐가 비워지지 않아 대기 시간이 계속 늘어나므로, 다음 offer에서 감지됩니다.
+ */
+@Slf4j
+public class ClientDeliveryQueue {
+
+    /**
+     * 프레임 전송 (세션 단위로 동시에 한 번만 호출됨)
+     */
+    @FunctionalInterface
+    public interface Sender {
+        void send(BroadcastFrame frame) throws IOException;
+    }
+
+    private final String sessionId;
+    private final long maxPendingAgeNanos;
+    private final long minIntervalNanos;
+    private final Scheduler scheduler;
+    private final Sender sender;
+    private final Runnable onOverflow;
+    private final DataFlowMonitor dataFlowMonitor;
+
+    // 삽입 순서 유지: 교체된 프레임은 처음 들어온 자리와 대기 시작 시각을 유지함 (this로 보호)
+    private final Map<String, Pending> pending = new LinkedHashMap<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+    private volatile long nextSendNanos = 0;
+
+    /**
+     * @param maxPendingAgeMillis 대기 프레임 최대 대기 시간 (0 이하: 제한 없음)
+     * @param maxRatePerSecond 초당 최대 전송 수 (0 이하: 제한 없음)
+     */
+    public ClientDeliveryQueue(String sessionId, long maxPendingAgeMillis, int maxRatePerSecond, Scheduler scheduler,
+            Sender sender, Runnable onOverflow, DataFlowMonitor dataFlowMonitor) {
+        this.sessionId = sessionId;
+        this.maxPendingAgeNanos = maxPendingAgeMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(maxPendingAgeMillis) : 0;
+        this.minIntervalNanos = maxRatePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxRatePerSecond : 0;
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.onOverflow = onOverflow;
+        this.dataFlowMonitor = dataFlowMonitor;
+    }
+
+    /**
+     * 프레임 추가 (블로킹 없음)
+     * @return 큐에 들어갔으면 true, 닫혔거나 overflow로 닫힌 경우 false
+     */
+    public boolean offer(BroadcastFrame frame) {
+        if (closed) {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        boolean conflated;
+        int depth;
+        long oldestAge;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            Pending entry = pending.get(frame.key());
+            conflated = entry != null;
+            if (conflated) {
+                entry.frame = frame;
+            } else {
+                pending.put(frame.key(), new Pending(frame, now));
+            }
+            depth = pending.size();
+            oldestAge = now - pending.values().iterator().next().enqueuedNanos;
+        }
+
+        if (maxPendingAgeNanos > 0 && oldestAge > maxPendingAgeNanos) {
+            // 여러 브로드캐스트 스레드가 동시에 넘겨도 종료 처리는 한 번만
+            if (markClosed()) {
+                log.warn("Delivery queue overflow - Session ID: {}, pending pairs: {}, oldest pending: {}ms",
+                    sessionId, depth, TimeUnit.NANOSECONDS.toMillis(oldestAge));
+                dataFlowMonitor.incrementDeliveryOverflow();
+                onOverflow.run();
+            }
+            return false;
+        }
+        if (conflated) {
+            dataFlowMonitor.incrementDeliveryConflated();
+        }
+        dataFlowMonitor.recordDeliveryQueueDepth(depth);
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 프레임을 버리고 이후 offer를 거부
+     */
+    public void close() {
+        markClosed();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    private void drain() {
+        for (;;) {
+            long delay = sendPending();
+            if (delay > 0) {
+                // 전송률 제한: drainScheduled를 유지한 채 다음 전송 가능 시점에 재개
+                scheduler.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+                return;
+            }
+            drainScheduled.set(false);
+            // 플래그 해제 직전에 들어온 프레임이 있으면 이어서 처리
+            if (closed || getPendingCount() == 0 || !drainScheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 전송률 제한으로 대기해야 하는 나노초, 큐를 비웠으면 0
+     */
+    private long sendPending() {
+        while (!closed) {
+            if (minIntervalNanos > 0) {
+                long wait = nextSendNanos - System.nanoTime();
+                if (wait > 0) {
+                    return wait;
+                }
+            }
+
+            BroadcastFrame frame = poll();
+            if (frame == null) {
+                return 0;
+            }
+
+            long start = System.nanoTime();
+            try {
+                sender.send(frame);
+                dataFlowMonitor.recordClientSend(System.nanoTime() - start);
+            } catch (Exception e) {
+                dataFlowMonitor.incrementClientSendError();
+                log.error("Error sending message to client {}: {}", sessionId, e.getMessage());
+            }
+            nextSendNanos = start + minIntervalNanos;
+        }
+        return 0;
+    }
+
+    private synchronized boolean markClosed() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        pending.clear();
+        return true;
+    }
+
+    private synchronized BroadcastFrame poll() {
+        Iterator<Pending> iterator = pending.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Pending entry = iterator.next();
+        iterator.remove();
+        return entry.frame;
+    }
+
+    private static final class Pending {
+        BroadcastFrame frame;
+        final long enqueuedNanos;
+
+        Pending(BroadcastFrame frame, long enqueuedNanos) {
+            this.frame = frame;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeDat
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 public interface DistributionService {
     /**
@@ -30,6 +29,18 @@ public interface DistributionService {
     boolean isDistributing();
     
     // 새로 추가되는 메서드들
-    Map<String, Sinks.Many<StandardExchangeData>> getActiveSinks();
-    void restoreSinks(Map<String, Sinks.Many<StandardExchangeData>> sinks);
+    Map<String, ClientDeliveryQueue> getActiveSinks();
+    void restoreSinks(Map<String, ClientDeliveryQueue> sinks);
+
+    /**
+     * 클라이언트 전송 큐 조회
+     * @return 등록된 큐, 없으면 null
+     */
+    ClientDeliveryQueue getClientSink(String clientId);
+
+    /**
+     * 세션 종료 시 클라이언트 전송 큐 제거
+     * @return 제거된 큐, 없으면 null
+     */
+    ClientDeliveryQueue removeClientSink(String clientId);
 } 
\ No newline at end of file
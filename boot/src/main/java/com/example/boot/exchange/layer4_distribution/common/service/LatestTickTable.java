@@ -0,0 +1,137 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * 거래쌍별 최신 틱 테이블 (pair id -> 마지막 틱, 잠금 없음)
+ * 시작 시 exchange.latest 토픽으로 채우고 이후 분배 스트림의 틱으로 갱신합니다.
+ * 타임스탬프가 더 오래된 틱은 무시하므로 재전송/순서 뒤바뀜에도 최신 값만 남습니다.
+ * - 갱신: 슬롯 CAS (거래쌍이 새로 등록되어 배열이 커질 때만 잠금)
+ * - 조회/스냅샷: 배열 읽기만 수행
+ * 배열을 키울 때는 기존 슬롯을 MOVED로 바꾸며 옮기므로, 옮기는 동안의 갱신은 새 배열이 공개된 뒤 다시 시도됩니다.
+ */
+@Component
+public class LatestTickTable {
+    // 새 배열로 옮겨진 슬롯 표시
+    private static final StandardExchangeData MOVED = new StandardExchangeData();
+
+    private final TradingPairRegistry pairRegistry;
+    private volatile AtomicReferenceArray<StandardExchangeData> slots;
+
+    public LatestTickTable(TradingPairRegistry pairRegistry) {
+        this.pairRegistry = pairRegistry;
+        this.slots = new AtomicReferenceArray<>(Math.max(16, pairRegistry.size() * 2));
+    }
+
+    /**
+     * @return 테이블이 갱신되었으면 true
+     */
+    public boolean update(StandardExchangeData data) {
+        int id = pairOf(data).id();
+        long timestamp = data.timestampMillis();
+        for (;;) {
+            AtomicReferenceArray<StandardExchangeData> table = slots;
+            if (id >= table.length()) {
+                grow(id);
+                continue;
+            }
+            StandardExchangeData current = table.get(id);
+            if (current == MOVED) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (current != null && current.timestampMillis() > timestamp) {
+                return false;
+            }
+            if (table.compareAndSet(id, current, data)) {
+                return true;
+            }
+        }
+    }
+
+    public StandardExchangeData get(TradingPair pair) {
+        return read(pair.id());
+    }
+
+    public StandardExchangeData get(String exchange, CurrencyPair currencyPair) {
+        return get(pairRegistry.register(exchange, currencyPair));
+    }
+
+    /**
+     * 현재 값 복사본 (pair id 순서, 값이 없는 거래쌍은 null)
+     */
+    public StandardExchangeData[] snapshot() {
+        StandardExchangeData[] copy = new StandardExchangeData[slots.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = read(i);
+        }
+        return copy;
+    }
+
+    /**
+     * snapshot 이후 바뀐 값 (스냅샷을 보낸 뒤 실시간 전송이 시작되기 전의 틈을 메울 때 사용)
+     */
+    public List<StandardExchangeData> changedSince(StandardExchangeData[] snapshot) {
+        List<StandardExchangeData> changed = new ArrayList<>();
+        int length = slots.length();
+        for (int i = 0; i < length; i++) {
+            StandardExchangeData current = read(i);
+            if (current != null && (i >= snapshot.length || current != snapshot[i])) {
+                changed.add(current);
+            }
+        }
+        return changed;
+    }
+
+    public int size() {
+        int count = 0;
+        int length = slots.length();
+        for (int i = 0; i < length; i++) {
+            if (read(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private StandardExchangeData read(int id) {
+        for (;;) {
+            AtomicReferenceArray<StandardExchangeData> table = slots;
+            if (id >= table.length()) {
+                return null;
+            }
+            StandardExchangeData value = table.get(id);
+            if (value != MOVED) {
+                return value;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private TradingPair pairOf(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        return pair != null ? pair : pairRegistry.register(data.getExchange(), data.getCurrencyPair());
+    }
+
+    private synchronized void grow(int id) {
+        AtomicReferenceArray<StandardExchangeData> current = slots;
+        if (id < current.length()) {
+            return;
+        }
+        AtomicReferenceArray<StandardExchangeData> next =
+            new AtomicReferenceArray<>(Math.max(current.length() * 2, id + 1));
+        for (int i = 0; i < current.length(); i++) {
+            next.set(i, current.getAndSet(i, MOVED));
+        }
+        slots = next;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.model.WireFormat;
+
+/**
+ * 세션별 프레임 전송기
+ * 세션이 협상한 형식의 메시지를 프레임에서 골라 보냅니다 (직렬화 결과는 세션 간 공유).
+ * delta 형식이면 거래쌍별로 마지막으로 보낸 순번을 기억해, 바로 다음 순번의 틱만 바뀐 필드로 보냅니다.
+ * 처음 보는 거래쌍이거나 conflation으로 중간 틱을 건너뛴 경우에는 전체 필드를 보냅니다.
+ * ClientDeliveryQueue가 세션 단위로 순차 호출하므로 잠금 없이 상태를 갱신합니다.
+ */
+public class SessionFrameWriter implements ClientDeliveryQueue.Sender {
+
+    /**
+     * 실제 전송 (WebSocket 세션)
+     */
+    @FunctionalInterface
+    public interface Transport {
+        void send(WebSocketMessage<?> message) throws IOException;
+    }
+
+    private final WireFormat format;
+    private final Transport transport;
+    // 거래쌍별 마지막으로 보낸 순번 (delta 형식만 사용)
+    private final Map<String, Long> lastSent = new HashMap<>();
+
+    public SessionFrameWriter(WireFormat format, Transport transport) {
+        this.format = format;
+        this.transport = transport;
+    }
+
+    @Override
+    public void send(BroadcastFrame frame) throws IOException {
+        boolean asDelta = format.delta() && frame.base() != null
+            && lastSent.getOrDefault(frame.key(), 0L) == frame.seq() - 1;
+        WebSocketMessage<?> message = frame.message(format, asDelta);
+        if (message == null) {
+            return;
+        }
+        transport.send(message);
+
+        if (format.delta()) {
+            if (frame.isSnapshot()) {
+                frame.entries().forEach(this::remember);
+            } else {
+                remember(frame);
+            }
+        }
+    }
+
+    private void remember(BroadcastFrame frame) {
+        if (frame.seq() > 0) {
+            lastSent.put(frame.key(), frame.seq());
+        } else {
+            // 순번 없는 틱으로 덮어썼으므로 다음 틱은 전체 필드로
+            lastSent.remove(frame.key());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * 클라이언트 구독 인덱스
+ * 토픽("exchange:pair", 각 부분은 "*" 와일드카드 허용)별 세션 집합을 역색인으로 보관합니다.
+ * 틱마다 (exchange, pair)의 구독 세션 집합을 조회하며, 조회 결과는 구독이 바뀔 때까지 캐시됩니다.
+ * - 구독 변경(드묾): 인덱스 갱신 후 캐시 전체 무효화 (동기화)
+ * - 틱 조회(빈번): 캐시 적중 시 맵 조회 한 번 (잠금 없음)
+ *
+ * 구독 메시지를 보내지 않는 기존 클라이언트를 위해 연결 시 전체 구독("*:*")으로 시작하며,
+ * 처음 명시적으로 구독하면 기본 전체 구독은 해제됩니다.
+ */
+@Component
+public class SubscriptionIndex {
+    public static final String WILDCARD = "*";
+    private static final String ALL_TOPICS = WILDCARD + ":" + WILDCARD;
+
+    private final int maxTopicsPerSession;
+
+    // 아래 세 필드는 this로 보호
+    private final Map<String, Set<String>> sessionsByTopic = new HashMap<>();
+    private final Map<String, Set<String>> topicsBySession = new HashMap<>();
+    private final Set<String> defaultSessions = new HashSet<>();
+
+    // (exchange:pair) -> 구독 세션 (불변 집합)
+    private final Map<String, Set<String>> resolved = new ConcurrentHashMap<>();
+
+    public SubscriptionIndex(
+            @Value("${distribution.subscription.max-topics-per-session:256}") int maxTopicsPerSession) {
+        this.maxTopicsPerSession = maxTopicsPerSession;
+    }
+
+    /**
+     * 연결 직후 기본 전체 구독 등록
+     */
+    public synchronized void registerSession(String sessionId) {
+        if (topicsBySession.containsKey(sessionId)) {
+            return;
+        }
+        addTopic(sessionId, ALL_TOPICS);
+        defaultSessions.add(sessionId);
+        resolved.clear();
+    }
+
+    /**
+     * 토픽 구독
+     * @return 구독 후 세션의 전체 토픽
+     * @throws IllegalArgumentException 토픽 형식이 잘못되었거나 세션당 최대 토픽 수를 넘는 경우
+     */
+    public synchronized Set<String> subscribe(String sessionId, Collection<String> topics) {
+        Set<String> normalized = normalizeAll(topics);
+
+        boolean replacesDefault = defaultSessions.contains(sessionId);
+        Set<String> current = topicsBySession.getOrDefault(sessionId, Collections.emptySet());
+        int existing = replacesDefault ? 0 : current.size();
+        int added = 0;
+        for (String topic : normalized) {
+            if (replacesDefault || !current.contains(topic)) {
+                added++;
+            }
+        }
+        if (existing + added > maxTopicsPerSession) {
+            throw new IllegalArgumentException("Too many topics (max " + maxTopicsPerSession + ")");
+        }
+
+        if (replacesDefault) {
+            defaultSessions.remove(sessionId);
+            removeTopic(sessionId, ALL_TOPICS);
+        }
+        normalized.forEach(topic -> addTopic(sessionId, topic));
+        resolved.clear();
+        return getTopics(sessionId);
+    }
+
+    /**
+     * 토픽 구독 해제
+     * @return 해제 후 세션의 전체 토픽
+     */
+    public synchronized Set<String> unsubscribe(String sessionId, Collection<String> topics) {
+        Set<String> normalized = normalizeAll(topics);
+        defaultSessions.remove(sessionId);
+        normalized.forEach(topic -> removeTopic(sessionId, topic));
+        resolved.clear();
+        return getTopics(sessionId);
+    }
+
+    /**
+     * 세션 종료 시 전체 구독 제거
+     */
+    public synchronized void removeSession(String sessionId) {
+        defaultSessions.remove(sessionId);
+        Set<String> topics = topicsBySession.remove(sessionId);
+        if (topics == null) {
+            return;
+        }
+        for (String topic : topics) {
+            Set<String> sessions = sessionsByTopic.get(topic);
+            if (sessions != null) {
+                sessions.remove(sessionId);
+                if (sessions.isEmpty()) {
+                    sessionsByTopic.remove(topic);
+                }
+            }
+        }
+        resolved.clear();
+    }
+
+    /**
+     * (exchange, pair) 틱을 받아야 하는 세션 ID 집합 (불변)
+     */
+    public Set<String> getSubscribers(String exchange, String pair) {
+        String key = topicKey(exchange, pair);
+        Set<String> sessions = resolved.get(key);
+        if (sessions != null) {
+            return sessions;
+        }
+        return resolve(key, exchange, pair);
+    }
+
+    /**
+     * 틱을 받아야 하는 세션 ID 집합 (컨버터에서 만든 틱은 미리 계산된 토픽 키로 조회)
+     */
+    public Set<String> getSubscribers(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        if (pair == null) {
+            return getSubscribers(data.getExchange(), data.getCurrencyPair().toString());
+        }
+        Set<String> sessions = resolved.get(pair.topicKey());
+        if (sessions != null) {
+            return sessions;
+        }
+        return resolve(pair.topicKey(), pair.exchange(), pair.pairKey());
+    }
+
+    public synchronized Set<String> getTopics(String sessionId) {
+        return Collections.unmodifiableSet(new TreeSet<>(
+            topicsBySession.getOrDefault(sessionId, Collections.emptySet())));
+    }
+
+    public synchronized int getSessionCount() {
+        return topicsBySession.size();
+    }
+
+    public synchronized int getTopicCount() {
+        return sessionsByTopic.size();
+    }
+
+    private synchronized Set<String> resolve(String key, String exchange, String pair) {
+        Set<String> sessions = resolved.get(key);
+        if (sessions != null) {
+            return sessions;
+        }
+
+        Set<String> union = new HashSet<>();
+        collect(union, key);
+        collect(union, topicKey(exchange, WILDCARD));
+        collect(union, topicKey(WILDCARD, pair));
+        collect(union, ALL_TOPICS);
+
+        sessions = Set.copyOf(union);
+        resolved.put(key, sessions);
+        return sessions;
+    }
+
+    private void collect(Set<String> target, String topic) {
+        Set<String> sessions = sessionsByTopic.get(topic);
+        if (sessions != null) {
+            target.addAll(sessions);
+        }
+    }
+
+    private void addTopic(String sessionId, String topic) {
+        sessionsByTopic.computeIfAbsent(topic, t -> new HashSet<>()).add(sessionId);
+        topicsBySession.computeIfAbsent(sessionId, s -> new HashSet<>()).add(topic);
+    }
+
+    private void removeTopic(String sessionId, String topic) {
+        Set<String> sessions = sessionsByTopic.get(topic);
+        if (sessions != null) {
+            sessions.remove(sessionId);
+            if (sessions.isEmpty()) {
+                sessionsByTopic.remove(topic);
+            }
+        }
+        Set<String> topics = topicsBySession.get(sessionId);
+        if (topics != null) {
+            topics.remove(topic);
+        }
+    }
+
+    private Set<String> normalizeAll(Collection<String> topics) {
+        if (topics == null || topics.isEmpty()) {
+            throw new IllegalArgumentException("No topics given");
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String topic : topics) {
+            normalized.add(normalize(topic));
+        }
+        return normalized;
+    }
+
+    /**
+     * 토픽 정규화: "binance:USDT-BTC", "binance:*", "*:USDT-BTC", "binance"(= "binance:*"), "*"(= 전체)
+     */
+    static String normalize(String topic) {
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Empty topic");
+        }
+        String trimmed = topic.trim();
+        int separator = trimmed.indexOf(':');
+        String exchange = separator < 0 ? trimmed : trimmed.substring(0, separator).trim();
+        String pair = separator < 0 ? WILDCARD : trimmed.substring(separator + 1).trim();
+        if (exchange.isEmpty() || pair.isEmpty() || pair.indexOf(':') >= 0) {
+            throw new IllegalArgumentException("Invalid topic: " + topic);
+        }
+        return topicKey(exchange, pair);
+    }
+
+    /**
+     * 거래소는 소문자, 거래쌍은 대문자로 통일 (예: binance:USDT-BTC)
+     */
+    static String topicKey(String exchange, String pair) {
+        return exchange.toLowerCase() + ":" + pair.toUpperCase();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 틱 중복 제거기
+ * (exchange, pair)별 마지막으로 본 거래소 타임스탬프와, 그 타임스탬프에서 본 틱 지문(가격/거래량)만 보관합니다.
+ * - 마지막 타임스탬프보다 오래된 틱: 재연결/리더 승계 시 재전송된 과거 데이터로 보고 제외
+ * - 같은 타임스탬프에 같은 지문: 중복으로 제외 (같은 밀리초의 서로 다른 체결은 통과)
+ * 키 수는 거래쌍 수로 제한되며, 일정 시간 갱신되지 않은 항목은 주기적으로 제거합니다.
+ */
+@Slf4j
+@Component
+public class TickDeduplicator {
+    private static final int FINGERPRINTS_PER_TIMESTAMP = 16;
+
+    private final long entryTtlMillis;
+    private final int maxEntries;
+
+    private final Map<String, LastSeen> lastSeenTable = new ConcurrentHashMap<>();
+    private final AtomicLong acceptedCount = new AtomicLong(0);
+    private final AtomicLong duplicateCount = new AtomicLong(0);
+    private final AtomicLong staleCount = new AtomicLong(0);
+
+    public TickDeduplicator(
+            @Value("${distribution.dedup.entry-ttl:600000}") long entryTtlMillis,
+            @Value("${distribution.dedup.max-entries:10000}") int maxEntries) {
+        this.entryTtlMillis = entryTtlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 처음 보는 틱이면 기록 후 true, 중복이거나 과거 틱이면 false
+     */
+    public boolean accept(StandardExchangeData data) {
+        long timestamp = data.timestampMillis();
+        LastSeen entry = timestamp != 0 ? getEntry(data) : null;
+        if (entry == null) {
+            // 타임스탬프가 없거나 테이블이 가득 찬 경우 추적 없이 통과 (fail-open)
+            acceptedCount.incrementAndGet();
+            return true;
+        }
+
+        switch (entry.check(timestamp, fingerprintOf(data))) {
+            case DUPLICATE:
+                duplicateCount.incrementAndGet();
+                log.debug("Dropped duplicate tick: {}", data);
+                return false;
+            case STALE:
+                staleCount.incrementAndGet();
+                log.debug("Dropped stale tick: {}", data);
+                return false;
+            default:
+                acceptedCount.incrementAndGet();
+                return true;
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 틱을 본 것으로 기록 (카운트 없음)
+     * 팔로워가 리더로 승계했을 때 이미 발행된 틱을 다시 발행하지 않도록 Kafka 수신 경로에서 호출합니다.
+     */
+    public void markSeen(StandardExchangeData data) {
+        long timestamp = data.timestampMillis();
+        if (timestamp == 0) {
+            return;
+        }
+        LastSeen entry = getEntry(data);
+        if (entry != null) {
+            entry.check(timestamp, fingerprintOf(data));
+        }
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.get();
+    }
+
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    public int getTrackedPairCount() {
+        return lastSeenTable.size();
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - entryTtlMillis;
+        int before = lastSeenTable.size();
+        lastSeenTable.values().removeIf(entry -> entry.updatedAtMillis < threshold);
+        int evicted = before - lastSeenTable.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} expired dedup entries", evicted);
+        }
+    }
+
+    private LastSeen getEntry(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        String key = pair != null ? pair.topicKey() : data.getExchange() + ":" + data.getCurrencyPair();
+        LastSeen entry = lastSeenTable.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        if (lastSeenTable.size() >= maxEntries) {
+            log.debug("Dedup table is full ({} entries), passing tick through: {}", maxEntries, key);
+            return null;
+        }
+        return lastSeenTable.computeIfAbsent(key, k -> new LastSeen());
+    }
+
+    private long fingerprintOf(StandardExchangeData data) {
+        // double 비트로 비교: 고정소수점 틱과 JSON에서 읽은 BigDecimal이 같은 값이면 같은 지문 (BigDecimal 생성 없음)
+        int priceHash = data.compact() != null || data.getPrice() != null ? Double.hashCode(data.priceAsDouble()) : 0;
+        int volumeHash = Double.hashCode(data.volumeAsDouble());
+        return ((long) priceHash << 32) | (volumeHash & 0xffffffffL);
+    }
+
+    private enum Result {
+        ACCEPTED, DUPLICATE, STALE
+    }
+
+    /**
+     * 거래쌍별 마지막 타임스탬프와 해당 타임스탬프의 틱 지문 (고정 크기)
+     */
+    private static final class LastSeen {
+        private long timestamp = Long.MIN_VALUE;
+        private final long[] fingerprints = new long[FINGERPRINTS_PER_TIMESTAMP];
+        private int fingerprintCount = 0;
+        private int nextSlot = 0;
+        volatile long updatedAtMillis = System.currentTimeMillis();
+
+        synchronized Result check(long tickTimestamp, long fingerprint) {
+            if (tickTimestamp < timestamp) {
+                return Result.STALE;
+            }
+            if (tickTimestamp == timestamp) {
+                for (int i = 0; i < fingerprintCount; i++) {
+                    if (fingerprints[i] == fingerprint) {
+                        return Result.DUPLICATE;
+                    }
+                }
+            } else {
+                timestamp = tickTimestamp;
+                fingerprintCount = 0;
+                nextSlot = 0;
+            }
+
+            fingerprints[nextSlot] = fingerprint;
+            nextSlot = (nextSlot + 1) % FINGERPRINTS_PER_TIMESTAMP;
+            fingerprintCount = Math.min(fingerprintCount + 1, FINGERPRINTS_PER_TIMESTAMP);
+            updatedAtMillis = System.currentTimeMillis();
+            return Result.ACCEPTED;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.boot.exchange.layer4_distribution.direct.service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -11,29 +12,42 @@ import com.example.boot.common.session.registry.SessionRegistry;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 import com.example.boot.exchange.layer3_data_converter.service.ExchangeDataIntegrationService;
 import com.example.boot.exchange.layer4_distribution.common.health.DistributionStatus;
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
 import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+import com.example.boot.exchange.layer4_distribution.common.service.BroadcastFrameEncoder;
+import com.example.boot.exchange.layer4_distribution.common.service.ClientDeliveryQueue;
 import com.example.boot.exchange.layer4_distribution.common.service.DistributionService;
+import com.example.boot.exchange.layer4_distribution.common.service.LatestTickTable;
+import com.example.boot.exchange.layer4_distribution.common.service.SubscriptionIndex;
+import com.example.boot.exchange.layer4_distribution.common.service.TickDeduplicator;
 
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 @Slf4j
 @Service
 public class DirectDistributionService implements DistributionService {
     private final ExchangeDataIntegrationService integrationService;
-    private final ConcurrentHashMap<String, Sinks.Many<StandardExchangeData>> clientSinks;
+    private final ConcurrentHashMap<String, ClientDeliveryQueue> clientSinks;
     private final AtomicBoolean isDistributing;
     private final DistributionStatus distributionStatus;
     private final DataFlowMonitor dataFlowMonitor;
     private final SessionRegistry sessionRegistry;
+    private final TickDeduplicator deduplicator;
+    private final BroadcastFrameEncoder frameEncoder;
+    private final SubscriptionIndex subscriptionIndex;
+    private final LatestTickTable latestTickTable;
     
     public DirectDistributionService(
         ExchangeDataIntegrationService integrationService,
         DistributionStatus distributionStatus,
         DataFlowMonitor dataFlowMonitor,
-        SessionRegistry sessionRegistry
+        SessionRegistry sessionRegistry,
+        TickDeduplicator deduplicator,
+        BroadcastFrameEncoder frameEncoder,
+        SubscriptionIndex subscriptionIndex,
+        LatestTickTable latestTickTable
     ) {
         this.integrationService = integrationService;
         this.clientSinks = new ConcurrentHashMap<>();
@@ -41,6 +55,10 @@ public class DirectDistributionService implements DistributionService {
         this.distributionStatus = distributionStatus;
         this.dataFlowMonitor = dataFlowMonitor;
         this.sessionRegistry = sessionRegistry;
+        this.deduplicator = deduplicator;
+        this.frameEncoder = frameEncoder;
+        this.subscriptionIndex = subscriptionIndex;
+        this.latestTickTable = latestTickTable;
     }
     
     @Override
@@ -54,8 +72,11 @@ public class DirectDistributionService implements DistributionService {
         distributionStatus.setDistributing(true);
         
         return integrationService.subscribe()
+            .filter(deduplicator::accept)  // 재연결 시 재전송된 틱 제거
             .doOnNext(data -> {
                 dataFlowMonitor.incrementExchangeData();
+                // 새 세션 스냅샷용 (브로드캐스트보다 먼저 반영해야 등록 직후의 틱을 놓치지 않음)
+                latestTickTable.update(data);
                 broadcastToClients(data);
             })
             .doOnError(e -> {
@@ -67,9 +88,10 @@ public class DirectDistributionService implements DistributionService {
     
     @Override
     public Mono<Void> sendToClient(String clientId, StandardExchangeData data) {
-        Sinks.Many<StandardExchangeData> sink = clientSinks.get(clientId);
+        ClientDeliveryQueue sink = clientSinks.get(clientId);
         if (sink != null && sessionRegistry.getSession(clientId) != null) {
-            boolean success = sink.tryEmitNext(data).isSuccess();
+            BroadcastFrame frame = frameEncoder.encode(data);
+            boolean success = frame != null && sink.offer(frame);
             if (success) {
                 dataFlowMonitor.incrementClientSent();
                 log.debug("📨 Sent to client {}: Exchange={}, Price={}", 
@@ -95,23 +117,34 @@ public class DirectDistributionService implements DistributionService {
     }
     
     @Override
-    public Map<String, Sinks.Many<StandardExchangeData>> getActiveSinks() {
+    public Map<String, ClientDeliveryQueue> getActiveSinks() {
         return new HashMap<>(clientSinks);
     }
 
     @Override
-    public void restoreSinks(Map<String, Sinks.Many<StandardExchangeData>> sinks) {
+    public void restoreSinks(Map<String, ClientDeliveryQueue> sinks) {
         clientSinks.clear();
         clientSinks.putAll(sinks);
         log.info("Restored {} client sinks", sinks.size());
     }
     
     private void broadcastToClients(StandardExchangeData data) {
-        int clientCount = clientSinks.size();
+        // 해당 거래쌍을 구독한 세션만 대상
+        Set<String> subscribers = subscriptionIndex.getSubscribers(data);
+        int clientCount = subscribers.size();
         if (clientCount > 0) {
-            clientSinks.forEach((clientId, sink) -> {
+            // 클라이언트 수와 관계없이 한 번만 직렬화
+            BroadcastFrame frame = frameEncoder.encode(data);
+            if (frame == null) {
+                return;
+            }
+            for (String clientId : subscribers) {
+                ClientDeliveryQueue sink = clientSinks.get(clientId);
+                if (sink == null) {
+                    continue;
+                }
                 if (sessionRegistry.getSession(clientId) != null) {
-                    boolean success = sink.tryEmitNext(data).isSuccess();
+                    boolean success = sink.offer(frame);
                     if (success) {
                         dataFlowMonitor.incrementClientSent();
                         log.debug("📨 Sent to client {}: Exchange={}, Price={}", 
@@ -119,15 +152,30 @@ public class DirectDistributionService implements DistributionService {
                     }
                 } else {
                     clientSinks.remove(clientId);
+                    subscriptionIndex.removeSession(clientId);
                     log.debug("Removed invalid client sink: {}", clientId);
                 }
-            });
+            }
             log.debug("📢 Broadcasted to {} clients", clientCount);
         }
     }
 
-    public void addClientSink(String clientId, Sinks.Many<StandardExchangeData> sink) {
+    public void addClientSink(String clientId, ClientDeliveryQueue sink) {
         clientSinks.put(clientId, sink);
         log.info("Added client sink for client ID: {}", clientId);
     }
+
+    @Override
+    public ClientDeliveryQueue getClientSink(String clientId) {
+        return clientSinks.get(clientId);
+    }
+
+    @Override
+    public ClientDeliveryQueue removeClientSink(String clientId) {
+        ClientDeliveryQueue sink = clientSinks.remove(clientId);
+        if (sink != null) {
+            log.info("Removed client sink for client ID: {}", clientId);
+        }
+        return sink;
+    }
 } 
\ No newline at end of file
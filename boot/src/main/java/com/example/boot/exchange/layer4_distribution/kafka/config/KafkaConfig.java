@@ -8,6 +8,7 @@ import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,14 +19,17 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TickBinaryCodec;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TradeRecordDeserializer;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TradeRecordFormat;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TradeRecordSerializer;
 
 import lombok.extern.slf4j.Slf4j;
 import reactor.kafka.receiver.KafkaReceiver;
 import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.sender.SenderOptions;
 
 @Slf4j
 @Configuration
@@ -46,34 +50,69 @@ public class KafkaConfig {
     @Value("${spring.kafka.admin.close-timeout}")
     private String closeTimeout;
 
+    // trades 레코드 발행 형식 (binary | json), 수신은 두 형식 모두 지원
+    @Value("${distribution.kafka.record-format:binary}")
+    private String recordFormat;
+
     @Bean
-    public ProducerFactory<String, StandardExchangeData> producerFactory() {
+    public ProducerFactory<String, StandardExchangeData> producerFactory(TickBinaryCodec codec) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         
         // 재시도 관련 설정 추가
         config.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, "1000");
         config.put(ProducerConfig.RECONNECT_BACKOFF_MS_CONFIG, "1000");
         config.put(ProducerConfig.RECONNECT_BACKOFF_MAX_MS_CONFIG, "5000");
         
-        return new DefaultKafkaProducerFactory<>(config);
+        TradeRecordFormat format = TradeRecordFormat.valueOf(recordFormat.trim().toUpperCase());
+        log.info("Kafka trades record format: {}", format);
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), new TradeRecordSerializer(format, codec));
+    }
+
+    @Bean
+    public KafkaTemplate<String, StandardExchangeData> kafkaTemplate(
+        ProducerFactory<String, StandardExchangeData> producerFactory
+    ) {
+        return new KafkaTemplate<>(producerFactory);
     }
 
+    /**
+     * 리더 발행 단계(KafkaTradePublisher)용 KafkaSender 설정
+     */
     @Bean
-    public KafkaTemplate<String, StandardExchangeData> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public SenderOptions<String, StandardExchangeData> kafkaSenderOptions(
+        TickBinaryCodec codec,
+        @Value("${distribution.kafka.producer.max-in-flight:1024}") int maxInFlight,
+        @Value("${distribution.kafka.producer.batch-size:65536}") int batchSize,
+        @Value("${distribution.kafka.producer.linger-ms:5}") int lingerMs,
+        @Value("${distribution.kafka.producer.compression:lz4}") String compression,
+        @Value("${distribution.kafka.producer.acks:1}") String acks
+    ) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+
+        // 재시도 관련 설정 (KafkaTemplate과 동일)
+        config.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, "1000");
+        config.put(ProducerConfig.RECONNECT_BACKOFF_MS_CONFIG, "1000");
+        config.put(ProducerConfig.RECONNECT_BACKOFF_MAX_MS_CONFIG, "5000");
+
+        TradeRecordFormat format = TradeRecordFormat.valueOf(recordFormat.trim().toUpperCase());
+        return SenderOptions.<String, StandardExchangeData>create(config)
+            .withKeySerializer(new StringSerializer())
+            .withValueSerializer(new TradeRecordSerializer(format, codec))
+            .maxInFlight(maxInFlight)   // 응답 대기 중인 레코드 수만큼만 상류에 요청
+            .stopOnError(false);        // 개별 전송 실패는 결과로 받고 계속 발행
     }
 
     @Bean
-    public ReceiverOptions<String, StandardExchangeData> kafkaReceiverOptions() {
+    public ReceiverOptions<String, StandardExchangeData> kafkaReceiverOptions(TickBinaryCodec codec) {
         Map<String, Object> consumerProps = new HashMap<>();
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         
         // 타임아웃 설정 조정
         consumerProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, "3000");
@@ -87,6 +126,8 @@ public class KafkaConfig {
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");  // 최신 메시지부터 수신
 
         return ReceiverOptions.<String, StandardExchangeData>create(consumerProps)
+            .withKeyDeserializer(new StringDeserializer())
+            .withValueDeserializer(new TradeRecordDeserializer(codec))
             .subscription(Collections.singletonList(topic));
     }
 
@@ -98,10 +139,30 @@ public class KafkaConfig {
     }
 
     @Bean
-    public NewTopic exchangeTopic() {
+    public NewTopic exchangeTopic(
+        @Value("${distribution.kafka.partitions:6}") int partitions
+    ) {
+        // exchange:pair 키로 분산, 키별 순서는 파티션 안에서 유지
         return TopicBuilder.name(topic)
-                .partitions(1)     // 단일 파티션으로 수정
+                .partitions(partitions)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 거래쌍별 최신 틱 (exchange:pair 키, 압축 토픽: 키마다 마지막 레코드만 유지)
+     */
+    @Bean
+    public NewTopic latestTopic(
+        @Value("${spring.kafka.topics.latest:exchange.latest}") String latestTopic,
+        @Value("${distribution.kafka.partitions:6}") int partitions
+    ) {
+        return TopicBuilder.name(latestTopic)
+                .partitions(partitions)
                 .replicas(1)
+                .compact()
+                .config(TopicConfig.SEGMENT_MS_CONFIG, "600000")            // 10분마다 세그먼트를 닫아 압축 대상으로
+                .config(TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG, "0.1")
                 .build();
     }
 
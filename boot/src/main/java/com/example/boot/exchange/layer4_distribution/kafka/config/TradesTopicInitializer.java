@@ -0,0 +1,40 @@
+package com.example.boot.exchange.layer4_distribution.kafka.config;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer4_distribution.common.event.InfrastructureStatusChangeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka 토픽(trades, latest) 생성/파티션 확장
+ * KafkaAdmin은 시작 시 브로커 없이도 뜨도록 자동 생성을 끄고 있으므로, Kafka가 사용 가능해진 시점에 한 번 적용합니다.
+ * 이미 있는 토픽은 설정한 파티션 수보다 적을 때만 늘어납니다 (줄이지는 않음).
+ */
+@Slf4j
+@Component
+public class TradesTopicInitializer {
+    private final KafkaAdmin kafkaAdmin;
+    private final AtomicBoolean initialized = new AtomicBoolean(false);
+
+    public TradesTopicInitializer(KafkaAdmin kafkaAdmin) {
+        this.kafkaAdmin = kafkaAdmin;
+    }
+
+    @EventListener
+    public void handleInfrastructureStatusChange(InfrastructureStatusChangeEvent event) {
+        if (!event.isKafkaAvailable() || initialized.get()) {
+            return;
+        }
+        if (kafkaAdmin.initialize()) {
+            initialized.set(true);
+            log.info("Kafka topics initialized");
+        } else {
+            log.warn("Kafka topic initialization failed, will retry on next availability change");
+        }
+    }
+}
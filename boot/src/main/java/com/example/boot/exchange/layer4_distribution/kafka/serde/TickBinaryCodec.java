@@ -0,0 +1,250 @@
+package com.example.boot.exchange.layer4_distribution.kafka.serde;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * trades 토픽 바이너리 레코드 코덱 (버전 1, big-endian 고정 레이아웃)
+ *
+ * <pre>
+ *  0  magic (0xB7, JSON 첫 바이트 '{'와 구분)
+ *  1  version
+ *  2  flags (bit0: 거래쌍 문자열 포함)
+ *  3  price scale
+ *  4  volume scale
+ *  5  presence (bit0~6: 7개 수치 필드, bit7: 타임스탬프)
+ *  6  reserved (2 bytes)
+ *  8  pair id (int)
+ * 12  topicKey 해시 (int, 노드 간 id 불일치 검출)
+ * 16  timestamp millis (long)
+ * 24  price, volume, high, low, change, change%, volume24h (scaled long x 7)
+ * 80  [flags bit0] exchange, pair (1-byte 길이 + UTF-8)
+ * </pre>
+ *
+ * 설정에서 등록된 거래쌍은 id만 보내고, 실행 중 등록된 거래쌍은 id가 노드마다 다를 수 있어 문자열을 함께 보냅니다.
+ * 메타데이터는 보내지 않습니다 (컨버터는 메타데이터를 만들지 않음).
+ */
+@Component
+public class TickBinaryCodec {
+    public static final byte MAGIC = (byte) 0xB7;
+    public static final byte VERSION = 1;
+
+    static final int FIXED_SIZE = 80;
+    private static final int FLAG_INLINE_PAIR = 1;
+    private static final int FIELD_COUNT = 7;
+    private static final int ALL_FIELDS = (1 << FIELD_COUNT) - 1;
+    private static final int TIMESTAMP_PRESENT = 1 << 7;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_SCALE = 18;
+
+    private final TradingPairRegistry pairRegistry;
+
+    public TickBinaryCodec(TradingPairRegistry pairRegistry) {
+        this.pairRegistry = pairRegistry;
+    }
+
+    /**
+     * 바이너리 레코드인지 (첫 바이트로 판별)
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    public byte[] encode(StandardExchangeData data) {
+        CompactTick tick = data.compact();
+        TradingPair pair = tick != null ? tick.pair() : pairRegistry.register(data.getExchange(), data.getCurrencyPair());
+        boolean inline = !pairRegistry.isConfigured(pair);
+        byte[] exchangeName = inline ? nameBytes(pair.exchange()) : null;
+        byte[] pairName = inline ? nameBytes(pair.pairKey()) : null;
+
+        int size = FIXED_SIZE + (inline ? 2 + exchangeName.length + pairName.length : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(MAGIC)
+            .put(VERSION)
+            .put((byte) (inline ? FLAG_INLINE_PAIR : 0))
+            .put((byte) pair.priceScale())
+            .put((byte) pair.volumeScale());
+
+        if (tick != null) {
+            buffer.put((byte) (ALL_FIELDS | TIMESTAMP_PRESENT))
+                .putShort((short) 0)
+                .putInt(pair.id())
+                .putInt(pair.topicKey().hashCode())
+                .putLong(tick.timestampMillis())
+                .putLong(tick.price())
+                .putLong(tick.volume())
+                .putLong(tick.highPrice())
+                .putLong(tick.lowPrice())
+                .putLong(tick.priceChange())
+                .putLong(tick.priceChangePercent())
+                .putLong(tick.volume24h());
+        } else {
+            // 빌더/JSON으로 만든 데이터: 없는 필드는 presence 비트로 표시
+            BigDecimal[] values = {
+                data.getPrice(), data.getVolume(), data.getHighPrice(), data.getLowPrice(),
+                data.getPriceChange(), data.getPriceChangePercent(), data.getVolume24h()
+            };
+            int presence = data.getTimestamp() != null ? TIMESTAMP_PRESENT : 0;
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                if (values[i] != null) {
+                    presence |= 1 << i;
+                }
+            }
+            buffer.put((byte) presence)
+                .putShort((short) 0)
+                .putInt(pair.id())
+                .putInt(pair.topicKey().hashCode())
+                .putLong(data.timestampMillis());
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                buffer.putLong(values[i] != null ? toScaled(values[i], scaleOf(pair, i)) : 0L);
+            }
+        }
+
+        if (inline) {
+            buffer.put((byte) exchangeName.length).put(exchangeName)
+                .put((byte) pairName.length).put(pairName);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식/버전이 맞지 않거나 거래쌍을 확인할 수 없는 경우
+     */
+    public StandardExchangeData decode(byte[] bytes) {
+        if (bytes.length < FIXED_SIZE || bytes[0] != MAGIC) {
+            throw new IllegalArgumentException("Not a binary tick record (" + bytes.length + " bytes)");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(1);
+        int version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary tick version: " + version);
+        }
+        int flags = buffer.get();
+        int priceScale = buffer.get();
+        int volumeScale = buffer.get();
+        int presence = buffer.get() & 0xff;
+        if (!isValidScale(priceScale) || !isValidScale(volumeScale)) {
+            throw new IllegalArgumentException("Invalid scale in binary tick record: " + priceScale + "/" + volumeScale);
+        }
+        buffer.position(8);
+        int pairId = buffer.getInt();
+        int pairHash = buffer.getInt();
+
+        TradingPair pair = (flags & FLAG_INLINE_PAIR) != 0
+            ? readInlinePair(buffer.duplicate().position(FIXED_SIZE))
+            : pairById(pairId, pairHash);
+
+        long timestamp = buffer.getLong();
+        long[] values = new long[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            int sourceScale = isVolumeField(i) ? volumeScale : priceScale;
+            values[i] = rescale(buffer.getLong(), sourceScale, scaleOf(pair, i));
+        }
+
+        if (presence == (ALL_FIELDS | TIMESTAMP_PRESENT)) {
+            return StandardExchangeData.from(new CompactTick(
+                pair, timestamp,
+                values[0], values[1], values[2], values[3], values[4], values[5], values[6]));
+        }
+        return StandardExchangeData.builder()
+            .exchange(pair.exchange())
+            .currencyPair(pair.currencyPair())
+            .price(decimalOrNull(values, presence, 0, pair))
+            .volume(decimalOrNull(values, presence, 1, pair))
+            .highPrice(decimalOrNull(values, presence, 2, pair))
+            .lowPrice(decimalOrNull(values, presence, 3, pair))
+            .priceChange(decimalOrNull(values, presence, 4, pair))
+            .priceChangePercent(decimalOrNull(values, presence, 5, pair))
+            .volume24h(decimalOrNull(values, presence, 6, pair))
+            .timestamp((presence & TIMESTAMP_PRESENT) != 0 ? Instant.ofEpochMilli(timestamp) : null)
+            .build();
+    }
+
+    private TradingPair pairById(int pairId, int pairHash) {
+        if (pairId < 0 || pairId >= pairRegistry.size()) {
+            throw new IllegalArgumentException("Unknown pair id: " + pairId);
+        }
+        TradingPair pair = pairRegistry.get(pairId);
+        if (pair.topicKey().hashCode() != pairHash) {
+            // 발행 노드와 거래쌍 설정이 다름
+            throw new IllegalArgumentException("Pair id " + pairId + " does not match local pair " + pair);
+        }
+        return pair;
+    }
+
+    private TradingPair readInlinePair(ByteBuffer buffer) {
+        String exchange = readName(buffer);
+        String pairKey = readName(buffer);
+        int separator = pairKey.indexOf('-');
+        if (separator <= 0 || separator == pairKey.length() - 1) {
+            throw new IllegalArgumentException("Invalid pair: " + pairKey);
+        }
+        return pairRegistry.register(exchange,
+            new CurrencyPair(pairKey.substring(0, separator), pairKey.substring(separator + 1)));
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        int length = buffer.get() & 0xff;
+        String name = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return name;
+    }
+
+    private static byte[] nameBytes(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Name too long for binary tick record: " + name);
+        }
+        return bytes;
+    }
+
+    private static boolean isValidScale(int scale) {
+        return scale >= 0 && scale <= MAX_SCALE;
+    }
+
+    private static boolean isVolumeField(int index) {
+        return index == 1 || index == 6;
+    }
+
+    private static int scaleOf(TradingPair pair, int index) {
+        return isVolumeField(index) ? pair.volumeScale() : pair.priceScale();
+    }
+
+    private static BigDecimal decimalOrNull(long[] values, int presence, int index, TradingPair pair) {
+        return (presence & (1 << index)) != 0 ? CompactTick.toDecimal(values[index], scaleOf(pair, index)) : null;
+    }
+
+    private static long toScaled(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 발행 노드와 scale 설정이 다른 경우 맞춤 (줄어드는 자리는 반올림)
+     */
+    private static long rescale(long value, int fromScale, int toScale) {
+        if (fromScale == toScale) {
+            return value;
+        }
+        if (fromScale < toScale) {
+            return Math.multiplyExact(value, CompactTick.pow10(toScale - fromScale));
+        }
+        long divisor = CompactTick.pow10(fromScale - toScale);
+        long quotient = value / divisor;
+        if (Math.abs(value % divisor) * 2 >= divisor) {
+            quotient += value < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
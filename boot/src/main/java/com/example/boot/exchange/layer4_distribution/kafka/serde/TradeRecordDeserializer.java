@@ -0,0 +1,64 @@
+package com.example.boot.exchange.layer4_distribution.kafka.serde;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * trades 토픽 값 역직렬화
+ * 첫 바이트로 형식을 판별해 바이너리와 JSON(호환 모드) 레코드를 모두 읽습니다.
+ * 읽을 수 없는 레코드는 수신 스트림을 끊지 않도록 null을 반환합니다 (호출 측에서 제외).
+ */
+@Slf4j
+public class TradeRecordDeserializer implements Deserializer<StandardExchangeData> {
+    private static final String MODEL_PACKAGE = "com.example.boot.exchange.layer3_data_converter.model";
+
+    private final TickBinaryCodec codec;
+    private final JsonDeserializer<StandardExchangeData> jsonDeserializer;
+    private final AtomicLong failedCount = new AtomicLong(0);
+
+    public TradeRecordDeserializer(TickBinaryCodec codec) {
+        this.codec = codec;
+        this.jsonDeserializer = new JsonDeserializer<>(StandardExchangeData.class);
+        this.jsonDeserializer.addTrustedPackages(MODEL_PACKAGE);
+    }
+
+    @Override
+    public StandardExchangeData deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public StandardExchangeData deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            if (TickBinaryCodec.isBinary(data)) {
+                return codec.decode(data);
+            }
+            return headers != null ? jsonDeserializer.deserialize(topic, headers, data)
+                : jsonDeserializer.deserialize(topic, data);
+        } catch (RuntimeException e) {
+            long failed = failedCount.incrementAndGet();
+            log.warn("Skipping unreadable trade record on {} ({} bytes, {} failed so far): {}",
+                topic, data.length, failed, e.getMessage());
+            return null;
+        }
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
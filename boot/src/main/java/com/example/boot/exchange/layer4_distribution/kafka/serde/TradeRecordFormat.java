@@ -0,0 +1,12 @@
+package com.example.boot.exchange.layer4_distribution.kafka.serde;
+
+/**
+ * trades 토픽 레코드 형식 (distribution.kafka.record-format)
+ * 수신 측은 두 형식을 모두 읽으므로 발행 형식은 노드별로 순차 전환할 수 있습니다.
+ */
+public enum TradeRecordFormat {
+    /** TickBinaryCodec 고정 레이아웃 */
+    BINARY,
+    /** 기존 JsonSerializer 형식 (호환 모드) */
+    JSON
+}
@@ -0,0 +1,43 @@
+package com.example.boot.exchange.layer4_distribution.kafka.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * trades 토픽 값 직렬화 (설정한 형식으로 발행)
+ */
+public class TradeRecordSerializer implements Serializer<StandardExchangeData> {
+    private final TradeRecordFormat format;
+    private final TickBinaryCodec codec;
+    private final JsonSerializer<StandardExchangeData> jsonSerializer = new JsonSerializer<>();
+
+    public TradeRecordSerializer(TradeRecordFormat format, TickBinaryCodec codec) {
+        this.format = format;
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, StandardExchangeData data) {
+        if (data == null) {
+            return null;
+        }
+        return format == TradeRecordFormat.BINARY ? codec.encode(data) : jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, StandardExchangeData data) {
+        if (data == null) {
+            return null;
+        }
+        // 바이너리 형식은 타입 헤더를 붙이지 않음
+        return format == TradeRecordFormat.BINARY ? codec.encode(data) : jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -2,12 +2,12 @@ package com.example.boot.exchange.layer4_distribution.kafka.service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -17,27 +17,38 @@ import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeDat
 import com.example.boot.exchange.layer3_data_converter.service.ExchangeDataIntegrationService;
 import com.example.boot.exchange.layer4_distribution.common.event.LeaderElectionEvent;
 import com.example.boot.exchange.layer4_distribution.common.health.DistributionStatus;
+import com.example.boot.exchange.layer4_distribution.common.health.InfrastructureHealthState;
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
 import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+import com.example.boot.exchange.layer4_distribution.common.service.BroadcastFrameEncoder;
+import com.example.boot.exchange.layer4_distribution.common.service.ClientDeliveryQueue;
 import com.example.boot.exchange.layer4_distribution.common.service.DistributionService;
-import com.example.boot.exchange.layer4_distribution.kafka.health.KafkaHealthIndicator;
+import com.example.boot.exchange.layer4_distribution.common.service.LatestTickTable;
+import com.example.boot.exchange.layer4_distribution.common.service.SubscriptionIndex;
+import com.example.boot.exchange.layer4_distribution.common.service.TickDeduplicator;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.kafka.receiver.KafkaReceiver;
 import reactor.kafka.receiver.ReceiverOptions;
 
 @Slf4j
 @Service
 public class KafkaDistributionService implements DistributionService {
+    // 노드가 동시에 맡을 수 있는 파티션 그룹 수 상한 (groupBy + flatMap 동시성, 파티션 수보다 커야 함)
+    private static final int MAX_PARTITION_GROUPS = 1024;
+
     private final ExchangeDataIntegrationService integrationService;
-    private final KafkaTemplate<String, StandardExchangeData> kafkaTemplate;
+    private final KafkaTradePublisher tradePublisher;
     private final KafkaReceiver<String, StandardExchangeData> kafkaReceiver;
-    private final KafkaHealthIndicator healthIndicator;
+    private final InfrastructureHealthState healthState;
     private final String topic;
-    public final ConcurrentHashMap<String, Sinks.Many<StandardExchangeData>> clientSinks;
+    public final ConcurrentHashMap<String, ClientDeliveryQueue> clientSinks;
     private final AtomicBoolean isDistributing;
     private final LeaderElectionService leaderElectionService;
     private final DistributionStatus distributionStatus;
@@ -45,24 +56,36 @@ public class KafkaDistributionService implements DistributionService {
     private final ScheduledLogger scheduledLogger;
     private volatile Flux<StandardExchangeData> sharedFlux;
     private final SessionRegistry sessionRegistry;
+    private final TickDeduplicator deduplicator;
+    private final BroadcastFrameEncoder frameEncoder;
+    private final SubscriptionIndex subscriptionIndex;
     private volatile Disposable disposable;
+    private final Scheduler partitionRails;
+    private final LatestStateLoader latestStateLoader;
+    private final LatestTickTable latestTickTable;
 
     public KafkaDistributionService(
         ExchangeDataIntegrationService integrationService,
-        KafkaTemplate<String, StandardExchangeData> kafkaTemplate,
+        KafkaTradePublisher tradePublisher,
         ReceiverOptions<String, StandardExchangeData> receiverOptions,
-        KafkaHealthIndicator healthIndicator,
+        InfrastructureHealthState healthState,
         LeaderElectionService leaderElectionService,
         @Value("${spring.kafka.topics.trades}") String topic,
         DistributionStatus distributionStatus,
         DataFlowMonitor dataFlowMonitor,
         ScheduledLogger scheduledLogger,
-        SessionRegistry sessionRegistry
+        SessionRegistry sessionRegistry,
+        TickDeduplicator deduplicator,
+        BroadcastFrameEncoder frameEncoder,
+        SubscriptionIndex subscriptionIndex,
+        LatestStateLoader latestStateLoader,
+        LatestTickTable latestTickTable,
+        @Value("${distribution.kafka.consumer.rails:4}") int rails
     ) {
         this.integrationService = integrationService;
-        this.kafkaTemplate = kafkaTemplate;
+        this.tradePublisher = tradePublisher;
         this.kafkaReceiver = KafkaReceiver.create(receiverOptions);
-        this.healthIndicator = healthIndicator;
+        this.healthState = healthState;
         this.topic = topic;
         this.clientSinks = new ConcurrentHashMap<>();
         this.isDistributing = new AtomicBoolean(false);
@@ -71,12 +94,19 @@ public class KafkaDistributionService implements DistributionService {
         this.dataFlowMonitor = dataFlowMonitor;
         this.scheduledLogger = scheduledLogger;
         this.sessionRegistry = sessionRegistry;
-        log.info("Initialized Kafka distribution service with topic: {}", topic);
+        this.deduplicator = deduplicator;
+        this.frameEncoder = frameEncoder;
+        this.subscriptionIndex = subscriptionIndex;
+        this.latestStateLoader = latestStateLoader;
+        this.latestTickTable = latestTickTable;
+        // 파티션 그룹마다 워커 하나가 고정 배정되므로 파티션 안의 순서가 유지됨
+        this.partitionRails = Schedulers.newParallel("kafka-rail", rails);
+        log.info("Initialized Kafka distribution service with topic: {}, rails: {}", topic, rails);
     }
 
     @Override
     public Flux<StandardExchangeData> startDistribution() {
-        if (!healthIndicator.isAvailable()) {
+        if (!healthState.isKafkaAvailable()) {
             log.error("❌ Cannot start: Kafka is not available");
             return Flux.empty();
         }
@@ -85,15 +115,16 @@ public class KafkaDistributionService implements DistributionService {
             log.info("🚀 Initializing KafkaDistributionService");
             
             // 초기화 시점에 Kafka 연결 상태 확인
-            if (!healthIndicator.isAvailable()) {
+            if (!healthState.isKafkaAvailable()) {
                 log.error("❌ Kafka is not available");
                 isDistributing.set(false);
                 distributionStatus.setDistributing(false);
                 return Flux.empty();
             }
 
-            // createDistributionFlux() 사용
-            this.sharedFlux = createDistributionFlux()
+            // 최신 상태 토픽을 먼저 적재한 뒤 실시간 스트림에 합류
+            this.sharedFlux = latestStateLoader.load()
+                .thenMany(Flux.defer(this::createDistributionFlux))
                 .doOnSubscribe(s -> {
                     log.info("✅ Distribution flux started");
                     isDistributing.set(true);
@@ -119,7 +150,7 @@ public class KafkaDistributionService implements DistributionService {
     }
 
     private Flux<StandardExchangeData> createDistributionFlux() {
-        if (!healthIndicator.isAvailable()) {
+        if (!healthState.isKafkaAvailable()) {
             log.warn("Kafka is not available, not creating distribution flux");
             return Flux.empty();
         }
@@ -127,43 +158,41 @@ public class KafkaDistributionService implements DistributionService {
         String role = leaderElectionService.isLeader() ? "LEADER" : "FOLLOWER";
         scheduledLogger.scheduleLog(log, "Creating distribution flux - Role: {}", role);
         
-        // 리더인 경우: 데이터 수집 및 Kafka로 전송
+        // 리더인 경우: 데이터 수집 및 Kafka로 전송 (in-flight 한도만큼만 상류에 요청)
+        // fail 정책의 버퍼 초과로 중단되면 리더이고 분배 중인 동안 backoff 후 다시 발행
         Flux<StandardExchangeData> leaderFlux = leaderElectionService.isLeader() ?
-            integrationService.subscribe()
-                .distinct()
-                .filter(data -> isDistributing() && healthIndicator.isAvailable())
-                .doOnNext(data -> {
-                    if (!healthIndicator.isAvailable()) {
-                        log.debug("Skipping message: Kafka not available");
-                        return;
-                    }
-                    try {
-                        scheduledLogger.scheduleLog(log, "📤 [LEADER] Publishing to Kafka - Exchange: {}, Price: {}", 
-                            data.getExchange(), data.getPrice());
-                        kafkaTemplate.send(topic, data.getExchange(), data)
-                            .whenComplete((result, ex) -> {
-                                if (ex != null) {
-                                    log.debug("Message queued but Kafka unavailable - Exchange: {}", data.getExchange());
-                                } else {
-                                    dataFlowMonitor.incrementKafkaSent();
-                                }
-                            });
-                    } catch (Exception e) {
-                        log.debug("Unable to process message while Kafka unavailable - Exchange: {}", data.getExchange());
-                    }
+            tradePublisher.publishWithRestart(
+                integrationService.subscribe()
+                    .filter(deduplicator::accept)  // (exchange, pair, timestamp) 기준 중복/재전송 제거
+                    .filter(data -> isDistributing() && healthState.isKafkaAvailable()),
+                () -> isDistributing() && leaderElectionService.isLeader())
+                .doOnNext(data -> scheduledLogger.scheduleLog(log, "📤 [LEADER] Published to Kafka - Exchange: {}, Price: {}", 
+                    data.getExchange(), data.getPrice()))
+                .onErrorResume(e -> {
+                    // 재시작하지 않는 경우(리더 해제/분배 중지): 발행만 중단하고 수신은 유지
+                    log.error("❌ [LEADER] Kafka publishing stopped: {}", e.getMessage());
+                    return Flux.empty();
                 }) : Flux.empty();
 
         // 모든 인스턴스(리더와 팔로워)가 Kafka에서 데이터를 받아 클라이언트에게 전송
+        // 파티션별로 나눠 전용 레일에서 병렬 처리 (같은 키는 같은 파티션이므로 거래쌍별 순서 유지)
         Flux<StandardExchangeData> consumerFlux = kafkaReceiver.receive()
-            .filter(record -> isDistributing() && healthIndicator.isAvailable())
-            .map(record -> {
-                StandardExchangeData data = record.value();
-                scheduledLogger.scheduleLog(log, "📥 [{}] Received from Kafka - Exchange: {}, Price: {}", 
-                    role, data.getExchange(), data.getPrice());
-                dataFlowMonitor.incrementKafkaReceived();
-                return data;
-            })
-            .doOnNext(this::broadcastToClients);
+            .filter(record -> isDistributing() && healthState.isKafkaAvailable())
+            .filter(record -> record.value() != null)  // 역직렬화할 수 없는 레코드 제외
+            .groupBy(record -> record.partition())
+            .flatMap(partition -> partition
+                .publishOn(partitionRails)
+                .map(record -> {
+                    StandardExchangeData data = record.value();
+                    scheduledLogger.scheduleLog(log, "📥 [{}] Received from Kafka - Exchange: {}, Price: {}", 
+                        role, data.getExchange(), data.getPrice());
+                    dataFlowMonitor.incrementKafkaReceived();
+                    // 리더 승계 시 이미 발행된 틱을 다시 발행하지 않도록 기록
+                    deduplicator.markSeen(data);
+                    latestTickTable.update(data);
+                    return data;
+                })
+                .doOnNext(this::broadcastToClients), MAX_PARTITION_GROUPS);
 
         // 리더와 컨슈머 Flux 결합
         return Flux.merge(leaderFlux, consumerFlux);
@@ -171,11 +200,14 @@ public class KafkaDistributionService implements DistributionService {
 
     @Override
     public Mono<Void> sendToClient(String clientId, StandardExchangeData data) {
-        Sinks.Many<StandardExchangeData> sink = clientSinks.get(clientId);
+        ClientDeliveryQueue sink = clientSinks.get(clientId);
         if (sink != null) {
-            return Mono.fromRunnable(() -> 
-                sink.tryEmitNext(data)
-            );
+            return Mono.fromRunnable(() -> {
+                BroadcastFrame frame = frameEncoder.encode(data);
+                if (frame != null) {
+                    sink.offer(frame);
+                }
+            });
         }
         return Mono.empty();
     }
@@ -199,24 +231,35 @@ public class KafkaDistributionService implements DistributionService {
     }
 
     @Override
-    public Map<String, Sinks.Many<StandardExchangeData>> getActiveSinks() {
+    public Map<String, ClientDeliveryQueue> getActiveSinks() {
         return new HashMap<>(clientSinks);
     }
 
     @Override
-    public void restoreSinks(Map<String, Sinks.Many<StandardExchangeData>> sinks) {
+    public void restoreSinks(Map<String, ClientDeliveryQueue> sinks) {
         clientSinks.clear();
         clientSinks.putAll(sinks);
         log.info("Restored {} client sinks", sinks.size());
     }
 
     private void broadcastToClients(StandardExchangeData data) {
-        int clientCount = clientSinks.size();
+        // 해당 거래쌍을 구독한 세션만 대상
+        Set<String> subscribers = subscriptionIndex.getSubscribers(data);
+        int clientCount = subscribers.size();
         if (clientCount > 0) {
-            clientSinks.forEach((clientId, sink) -> {
+            // 클라이언트 수와 관계없이 한 번만 직렬화
+            BroadcastFrame frame = frameEncoder.encode(data);
+            if (frame == null) {
+                return;
+            }
+            for (String clientId : subscribers) {
+                ClientDeliveryQueue sink = clientSinks.get(clientId);
+                if (sink == null) {
+                    continue;
+                }
                 // 세션이 유효한 경우에만 데이터 전송
                 if (sessionRegistry.getSession(clientId) != null) {
-                    boolean success = sink.tryEmitNext(data).isSuccess();
+                    boolean success = sink.offer(frame);
                     if (success) {
                         dataFlowMonitor.incrementClientSent();
                         log.debug("📨 Sent to client {}: Exchange={}, Price={}", 
@@ -225,22 +268,23 @@ public class KafkaDistributionService implements DistributionService {
                 } else {
                     // 유효하지 않은 세션의 Sink 제거
                     clientSinks.remove(clientId);
+                    subscriptionIndex.removeSession(clientId);
                     log.debug("Removed invalid client sink: {}", clientId);
                 }
-            });
+            }
             scheduledLogger.scheduleLog(log, "📢 Active clients: {}", clientCount);
         } else {
-            log.debug("📢 No clients connected to broadcast to");
+            log.debug("📢 No clients subscribed to {}:{}", data.getExchange(), data.getCurrencyPair());
         }
     }
 
     @Scheduled(fixedRateString = "${infrastructure.health-check.interval:10000}")
     public void checkAndReconnect() {
-        if (!healthIndicator.isAvailable() && isDistributing.get()) {
+        if (!healthState.isKafkaAvailable() && isDistributing.get()) {
             log.warn("⚠️ Kafka connection lost, attempting to reconnect...");
             stopDistribution()
                 .then(Mono.defer(() -> {
-                    if (healthIndicator.isAvailable()) {
+                    if (healthState.isKafkaAvailable()) {
                         log.info("✅ Kafka is available again, restarting distribution");
                         return startDistribution().then();
                     }
@@ -255,7 +299,7 @@ public class KafkaDistributionService implements DistributionService {
     public void handleLeaderElection(LeaderElectionEvent event) {
         if (event.isLeader()) {
             // 리더가 될 때도 Kafka 상태 확인
-            if (!healthIndicator.isAvailable()) {
+            if (!healthState.isKafkaAvailable()) {
                 log.error("❌ Cannot start as leader: Kafka is not available");
                 return;
             }
@@ -264,8 +308,27 @@ public class KafkaDistributionService implements DistributionService {
         }
     }
 
-    public void addClientSink(String clientId, Sinks.Many<StandardExchangeData> sink) {
+    @PreDestroy
+    public void shutdown() {
+        partitionRails.dispose();
+    }
+
+    public void addClientSink(String clientId, ClientDeliveryQueue sink) {
         clientSinks.put(clientId, sink);
         log.info("Added client sink for client ID: {}", clientId);
     }
+
+    @Override
+    public ClientDeliveryQueue getClientSink(String clientId) {
+        return clientSinks.get(clientId);
+    }
+
+    @Override
+    public ClientDeliveryQueue removeClientSink(String clientId) {
+        ClientDeliveryQueue sink = clientSinks.remove(clientId);
+        if (sink != null) {
+            log.info("Removed client sink for client ID: {}", clientId);
+        }
+        return sink;
+    }
 } 
\ No newline at end of file
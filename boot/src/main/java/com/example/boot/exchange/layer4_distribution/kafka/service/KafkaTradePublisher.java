@@ -0,0 +1,178 @@
+package com.example.boot.exchange.layer4_distribution.kafka.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.retry.Retry;
+
+/**
+ * trades 토픽 발행 단계 (리더 전용)
+ * KafkaSender가 in-flight 수(maxInFlight)만큼만 상류에 요청하므로, 브로커가 느려지면
+ * 요청이 줄고 overflow 정책에 따라 대기 틱을 처리합니다.
+ * - drop-oldest: 거래쌍별 최신 틱만 남기고, 대기 거래쌍이 max-pending을 넘으면 가장 오래된 거래쌍을 버림
+ * - block: 버퍼 없이 요청을 그대로 상류에 전달 (상류 버퍼가 넘치면 상류 정책을 따름)
+ * - fail: max-pending까지 버퍼링하고 넘으면 오류로 발행 중단 (publishWithRestart는 backoff 후 다시 시작)
+ * 레코드 키는 exchange:pair이므로 같은 거래쌍의 틱은 항상 같은 파티션에 순서대로 들어갑니다.
+ * 같은 틱을 압축 토픽 exchange.latest에도 발행해 새 노드가 거래쌍별 최신 값을 바로 읽을 수 있게 합니다.
+ * 발행 결과(ack)를 받은 틱만 하류로 내보내며, 거래소별 전송 지연은 DataFlowMonitor에 기록합니다.
+ */
+@Slf4j
+@Component
+public class KafkaTradePublisher {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, BLOCK, FAIL
+    }
+
+    private final KafkaSender<String, StandardExchangeData> sender;
+    private final String topic;
+    private final String latestTopic;  // null이면 발행하지 않음
+    private final OverflowPolicy overflowPolicy;
+    private final int maxPending;
+    private final Duration restartMinBackoff;
+    private final Duration restartMaxBackoff;
+    private final DataFlowMonitor dataFlowMonitor;
+
+    @Autowired
+    public KafkaTradePublisher(
+            SenderOptions<String, StandardExchangeData> senderOptions,
+            @Value("${spring.kafka.topics.trades}") String topic,
+            @Value("${spring.kafka.topics.latest:exchange.latest}") String latestTopic,
+            @Value("${distribution.kafka.latest.enabled:true}") boolean latestEnabled,
+            @Value("${distribution.kafka.producer.overflow-policy:drop-oldest}") String overflowPolicy,
+            @Value("${distribution.kafka.producer.max-pending:1024}") int maxPending,
+            @Value("${distribution.kafka.producer.restart-min-backoff:1000}") long restartMinBackoffMillis,
+            @Value("${distribution.kafka.producer.restart-max-backoff:30000}") long restartMaxBackoffMillis,
+            DataFlowMonitor dataFlowMonitor) {
+        // 프로듀서는 첫 발행 시점에 생성됨
+        this(KafkaSender.create(senderOptions), topic, latestEnabled ? latestTopic : null, overflowPolicy, maxPending,
+            Duration.ofMillis(restartMinBackoffMillis), Duration.ofMillis(restartMaxBackoffMillis), dataFlowMonitor);
+    }
+
+    KafkaTradePublisher(
+            KafkaSender<String, StandardExchangeData> sender,
+            String topic,
+            String latestTopic,
+            String overflowPolicy,
+            int maxPending,
+            Duration restartMinBackoff,
+            Duration restartMaxBackoff,
+            DataFlowMonitor dataFlowMonitor) {
+        this.sender = sender;
+        this.topic = topic;
+        this.latestTopic = latestTopic;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase().replace('-', '_'));
+        this.maxPending = maxPending;
+        this.restartMinBackoff = restartMinBackoff;
+        this.restartMaxBackoff = restartMaxBackoff;
+        this.dataFlowMonitor = dataFlowMonitor;
+        log.info("Kafka trade publisher - topic: {}, overflow policy: {}, max pending: {}",
+            topic, this.overflowPolicy, maxPending);
+    }
+
+    /**
+     * publish와 같지만, fail 정책의 버퍼 초과로 중단되면 backoff 후 ticks를 다시 구독해 발행을 이어감
+     * 틱을 다시 발행하기 시작하면 backoff는 처음부터 다시 계산합니다.
+     * @param active 재시작 여부 (리더에서 물러났거나 분배가 멈춘 경우 false, 이때는 오류로 종료)
+     */
+    public Flux<StandardExchangeData> publishWithRestart(Flux<StandardExchangeData> ticks, BooleanSupplier active) {
+        return Flux.defer(() -> publish(ticks))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, restartMinBackoff)
+                .maxBackoff(restartMaxBackoff)
+                .transientErrors(true)
+                .filter(e -> Exceptions.isOverflow(e) && active.getAsBoolean())
+                .doBeforeRetry(signal -> {
+                    dataFlowMonitor.incrementKafkaPublishRestart();
+                    log.warn("Restarting Kafka publisher after buffer overflow (attempt {})",
+                        signal.totalRetriesInARow() + 1);
+                }));
+    }
+
+    /**
+     * 틱을 발행하고 ack를 받은 틱을 내보냄
+     * 개별 전송 실패는 기록 후 건너뛰며, fail 정책의 버퍼 초과만 오류로 종료됩니다.
+     */
+    public Flux<StandardExchangeData> publish(Flux<StandardExchangeData> ticks) {
+        Flux<SenderRecord<String, StandardExchangeData, InFlight>> records = applyOverflowPolicy(ticks)
+            .concatMapIterable(this::toRecords);
+
+        return sender.send(records)
+            .filter(result -> {
+                InFlight inFlight = result.correlationMetadata();
+                if (result.exception() != null) {
+                    dataFlowMonitor.incrementKafkaSendError();
+                    log.debug("Kafka send failed - Topic: {}, Exchange: {}, error: {}",
+                        inFlight.latest() ? latestTopic : topic, inFlight.data().getExchange(),
+                        result.exception().getMessage());
+                    return false;
+                }
+                if (inFlight.latest()) {
+                    return false;
+                }
+                dataFlowMonitor.incrementKafkaSent();
+                dataFlowMonitor.recordKafkaSend(inFlight.data().getExchange(), System.nanoTime() - inFlight.startNanos());
+                return true;
+            })
+            .map(result -> result.correlationMetadata().data());
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.close();
+    }
+
+    /**
+     * 파티션 키 (exchange:pair, 노드와 무관하게 같은 값)
+     */
+    static String keyOf(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        return pair != null ? pair.topicKey() : data.getExchange().toLowerCase() + ":" + data.getCurrencyPair();
+    }
+
+    private List<SenderRecord<String, StandardExchangeData, InFlight>> toRecords(StandardExchangeData data) {
+        String key = keyOf(data);
+        long now = System.nanoTime();
+        SenderRecord<String, StandardExchangeData, InFlight> trade =
+            SenderRecord.create(new ProducerRecord<>(topic, key, data), new InFlight(data, now, false));
+        if (latestTopic == null) {
+            return List.of(trade);
+        }
+        return List.of(trade,
+            SenderRecord.create(new ProducerRecord<>(latestTopic, key, data), new InFlight(data, now, true)));
+    }
+
+    private Flux<StandardExchangeData> applyOverflowPolicy(Flux<StandardExchangeData> ticks) {
+        return switch (overflowPolicy) {
+            case DROP_OLDEST -> LatestPerPairBuffer.apply(ticks, maxPending, dataFlowMonitor::incrementKafkaSendDropped);
+            case FAIL -> ticks.onBackpressureBuffer(maxPending, dropped -> {
+                dataFlowMonitor.incrementKafkaSendDropped();
+                log.error("Kafka publish buffer overflow ({} pending) - stopping publisher", maxPending);
+            });
+            case BLOCK -> ticks;
+        };
+    }
+
+    private record InFlight(StandardExchangeData data, long startNanos, boolean latest) {
+    }
+}
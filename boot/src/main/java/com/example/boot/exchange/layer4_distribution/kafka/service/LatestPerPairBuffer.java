@@ -0,0 +1,129 @@
+package com.example.boot.exchange.layer4_distribution.kafka.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * 거래쌍별 최신 틱 버퍼 (drop-oldest per pair)
+ * 상류는 제한 없이 받고, 하류 요청이 없는 동안 들어온 같은 exchange:pair 틱은 최신 값으로 교체합니다.
+ * 대기 중인 거래쌍 수가 maxPairs를 넘으면 가장 오래 기다린 거래쌍의 틱을 버립니다.
+ * 교체된 거래쌍은 처음 들어온 자리에서 내보내므로 한 거래쌍이 다른 거래쌍을 굶기지 않습니다.
+ */
+final class LatestPerPairBuffer {
+
+    private LatestPerPairBuffer() {
+    }
+
+    /**
+     * @param onDropped 교체/초과로 버린 틱마다 호출
+     */
+    static Flux<StandardExchangeData> apply(Flux<StandardExchangeData> upstream, int maxPairs, Runnable onDropped) {
+        return Flux.create(sink -> {
+            State state = new State(sink, maxPairs, onDropped);
+            Disposable subscription = upstream.subscribe(state::offer, state::error, state::complete);
+            sink.onRequest(n -> state.drain());
+            sink.onDispose(subscription);
+        });
+    }
+
+    private static final class State {
+        private final FluxSink<StandardExchangeData> sink;
+        private final int maxPairs;
+        private final Runnable onDropped;
+
+        // 삽입 순서 유지 (this로 보호)
+        private final Map<String, StandardExchangeData> pending = new LinkedHashMap<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private volatile boolean done = false;
+        private volatile Throwable error;
+
+        State(FluxSink<StandardExchangeData> sink, int maxPairs, Runnable onDropped) {
+            this.sink = sink;
+            this.maxPairs = maxPairs;
+            this.onDropped = onDropped;
+        }
+
+        void offer(StandardExchangeData data) {
+            int dropped = 0;
+            synchronized (this) {
+                if (pending.put(KafkaTradePublisher.keyOf(data), data) != null) {
+                    dropped++;
+                }
+                if (pending.size() > maxPairs) {
+                    Iterator<StandardExchangeData> eldest = pending.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    dropped++;
+                }
+            }
+            for (int i = 0; i < dropped; i++) {
+                onDropped.run();
+            }
+            drain();
+        }
+
+        void error(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        void complete() {
+            done = true;
+            drain();
+        }
+
+        /**
+         * 하류 요청만큼 내보내기 (한 번에 한 스레드만 실행)
+         */
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                while (!sink.isCancelled() && sink.requestedFromDownstream() > 0) {
+                    StandardExchangeData next = poll();
+                    if (next == null) {
+                        break;
+                    }
+                    sink.next(next);
+                }
+                if (done && isEmpty()) {
+                    if (error != null) {
+                        sink.error(error);
+                    } else {
+                        sink.complete();
+                    }
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private synchronized StandardExchangeData poll() {
+            Iterator<StandardExchangeData> iterator = pending.values().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            StandardExchangeData data = iterator.next();
+            iterator.remove();
+            return data;
+        }
+
+        private synchronized boolean isEmpty() {
+            return pending.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.boot.exchange.layer4_distribution.kafka.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.service.LatestTickTable;
+import com.example.boot.exchange.layer4_distribution.common.service.TickDeduplicator;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TickBinaryCodec;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TradeRecordDeserializer;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 최신 상태 적재기
+ * 시작 시 압축(compacted) 토픽 exchange.latest를 처음부터 끝 오프셋까지 읽어 LatestTickTable을 채웁니다.
+ * trades 수신은 latest 오프셋부터 시작하므로, 이 적재를 먼저 끝내야 거래가 드문 거래쌍도 바로 값을 가집니다.
+ * 그룹 없이 파티션을 직접 할당해 읽으며 오프셋은 커밋하지 않습니다.
+ */
+@Slf4j
+@Component
+public class LatestStateLoader {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+
+    private final String bootstrapServers;
+    private final String latestTopic;
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final TickBinaryCodec codec;
+    private final LatestTickTable latestTickTable;
+    private final TickDeduplicator deduplicator;
+    private final AtomicBoolean loaded = new AtomicBoolean(false);
+
+    public LatestStateLoader(
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${spring.kafka.topics.latest:exchange.latest}") String latestTopic,
+            @Value("${distribution.kafka.latest.enabled:true}") boolean enabled,
+            @Value("${distribution.kafka.latest.load-timeout:10000}") long timeoutMillis,
+            TickBinaryCodec codec,
+            LatestTickTable latestTickTable,
+            TickDeduplicator deduplicator) {
+        this.bootstrapServers = bootstrapServers;
+        this.latestTopic = latestTopic;
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.codec = codec;
+        this.latestTickTable = latestTickTable;
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * 최신 상태 적재 (한 번 성공하면 이후 호출은 바로 완료, 실패해도 오류 없이 완료)
+     * @return 테이블에 반영한 틱 수
+     */
+    public Mono<Integer> load() {
+        if (!enabled || loaded.get()) {
+            return Mono.just(0);
+        }
+        return Mono.fromCallable(this::loadBlocking)
+            .subscribeOn(Schedulers.boundedElastic())
+            .doOnNext(count -> loaded.set(true))
+            .onErrorResume(e -> {
+                log.warn("Failed to load latest state from {}: {}", latestTopic, e.getMessage());
+                return Mono.just(0);
+            });
+    }
+
+    private int loadBlocking() {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeoutMillis;
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+
+        try (KafkaConsumer<String, StandardExchangeData> consumer =
+                new KafkaConsumer<>(consumerProps(), new StringDeserializer(), new TradeRecordDeserializer(codec))) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(latestTopic, timeout);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                log.info("Latest state topic {} not found, skipping warm-up", latestTopic);
+                return 0;
+            }
+            List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions, timeout);
+
+            int applied = 0;
+            while (!reachedEnd(consumer, endOffsets)) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("Latest state warm-up timed out after {}ms ({} ticks applied)", timeoutMillis, applied);
+                    return applied;
+                }
+                for (ConsumerRecord<String, StandardExchangeData> record : consumer.poll(POLL_TIMEOUT)) {
+                    StandardExchangeData data = record.value();
+                    if (data != null && latestTickTable.update(data)) {
+                        // 리더 승계 시 이미 발행된 틱을 다시 발행하지 않도록 기록
+                        deduplicator.markSeen(data);
+                        applied++;
+                    }
+                }
+            }
+            log.info("Loaded latest state from {} - {} pairs in {}ms",
+                latestTopic, latestTickTable.size(), System.currentTimeMillis() - start);
+            return applied;
+        }
+    }
+
+    private static boolean reachedEnd(KafkaConsumer<?, ?> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Object> consumerProps() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2000);
+        props.put(ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, "3000");
+        props.put(ConsumerConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, "3000");
+        return props;
+    }
+}
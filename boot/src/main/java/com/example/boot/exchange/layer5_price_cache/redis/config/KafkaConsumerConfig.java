@@ -11,31 +11,29 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TickBinaryCodec;
+import com.example.boot.exchange.layer4_distribution.kafka.serde.TradeRecordDeserializer;
 
 @Configuration
 public class KafkaConsumerConfig {
 
     @Bean
     public ConsumerFactory<String, StandardExchangeData> consumerFactory(
-            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers) {
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            TickBinaryCodec codec) {
         
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         props.put(ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, "5000");
         props.put(ConsumerConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, "5000");
         
-        JsonDeserializer<StandardExchangeData> jsonDeserializer = new JsonDeserializer<>(StandardExchangeData.class);
-        jsonDeserializer.addTrustedPackages("com.example.boot.exchange.layer3_data_converter.model");
-        
+        // 바이너리/JSON 레코드 모두 수신
         return new DefaultKafkaConsumerFactory<>(
             props,
             new StringDeserializer(),
-            jsonDeserializer
+            new TradeRecordDeserializer(codec)
         );
     }
 
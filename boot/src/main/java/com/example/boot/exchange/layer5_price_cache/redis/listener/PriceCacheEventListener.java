@@ -1,12 +1,15 @@
 package com.example.boot.exchange.layer5_price_cache.redis.listener;
 
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import com.example.boot.common.logging.ScheduledLogger;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 import com.example.boot.exchange.layer5_price_cache.mode.service.TradingModeService;
 import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.service.CandleAggregator;
+import com.example.boot.exchange.layer5_price_cache.timeseries.service.TimeSeriesStore;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,23 +18,36 @@ import lombok.extern.slf4j.Slf4j;
 public class PriceCacheEventListener {
     private final TradingModeService tradingModeService;
     private final RedisCacheService cacheService;
+    private final TimeSeriesStore timeSeriesStore;
+    private final CandleAggregator candleAggregator;
     private final ScheduledLogger scheduledLogger;
 
     public PriceCacheEventListener(
             TradingModeService tradingModeService, 
             RedisCacheService cacheService,
+            TimeSeriesStore timeSeriesStore,
+            CandleAggregator candleAggregator,
             ScheduledLogger scheduledLogger) {
         this.tradingModeService = tradingModeService;
         this.cacheService = cacheService;
+        this.timeSeriesStore = timeSeriesStore;
+        this.candleAggregator = candleAggregator;
         this.scheduledLogger = scheduledLogger;
     }
 
     @KafkaListener(topics = "${spring.kafka.topics.trades}", groupId = "${spring.kafka.consumer.group-id}")
-    public void handlePriceEvent(StandardExchangeData data) {
+    public void handlePriceEvent(@Payload(required = false) StandardExchangeData data) {
+        if (data == null) {
+            // 역직렬화할 수 없는 레코드 (TradeRecordDeserializer에서 기록)
+            return;
+        }
         scheduledLogger.scheduleLog(log, "Kafka events - Exchange: {}, Pair: {}, Price: {}, Mode valid: {}", 
             data.getExchange(), data.getCurrencyPair(), data.getPrice(), tradingModeService.isValidMode());
             
         if (tradingModeService.isValidMode()) {
+            // 로컬 시계열/캔들에 먼저 기록하고 Redis 미러는 write-behind로 갱신
+            timeSeriesStore.append(data);
+            candleAggregator.append(data);
             cacheService.cachePrice(data);
         }
     }
@@ -1,12 +1,15 @@
 package com.example.boot.exchange.layer5_price_cache.redis.monitor;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.example.boot.common.logging.ScheduledLogger;
 import com.example.boot.exchange.layer5_price_cache.redis.health.RedisHealthIndicator;
+import com.example.boot.exchange.layer5_price_cache.redis.service.AnalysisKeyIndex;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,36 +17,65 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class RedisCacheMonitor {
     private final RedisHealthIndicator redisHealthIndicator;
-    private final ScheduledLogger scheduledLogger;
+    private final AnalysisKeyIndex keyIndex;
     private final String redisHost;
     private final int redisPort;
     
-    private long currentCacheOperationCount = 0;
+    private final AtomicLong currentCacheOperationCount = new AtomicLong(0);
     private long lastCacheOperationCount = 0;
-    private long totalCachedItems = 0;
-    private long errorCount = 0;
+    private final AtomicLong errorCount = new AtomicLong(0);
+
+    // write-behind 버퍼 지표 (flush 스레드에서 갱신)
+    private final AtomicInteger writeBehindQueueDepth = new AtomicInteger(0);
+    private final AtomicLong flushCount = new AtomicLong(0);
+    private final AtomicLong flushedTicks = new AtomicLong(0);
+    private final AtomicLong flushNanosTotal = new AtomicLong(0);
+    private final AtomicLong flushNanosMax = new AtomicLong(0);
+
+    // pub/sub 구독 허브 지표 (메시지는 한 번 파싱해 구독자 수만큼 전달)
+    private volatile int pubSubChannels = 0;
+    private volatile int pubSubSubscribers = 0;
+    private final AtomicLong pubSubMessages = new AtomicLong(0);
+    private final AtomicLong pubSubDeliveries = new AtomicLong(0);
 
     public RedisCacheMonitor(
             RedisHealthIndicator redisHealthIndicator, 
-            ScheduledLogger scheduledLogger,
+            AnalysisKeyIndex keyIndex,
             @Value("${spring.redis.host}") String redisHost,
             @Value("${spring.redis.port}") int redisPort) {
         this.redisHealthIndicator = redisHealthIndicator;
-        this.scheduledLogger = scheduledLogger;
+        this.keyIndex = keyIndex;
         this.redisHost = redisHost;
         this.redisPort = redisPort;
     }
 
     public void incrementCacheOperation(boolean isUpdate) {
-        currentCacheOperationCount++;
+        currentCacheOperationCount.incrementAndGet();
     }
 
-    public void setTotalCachedItems(long count) {
-        this.totalCachedItems = count;
+    public void incrementCacheError() {
+        errorCount.incrementAndGet();
     }
 
-    public void incrementCacheError() {
-        errorCount++;
+    public void setWriteBehindQueueDepth(int depth) {
+        writeBehindQueueDepth.set(depth);
+    }
+
+    public void recordWriteBehindFlush(int ticks, int keys, long elapsedNanos) {
+        flushCount.incrementAndGet();
+        flushedTicks.addAndGet(ticks);
+        flushNanosTotal.addAndGet(elapsedNanos);
+        flushNanosMax.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public void setPubSubSubscriptions(int channels, int subscribers) {
+        pubSubChannels = channels;
+        pubSubSubscribers = subscribers;
+    }
+
+    public void recordPubSubDispatch(int subscribers) {
+        pubSubMessages.incrementAndGet();
+        pubSubDeliveries.addAndGet(subscribers);
     }
 
     @Scheduled(fixedRate = 10000)
@@ -56,22 +88,41 @@ public class RedisCacheMonitor {
     }
 
     private void resetCounters() {
-        currentCacheOperationCount = 0;
+        currentCacheOperationCount.set(0);
         lastCacheOperationCount = 0;
-        totalCachedItems = 0;
     }
 
     private void logStatus(boolean isRedisUp) {
-        long totalOperations = currentCacheOperationCount - lastCacheOperationCount;
-        lastCacheOperationCount = currentCacheOperationCount;
+        long currentOperations = currentCacheOperationCount.get();
+        long totalOperations = currentOperations - lastCacheOperationCount;
+        lastCacheOperationCount = currentOperations;
+
+        // flush 지표는 주기마다 초기화
+        long flushes = flushCount.getAndSet(0);
+        long ticks = flushedTicks.getAndSet(0);
+        long nanosTotal = flushNanosTotal.getAndSet(0);
+        long nanosMax = flushNanosMax.getAndSet(0);
+        double avgFlushMs = flushes > 0 ? nanosTotal / 1_000_000.0 / flushes : 0.0;
+        long messages = pubSubMessages.getAndSet(0);
+        long deliveries = pubSubDeliveries.getAndSet(0);
         
         StringBuilder status = new StringBuilder("\n📊 Analysis Cache Status\n");
         status.append("├─ Status: ").append(isRedisUp ? "🟢 CONNECTED" : "🔴 DISCONNECTED").append("\n");
         status.append("├─ Host: ").append(redisHost).append(":").append(redisPort).append("\n");
-        status.append("├─ Cached Windows: ").append(isRedisUp ? totalCachedItems : 0).append("\n");
+        status.append("├─ Cached Windows: ").append(isRedisUp ? keyIndex.getKeyCount() : 0).append("\n");
         status.append("├─ Operations (Last 10s): +").append(isRedisUp ? totalOperations : 0).append("\n");
-        status.append("└─ Errors: ").append(errorCount);
+        status.append("├─ Write-behind: pending=").append(writeBehindQueueDepth.get())
+              .append(", flushes=+").append(flushes)
+              .append(", ticks=+").append(ticks)
+              .append(String.format(", avg flush=%.2fms, max=%.2fms", avgFlushMs, nanosMax / 1_000_000.0))
+              .append("\n");
+        status.append("├─ Pub/sub: channels=").append(pubSubChannels)
+              .append(", subscribers=").append(pubSubSubscribers)
+              .append(", parsed=+").append(messages)
+              .append(", delivered=+").append(deliveries)
+              .append("\n");
+        status.append("└─ Errors: ").append(errorCount.get());
 
-        scheduledLogger.scheduleLog(log, status.toString());
+        log.info(status.toString());
     }
 } 
\ No newline at end of file
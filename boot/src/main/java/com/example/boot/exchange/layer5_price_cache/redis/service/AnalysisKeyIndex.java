@@ -0,0 +1,66 @@
+package com.example.boot.exchange.layer5_price_cache.redis.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 캐시 키 인덱스
+ * KEYS 명령은 키스페이스 전체를 블로킹 순회하므로 사용하지 않고,
+ * 백그라운드에서 SCAN으로 주기적으로 키 수를 집계해 보관합니다.
+ * 쓰기 경로와 모니터는 집계된 값만 읽습니다.
+ */
+@Slf4j
+@Component
+public class AnalysisKeyIndex {
+    private static final String KEY_PATTERN = "analysis:*";
+    private static final long SCAN_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final AtomicLong keyCount = new AtomicLong(0);
+    private volatile long lastScanMillis = 0;
+
+    public AnalysisKeyIndex(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Scheduled(fixedRate = 30000)  // 30초마다 SCAN으로 재집계
+    public void refresh() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(KEY_PATTERN)
+            .count(SCAN_BATCH_SIZE)
+            .build();
+
+        long count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
+            }
+            keyCount.set(count);
+            lastScanMillis = System.currentTimeMillis();
+            log.debug("Analysis key index refreshed - keys: {}", count);
+        } catch (Exception e) {
+            // Redis 장애 시 마지막 집계값 유지
+            log.debug("Failed to refresh analysis key index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 SCAN 기준 분석 캐시 키 수
+     */
+    public long getKeyCount() {
+        return keyCount.get();
+    }
+
+    public long getLastScanMillis() {
+        return lastScanMillis;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.boot.exchange.layer5_price_cache.redis.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.monitor.RedisCacheMonitor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * 시장 데이터 pub/sub 구독 허브
+ * 노드당 Redis 패턴 구독(market-data:*) 하나만 열고, 메시지를 한 번만 파싱해 채널별 hot flux로 나눠 보냅니다.
+ * 같은 채널의 분석 카드가 여러 개여도 Redis 구독 수와 파싱 횟수는 늘지 않습니다.
+ * - 채널은 구독자 수(참조 카운트)로 관리하며, 마지막 구독자가 떠나면 제거
+ * - 구독 중인 채널이 하나도 없으면 패턴 구독도 해제
+ * - 구독자가 없는 채널의 메시지는 파싱하지 않음
+ * 채널별 전달은 best-effort이므로 요청이 없는 느린 구독자는 그 틱을 건너뜁니다 (다른 구독자는 영향 없음).
+ */
+@Slf4j
+@Component
+public class MarketDataSubscriptionHub {
+    private static final String CHANNEL_PATTERN = TradingPair.MARKET_DATA_CHANNEL_PREFIX + "*";
+    private static final Duration RETRY_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RETRY_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisCacheMonitor monitor;
+
+    // 채널 이름 -> 로컬 hot flux (this로 등록/해제 보호, 조회는 패턴 구독 스레드에서 잠금 없이)
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private int subscriberCount = 0;
+    private Disposable patternSubscription;
+
+    public MarketDataSubscriptionHub(
+            ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+            ObjectMapper objectMapper,
+            RedisCacheMonitor monitor) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.monitor = monitor;
+    }
+
+    /**
+     * 채널 구독 (구독 시점에 참조 카운트 증가, 취소/종료 시 감소)
+     * @param channelName market-data:exchange:pair
+     */
+    public Flux<StandardExchangeData> subscribe(String channelName) {
+        return Flux.defer(() -> {
+            Channel channel = acquire(channelName);
+            return channel.sink.asFlux()
+                .doFinally(signal -> release(channelName, channel));
+        });
+    }
+
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    public synchronized int getSubscriberCount() {
+        return subscriberCount;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        stopPatternSubscription();
+        channels.values().forEach(channel -> channel.sink.tryEmitComplete());
+        channels.clear();
+        subscriberCount = 0;
+    }
+
+    private synchronized Channel acquire(String channelName) {
+        Channel channel = channels.computeIfAbsent(channelName, name -> {
+            log.info("Local market data channel opened: {}", name);
+            return new Channel();
+        });
+        channel.refs++;
+        subscriberCount++;
+        if (patternSubscription == null) {
+            startPatternSubscription();
+        }
+        publishCounts();
+        return channel;
+    }
+
+    private synchronized void release(String channelName, Channel channel) {
+        subscriberCount--;
+        if (--channel.refs == 0 && channels.remove(channelName, channel)) {
+            log.info("Local market data channel closed: {}", channelName);
+        }
+        if (channels.isEmpty()) {
+            stopPatternSubscription();
+        }
+        publishCounts();
+    }
+
+    private void startPatternSubscription() {
+        log.info("Subscribing to market data pattern: {}", CHANNEL_PATTERN);
+        patternSubscription = reactiveRedisTemplate.listenToPattern(CHANNEL_PATTERN)
+            .doOnError(e -> log.warn("Market data pattern subscription failed, retrying: {}", e.getMessage()))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, RETRY_MIN_BACKOFF).maxBackoff(RETRY_MAX_BACKOFF))
+            .subscribe(this::dispatch);
+    }
+
+    private void stopPatternSubscription() {
+        if (patternSubscription != null) {
+            patternSubscription.dispose();
+            patternSubscription = null;
+            log.info("Unsubscribed from market data pattern: {}", CHANNEL_PATTERN);
+        }
+    }
+
+    /**
+     * 패턴 구독 스레드에서 메시지마다 호출 (채널별 한 번 파싱 후 로컬 구독자 전체에 전달)
+     */
+    private void dispatch(ReactiveSubscription.Message<String, String> message) {
+        Channel channel = channels.get(message.getChannel());
+        if (channel == null) {
+            return;
+        }
+        StandardExchangeData data;
+        try {
+            data = objectMapper.readValue(message.getMessage(), StandardExchangeData.class);
+        } catch (Exception e) {
+            log.error("Failed to parse message from channel {}: {}", message.getChannel(), e.getMessage());
+            monitor.incrementCacheError();
+            return;
+        }
+        channel.sink.tryEmitNext(data);
+        monitor.recordPubSubDispatch(channel.refs);
+    }
+
+    private void publishCounts() {
+        monitor.setPubSubSubscriptions(channels.size(), subscriberCount);
+    }
+
+    private static final class Channel {
+        final Sinks.Many<StandardExchangeData> sink = Sinks.many().multicast().directBestEffort();
+        volatile int refs = 0;  // hub 잠금 안에서만 변경
+    }
+}
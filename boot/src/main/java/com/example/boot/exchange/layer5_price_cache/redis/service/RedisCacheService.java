@@ -1,23 +1,26 @@
 package com.example.boot.exchange.layer5_price_cache.redis.service;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import org.springframework.data.redis.connection.ReactiveSubscription;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.example.boot.common.logging.ScheduledLogger;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 import com.example.boot.exchange.layer5_price_cache.redis.monitor.RedisCacheMonitor;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleResolution;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -28,113 +31,72 @@ import reactor.core.publisher.Flux;
 @Service
 @RequiredArgsConstructor
 public class RedisCacheService {
-    private static final Duration ANALYSIS_TTL = Duration.ofMinutes(30);  // 30분 분석 윈도우
-    private static final String ANALYSIS_KEY_PREFIX = "analysis:";
-    private static final String MARKET_DATA_CHANNEL_PREFIX = "market-data:";
-    private static final int MAX_WINDOW_SIZE = 1000;  // 최대 데이터 포인트
+    static final Duration ANALYSIS_TTL = Duration.ofMinutes(30);  // 30분 분석 윈도우
+    private static final String ANALYSIS_KEY_PREFIX = TradingPair.ANALYSIS_KEY_PREFIX;
+    private static final String MARKET_DATA_CHANNEL_PREFIX = TradingPair.MARKET_DATA_CHANNEL_PREFIX;
+    static final int MAX_WINDOW_SIZE = 1000;  // 최대 데이터 포인트
+    // 캔들 미러 키 (candles:exchange:pair:1m), 분석 캐시 키 집계와 분리
+    private static final String CANDLE_KEY_PREFIX = "candles:";
+    // 캔들 구간 교체 (제거/추가/잘라내기/만료를 원자적으로, 노드 간 교차 실행으로 같은 시각의 봉이 둘 남지 않게)
+    // KEYS[1]: 캔들 키, ARGV: 첫 봉 시각, 마지막 봉 시각, 보관 봉 수, 만료(ms), (시각, 봉) 쌍...
+    private static final RedisScript<Long> REPLACE_CANDLES_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2]) "
+            + "for i = 5, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+            + "return 1",
+        Long.class);
     
     private final StringRedisTemplate redisTemplate;
-    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
     private final ObjectMapper objectMapper;
     private final RedisCacheMonitor monitor;
     private final ScheduledLogger scheduledLogger;
-    
-    // 활성 구독 관리
-    private final Map<String, ReactiveSubscription> activeSubscriptions = new ConcurrentHashMap<>();
+    private final AnalysisKeyIndex keyIndex;
+    private final RedisWriteBehindBuffer writeBehindBuffer;
+    private final MarketDataSubscriptionHub subscriptionHub;
 
+    /**
+     * 틱 캐싱 (write-behind)
+     * Redis 쓰기는 RedisWriteBehindBuffer가 exchange:pair 단위로 모아 파이프라인으로 처리합니다.
+     */
     public void cachePrice(StandardExchangeData data) {
         try {
-            String baseKey = generateBaseKey(data.getExchange(), data.getCurrencyPair().toString());
-            String timeSeriesKey = baseKey + ":timeseries";
-            
-            // 채널 이름 형식 통일 (exchange:currencyPair)
-            String channelName = MARKET_DATA_CHANNEL_PREFIX + data.getExchange().toLowerCase() + ":" + data.getCurrencyPair().toString();
-            
-            String dataJson = objectMapper.writeValueAsString(data);
-            
-            // Redis에 데이터 저장
-            redisTemplate.opsForList().rightPush(timeSeriesKey, dataJson);
-            redisTemplate.opsForList().trim(timeSeriesKey, -MAX_WINDOW_SIZE, -1);
-            redisTemplate.expire(timeSeriesKey, ANALYSIS_TTL);
-            redisTemplate.opsForValue().set(baseKey + ":latest", dataJson, ANALYSIS_TTL);
-            
-            // 실시간 데이터 발행
-            log.debug("Publishing to Redis channel: {}", channelName);
-            redisTemplate.convertAndSend(channelName, dataJson);
-            log.debug("Published data to Redis channel: {}", channelName);
-            
-            updateStatistics(baseKey, data);
+            enqueue(data);
             
             scheduledLogger.scheduleLog(log, "Redis cache update - Exchange: {}, Pair: {}, Price: {}", 
                 data.getExchange(), data.getCurrencyPair(), data.getPrice());
             
             monitor.incrementCacheOperation(true);
-            monitor.setTotalCachedItems(getCacheSize());
         } catch (Exception e) {
             log.error("Failed to cache price data: {}", e.getMessage(), e);
             monitor.incrementCacheError();
         }
     }
 
+    /**
+     * 채널 구독 (노드 공유 패턴 구독에서 로컬로 나눠 받음, 카드 수와 관계없이 Redis 구독은 하나)
+     */
     public Flux<StandardExchangeData> subscribeToMarketData(String exchange, String currencyPair) {
         String channelName = MARKET_DATA_CHANNEL_PREFIX + exchange.toLowerCase() + ":" + currencyPair;
         log.info("Subscribing to market data channel: {}", channelName);
         
-        return reactiveRedisTemplate.listenToChannel(channelName)
-            .doOnSubscribe(subscription -> log.info("Subscribed to channel: {}", channelName))
-            .doOnNext(message -> log.debug("Received message from channel {}: {}", channelName, message.getMessage()))
-            .doOnError(error -> log.error("Error in subscription for channel {}: {}", channelName, error.getMessage()))
-            .doOnCancel(() -> log.info("Cancelled subscription to channel: {}", channelName))
-            .map(message -> {
-                try {
-                    StandardExchangeData data = objectMapper.readValue(message.getMessage(), StandardExchangeData.class);
-                    log.debug("Parsed message from channel {}: {}", channelName, data);
-                    return data;
-                } catch (Exception e) {
-                    log.error("Failed to parse message from channel {}: {}", channelName, e.getMessage());
-                    return null;
-                }
-            })
-            .filter(data -> data != null);
+        return subscriptionHub.subscribe(channelName)
+            .doOnCancel(() -> log.info("Cancelled subscription to channel: {}", channelName));
     }
 
     public void unsubscribeFromMarketData(String exchange, String currencyPair) {
         String channelName = MARKET_DATA_CHANNEL_PREFIX + exchange + ":" + currencyPair;
         log.info("Unsubscribing from market data channel: {}", channelName);
         // 구독 취소는 클라이언트 측에서 Flux.dispose()를 호출하여 처리됩니다.
-        // 여기서는 로깅만 수행합니다.
-    }
-
-    private void updateStatistics(String baseKey, StandardExchangeData data) {
-        try {
-            String statsKey = baseKey + ":stats";
-            Map<String, String> stats = new HashMap<>();
-            
-            // 기본 통계 업데이트
-            stats.put("lastPrice", data.getPrice().toString());
-            stats.put("lastUpdate", data.getTimestamp().toString());
-            stats.put("exchange", data.getExchange());
-            stats.put("pair", data.getCurrencyPair().toString());
-            
-            redisTemplate.opsForHash().putAll(statsKey, stats);
-            redisTemplate.expire(statsKey, ANALYSIS_TTL);
-        } catch (Exception e) {
-            log.error("Failed to update statistics: {}", e.getMessage());
-        }
+        // (마지막 구독자가 취소하면 MarketDataSubscriptionHub가 로컬 채널을 닫음) 여기서는 로깅만 수행합니다.
     }
 
     public List<StandardExchangeData> getAnalysisWindow(String exchange, String currencyPair) {
         String timeSeriesKey = generateBaseKey(exchange, currencyPair) + ":timeseries";
         
-        // Redis에 저장된 모든 키 출력
-        Set<String> allKeys = redisTemplate.keys("analysis:*");
-        log.info("=== Redis Cache Debug ===");
-        log.info("All Redis keys: {}", allKeys);
-        log.info("Looking for key: {}", timeSeriesKey);
-        
         try {
             List<String> dataList = redisTemplate.opsForList().range(timeSeriesKey, 0, -1);
-            log.info("Found data count: {}", dataList != null ? dataList.size() : 0);
+            log.debug("Found data count for {}: {}", timeSeriesKey, dataList != null ? dataList.size() : 0);
             
             if (dataList == null || dataList.isEmpty()) {
                 log.warn("No data found for key: {}", timeSeriesKey);
@@ -158,47 +120,110 @@ public class RedisCacheService {
         }
     }
 
-    private String generateBaseKey(String exchange, String currencyPair) {
-        return ANALYSIS_KEY_PREFIX + exchange.toLowerCase() + ":" + currencyPair;
+    /**
+     * 완성된 캔들 미러 (파이프라인 한 번)
+     * 해상도별 sorted set에 봉 시작 시각을 score로 저장하고, 같은 시각의 봉은 먼저 지운 뒤 넣어
+     * 모든 노드가 같은 봉을 미러해도 시각당 하나만 남습니다 (마지막에 쓴 값 유지).
+     * 키마다 교체를 Lua 스크립트 하나로 실행하므로 다른 노드의 교체와 섞이지 않습니다.
+     * 보관 봉 수를 넘는 오래된 봉은 잘라내고, 보관 기간이 지나면 만료됩니다.
+     */
+    public void mirrorCandles(List<CandleBatch> batches) {
+        if (batches.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (CandleBatch batch : batches) {
+                        CandleResolution resolution = batch.resolution();
+                        List<CandleBar> bars = batch.bars();
+                        // 봉은 시작 시각 순으로 연속이므로 구간 하나로 기존 봉 제거
+                        Object[] args = new Object[4 + bars.size() * 2];
+                        args[0] = String.valueOf(bars.get(0).openTime());
+                        args[1] = String.valueOf(bars.get(bars.size() - 1).openTime());
+                        args[2] = String.valueOf(resolution.windowSize());
+                        args[3] = String.valueOf(resolution.millis() * resolution.windowSize());
+                        for (int i = 0; i < bars.size(); i++) {
+                            args[4 + i * 2] = String.valueOf(bars.get(i).openTime());
+                            args[5 + i * 2] = bars.get(i).value();
+                        }
+                        ops.execute(REPLACE_CANDLES_SCRIPT,
+                            List.of(generateCandleKey(batch.exchange(), batch.currencyPair(), resolution)), args);
+                    }
+                    return null;
+                }
+            });
+            monitor.incrementCacheOperation(true);
+        } catch (Exception e) {
+            log.error("Failed to mirror candles for {} series: {}", batches.size(), e.getMessage());
+            monitor.incrementCacheError();
+        }
     }
 
-    public long getCacheSize() {
+    /**
+     * 미러된 완성 캔들 (오래된 것 → 최신, 인코딩은 CandleAggregator 형식)
+     */
+    public List<String> getCandles(String exchange, String currencyPair, CandleResolution resolution) {
         try {
-            return redisTemplate.keys(ANALYSIS_KEY_PREFIX + "*").size();
+            Set<String> bars = redisTemplate.opsForZSet().range(
+                generateCandleKey(exchange, currencyPair, resolution), 0, -1);
+            return bars != null ? new ArrayList<>(bars) : Collections.emptyList();
         } catch (Exception e) {
-            log.error("Failed to get cache size: {}", e.getMessage());
-            return 0;
+            log.error("Failed to get {} candles for {}:{}: {}", resolution.key(), exchange, currencyPair, e.getMessage());
+            return Collections.emptyList();
         }
     }
 
-    public void cacheExchangeData(StandardExchangeData data) {
-        log.info("Caching exchange data: {}", data);
-        String baseKey = generateBaseKey(data.getExchange(), data.getCurrencyPair().toString());
-        
+    /**
+     * 시계열 하나의 해상도 하나에 새로 완성된 봉 묶음 (시작 시각 순, 비어 있지 않음)
+     */
+    public record CandleBatch(String exchange, String currencyPair, CandleResolution resolution, List<CandleBar> bars) {
+    }
+
+    /**
+     * 미러할 봉 하나 (value는 CandleAggregator 인코딩)
+     */
+    public record CandleBar(long openTime, String value) {
+    }
+
+    /**
+     * write-behind 큐에 추가 (컨버터에서 만든 틱은 레지스트리에 미리 계산된 키 사용)
+     */
+    private void enqueue(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        if (pair != null) {
+            writeBehindBuffer.enqueue(pair.redisBaseKey(), pair.channelName(), data);
+            return;
+        }
+        String currencyPair = data.getCurrencyPair().toString();
         // 채널 이름 형식 통일 (exchange:currencyPair)
-        String channelName = MARKET_DATA_CHANNEL_PREFIX + data.getExchange().toLowerCase() + ":" + data.getCurrencyPair().toString();
-        
+        writeBehindBuffer.enqueue(generateBaseKey(data.getExchange(), currencyPair),
+            MARKET_DATA_CHANNEL_PREFIX + data.getExchange().toLowerCase() + ":" + currencyPair, data);
+    }
+
+    private String generateBaseKey(String exchange, String currencyPair) {
+        return ANALYSIS_KEY_PREFIX + exchange.toLowerCase() + ":" + currencyPair;
+    }
+
+    private String generateCandleKey(String exchange, String currencyPair, CandleResolution resolution) {
+        return CANDLE_KEY_PREFIX + exchange.toLowerCase() + ":" + currencyPair + ":" + resolution.key();
+    }
+
+    /**
+     * 분석 캐시 키 수 (백그라운드 SCAN 집계값, Redis 호출 없음)
+     */
+    public long getCacheSize() {
+        return keyIndex.getKeyCount();
+    }
+
+    public void cacheExchangeData(StandardExchangeData data) {
+        log.debug("Caching exchange data: {}", data);
         try {
-            // 시계열 데이터 저장
-            String timeSeriesKey = baseKey + ":timeseries";
-            String dataJson = objectMapper.writeValueAsString(data);
-            
-            // 리스트의 오른쪽에 추가하고 왼쪽의 오래된 데이터는 제거
-            redisTemplate.opsForList().rightPush(timeSeriesKey, dataJson);
-            redisTemplate.opsForList().trim(timeSeriesKey, -MAX_WINDOW_SIZE, -1);
-            redisTemplate.expire(timeSeriesKey, ANALYSIS_TTL);
-            
-            // 최신 가격 업데이트
-            redisTemplate.opsForValue().set(baseKey + ":latest", dataJson, ANALYSIS_TTL);
-            
-            // 실시간 데이터 발행
-            redisTemplate.convertAndSend(channelName, dataJson);
-            
-            // 통계 업데이트
-            updateStatistics(baseKey, data);
-            
+            enqueue(data);
             monitor.incrementCacheOperation(true);
-            monitor.setTotalCachedItems(getCacheSize());
         } catch (Exception e) {
             log.error("Failed to cache analysis data: {}", e.getMessage());
             monitor.incrementCacheError();
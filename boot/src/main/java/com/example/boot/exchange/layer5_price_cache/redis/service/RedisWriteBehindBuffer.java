@@ -0,0 +1,220 @@
+package com.example.boot.exchange.layer5_price_cache.redis.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.monitor.RedisCacheMonitor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 쓰기 지연(write-behind) 버퍼
+ * 틱을 exchange:pair 단위로 모아 두었다가 짧은 주기(또는 대기 건수 초과 시)마다
+ * 하나의 파이프라인으로 flush 합니다. Kafka 리스너 스레드는 큐에 넣기만 하고 즉시 반환합니다.
+ *
+ * flush 시 키별 명령: RPUSH(일괄) / LTRIM / EXPIRE / SET latest / PUBLISH(최신 1건) / HSET stats / EXPIRE stats
+ */
+@Slf4j
+@Component
+public class RedisWriteBehindBuffer {
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisCacheMonitor monitor;
+    private final long flushIntervalMillis;
+    private final int maxPending;
+
+    // baseKey -> 대기 중인 배치
+    private final Map<String, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingTicks = new AtomicInteger(0);
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher;
+
+    public RedisWriteBehindBuffer(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RedisCacheMonitor monitor,
+            @Value("${cache.write-behind.flush-interval:100}") long flushIntervalMillis,
+            @Value("${cache.write-behind.max-pending:500}") int maxPending) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.monitor = monitor;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPending = maxPending;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "redis-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Redis write-behind buffer started (flush interval: {}ms, max pending: {})",
+            flushIntervalMillis, maxPending);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 데이터 마지막 flush
+        flush();
+    }
+
+    /**
+     * 틱을 버퍼에 추가 (논블로킹)
+     */
+    public void enqueue(String baseKey, String channelName, StandardExchangeData data) {
+        pending.compute(baseKey, (key, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch(channelName);
+            }
+            batch.add(data);
+            return batch;
+        });
+
+        int depth = pendingTicks.incrementAndGet();
+        monitor.setWriteBehindQueueDepth(depth);
+
+        // 대기 건수가 임계치를 넘으면 주기를 기다리지 않고 flush 요청
+        if (depth >= maxPending && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingTicks.get();
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키별로 배치를 원자적으로 분리 (분리 이후 들어온 틱은 새 배치로 쌓임)
+        Map<String, PendingBatch> drained = new HashMap<>();
+        for (String baseKey : new ArrayList<>(pending.keySet())) {
+            PendingBatch batch = pending.remove(baseKey);
+            if (batch != null) {
+                drained.put(baseKey, batch);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        int ticks = 0;
+        for (PendingBatch batch : drained.values()) {
+            ticks += batch.received;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Map<String, PreparedBatch> prepared = prepare(drained);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    writeBatches((RedisOperations<String, String>) operations, prepared);
+                    return null;
+                }
+            });
+            monitor.recordWriteBehindFlush(ticks, drained.size(), System.nanoTime() - start);
+        } catch (Exception e) {
+            log.error("Failed to flush {} ticks for {} keys to Redis: {}", ticks, drained.size(), e.getMessage());
+            monitor.incrementCacheError();
+        } finally {
+            int depth = pendingTicks.addAndGet(-ticks);
+            monitor.setWriteBehindQueueDepth(depth);
+        }
+    }
+
+    private Map<String, PreparedBatch> prepare(Map<String, PendingBatch> drained) throws Exception {
+        Map<String, PreparedBatch> prepared = new HashMap<>(drained.size());
+        for (Map.Entry<String, PendingBatch> entry : drained.entrySet()) {
+            PendingBatch batch = entry.getValue();
+            List<String> jsonList = new ArrayList<>(batch.ticks.size());
+            for (StandardExchangeData data : batch.ticks) {
+                jsonList.add(objectMapper.writeValueAsString(data));
+            }
+            prepared.put(entry.getKey(), new PreparedBatch(batch.channelName, jsonList, batch.ticks.peekLast()));
+        }
+        return prepared;
+    }
+
+    private void writeBatches(RedisOperations<String, String> ops, Map<String, PreparedBatch> prepared) {
+        prepared.forEach((baseKey, batch) -> {
+            String timeSeriesKey = baseKey + ":timeseries";
+            String statsKey = baseKey + ":stats";
+            String latestJson = batch.jsonList().get(batch.jsonList().size() - 1);
+            StandardExchangeData latest = batch.latest();
+
+            ops.opsForList().rightPushAll(timeSeriesKey, batch.jsonList());
+            ops.opsForList().trim(timeSeriesKey, -RedisCacheService.MAX_WINDOW_SIZE, -1);
+            ops.expire(timeSeriesKey, RedisCacheService.ANALYSIS_TTL);
+            ops.opsForValue().set(baseKey + ":latest", latestJson, RedisCacheService.ANALYSIS_TTL);
+
+            // 실시간 데이터 발행 (배치 내 최신 1건)
+            ops.convertAndSend(batch.channelName(), latestJson);
+
+            Map<String, String> stats = new HashMap<>();
+            stats.put("lastPrice", latest.getPrice().toString());
+            stats.put("lastUpdate", latest.getTimestamp().toString());
+            stats.put("exchange", latest.getExchange());
+            stats.put("pair", latest.getCurrencyPair().toString());
+            ops.opsForHash().putAll(statsKey, stats);
+            ops.expire(statsKey, RedisCacheService.ANALYSIS_TTL);
+        });
+    }
+
+    /**
+     * 키별 대기 배치 (ConcurrentHashMap.compute 내부에서만 변경됨)
+     * 타임시리즈는 MAX_WINDOW_SIZE로 잘리므로 그 이상은 보관하지 않음
+     */
+    private static final class PendingBatch {
+        final String channelName;
+        final ArrayDeque<StandardExchangeData> ticks = new ArrayDeque<>();
+        int received;
+
+        PendingBatch(String channelName) {
+            this.channelName = channelName;
+        }
+
+        void add(StandardExchangeData data) {
+            if (ticks.size() >= RedisCacheService.MAX_WINDOW_SIZE) {
+                ticks.pollFirst();
+            }
+            ticks.addLast(data);
+            received++;
+        }
+    }
+
+    private record PreparedBatch(String channelName, List<String> jsonList, StandardExchangeData latest) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.model;
+
+/**
+ * 캔들 해상도 (봉 길이와 보관 봉 수)
+ * 봉 경계는 UTC 기준 epoch millis를 봉 길이로 나눈 구간입니다 (1d는 UTC 자정).
+ */
+public enum CandleResolution {
+    S1("1s", 1_000L, 1000),         // 약 16분
+    M1("1m", 60_000L, 720),         // 12시간
+    M5("5m", 300_000L, 576),        // 2일
+    M15("15m", 900_000L, 384),      // 4일
+    H1("1h", 3_600_000L, 336),      // 14일
+    D1("1d", 86_400_000L, 365);     // 1년
+
+    private final String key;
+    private final long millis;
+    private final int windowSize;
+
+    CandleResolution(String key, long millis, int windowSize) {
+        this.key = key;
+        this.millis = millis;
+        this.windowSize = windowSize;
+    }
+
+    /** Redis 키/설정에서 쓰는 이름 (1s, 1m, ...) */
+    public String key() {
+        return key;
+    }
+
+    public long millis() {
+        return millis;
+    }
+
+    public int seconds() {
+        return (int) (millis / 1000);
+    }
+
+    /** 보관(분석 윈도우) 봉 수 */
+    public int windowSize() {
+        return windowSize;
+    }
+
+    /** 타임스탬프가 속한 봉의 시작 시각 */
+    public long bucketStart(long timestamp) {
+        return Math.floorDiv(timestamp, millis) * millis;
+    }
+
+    /**
+     * @return 이름에 맞는 해상도, 없으면 null
+     */
+    public static CandleResolution fromKey(String key) {
+        for (CandleResolution resolution : values()) {
+            if (resolution.key.equalsIgnoreCase(key)) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.model;
+
+import java.util.Objects;
+
+/**
+ * exchange:pair 단위 다중 해상도 OHLCV 캔들 (해상도별 원시 배열 링 버퍼)
+ *
+ * 틱은 모든 해상도의 진행 중인 봉에 반영되고, 봉은 시간 경계에서 완성(seal)됩니다.
+ * - 다음 구간의 틱이 들어오면 진행 중인 봉을 완성
+ * - sealUpTo()가 호출되면 경계(+유예 시간)를 지난 진행 중인 봉을 완성
+ * - 틱 없이 지나간 구간은 다음 틱이 들어올 때 직전 종가의 보합 봉(거래량 0)으로 채움 (최대 윈도우 크기)
+ * - 이미 완성된 구간의 늦은 틱은 해당 해상도에서 버림
+ *
+ * 쓰기(append/sealUpTo/restore)는 인스턴스 단위로 직렬화되고, 완성된 봉은 volatile 봉 수를 증가시켜 공개합니다.
+ * 읽기는 PriceTimeSeries와 같이 락 없이 view()로 얻은 구간을 배열에서 직접 읽습니다.
+ * 링 용량을 윈도우의 2배로 잡고 한 번에 채우는 빈 구간을 윈도우 크기로 제한해, 뷰를 읽는 동안 덮어써지지 않게 합니다.
+ */
+public class CandleSeries {
+    // 경계 직후 도착하는 이전 구간 틱을 받기 위한 유예 시간
+    public static final long SEAL_GRACE_MILLIS = 250L;
+
+    private static final CandleResolution[] RESOLUTIONS = CandleResolution.values();
+
+    private final Ring[] rings = new Ring[RESOLUTIONS.length];
+    private long lateTicks = 0;
+
+    public CandleSeries() {
+        for (CandleResolution resolution : RESOLUTIONS) {
+            rings[resolution.ordinal()] = new Ring(resolution);
+        }
+    }
+
+    public synchronized void append(long timestamp, double price, double volume) {
+        for (Ring ring : rings) {
+            ring.add(timestamp, price, volume);
+        }
+    }
+
+    /**
+     * 경계를 지난 진행 중인 봉 완성
+     * @return 완성한 봉 수 (전체 해상도)
+     */
+    public synchronized int sealUpTo(long now) {
+        int sealed = 0;
+        for (Ring ring : rings) {
+            if (ring.open && now >= ring.openTime + ring.resolution.millis() + SEAL_GRACE_MILLIS) {
+                ring.seal();
+                sealed++;
+            }
+        }
+        return sealed;
+    }
+
+    /**
+     * 저장된 완성 봉 복원 (시계열 생성 직후, 마지막 봉보다 이후 봉만)
+     */
+    public synchronized void restore(CandleResolution resolution, long openTime,
+            double open, double high, double low, double close, double volume) {
+        Ring ring = rings[resolution.ordinal()];
+        if (ring.open || (ring.count > 0 && openTime <= ring.lastOpenTime())) {
+            return;
+        }
+        ring.push(openTime, open, high, low, close, volume);
+    }
+
+    /**
+     * 최근 windowSize개 완성 봉에 대한 뷰
+     */
+    public CandleView view(CandleResolution resolution) {
+        return rings[resolution.ordinal()].view(0);
+    }
+
+    /**
+     * fromSequence 이후 완성 봉에 대한 뷰 (윈도우 밖으로 밀려난 봉은 제외)
+     */
+    public CandleView viewSince(CandleResolution resolution, long fromSequence) {
+        return rings[resolution.ordinal()].view(fromSequence);
+    }
+
+    /** 지금까지 완성된 총 봉 수 */
+    public long getSealedCount(CandleResolution resolution) {
+        return rings[resolution.ordinal()].count;
+    }
+
+    public synchronized long getLateTickCount() {
+        return lateTicks;
+    }
+
+    private final class Ring {
+        final CandleResolution resolution;
+        final int windowSize;
+        final int capacity;
+        final long[] openTimes;
+        final double[] opens;
+        final double[] highs;
+        final double[] lows;
+        final double[] closes;
+        final double[] volumes;
+
+        // 지금까지 완성된 총 봉 수 (쓰기 공개 지점)
+        volatile long count = 0;
+
+        // 진행 중인 봉
+        boolean open = false;
+        long openTime;
+        double barOpen;
+        double barHigh;
+        double barLow;
+        double barClose;
+        double barVolume;
+
+        Ring(CandleResolution resolution) {
+            this.resolution = resolution;
+            this.windowSize = resolution.windowSize();
+            this.capacity = windowSize * 2;
+            this.openTimes = new long[capacity];
+            this.opens = new double[capacity];
+            this.highs = new double[capacity];
+            this.lows = new double[capacity];
+            this.closes = new double[capacity];
+            this.volumes = new double[capacity];
+        }
+
+        void add(long timestamp, double price, double volume) {
+            long bucket = resolution.bucketStart(timestamp);
+            if (open && bucket != openTime) {
+                if (bucket < openTime) {
+                    lateTicks++;
+                    return;
+                }
+                seal();
+            }
+            if (!open) {
+                if (count > 0 && bucket <= lastOpenTime()) {
+                    lateTicks++;
+                    return;
+                }
+                fillGap(bucket);
+                open = true;
+                openTime = bucket;
+                barOpen = price;
+                barHigh = price;
+                barLow = price;
+                barClose = price;
+                barVolume = 0;
+            }
+            barHigh = Math.max(barHigh, price);
+            barLow = Math.min(barLow, price);
+            barClose = price;
+            barVolume += volume;
+        }
+
+        void seal() {
+            push(openTime, barOpen, barHigh, barLow, barClose, barVolume);
+            open = false;
+        }
+
+        /**
+         * 마지막 완성 봉과 bucket 사이의 빈 구간을 직전 종가 보합 봉으로 채움 (최근 windowSize개까지)
+         */
+        private void fillGap(long bucket) {
+            if (count == 0) {
+                return;
+            }
+            long step = resolution.millis();
+            long missing = (bucket - lastOpenTime()) / step - 1;
+            if (missing <= 0) {
+                return;
+            }
+            double close = closes[slot(count - 1)];
+            long from = bucket - Math.min(missing, windowSize) * step;
+            for (long time = from; time < bucket; time += step) {
+                push(time, close, close, close, close, 0);
+            }
+        }
+
+        void push(long time, double open, double high, double low, double close, double volume) {
+            long seq = count;
+            int index = slot(seq);
+            openTimes[index] = time;
+            opens[index] = open;
+            highs[index] = high;
+            lows[index] = low;
+            closes[index] = close;
+            volumes[index] = volume;
+            count = seq + 1;
+        }
+
+        long lastOpenTime() {
+            return openTimes[slot(count - 1)];
+        }
+
+        CandleView view(long fromSequence) {
+            long end = count;
+            long start = Math.max(fromSequence, end - Math.min(end, windowSize));
+            return new RingView(this, start, (int) Math.max(0, end - start));
+        }
+
+        int slot(long seq) {
+            return (int) (seq % capacity);
+        }
+    }
+
+    private static final class RingView implements CandleView {
+        private final Ring ring;
+        private final long start;
+        private final int size;
+
+        private RingView(Ring ring, long start, int size) {
+            this.ring = ring;
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public CandleResolution resolution() {
+            return ring.resolution;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public long startSequence() {
+            return start;
+        }
+
+        @Override
+        public long timestampAt(int index) {
+            return ring.openTimes[slot(index)];
+        }
+
+        @Override
+        public double openAt(int index) {
+            return ring.opens[slot(index)];
+        }
+
+        @Override
+        public double highAt(int index) {
+            return ring.highs[slot(index)];
+        }
+
+        @Override
+        public double lowAt(int index) {
+            return ring.lows[slot(index)];
+        }
+
+        @Override
+        public double closeAt(int index) {
+            return ring.closes[slot(index)];
+        }
+
+        @Override
+        public double volumeAt(int index) {
+            return ring.volumes[slot(index)];
+        }
+
+        private int slot(int index) {
+            Objects.checkIndex(index, size);
+            return ring.slot(start + index);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.model;
+
+/**
+ * 시간순(오래된 것 → 최신) 완성된 OHLCV 봉 읽기 전용 뷰
+ * TimeSeriesView로 읽으면 타임스탬프는 봉 시작 시각, 가격은 종가, 거래량은 봉 거래량입니다.
+ * startSequence()는 해당 해상도에서 완성된 봉의 누적 번호입니다.
+ */
+public interface CandleView extends TimeSeriesView {
+
+    CandleResolution resolution();
+
+    double openAt(int index);
+
+    double highAt(int index);
+
+    double lowAt(int index);
+
+    double closeAt(int index);
+
+    default long openTimeAt(int index) {
+        return timestampAt(index);
+    }
+
+    @Override
+    default double priceAt(int index) {
+        return closeAt(index);
+    }
+}
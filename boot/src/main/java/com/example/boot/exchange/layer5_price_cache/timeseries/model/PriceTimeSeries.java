@@ -0,0 +1,100 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.model;
+
+import java.util.Objects;
+
+/**
+ * exchange:pair 단위 고정 크기 링 버퍼 (타임스탬프/가격/거래량을 원시 배열로 보관)
+ *
+ * 쓰기는 append()에서만 일어나며, 배열에 값을 기록한 뒤 volatile count를 증가시켜 공개합니다.
+ * 읽기는 락 없이 view()로 얻은 구간을 배열에서 직접 읽습니다(복사 없음).
+ * 링 용량을 분석 윈도우의 2배 이상으로 잡아, 뷰를 읽는 동안 쓰기가 윈도우 크기만큼
+ * 더 진행되기 전에는 뷰 구간이 덮어써지지 않도록 합니다.
+ */
+public class PriceTimeSeries {
+    private final int windowSize;
+    private final int mask;
+    private final long[] timestamps;
+    private final double[] prices;
+    private final double[] volumes;
+
+    // 지금까지 추가된 총 틱 수 (쓰기 공개 지점)
+    private volatile long count = 0;
+
+    public PriceTimeSeries(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        }
+        this.windowSize = windowSize;
+        int capacity = Integer.highestOneBit(windowSize * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.prices = new double[capacity];
+        this.volumes = new double[capacity];
+    }
+
+    public synchronized void append(long timestamp, double price, double volume) {
+        long seq = count;
+        int index = (int) (seq & mask);
+        timestamps[index] = timestamp;
+        prices[index] = price;
+        volumes[index] = volume;
+        count = seq + 1;
+    }
+
+    /**
+     * 최근 windowSize개 틱에 대한 뷰
+     */
+    public TimeSeriesView view() {
+        long end = count;
+        int size = (int) Math.min(end, windowSize);
+        return new RingView(end - size, size);
+    }
+
+    public int size() {
+        return (int) Math.min(count, windowSize);
+    }
+
+    public long getTotalCount() {
+        return count;
+    }
+
+    private final class RingView implements TimeSeriesView {
+        private final long start;
+        private final int size;
+
+        private RingView(long start, int size) {
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public long startSequence() {
+            return start;
+        }
+
+        @Override
+        public long timestampAt(int index) {
+            return timestamps[slot(index)];
+        }
+
+        @Override
+        public double priceAt(int index) {
+            return prices[slot(index)];
+        }
+
+        @Override
+        public double volumeAt(int index) {
+            return volumes[slot(index)];
+        }
+
+        private int slot(int index) {
+            Objects.checkIndex(index, size);
+            return (int) ((start + index) & mask);
+        }
+    }
+}
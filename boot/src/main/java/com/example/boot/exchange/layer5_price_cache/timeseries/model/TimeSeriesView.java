@@ -0,0 +1,71 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.model;
+
+import java.util.List;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * 시간순(오래된 것 → 최신) 틱 시계열 읽기 전용 뷰
+ * 인덱스 0이 가장 오래된 데이터, size() - 1이 최신 데이터입니다.
+ */
+public interface TimeSeriesView {
+
+    int size();
+
+    long timestampAt(int index);
+
+    double priceAt(int index);
+
+    double volumeAt(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 인덱스 0 데이터의 시계열 시퀀스 번호 (시계열 생성 이후 누적 틱 기준)
+     * 증분 계산기가 이전 조회 이후 추가된 틱만 이어서 처리할 때 사용합니다.
+     */
+    default long startSequence() {
+        return 0L;
+    }
+
+    /**
+     * 기존 List 기반 히스토리를 뷰로 변환 (값을 한 번 복사)
+     */
+    static TimeSeriesView of(List<StandardExchangeData> history) {
+        int size = history.size();
+        long[] timestamps = new long[size];
+        double[] prices = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            StandardExchangeData data = history.get(i);
+            timestamps[i] = data.timestampMillis();
+            prices[i] = data.priceAsDouble();
+            volumes[i] = data.volumeAsDouble();
+        }
+        return new ArrayView(timestamps, prices, volumes);
+    }
+
+    record ArrayView(long[] timestamps, double[] prices, double[] volumes) implements TimeSeriesView {
+        @Override
+        public int size() {
+            return prices.length;
+        }
+
+        @Override
+        public long timestampAt(int index) {
+            return timestamps[index];
+        }
+
+        @Override
+        public double priceAt(int index) {
+            return prices[index];
+        }
+
+        @Override
+        public double volumeAt(int index) {
+            return volumes[index];
+        }
+    }
+}
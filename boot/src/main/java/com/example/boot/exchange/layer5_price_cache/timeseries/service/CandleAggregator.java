@@ -0,0 +1,236 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleResolution;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleSeries;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleView;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 다중 해상도 OHLCV 캔들 집계기
+ * 분배 스트림의 틱을 exchange:pair별 CandleSeries(1s, 1m, 5m, 15m, 1h, 1d)에 반영하고,
+ * 주기적으로 시간 경계를 지난 봉을 완성한 뒤 새로 완성된 봉만 Redis에 미러합니다.
+ * 모든 노드가 같은 스트림을 집계해 미러하므로, 미러는 봉 시작 시각 기준으로 덮어써 중복되지 않습니다.
+ * 시리즈가 처음 생성될 때 한 번 Redis 미러에서 완성 봉을 복원합니다. 복원(Redis 조회)은 틱을 넣는 스레드가 아니라
+ * boundedElastic 스케줄러에서 하며, 복원 중 도착한 틱은 모아 두었다가 복원한 봉 뒤에 순서대로 반영합니다.
+ * 봉 거래량은 틱별 체결량의 합입니다. Upbit는 체결량(tv)을 따로 주지만, Binance(v)/Bithumb(volume)의
+ * 거래량은 24시간 누적값(volume24h와 같음)이므로 거래쌍별 직전 누적값과의 차이로 체결량을 구합니다.
+ * 미러 봉 형식: "openTime,open,high,low,close,volume"
+ */
+@Slf4j
+@Service
+public class CandleAggregator {
+    private static final CandleResolution[] RESOLUTIONS = CandleResolution.values();
+    // 복원 중 모아 두는 틱 수 상한 (넘으면 버림)
+    private static final int MAX_PENDING_TICKS = 10_000;
+
+    private final RedisCacheService cacheService;
+    private final Scheduler restoreScheduler;
+
+    private final Map<String, Entry> seriesMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CandleAggregator(RedisCacheService cacheService) {
+        this(cacheService, Schedulers.boundedElastic());
+    }
+
+    CandleAggregator(RedisCacheService cacheService, Scheduler restoreScheduler) {
+        this.cacheService = cacheService;
+        this.restoreScheduler = restoreScheduler;
+    }
+
+    /**
+     * 틱 반영 (분배 스트림 경로에서 호출)
+     */
+    public void append(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        Entry entry = pair != null ? seriesMap.get(pair.topicKey()) : null;
+        if (entry == null) {
+            entry = getOrCreate(data.getExchange(), data.getCurrencyPair().toString());
+        }
+        long timestamp = data.timestampMillis();
+        entry.append(timestamp != 0 ? timestamp : System.currentTimeMillis(),
+            data.priceAsDouble(), entry.tradeVolume(data.volumeAsDouble(), data.volume24hAsDouble()));
+    }
+
+    /**
+     * 해상도별 최근 완성 봉 뷰 (시리즈가 없으면 생성하고 Redis 미러 복원을 시작, 복원 전에는 비어 있을 수 있음)
+     */
+    public CandleView getCandles(String exchange, String currencyPair, CandleResolution resolution) {
+        return getOrCreate(exchange, currencyPair).series.view(resolution);
+    }
+
+    public int getSeriesCount() {
+        return seriesMap.size();
+    }
+
+    /**
+     * 경계를 지난 봉 완성 및 새 완성 봉 미러 (틱이 없는 거래쌍도 봉이 제때 닫히도록 주기 실행)
+     */
+    @Scheduled(fixedRateString = "${cache.candles.seal-interval:500}")
+    public void sealAndMirror() {
+        long now = System.currentTimeMillis();
+        List<RedisCacheService.CandleBatch> batches = new ArrayList<>();
+        seriesMap.values().forEach(entry -> {
+            // 복원 중인 시리즈는 복원한 봉을 다시 미러하지 않도록 다음 주기에 처리
+            if (entry.isRestoring()) {
+                return;
+            }
+            entry.series.sealUpTo(now);
+            for (CandleResolution resolution : RESOLUTIONS) {
+                int index = resolution.ordinal();
+                CandleView sealed = entry.series.viewSince(resolution, entry.mirrored[index]);
+                if (sealed.isEmpty()) {
+                    continue;
+                }
+                List<RedisCacheService.CandleBar> bars = new ArrayList<>(sealed.size());
+                for (int i = 0; i < sealed.size(); i++) {
+                    bars.add(new RedisCacheService.CandleBar(sealed.openTimeAt(i), encode(sealed, i)));
+                }
+                entry.mirrored[index] = sealed.startSequence() + sealed.size();
+                batches.add(new RedisCacheService.CandleBatch(entry.exchange, entry.currencyPair, resolution, bars));
+            }
+        });
+        // Redis는 미러이므로 실패한 묶음은 다시 보내지 않음
+        cacheService.mirrorCandles(batches);
+    }
+
+    /**
+     * 시리즈 조회/생성 (Redis 조회는 맵 잠금 밖, 생성한 스레드만 복원을 예약)
+     */
+    private Entry getOrCreate(String exchange, String currencyPair) {
+        String key = TimeSeriesStore.seriesKey(exchange, currencyPair);
+        Entry entry = seriesMap.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        Entry created = new Entry(exchange.toLowerCase(), currencyPair);
+        entry = seriesMap.putIfAbsent(key, created);
+        if (entry != null) {
+            return entry;
+        }
+        restoreScheduler.schedule(() -> restore(created));
+        return created;
+    }
+
+    /**
+     * 재시작/신규 인스턴스의 경우 Redis 미러에 남아 있는 완성 봉으로 초기화 (복원한 봉은 다시 미러하지 않음)
+     * 실패해도 복원 중 모아 둔 틱은 반영합니다.
+     */
+    private void restore(Entry entry) {
+        int restored = 0;
+        try {
+            for (CandleResolution resolution : RESOLUTIONS) {
+                for (String bar : cacheService.getCandles(entry.exchange, entry.currencyPair, resolution)) {
+                    String[] fields = bar.split(",");
+                    if (fields.length != 6) {
+                        continue;
+                    }
+                    entry.series.restore(resolution, Long.parseLong(fields[0]),
+                        Double.parseDouble(fields[1]), Double.parseDouble(fields[2]), Double.parseDouble(fields[3]),
+                        Double.parseDouble(fields[4]), Double.parseDouble(fields[5]));
+                }
+                long count = entry.series.getSealedCount(resolution);
+                entry.mirrored[resolution.ordinal()] = count;
+                restored += count;
+            }
+            log.info("Candle series created for {}:{} (restored {} bars from Redis)",
+                entry.exchange, entry.currencyPair, restored);
+        } catch (Exception e) {
+            log.warn("Failed to restore candles for {}:{} from Redis: {}",
+                entry.exchange, entry.currencyPair, e.getMessage());
+        } finally {
+            int dropped = entry.finishRestore();
+            if (dropped > 0) {
+                log.warn("Dropped {} ticks for {}:{} while restoring candles", dropped, entry.exchange, entry.currencyPair);
+            }
+        }
+    }
+
+    private static String encode(CandleView bars, int index) {
+        return bars.openTimeAt(index) + "," + bars.openAt(index) + "," + bars.highAt(index) + ","
+            + bars.lowAt(index) + "," + bars.closeAt(index) + "," + bars.volumeAt(index);
+    }
+
+    private static final class Entry {
+        final String exchange;
+        final String currencyPair;
+        final CandleSeries series = new CandleSeries();
+        // 해상도별 Redis에 미러한 봉 수 (미러 스레드에서만 갱신)
+        final long[] mirrored = new long[RESOLUTIONS.length];
+        // 직전 틱의 24시간 누적 거래량 (없으면 NaN)
+        private double lastVolume24h = Double.NaN;
+        // 복원 중 도착한 틱 (복원이 끝나면 null, 변경은 this로 보호)
+        private volatile List<PendingTick> pending = new ArrayList<>();
+        private int droppedTicks = 0;
+
+        Entry(String exchange, String currencyPair) {
+            this.exchange = exchange;
+            this.currencyPair = currencyPair;
+        }
+
+        void append(long timestamp, double price, double volume) {
+            if (pending != null) {
+                synchronized (this) {
+                    if (pending != null) {
+                        if (pending.size() < MAX_PENDING_TICKS) {
+                            pending.add(new PendingTick(timestamp, price, volume));
+                        } else {
+                            droppedTicks++;
+                        }
+                        return;
+                    }
+                }
+            }
+            series.append(timestamp, price, volume);
+        }
+
+        boolean isRestoring() {
+            return pending != null;
+        }
+
+        /**
+         * 복원 완료 (모아 둔 틱 반영)
+         * @return 상한을 넘어 버린 틱 수
+         */
+        synchronized int finishRestore() {
+            for (PendingTick tick : pending) {
+                series.append(tick.timestamp(), tick.price(), tick.volume());
+            }
+            pending = null;
+            return droppedTicks;
+        }
+
+        /**
+         * 틱 하나의 체결량
+         * 거래량이 24시간 누적값과 다르면 체결 단위 거래량으로 보고 그대로 사용하고,
+         * 같으면 직전 누적값과의 차이를 사용합니다. 첫 틱과, 롤링 24시간 창에서 빠져나간 거래나
+         * 일 단위 초기화로 누적값이 줄어든 경우는 0으로 잘라냅니다 (롤링 누적값 기준이므로 근사치).
+         */
+        synchronized double tradeVolume(double volume, double volume24h) {
+            double previous = lastVolume24h;
+            lastVolume24h = volume24h;
+            if (volume != volume24h) {
+                return volume;
+            }
+            return Double.isNaN(previous) ? 0.0 : Math.max(0.0, volume24h - previous);
+        }
+    }
+
+    private record PendingTick(long timestamp, double price, double volume) {
+    }
+}
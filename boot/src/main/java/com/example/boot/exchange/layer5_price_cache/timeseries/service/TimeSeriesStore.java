@@ -0,0 +1,162 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.service;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.PriceTimeSeries;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 프로세스 내 가격 시계열 저장소
+ * 분배 스트림에서 들어온 틱을 exchange:pair별 링 버퍼에 바로 기록하고,
+ * 분석 레이어는 Redis 조회/역직렬화 없이 여기서 뷰를 읽습니다.
+ * Redis는 공유/영속 미러로 유지되며, 시계열이 처음 생성될 때 한 번만 Redis에서 채웁니다.
+ * 채우기(Redis 조회)는 틱을 넣는 스레드가 아니라 boundedElastic 스케줄러에서 하며,
+ * 그동안 도착한 틱은 최근 windowSize개까지 모아 두었다가 히스토리 뒤에 반영합니다.
+ */
+@Slf4j
+@Service
+public class TimeSeriesStore {
+    private final RedisCacheService cacheService;
+    private final int windowSize;
+    private final Scheduler hydrateScheduler;
+
+    private final Map<String, Entry> seriesMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TimeSeriesStore(
+            RedisCacheService cacheService,
+            @Value("${cache.local.window-size:1000}") int windowSize) {
+        this(cacheService, windowSize, Schedulers.boundedElastic());
+    }
+
+    TimeSeriesStore(RedisCacheService cacheService, int windowSize, Scheduler hydrateScheduler) {
+        this.cacheService = cacheService;
+        this.windowSize = windowSize;
+        this.hydrateScheduler = hydrateScheduler;
+    }
+
+    /**
+     * 틱 추가 (분배 스트림 경로에서 호출)
+     */
+    public void append(StandardExchangeData data) {
+        TradingPair pair = data.tradingPair();
+        Entry entry = pair != null ? seriesMap.get(pair.topicKey()) : null;
+        if (entry == null) {
+            entry = getOrCreate(data.getExchange(), data.getCurrencyPair().toString());
+        }
+        entry.append(timestampOf(data), data.priceAsDouble(), data.volumeAsDouble());
+    }
+
+    /**
+     * 분석용 윈도우 뷰 (최근 windowSize개, 새 시계열은 Redis에서 채우기 전에는 비어 있을 수 있음)
+     */
+    public TimeSeriesView getWindow(String exchange, String currencyPair) {
+        return getOrCreate(exchange, currencyPair).series.view();
+    }
+
+    public int getSeriesCount() {
+        return seriesMap.size();
+    }
+
+    /**
+     * 시계열 조회/생성 (Redis 조회는 맵 잠금 밖, 생성한 스레드만 채우기를 예약)
+     */
+    private Entry getOrCreate(String exchange, String currencyPair) {
+        String key = seriesKey(exchange, currencyPair);
+        Entry entry = seriesMap.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        Entry created = new Entry(new PriceTimeSeries(windowSize));
+        entry = seriesMap.putIfAbsent(key, created);
+        if (entry != null) {
+            return entry;
+        }
+        hydrateScheduler.schedule(() -> hydrate(created, exchange, currencyPair));
+        return created;
+    }
+
+    /**
+     * 재시작/신규 인스턴스의 경우 Redis 미러에 남아 있는 히스토리로 초기화
+     * 실패해도 채우는 중 모아 둔 틱은 반영합니다.
+     */
+    private void hydrate(Entry entry, String exchange, String currencyPair) {
+        try {
+            List<StandardExchangeData> history = cacheService.getAnalysisWindow(exchange, currencyPair);
+            int from = Math.max(0, history.size() - windowSize);
+            for (int i = from; i < history.size(); i++) {
+                StandardExchangeData data = history.get(i);
+                entry.series.append(timestampOf(data), data.priceAsDouble(), data.volumeAsDouble());
+            }
+            log.info("Local time series created for {}:{} (hydrated {} ticks from Redis)",
+                exchange.toLowerCase(), currencyPair, history.size() - from);
+        } catch (Exception e) {
+            log.warn("Failed to hydrate time series for {}:{} from Redis: {}",
+                exchange.toLowerCase(), currencyPair, e.getMessage());
+        } finally {
+            entry.finishHydrate();
+        }
+    }
+
+    private static long timestampOf(StandardExchangeData data) {
+        long timestamp = data.timestampMillis();
+        return timestamp != 0 ? timestamp : System.currentTimeMillis();
+    }
+
+    /**
+     * 시계열 키 (exchange:pair)
+     */
+    public static String seriesKey(String exchange, String currencyPair) {
+        return exchange.toLowerCase() + ":" + currencyPair;
+    }
+
+    private final class Entry {
+        final PriceTimeSeries series;
+        // 채우는 중 도착한 틱 (최근 windowSize개, 채우기가 끝나면 null, 변경은 this로 보호)
+        private volatile ArrayDeque<PendingTick> pending = new ArrayDeque<>();
+
+        Entry(PriceTimeSeries series) {
+            this.series = series;
+        }
+
+        void append(long timestamp, double price, double volume) {
+            if (pending != null) {
+                synchronized (this) {
+                    if (pending != null) {
+                        // 윈도우를 넘는 오래된 틱은 어차피 뷰에 보이지 않음
+                        if (pending.size() == windowSize) {
+                            pending.pollFirst();
+                        }
+                        pending.addLast(new PendingTick(timestamp, price, volume));
+                        return;
+                    }
+                }
+            }
+            series.append(timestamp, price, volume);
+        }
+
+        synchronized void finishHydrate() {
+            for (PendingTick tick : pending) {
+                series.append(tick.timestamp(), tick.price(), tick.volume());
+            }
+            pending = null;
+        }
+    }
+
+    private record PendingTick(long timestamp, double price, double volume) {
+    }
+}
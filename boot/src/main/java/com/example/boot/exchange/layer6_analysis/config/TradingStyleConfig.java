@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleResolution;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
 
 @Component
@@ -59,6 +60,7 @@ public class TradingStyleConfig {
         scalpingParams.put("bollingerPeriod", 10);
         scalpingParams.put("bollingerDeviation", 2.0);
         scalpingParams.put("volumePeriod", 5); // 5분
+        scalpingParams.put("candleResolution", CandleResolution.S1); // 1초봉 (장기 SMA 300개)
         styleParameters.put("scalping", scalpingParams);
         
         // 단타 (Day Trading) 파라미터
@@ -72,6 +74,7 @@ public class TradingStyleConfig {
         dayTradingParams.put("bollingerPeriod", 20);
         dayTradingParams.put("bollingerDeviation", 2.0);
         dayTradingParams.put("volumePeriod", 30); // 30분
+        dayTradingParams.put("candleResolution", CandleResolution.M1); // 1분봉 (장기 SMA 30개)
         styleParameters.put("dayTrading", dayTradingParams);
         
         // 스윙 (Swing Trading) 파라미터
@@ -85,6 +88,7 @@ public class TradingStyleConfig {
         swingParams.put("bollingerPeriod", 50);
         swingParams.put("bollingerDeviation", 2.5);
         swingParams.put("volumePeriod", 1440); // 24시간
+        swingParams.put("candleResolution", CandleResolution.M15); // 15분봉 (장기 SMA 96개)
         styleParameters.put("swing", swingParams);
     }
     
@@ -96,6 +100,13 @@ public class TradingStyleConfig {
         return styleParameters.getOrDefault(tradingStyle, styleParameters.get("dayTrading"));
     }
     
+    /**
+     * 트레이딩 스타일의 지표 계산 캔들 해상도
+     */
+    public CandleResolution getCandleResolution(String tradingStyle) {
+        return (CandleResolution) getParametersForStyle(tradingStyle).get("candleResolution");
+    }
+    
     public void applyStyleParameters(AnalysisRequest request) {
         String style = request.getTradingStyle();
         Map<String, Object> params = getParametersForStyle(style);
@@ -0,0 +1,210 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 분석 파이프라인 레지스트리
+ * (거래소, 거래쌍, 스타일 파라미터)가 같은 카드는 이미 실행 중인 분석 파이프라인에 구독자로 붙습니다.
+ * 파이프라인은 연결된 카드 수로 참조 카운트하며, 마지막 카드가 떠나면 중지합니다.
+ * 따라서 분석 비용은 카드 수가 아니라 서로 다른 파이프라인 수에 비례합니다.
+ * - 파이프라인: hot, 최신 결과 재생 (늦게 붙은 카드도 바로 최신 결과를 받음)
+ * - 카드 스트림: 카드가 떨어지면 그 카드의 구독자만 완료
+ */
+@Slf4j
+final class AnalysisPipelineRegistry {
+
+    /**
+     * 파이프라인 키 (분석 결과에 영향을 주는 요청 값, 스타일 파라미터 적용 후)
+     * 스타일 이름은 대소문자를 구분하지 않으므로 ("dayTrading" = "daytrading") 소문자로 정규화합니다.
+     */
+    record PipelineKey(
+        String exchange,
+        String currencyPair,
+        String tradingStyle,
+        int smaShortPeriod,
+        int smaMediumPeriod,
+        int smaLongPeriod,
+        int rsiPeriod,
+        int rsiOverbought,
+        int rsiOversold,
+        int bollingerPeriod,
+        double bollingerDeviation,
+        double priceDropThreshold,
+        double volumeIncreaseThreshold
+    ) {
+        static PipelineKey of(AnalysisRequest request, CurrencyPair currencyPair) {
+            return new PipelineKey(
+                request.getExchange().toLowerCase(),
+                currencyPair.toString(),
+                request.getTradingStyle() != null ? request.getTradingStyle().toLowerCase(Locale.ROOT) : null,
+                request.getSmaShortPeriod(),
+                request.getSmaMediumPeriod(),
+                request.getSmaLongPeriod(),
+                request.getRsiPeriod(),
+                request.getRsiOverbought(),
+                request.getRsiOversold(),
+                request.getBollingerPeriod(),
+                request.getBollingerDeviation(),
+                request.getPriceDropThreshold(),
+                request.getVolumeIncreaseThreshold());
+        }
+    }
+
+    // this로 보호
+    private final Map<PipelineKey, Pipeline> pipelines = new HashMap<>();
+    private final Map<String, Attachment> cards = new HashMap<>();
+
+    /**
+     * 카드를 파이프라인에 연결 (같은 카드가 이미 연결되어 있으면 먼저 분리)
+     * 파이프라인 생성과 연결(connect)은 잠금 밖에서 합니다. 잠금 안에서는 다시 확인해 등록만 하며,
+     * 동시에 같은 키를 만든 요청은 먼저 등록된 파이프라인에 붙고 자기가 만든 (구독 전) Flux는 버립니다.
+     * @param pipelineFactory 해당 키의 파이프라인이 없을 때만 호출 (cold Flux)
+     * @return 카드 스트림 (detach 시 완료)
+     */
+    Flux<AnalysisResponse> attach(String cardId, PipelineKey key, Supplier<Flux<AnalysisResponse>> pipelineFactory) {
+        detach(cardId);
+
+        Sinks.Empty<Void> detachSignal = Sinks.empty();
+        Pipeline pipeline;
+        synchronized (this) {
+            pipeline = attachLocked(cardId, key, detachSignal);
+        }
+        if (pipeline == null) {
+            Pipeline created = new Pipeline(key, pipelineFactory.get());
+            synchronized (this) {
+                pipeline = attachLocked(cardId, key, detachSignal);
+                if (pipeline == null) {
+                    pipeline = created;
+                    pipelines.put(key, pipeline);
+                    attachLocked(cardId, key, detachSignal);
+                    log.info("Started analysis pipeline {} ({} active)", key, pipelines.size());
+                }
+            }
+            if (pipeline == created) {
+                created.connect();
+            }
+        }
+        return pipeline.responses.takeUntilOther(detachSignal.asMono());
+    }
+
+    /**
+     * 실행 중인 파이프라인에 카드 등록 (없으면 null)
+     */
+    private Pipeline attachLocked(String cardId, PipelineKey key, Sinks.Empty<Void> detachSignal) {
+        Pipeline pipeline = pipelines.get(key);
+        if (pipeline == null) {
+            return null;
+        }
+        pipeline.cards++;
+        cards.put(cardId, new Attachment(key, pipeline, detachSignal));
+        log.info("Card {} attached to analysis pipeline {}-{} ({}), {} cards",
+            cardId, key.exchange(), key.currencyPair(), key.tradingStyle(), pipeline.cards);
+        return pipeline;
+    }
+
+    /**
+     * 카드 분리 (마지막 카드이면 파이프라인 중지)
+     * 카드 구독자 완료 콜백이 다시 detach를 호출할 수 있으므로 신호는 잠금 밖에서 보냅니다.
+     * @return 분리한 카드의 파이프라인 키, 연결되지 않은 카드이면 null
+     */
+    PipelineKey detach(String cardId) {
+        Attachment attachment;
+        Pipeline stopped = null;
+        synchronized (this) {
+            attachment = cards.remove(cardId);
+            if (attachment == null) {
+                return null;
+            }
+            // 스스로 끝나 제거된 뒤 같은 키로 다시 시작한 파이프라인은 건드리지 않음
+            Pipeline pipeline = attachment.pipeline();
+            if (--pipeline.cards == 0 && pipelines.remove(attachment.key(), pipeline)) {
+                stopped = pipeline;
+            }
+        }
+        attachment.detachSignal().tryEmitEmpty();
+        if (stopped != null) {
+            stopped.stop();
+            log.info("Stopped analysis pipeline {} (last card {} detached)", attachment.key(), cardId);
+        }
+        return attachment.key();
+    }
+
+    /**
+     * 같은 거래쌍에 실행 중인 파이프라인이 있는지 (스타일 무관)
+     */
+    synchronized boolean hasPipeline(String exchange, String currencyPair) {
+        for (PipelineKey key : pipelines.keySet()) {
+            if (key.exchange().equals(exchange) && key.currencyPair().equals(currencyPair)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized int getPipelineCount() {
+        return pipelines.size();
+    }
+
+    synchronized int getCardCount() {
+        return cards.size();
+    }
+
+    /**
+     * 파이프라인이 스스로 끝나면 (완료/오류) 레지스트리에서 제거해 다음 카드가 새로 시작하게 함
+     */
+    private synchronized void onPipelineTerminated(Pipeline pipeline) {
+        if (pipelines.remove(pipeline.key, pipeline)) {
+            log.info("Analysis pipeline {} terminated", pipeline.key);
+        }
+    }
+
+    private record Attachment(PipelineKey key, Pipeline pipeline, Sinks.Empty<Void> detachSignal) {
+    }
+
+    private final class Pipeline {
+        final PipelineKey key;
+        final Sinks.Empty<Void> stopSignal = Sinks.empty();
+        final ConnectableFlux<AnalysisResponse> responses;
+        volatile Disposable connection;
+        int cards = 0;  // 레지스트리 잠금으로 보호
+
+        Pipeline(PipelineKey key, Flux<AnalysisResponse> source) {
+            this.key = key;
+            this.responses = source
+                .takeUntilOther(stopSignal.asMono())
+                .doFinally(signal -> onPipelineTerminated(this))
+                .replay(1);
+        }
+
+        /**
+         * 등록 후 잠금 밖에서 호출 (그 사이 먼저 붙은 카드는 연결 시점부터 결과를 받음)
+         */
+        void connect() {
+            connection = responses.connect();
+        }
+
+        /**
+         * 연결 전에 중지되어도 stopSignal로 연결 즉시 종료됩니다.
+         */
+        void stop() {
+            stopSignal.tryEmitEmpty();
+            Disposable current = connection;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+}
@@ -55,7 +55,7 @@ public class AnalysisResponseConverter {
             .symbol(request.getSymbol())
             .quoteCurrency(request.getQuoteCurrency())
             .analysisTime(LocalDateTime.now())
-            .currentPrice(data.getPrice().doubleValue())
+            .currentPrice(data.priceAsDouble())
             .priceChangePercent(priceChangePercent)
             .volumeChangePercent(volumeChangePercent)
             .reboundProbability(reboundProbability)
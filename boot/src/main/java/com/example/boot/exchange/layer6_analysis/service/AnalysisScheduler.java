@@ -0,0 +1,386 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 중앙 분석 스케줄러
+ * 분석 파이프라인마다 타이머를 두지 않고, 스케줄러 스레드 하나가 틱마다 주기가 된 작업을 모아
+ * 크기가 고정된 워커 풀에서 실행합니다 (pub/sub 수신 스레드에서는 최신 틱 기록만 수행).
+ * - 마지막 분석 이후 새 틱이 없는 작업은 건너뜀
+ * - 이전 실행이 아직 끝나지 않은 작업은 이번 주기를 건너뜀 (작업당 동시 실행 하나)
+ * - 워커 큐가 밀리면 LOW 작업은 다음 틱으로 미루고(최대 한 주기), 큐가 가득 차면 HIGH 외 작업은 이번 주기를 버림
+ * 큐 대기 시간과 실행 시간을 집계해 주기적으로 기록합니다 (코어당 처리 가능한 파이프라인 수 산정용).
+ */
+@Slf4j
+@Component
+public class AnalysisScheduler {
+
+    /**
+     * 과부하 시 처리 우선순위
+     */
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    private final int workerThreads;
+    private final int maxQueue;
+    private final int delayThreshold;
+    private final long tickMillis;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService ticker;
+
+    private final Set<Job> jobs = ConcurrentHashMap.newKeySet();
+
+    // 지표 (주기마다 초기화)
+    private final AtomicLong runs = new AtomicLong(0);
+    private final AtomicLong skippedUnchanged = new AtomicLong(0);
+    private final AtomicLong skippedBusy = new AtomicLong(0);
+    private final AtomicLong delayed = new AtomicLong(0);
+    private final AtomicLong shed = new AtomicLong(0);
+    private final AtomicLong errors = new AtomicLong(0);
+    private final AtomicLong queueDelayNanosTotal = new AtomicLong(0);
+    private final AtomicLong queueDelayNanosMax = new AtomicLong(0);
+    private final AtomicLong execNanosTotal = new AtomicLong(0);
+    private final AtomicLong execNanosMax = new AtomicLong(0);
+    private volatile long lastReportNanos = System.nanoTime();
+
+    public AnalysisScheduler(
+            @Value("${analysis.scheduler.worker-threads:0}") int workerThreads,
+            @Value("${analysis.scheduler.max-queue:1000}") int maxQueue,
+            @Value("${analysis.scheduler.tick-interval:250}") long tickMillis) {
+        this.workerThreads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        this.maxQueue = maxQueue;
+        this.delayThreshold = Math.max(1, maxQueue / 2);
+        this.tickMillis = tickMillis;
+
+        AtomicInteger workerIndex = new AtomicInteger(0);
+        this.workers = new ThreadPoolExecutor(this.workerThreads, this.workerThreads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(maxQueue), r -> {
+                Thread thread = new Thread(r, "analysis-worker-" + workerIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "analysis-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Analysis scheduler started (workers: {}, max queue: {}, tick: {}ms)",
+            workerThreads, maxQueue, tickMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        workers.shutdownNow();
+        jobs.clear();
+    }
+
+    /**
+     * 분석 작업 등록 (첫 실행은 한 주기 뒤)
+     * @param analysis 최신 틱으로 분석 수행 (워커 스레드에서 호출)
+     * @param onResult 분석 결과 (null이 아닐 때만)
+     * @param onError 분석 실패 (작업은 해제됨)
+     * @param onComplete complete() 이후 남은 분석까지 끝나면 호출
+     */
+    public Job register(String name, Duration interval, Priority priority,
+            Function<StandardExchangeData, AnalysisResponse> analysis,
+            Consumer<AnalysisResponse> onResult, Consumer<Throwable> onError, Runnable onComplete) {
+        Job job = new Job(name, interval.toNanos(), priority, analysis, onResult, onError, onComplete);
+        jobs.add(job);
+        return job;
+    }
+
+    public int getJobCount() {
+        return jobs.size();
+    }
+
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    // 마지막 상태 기록 이후 누적 지표 (같은 패키지의 테스트에서 조회)
+    long getRunCount() {
+        return runs.get();
+    }
+
+    long getSkippedUnchangedCount() {
+        return skippedUnchanged.get();
+    }
+
+    long getSkippedBusyCount() {
+        return skippedBusy.get();
+    }
+
+    long getDelayedCount() {
+        return delayed.get();
+    }
+
+    long getShedCount() {
+        return shed.get();
+    }
+
+    private void tick() {
+        tick(System.nanoTime());
+    }
+
+    /**
+     * 주기가 된 작업 모아 실행 (스케줄러 스레드, 테스트에서는 시각을 지정해 직접 호출)
+     */
+    void tick(long now) {
+        try {
+            int queued = workers.getQueue().size();
+            boolean saturated = queued >= maxQueue;
+            boolean overloaded = queued >= delayThreshold;
+
+            for (Job job : jobs) {
+                if (now < job.nextDueNanos) {
+                    continue;
+                }
+                if (job.latest.get() == job.lastAnalyzed) {
+                    skippedUnchanged.incrementAndGet();
+                    job.advance(now);
+                    continue;
+                }
+                if (job.priority != Priority.HIGH && saturated) {
+                    shed.incrementAndGet();
+                    job.advance(now);
+                    continue;
+                }
+                if (job.priority == Priority.LOW && overloaded) {
+                    // 한 주기까지는 다음 틱으로 미루고, 그래도 밀려 있으면 이번 주기는 버림
+                    if (now - job.nextDueNanos < job.intervalNanos) {
+                        delayed.incrementAndGet();
+                    } else {
+                        shed.incrementAndGet();
+                        job.advance(now);
+                    }
+                    continue;
+                }
+                if (!job.running.compareAndSet(false, true)) {
+                    skippedBusy.incrementAndGet();
+                    job.advance(now);
+                    continue;
+                }
+                job.advance(now);
+                if (!submit(job)) {
+                    shed.incrementAndGet();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Analysis scheduler tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 워커 풀에 실행 요청 (호출자가 job.running을 잡은 상태)
+     * @return 큐가 가득 차 거부되면 false (running 해제)
+     */
+    private boolean submit(Job job) {
+        long enqueuedNanos = System.nanoTime();
+        try {
+            workers.execute(() -> run(job, enqueuedNanos));
+            return true;
+        } catch (RejectedExecutionException e) {
+            job.running.set(false);
+            return false;
+        }
+    }
+
+    private void run(Job job, long enqueuedNanos) {
+        long start = System.nanoTime();
+        try {
+            StandardExchangeData input = job.latest.get();
+            if (input != null && input != job.lastAnalyzed && !job.cancelled) {
+                job.lastAnalyzed = input;
+                AnalysisResponse response = job.analysis.apply(input);
+                runs.incrementAndGet();
+                record(queueDelayNanosTotal, queueDelayNanosMax, start - enqueuedNanos);
+                record(execNanosTotal, execNanosMax, System.nanoTime() - start);
+                if (response != null && !job.cancelled) {
+                    job.onResult.accept(response);
+                }
+            }
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            job.fail(e);
+        } finally {
+            job.running.set(false);
+        }
+        if (job.completing) {
+            finish(job);
+        }
+    }
+
+    /**
+     * 입력이 끝난 작업 마무리 (남은 틱이 있으면 한 번 더 분석한 뒤 완료)
+     * 실행 중이면 그 실행이 끝나면서 다시 호출합니다.
+     */
+    private void finish(Job job) {
+        if (job.cancelled || !job.running.compareAndSet(false, true)) {
+            return;
+        }
+        StandardExchangeData input = job.latest.get();
+        if (input != null && input != job.lastAnalyzed && submit(job)) {
+            return;
+        }
+        job.running.set(false);
+        if (job.completed.compareAndSet(false, true)) {
+            jobs.remove(job);
+            job.onComplete.run();
+        }
+    }
+
+    private static void record(AtomicLong total, AtomicLong max, long nanos) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    @Scheduled(fixedRate = 10000)
+    public void logStatus() {
+        long now = System.nanoTime();
+        long elapsedNanos = Math.max(1, now - lastReportNanos);
+        lastReportNanos = now;
+
+        long runCount = runs.getAndSet(0);
+        long queueTotal = queueDelayNanosTotal.getAndSet(0);
+        long queueMax = queueDelayNanosMax.getAndSet(0);
+        long execTotal = execNanosTotal.getAndSet(0);
+        long execMax = execNanosMax.getAndSet(0);
+        double avgQueueMs = runCount > 0 ? queueTotal / 1_000_000.0 / runCount : 0.0;
+        double avgExecMs = runCount > 0 ? execTotal / 1_000_000.0 / runCount : 0.0;
+        // 워커 사용률과, 같은 부하에서 코어 하나가 감당할 수 있는 파이프라인 수 추정
+        double utilization = (double) execTotal / elapsedNanos / workerThreads;
+        int jobCount = jobs.size();
+        String perCore = utilization > 0 ? String.format("%.0f", jobCount / (utilization * workerThreads)) : "n/a";
+
+        StringBuilder status = new StringBuilder("\n🧮 Analysis Scheduler Status\n");
+        status.append("├─ Pipelines: ").append(jobCount)
+              .append(", workers=").append(workerThreads)
+              .append(", queue=").append(workers.getQueue().size()).append("/").append(maxQueue).append("\n");
+        status.append("├─ Runs (Last 10s): +").append(runCount)
+              .append(", unchanged=+").append(skippedUnchanged.getAndSet(0))
+              .append(", busy=+").append(skippedBusy.getAndSet(0))
+              .append(", delayed=+").append(delayed.getAndSet(0))
+              .append(", shed=+").append(shed.getAndSet(0)).append("\n");
+        status.append(String.format("├─ Queue delay: avg=%.2fms, max=%.2fms%n", avgQueueMs, queueMax / 1_000_000.0));
+        status.append(String.format("├─ Execution: avg=%.2fms, max=%.2fms%n", avgExecMs, execMax / 1_000_000.0));
+        status.append(String.format("├─ Utilization: %.1f%%, pipelines per core at full load: %s%n",
+            utilization * 100, perCore));
+        status.append("└─ Errors: ").append(errors.get());
+
+        log.info(status.toString());
+    }
+
+    /**
+     * 등록된 분석 작업
+     * offer는 pub/sub 수신 스레드에서, 나머지 상태는 스케줄러/워커 스레드에서 갱신합니다.
+     */
+    public final class Job {
+        private final String name;
+        private final long intervalNanos;
+        private final Priority priority;
+        private final Function<StandardExchangeData, AnalysisResponse> analysis;
+        private final Consumer<AnalysisResponse> onResult;
+        private final Consumer<Throwable> onError;
+        private final Runnable onComplete;
+
+        private final AtomicReference<StandardExchangeData> latest = new AtomicReference<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private volatile StandardExchangeData lastAnalyzed;
+        private volatile boolean completing = false;
+        private volatile boolean cancelled = false;
+        private long nextDueNanos;  // 스케줄러 스레드에서만 갱신
+
+        private Job(String name, long intervalNanos, Priority priority,
+                Function<StandardExchangeData, AnalysisResponse> analysis,
+                Consumer<AnalysisResponse> onResult, Consumer<Throwable> onError, Runnable onComplete) {
+            this.name = name;
+            this.intervalNanos = intervalNanos;
+            this.priority = priority;
+            this.analysis = analysis;
+            this.onResult = onResult;
+            this.onError = onError;
+            this.onComplete = onComplete;
+            this.nextDueNanos = System.nanoTime() + intervalNanos;
+        }
+
+        /**
+         * 최신 틱 기록 (다음 주기에 이 틱으로 분석)
+         */
+        public void offer(StandardExchangeData data) {
+            latest.set(data);
+        }
+
+        /**
+         * 입력 종료 (남은 틱을 분석한 뒤 onComplete)
+         */
+        public void complete() {
+            completing = true;
+            finish(this);
+        }
+
+        /**
+         * 입력 오류 (작업 해제 후 onError)
+         */
+        public void fail(Throwable error) {
+            if (!cancelled && completed.compareAndSet(false, true)) {
+                cancel();
+                onError.accept(error);
+            }
+        }
+
+        /**
+         * 작업 해제 (실행 중인 분석 결과는 버림)
+         */
+        public void cancel() {
+            cancelled = true;
+            jobs.remove(this);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 다음 실행 시각 (고정 주기, 크게 밀렸으면 지금부터 한 주기 뒤)
+         */
+        private void advance(long now) {
+            nextDueNanos += intervalNanos;
+            if (nextDueNanos <= now) {
+                nextDueNanos = now + intervalNanos;
+            }
+        }
+    }
+}
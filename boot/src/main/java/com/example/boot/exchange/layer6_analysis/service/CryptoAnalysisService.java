@@ -7,12 +7,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleResolution;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleView;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+import com.example.boot.exchange.layer5_price_cache.timeseries.service.CandleAggregator;
+import com.example.boot.exchange.layer5_price_cache.timeseries.service.TimeSeriesStore;
 import com.example.boot.exchange.layer6_analysis.config.TradingStyleConfig;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
@@ -32,12 +39,16 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class CryptoAnalysisService {
     private final RedisCacheService cacheService;
+    private final TimeSeriesStore timeSeriesStore;
+    private final CandleAggregator candleAggregator;
     private final IndicatorCalculationService indicatorService;
+    private final IncrementalIndicatorEngine indicatorEngine;
     private final AnalysisResponseConverter responseConverter;
     private final TradingStyleConfig tradingStyleConfig;
+    private final AnalysisScheduler analysisScheduler;
     
-    // 활성 분석 구독 관리
-    private final Map<String, Disposable> activeSubscriptions = new ConcurrentHashMap<>();
+    // 활성 분석 파이프라인 관리 (같은 거래쌍/스타일 파라미터의 카드는 파이프라인 하나를 공유)
+    private final AnalysisPipelineRegistry pipelines = new AnalysisPipelineRegistry();
     
     // 분석 데이터 캐싱
     private final Map<String, Double> lastPriceChangeMap = new ConcurrentHashMap<>();
@@ -59,22 +70,18 @@ public class CryptoAnalysisService {
         // 트레이딩 스타일에 맞는 파라미터 적용
         tradingStyleConfig.applyStyleParameters(request);
         
-        // 카드 ID 생성 및 설정
-        String baseCardId = (request.getExchange() + "-" + request.getCurrencyPair()).toLowerCase();
-        String uuid = Long.toHexString(Double.doubleToLongBits(Math.random())).substring(0, 8);
-        String cardId = baseCardId + "-" + uuid;
-        request.setCardId(cardId);
+        // 카드 ID 생성 및 설정 (AnalysisManager에 등록된 카드는 기존 ID 유지)
+        if (request.getCardId() == null || request.getCardId().isEmpty()) {
+            String baseCardId = (request.getExchange() + "-" + request.getCurrencyPair()).toLowerCase();
+            String uuid = Long.toHexString(Double.doubleToLongBits(Math.random())).substring(0, 8);
+            request.setCardId(baseCardId + "-" + uuid);
+        }
+        String cardId = request.getCardId();
         request.setTimestamp(System.currentTimeMillis());
         
         log.info("Starting analysis for {} - {} with style {}", 
                 request.getExchange(), request.getCurrencyPair(), request.getTradingStyle());
         
-        // 구독 키 생성
-        String subscriptionKey = getSubscriptionKey(request.getExchange(), request.getCurrencyPair());
-        
-        // 이미 실행 중인 구독이 있으면 중지
-        stopSubscription(subscriptionKey);
-        
         // CurrencyPair 객체 생성
         CurrencyPair currencyPair = request.toCurrencyPair();
         if (currencyPair == null) {
@@ -100,87 +107,132 @@ public class CryptoAnalysisService {
             .tradingStyle(request.getTradingStyle())
             .build();
         
+        // 같은 (거래소, 거래쌍, 스타일 파라미터)의 파이프라인이 실행 중이면 구독자로 붙고, 없으면 이 요청으로 시작
+        // 파이프라인 결과는 공유하고 카드 ID와 시간 정보만 카드별로 설정
+        // 파이프라인은 hot: 늦게 붙은 카드는 초기 응답 뒤에 최신 결과부터 받음
+        Flux<AnalysisResponse> updates = pipelines
+            .attach(cardId, AnalysisPipelineRegistry.PipelineKey.of(request, currencyPair),
+                () -> createPipeline(request, currencyPair))
+            .map(response -> enrichResponseWithMetadata(response, cardId));
+        
+        return Flux.concat(Flux.just(initialResponse), updates);
+    }
+    
+    /**
+     * 분석 파이프라인 생성 (cold, AnalysisPipelineRegistry가 키마다 한 번 구독)
+     * 시장 데이터는 최신 틱만 기록하고, 분석은 AnalysisScheduler가 주기마다 워커 풀에서 실행합니다.
+     * 결과에는 카드 ID가 없으며, 카드별 스트림에서 설정합니다.
+     */
+    private Flux<AnalysisResponse> createPipeline(AnalysisRequest request, CurrencyPair currencyPair) {
         // 분석 간격 설정 (트레이딩 스타일에 따라 다르게 설정)
         int analysisInterval = getAnalysisInterval(request.getTradingStyle());
-        
-        // 데이터 구독 및 주기적 분석 설정
-        Flux<AnalysisResponse> analysisFlux = Flux.concat(
-            Flux.just(initialResponse), // 초기 응답 전송
-            
-            cacheService.subscribeToMarketData(request.getExchange(), currencyPair.toString())
-                .buffer(Duration.ofSeconds(analysisInterval)) // 분석 주기로 데이터 버퍼링
-                .flatMap(dataList -> {
-                    if (dataList.isEmpty()) {
-                        return Mono.empty();
-                    }
-                    
-                    // 버퍼링된 데이터 중 가장 최신 데이터 사용
-                    StandardExchangeData latestData = dataList.get(dataList.size() - 1);
-                    
-                    // 분석용 히스토리 데이터 가져오기
-                    return Mono.fromCallable(() -> {
-                        List<StandardExchangeData> history = cacheService.getAnalysisWindow(
-                            latestData.getExchange(), 
-                            latestData.getCurrencyPair().toString()
-                        );
-                        
-                        // 분석 수행
-                        AnalysisResponse response = analyzeMarketData(latestData, history, request);
-                        
-                        // 카드 ID 및 시간 정보 설정
-                        response = enrichResponseWithMetadata(response, cardId);
-                        
-                        return response;
-                    });
-                })
-                .doOnCancel(() -> {
-                    log.info("Analysis stream cancelled for {}-{}", request.getExchange(), request.getCurrencyPair());
-                })
-                .onErrorResume(CancellationException.class, ex -> {
-                    log.info("Analysis stream cancelled due to disconnection for {}-{}", 
-                            request.getExchange(), request.getCurrencyPair());
-                    return Mono.empty();
-                })
-                .doOnError(e -> {
-                    if (!(e instanceof CancellationException)) {
-                        log.error("Error during analysis: {}", e.getMessage(), e);
-                    }
-                })
-                .doOnComplete(() -> log.info("Analysis complete for {}-{}", request.getExchange(), request.getCurrencyPair()))
+        String pipelineName = getSubscriptionKey(request.getExchange(), currencyPair.toString())
+            + "-" + request.getTradingStyle();
+        
+        return Flux.<AnalysisResponse>create(sink -> {
+                AnalysisScheduler.Job job = analysisScheduler.register(pipelineName,
+                    Duration.ofSeconds(analysisInterval), getAnalysisPriority(request.getTradingStyle()),
+                    latestData -> analyzeLatest(latestData, request),
+                    sink::next, sink::error, sink::complete);
+                
+                // 데이터 구독 (수신 스레드에서는 최신 틱 기록만 수행)
+                Disposable input = cacheService.subscribeToMarketData(request.getExchange(), currencyPair.toString())
+                    .subscribe(job::offer, job::fail, job::complete);
+                
+                sink.onDispose(() -> {
+                    input.dispose();
+                    job.cancel();
+                });
+            })
+            .doOnCancel(() -> {
+                log.info("Analysis stream cancelled for {}-{}", request.getExchange(), request.getCurrencyPair());
+            })
+            .onErrorResume(CancellationException.class, ex -> {
+                log.info("Analysis stream cancelled due to disconnection for {}-{}", 
+                        request.getExchange(), request.getCurrencyPair());
+                return Mono.empty();
+            })
+            .doOnError(e -> {
+                if (!(e instanceof CancellationException)) {
+                    log.error("Error during analysis: {}", e.getMessage(), e);
+                }
+            })
+            .doOnComplete(() -> log.info("Analysis complete for {}-{}", request.getExchange(), request.getCurrencyPair()));
+    }
+    
+    /**
+     * 최신 틱 분석 (AnalysisScheduler 워커 스레드)
+     */
+    private AnalysisResponse analyzeLatest(StandardExchangeData latestData, AnalysisRequest request) {
+        // 분석용 히스토리 데이터 가져오기 (로컬 시계열 뷰, Redis 조회 없음)
+        TimeSeriesView history = timeSeriesStore.getWindow(
+            latestData.getExchange(), 
+            latestData.getCurrencyPair().toString()
         );
         
-        // 구독 저장 및 반환
-        Disposable subscription = analysisFlux.subscribe();
-        activeSubscriptions.put(subscriptionKey, subscription);
-        
-        return analysisFlux;
+        // 분석 수행 (지표는 스타일 해상도의 완성 캔들로, 봉이 아직 없으면 틱 윈도우로 증분 엔진에서 계산)
+        String seriesKey = TimeSeriesStore.seriesKey(
+            latestData.getExchange(), latestData.getCurrencyPair().toString());
+        CandleResolution resolution = tradingStyleConfig.getCandleResolution(request.getTradingStyle());
+        CandleView bars = resolution != null
+            ? candleAggregator.getCandles(latestData.getExchange(), latestData.getCurrencyPair().toString(), resolution)
+            : null;
+        if (bars != null && bars.size() >= 2) {
+            return analyzeMarketData(latestData, history, request,
+                () -> indicatorEngine.calculateIndicators(seriesKey, bars, request, latestData.priceAsDouble()));
+        }
+        return analyzeMarketData(latestData, history, request,
+            () -> indicatorEngine.calculateIndicators(seriesKey, history, request));
     }
     
     /**
-     * 분석 중지
+     * 분석 중지 (카드를 파이프라인에서 분리, 마지막 카드이면 파이프라인도 중지)
      * @param request 분석 요청 객체
      */
     public void stopAnalysis(AnalysisRequest request) {
-        String subscriptionKey = getSubscriptionKey(request.getExchange(), request.getCurrencyPair());
-        stopSubscription(subscriptionKey);
-        
-        // 캐시된 데이터 정리
-        clearCachedData(subscriptionKey);
+        AnalysisPipelineRegistry.PipelineKey key = request.getCardId() != null
+            ? pipelines.detach(request.getCardId())
+            : null;
         
-        // Redis 구독 해제
-        cacheService.unsubscribeFromMarketData(request.getExchange(), request.getCurrencyPair());
+        // 거래쌍의 파이프라인이 모두 중지되면 캐시된 데이터 정리
+        if (key != null && !pipelines.hasPipeline(key.exchange(), key.currencyPair())) {
+            clearCachedData(getSubscriptionKey(request.getExchange(), request.getCurrencyPair()));
+            
+            // Redis 구독 해제
+            cacheService.unsubscribeFromMarketData(request.getExchange(), request.getCurrencyPair());
+        }
         
-        log.info("Stopped analysis for {}-{}", request.getExchange(), request.getCurrencyPair());
+        log.info("Stopped analysis for {}-{} (card {}), {} pipelines active",
+            request.getExchange(), request.getCurrencyPair(), request.getCardId(), pipelines.getPipelineCount());
+    }
+    
+    /**
+     * 실행 중인 분석 파이프라인 수 (카드 수와 무관)
+     */
+    public int getActivePipelineCount() {
+        return pipelines.getPipelineCount();
+    }
+    
+    /**
+     * 시장 데이터 분석 수행 (List 히스토리)
+     */
+    public AnalysisResponse analyzeMarketData(StandardExchangeData data, List<StandardExchangeData> history, AnalysisRequest request) {
+        return analyzeMarketData(data, TimeSeriesView.of(history), request);
     }
     
     /**
      * 시장 데이터 분석 수행
      * @param data 최신 시장 데이터
-     * @param history 히스토리 데이터
+     * @param history 히스토리 시계열 뷰
      * @param request 분석 요청
      * @return 분석 결과
      */
-    public AnalysisResponse analyzeMarketData(StandardExchangeData data, List<StandardExchangeData> history, AnalysisRequest request) {
+    public AnalysisResponse analyzeMarketData(StandardExchangeData data, TimeSeriesView history, AnalysisRequest request) {
+        return analyzeMarketData(data, history, request, () -> calculateIndicators(data, history, request));
+    }
+    
+    private AnalysisResponse analyzeMarketData(StandardExchangeData data, TimeSeriesView history, AnalysisRequest request,
+            Supplier<Map<String, Object>> indicatorCalculator) {
         if (history.isEmpty()) {
             log.warn("No historical data available for {}-{}", data.getExchange(), data.getCurrencyPair());
             return createInsufficientDataResponse(data, request);
@@ -188,12 +240,15 @@ public class CryptoAnalysisService {
         
         try {
             // 가격 변화율 계산
-            String cacheKey = getSubscriptionKey(data.getExchange(), data.getCurrencyPair().toString());
+            TradingPair pair = data.tradingPair();
+            String cacheKey = pair != null
+                ? pair.subscriptionKey()
+                : getSubscriptionKey(data.getExchange(), data.getCurrencyPair().toString());
             double priceChangePercent = calculatePriceChange(data, history, cacheKey);
             double volumeChangePercent = calculateVolumeChange(data, history, cacheKey);
             
             // 지표 계산
-            Map<String, Object> indicatorResults = calculateIndicators(data, history, request);
+            Map<String, Object> indicatorResults = indicatorCalculator.get();
             
             // 반등 확률 계산
             double reboundProbability = calculateReboundProbability(priceChangePercent, volumeChangePercent, cacheKey);
@@ -225,7 +280,7 @@ public class CryptoAnalysisService {
             .symbol(request.getSymbol())
             .quoteCurrency(request.getQuoteCurrency())
             .analysisTime(LocalDateTime.now())
-            .currentPrice(data.getPrice().doubleValue())
+            .currentPrice(data.priceAsDouble())
             .analysisResult("ERROR")
             .message("분석 중 오류 발생: " + e.getMessage())
             .tradingStyle(request.getTradingStyle())
@@ -242,7 +297,7 @@ public class CryptoAnalysisService {
             .symbol(request.getSymbol())
             .quoteCurrency(request.getQuoteCurrency())
             .analysisTime(LocalDateTime.now())
-            .currentPrice(data.getPrice().doubleValue())
+            .currentPrice(data.priceAsDouble())
             .analysisResult("INSUFFICIENT_DATA")
             .message("분석에 필요한 충분한 데이터가 없습니다.")
             .tradingStyle(request.getTradingStyle())
@@ -252,14 +307,14 @@ public class CryptoAnalysisService {
     /**
      * 가격 변화율 계산
      */
-    private double calculatePriceChange(StandardExchangeData data, List<StandardExchangeData> history, String cacheKey) {
+    private double calculatePriceChange(StandardExchangeData data, TimeSeriesView history, String cacheKey) {
         if (history.size() < 2) {
             return lastPriceChangeMap.getOrDefault(cacheKey, 0.0);
         }
 
         // 직전 데이터와 현재 데이터 비교
-        double previousPrice = history.get(history.size() - 2).getPrice().doubleValue();
-        double currentPrice = data.getPrice().doubleValue();
+        double previousPrice = history.priceAt(history.size() - 2);
+        double currentPrice = data.priceAsDouble();
         
         // 가격 변화가 있는 경우에만 새로 계산
         if (Math.abs(currentPrice - previousPrice) > 0.000001) {
@@ -276,15 +331,15 @@ public class CryptoAnalysisService {
     /**
      * 거래량 변화율 계산
      */
-    private double calculateVolumeChange(StandardExchangeData data, List<StandardExchangeData> history, String cacheKey) {
+    private double calculateVolumeChange(StandardExchangeData data, TimeSeriesView history, String cacheKey) {
         if (history.size() < 2) {
             return lastVolumeChangeMap.getOrDefault(cacheKey, 0.0);
         }
 
         try {
             // 직전 데이터와 현재 데이터 비교
-            double previousVolume = history.get(history.size() - 2).getVolume().doubleValue();
-            double currentVolume = data.getVolume().doubleValue();
+            double previousVolume = history.volumeAt(history.size() - 2);
+            double currentVolume = data.volumeAsDouble();
             
             // 거래량 변화가 있는 경우에만 새로 계산
             if (Math.abs(currentVolume - previousVolume) > 0.000001 && previousVolume > 0) {
@@ -319,9 +374,9 @@ public class CryptoAnalysisService {
     }
     
     /**
-     * 기술적 지표 계산
+     * 기술적 지표 계산 (전체 히스토리 재계산)
      */
-    private Map<String, Object> calculateIndicators(StandardExchangeData data, List<StandardExchangeData> history, AnalysisRequest request) {
+    private Map<String, Object> calculateIndicators(StandardExchangeData data, TimeSeriesView history, AnalysisRequest request) {
         Map<String, Object> results = new HashMap<>();
         
         // SMA 계산
@@ -518,21 +573,29 @@ public class CryptoAnalysisService {
     }
     
     /**
-     * 구독 키 생성
+     * 트레이딩 스타일에 따른 과부하 시 우선순위 (짧은 주기일수록 지연에 민감)
      */
-    private String getSubscriptionKey(String exchange, String currencyPair) {
-        return exchange.toLowerCase() + "-" + currencyPair.toLowerCase();
+    private AnalysisScheduler.Priority getAnalysisPriority(String tradingStyle) {
+        if (tradingStyle == null) {
+            return AnalysisScheduler.Priority.NORMAL;
+        }
+        
+        switch (tradingStyle.toLowerCase()) {
+            case "scalping":
+                return AnalysisScheduler.Priority.HIGH;
+            case "swing":
+                return AnalysisScheduler.Priority.LOW;
+            case "daytrading":
+            default:
+                return AnalysisScheduler.Priority.NORMAL;
+        }
     }
     
     /**
-     * 지정된 키에 대한 구독 중지
+     * 구독 키 생성
      */
-    private void stopSubscription(String subscriptionKey) {
-        Disposable subscription = activeSubscriptions.remove(subscriptionKey);
-        if (subscription != null && !subscription.isDisposed()) {
-            subscription.dispose();
-            log.info("Stopped existing subscription for key: {}", subscriptionKey);
-        }
+    private String getSubscriptionKey(String exchange, String currencyPair) {
+        return exchange.toLowerCase() + "-" + currencyPair.toLowerCase();
     }
     
     /**
@@ -0,0 +1,121 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleView;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 증분 지표 엔진
+ * exchange:pair와 지표 파라미터 조합별로 IncrementalIndicatorState를 유지하고,
+ * 분석 주기마다 이전 조회 이후 추가된 틱만 반영한 뒤 현재 지표 값을 반환합니다.
+ * 결과 맵의 형식과 신호 판정은 IndicatorCalculationService와 동일합니다.
+ * 틱 윈도우(1초 1틱 가정) 또는 트레이딩 스타일에 맞는 해상도의 완성 캔들(종가)로 계산할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class IncrementalIndicatorEngine {
+    private static final long STATE_IDLE_TIMEOUT = 10 * 60 * 1000L;  // 10분
+
+    private final IndicatorCalculationService indicatorService;
+    private final int windowSize;
+
+    private final Map<String, IncrementalIndicatorState> states = new ConcurrentHashMap<>();
+
+    public IncrementalIndicatorEngine(
+            IndicatorCalculationService indicatorService,
+            @Value("${cache.local.window-size:1000}") int windowSize) {
+        this.indicatorService = indicatorService;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * 지표 계산 (SMA, RSI, 볼린저 밴드, 거래량)
+     * @param seriesKey 시계열 키 (exchange:pair)
+     * @param window 해당 시계열의 최신 윈도우 뷰
+     * @param request 분석 요청 (지표 파라미터)
+     * @return CryptoAnalysisService가 사용하는 지표 결과 맵
+     */
+    public Map<String, Object> calculateIndicators(String seriesKey, TimeSeriesView window, AnalysisRequest request) {
+        IncrementalIndicatorState state = states.computeIfAbsent(generateStateKey(seriesKey, request),
+            key -> new IncrementalIndicatorState(windowSize, request));
+        return calculate(state, seriesKey, window, request, Double.NaN);
+    }
+
+    /**
+     * 캔들 기반 지표 계산 (SMA/볼린저 기간은 봉 길이로 환산, RSI/거래량은 봉 단위)
+     * @param bars 해당 해상도의 완성 봉 뷰
+     * @param currentPrice 신호 판정에 쓸 현재가 (진행 중인 봉의 최신 틱)
+     */
+    public Map<String, Object> calculateIndicators(String seriesKey, CandleView bars, AnalysisRequest request,
+            double currentPrice) {
+        IncrementalIndicatorState state = states.computeIfAbsent(
+            generateStateKey(seriesKey, request) + "@" + bars.resolution().key(),
+            key -> new IncrementalIndicatorState(bars.resolution().windowSize(), request, bars.resolution().seconds()));
+        return calculate(state, seriesKey, bars, request, currentPrice);
+    }
+
+    private Map<String, Object> calculate(IncrementalIndicatorState state, String seriesKey, TimeSeriesView window,
+            AnalysisRequest request, double latestPrice) {
+        Map<String, Object> results = new HashMap<>();
+        synchronized (state) {
+            state.advance(window);
+
+            int size = state.size();
+            if (size >= 2) {
+                double currentPrice = Double.isNaN(latestPrice) ? state.currentPrice() : latestPrice;
+                indicatorService.putSMAResults(results, currentPrice,
+                    state.shortSMA(), state.mediumSMA(), state.longSMA());
+                indicatorService.putRSIResults(results, state.rsi(),
+                    request.getRsiOverbought(), request.getRsiOversold());
+                indicatorService.putBollingerResults(results, currentPrice,
+                    state.bollingerMiddle(), state.bollingerStdDev(), request.getBollingerDeviation());
+            } else {
+                log.debug("Not enough data for indicators: {} (size: {})", seriesKey, size);
+            }
+
+            if (size >= IndicatorCalculationService.VOLUME_WINDOW) {
+                indicatorService.putVolumeResults(results, state.currentVolume(), state.previousVolumeAverage());
+            } else {
+                indicatorService.putDefaultVolumeResults(results);
+            }
+        }
+        return results;
+    }
+
+    public int getStateCount() {
+        return states.size();
+    }
+
+    /**
+     * 일정 시간 조회되지 않은 상태 정리
+     */
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleStates() {
+        long now = System.currentTimeMillis();
+        states.entrySet().removeIf(entry -> {
+            boolean idle = now - entry.getValue().getLastAccessMillis() > STATE_IDLE_TIMEOUT;
+            if (idle) {
+                log.debug("Evicted idle indicator state: {}", entry.getKey());
+            }
+            return idle;
+        });
+    }
+
+    private String generateStateKey(String seriesKey, AnalysisRequest request) {
+        return seriesKey + "|" + request.getSmaShortPeriod()
+            + ":" + request.getSmaMediumPeriod()
+            + ":" + request.getSmaLongPeriod()
+            + ":" + request.getRsiPeriod()
+            + ":" + request.getBollingerPeriod();
+    }
+}
@@ -0,0 +1,370 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
+
+/**
+ * 증분 지표 상태 (exchange:pair + 파라미터 조합 단위)
+ *
+ * 최근 windowSize개 틱(또는 봉) 윈도우에 대해 IndicatorCalculationService와 같은 값을
+ * 포인트당 O(1) 갱신으로 유지합니다.
+ * 분 단위 기간은 포인트 하나의 길이(틱은 1초 가정, 캔들은 봉 길이)로 나눠 포인트 수로 바꿉니다.
+ * - SMA / 볼린저 중심선: 구간별 이동 합계
+ * - 볼린저 표준편차: 슬라이딩 윈도우 Welford (평균, M2)
+ * - RSI: 윈도우 내 상승/하락 합계(간소화 RSI, Wilder 초기값) + Wilder 평활 상태
+ *
+ * 이동 합계의 부동소수 누적 오차를 막기 위해 windowSize 틱마다 보관 중인 가격으로 재동기화합니다.
+ * 호출자는 인스턴스 단위로 동기화해야 합니다.
+ */
+final class IncrementalIndicatorState {
+    private final int windowSize;
+
+    // SMA 기간 (포인트 수, 요청의 분 단위 기간 × 60 / 포인트 길이(초))
+    private final int shortPoints;
+    private final int mediumPoints;
+    private final int longPoints;
+    private final int rsiPeriod;
+    private final int bollingerPeriod;
+    private final int bollingerMiddlePoints;
+
+    // 윈도우 가격 보관 (링)
+    private final double[] prices;
+    private final double[] volumes = new double[IndicatorCalculationService.VOLUME_WINDOW];
+
+    private final RollingSum windowSum;
+    private final RollingSum shortSum;
+    private final RollingSum mediumSum;
+    private final RollingSum longSum;
+    private final RollingSum middleSum;
+
+    private long count = 0;          // 처리한 총 틱 수
+    private long nextSequence = 0;   // 다음에 처리할 시계열 시퀀스
+    private int sinceResync = 0;
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    // 윈도우 내 가격 변화 합계
+    private double gainSum = 0;
+    private double lossSum = 0;
+
+    // Wilder RSI 평활 상태
+    private boolean wilderReady = false;
+    private double avgGain = 0;
+    private double avgLoss = 0;
+
+    // 볼린저 표준편차용 Welford 상태 (최근 min(period, windowSize)개)
+    private final int welfordPoints;
+    private int welfordCount = 0;
+    private double welfordMean = 0;
+    private double welfordM2 = 0;
+
+    IncrementalIndicatorState(int windowSize, AnalysisRequest request) {
+        this(windowSize, request, 1);
+    }
+
+    /**
+     * @param secondsPerPoint 포인트 하나의 길이 (초)
+     */
+    IncrementalIndicatorState(int windowSize, AnalysisRequest request, int secondsPerPoint) {
+        this.windowSize = windowSize;
+        this.shortPoints = minutesToPoints(request.getSmaShortPeriod(), secondsPerPoint);
+        this.mediumPoints = minutesToPoints(request.getSmaMediumPeriod(), secondsPerPoint);
+        this.longPoints = minutesToPoints(request.getSmaLongPeriod(), secondsPerPoint);
+        this.rsiPeriod = request.getRsiPeriod();
+        this.bollingerPeriod = request.getBollingerPeriod();
+        this.bollingerMiddlePoints = minutesToPoints(request.getBollingerPeriod(), secondsPerPoint);
+        this.welfordPoints = Math.max(1, Math.min(bollingerPeriod, windowSize));
+
+        this.prices = new double[windowSize];
+        this.windowSum = new RollingSum(windowSize);
+        this.shortSum = new RollingSum(shortPoints);
+        this.mediumSum = new RollingSum(mediumPoints);
+        this.longSum = new RollingSum(longPoints);
+        this.middleSum = new RollingSum(bollingerMiddlePoints);
+    }
+
+    /**
+     * 뷰에서 아직 처리하지 않은 틱만 이어서 반영
+     * 처리 위치가 뷰 범위를 벗어났으면(오래 조회되지 않아 틱을 놓친 경우) 윈도우 전체로 다시 구성합니다.
+     */
+    void advance(TimeSeriesView window) {
+        lastAccessMillis = System.currentTimeMillis();
+
+        long start = window.startSequence();
+        long end = start + window.size();
+        if (nextSequence < start || nextSequence > end) {
+            reset();
+            nextSequence = Math.max(start, end - windowSize);
+        }
+
+        for (long seq = nextSequence; seq < end; seq++) {
+            int index = (int) (seq - start);
+            add(window.priceAt(index), window.volumeAt(index));
+        }
+        nextSequence = end;
+    }
+
+    private static int minutesToPoints(int minutes, int secondsPerPoint) {
+        return minutes <= 0 ? 0 : Math.max(1, minutes * 60 / secondsPerPoint);
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    /** 현재 윈도우 크기 */
+    int size() {
+        return (int) Math.min(count, windowSize);
+    }
+
+    double currentPrice() {
+        return priceAt(count - 1);
+    }
+
+    double shortSMA() {
+        int n = size();
+        return n < shortPoints ? windowSum.mean() : shortSum.mean();
+    }
+
+    double mediumSMA() {
+        return size() < mediumPoints ? shortSMA() : mediumSum.mean();
+    }
+
+    double longSMA() {
+        return size() < longPoints ? mediumSMA() : longSum.mean();
+    }
+
+    double rsi() {
+        int n = size();
+        if (n < rsiPeriod + 1) {
+            // 간소화된 RSI (윈도우 내 n - 1개 변화 평균)
+            double gain = gainSum / (n - 1);
+            double loss = lossSum / (n - 1);
+            if (loss == 0) return 100.0;
+            return 100.0 - (100.0 / (1.0 + gain / loss));
+        }
+        if (avgLoss == 0) {
+            return 100.0;
+        }
+        return 100.0 - (100.0 / (1.0 + avgGain / avgLoss));
+    }
+
+    double bollingerMiddle() {
+        return size() < bollingerPeriod ? welfordMean : middleSum.mean();
+    }
+
+    double bollingerStdDev() {
+        int n = size();
+        if (n < bollingerPeriod) {
+            return Math.sqrt(welfordM2 / n);
+        }
+        // 중심선이 최근 period개의 평균과 다르므로 Σ(p - m)² = M2 + k(mean - m)² 로 보정
+        double shift = welfordMean - middleSum.mean();
+        double sumSquared = welfordM2 + welfordCount * shift * shift;
+        return Math.sqrt(sumSquared / Math.min(bollingerPeriod, n));
+    }
+
+    double currentVolume() {
+        return volumes[(int) ((count - 1) % volumes.length)];
+    }
+
+    /** 현재 틱 직전 9개 거래량 평균 */
+    double previousVolumeAverage() {
+        int current = (int) ((count - 1) % volumes.length);
+        double sum = 0;
+        for (int i = 0; i < volumes.length; i++) {
+            if (i != current) {
+                sum += volumes[i];
+            }
+        }
+        return sum / (volumes.length - 1);
+    }
+
+    private void add(double price, double volume) {
+        long seq = count;
+        boolean windowFull = seq >= windowSize;
+
+        // 윈도우에서 빠지는 가격 (링에 덮어쓰기 전에 읽음)
+        if (seq > 0) {
+            double change = price - priceAt(seq - 1);
+            addChange(change);
+            if (windowFull) {
+                removeChange(priceAt(seq - windowSize + 1) - priceAt(seq - windowSize));
+            }
+        }
+
+        windowSum.add(price, seq);
+        shortSum.add(price, seq);
+        mediumSum.add(price, seq);
+        longSum.add(price, seq);
+        middleSum.add(price, seq);
+        addWelford(price, seq);
+
+        prices[(int) (seq % windowSize)] = price;
+        volumes[(int) (seq % volumes.length)] = volume;
+        count = seq + 1;
+
+        updateWilder(seq);
+
+        if (windowFull && ++sinceResync >= windowSize) {
+            resync();
+        }
+    }
+
+    private void addChange(double change) {
+        if (change > 0) {
+            gainSum += change;
+        } else {
+            lossSum += Math.abs(change);
+        }
+    }
+
+    private void removeChange(double change) {
+        if (change > 0) {
+            gainSum -= change;
+        } else {
+            lossSum -= Math.abs(change);
+        }
+    }
+
+    /**
+     * Wilder 평활: period + 1개째 틱에서 초기 평균을 잡고 이후 틱마다 갱신
+     */
+    private void updateWilder(long seq) {
+        if (rsiPeriod + 1 > windowSize || rsiPeriod <= 0) {
+            return;  // 윈도우가 기간보다 작으면 항상 간소화 RSI 사용
+        }
+        if (!wilderReady) {
+            if (count == rsiPeriod + 1) {
+                avgGain = gainSum / rsiPeriod;
+                avgLoss = lossSum / rsiPeriod;
+                wilderReady = true;
+            }
+            return;
+        }
+        double change = priceAt(seq) - priceAt(seq - 1);
+        if (change > 0) {
+            avgGain = (avgGain * (rsiPeriod - 1) + change) / rsiPeriod;
+            avgLoss = (avgLoss * (rsiPeriod - 1)) / rsiPeriod;
+        } else {
+            avgGain = (avgGain * (rsiPeriod - 1)) / rsiPeriod;
+            avgLoss = (avgLoss * (rsiPeriod - 1) + Math.abs(change)) / rsiPeriod;
+        }
+    }
+
+    private void addWelford(double price, long seq) {
+        if (welfordCount < welfordPoints) {
+            welfordCount++;
+            double delta = price - welfordMean;
+            welfordMean += delta / welfordCount;
+            welfordM2 += delta * (price - welfordMean);
+        } else {
+            double removed = priceAt(seq - welfordPoints);
+            double oldMean = welfordMean;
+            welfordMean = oldMean + (price - removed) / welfordPoints;
+            welfordM2 += (price - removed) * (price - welfordMean + removed - oldMean);
+            if (welfordM2 < 0) {
+                welfordM2 = 0;
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 윈도우 가격으로 합계/Welford 상태 재계산 (windowSize 틱마다, 분할 상환 O(1))
+     */
+    private void resync() {
+        sinceResync = 0;
+        windowSum.recompute();
+        shortSum.recompute();
+        mediumSum.recompute();
+        longSum.recompute();
+        middleSum.recompute();
+
+        double gain = 0;
+        double loss = 0;
+        for (long seq = count - size() + 1; seq < count; seq++) {
+            double change = priceAt(seq) - priceAt(seq - 1);
+            if (change > 0) {
+                gain += change;
+            } else {
+                loss += Math.abs(change);
+            }
+        }
+        gainSum = gain;
+        lossSum = loss;
+
+        double mean = 0;
+        for (long seq = count - welfordCount; seq < count; seq++) {
+            mean += priceAt(seq);
+        }
+        mean /= welfordCount;
+        double m2 = 0;
+        for (long seq = count - welfordCount; seq < count; seq++) {
+            double diff = priceAt(seq) - mean;
+            m2 += diff * diff;
+        }
+        welfordMean = mean;
+        welfordM2 = m2;
+    }
+
+    private void reset() {
+        count = 0;
+        sinceResync = 0;
+        gainSum = 0;
+        lossSum = 0;
+        wilderReady = false;
+        avgGain = 0;
+        avgLoss = 0;
+        welfordCount = 0;
+        welfordMean = 0;
+        welfordM2 = 0;
+        windowSum.reset();
+        shortSum.reset();
+        mediumSum.reset();
+        longSum.reset();
+        middleSum.reset();
+    }
+
+    private double priceAt(long seq) {
+        return prices[(int) (seq % windowSize)];
+    }
+
+    /**
+     * 최근 min(points, windowSize)개 가격 합계
+     */
+    private final class RollingSum {
+        private final int points;
+        private double sum = 0;
+
+        RollingSum(int points) {
+            this.points = Math.min(points, windowSize);
+        }
+
+        void add(double price, long seq) {
+            if (points <= 0) {
+                return;
+            }
+            sum += price;
+            if (seq >= points) {
+                sum -= priceAt(seq - points);
+            }
+        }
+
+        double mean() {
+            int n = (int) Math.min(points, count);
+            return n == 0 ? 0.0 : sum / n;
+        }
+
+        void recompute() {
+            int n = (int) Math.min(points, count);
+            double total = 0;
+            for (long seq = count - n; seq < count; seq++) {
+                total += priceAt(seq);
+            }
+            sum = total;
+        }
+
+        void reset() {
+            sum = 0;
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package com.example.boot.exchange.layer6_analysis.service;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 
-import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
 
 import lombok.extern.slf4j.Slf4j;
@@ -15,10 +14,12 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 기술적 지표 계산을 담당하는 서비스
  * SMA, RSI, 볼린저 밴드 등 여러 지표의 계산 로직을 포함
+ * 히스토리는 로컬 시계열 뷰(TimeSeriesView)에서 원시 값으로 직접 읽습니다.
  */
 @Slf4j
 @Service
 public class IndicatorCalculationService {
+    static final int VOLUME_WINDOW = 10;  // 거래량 분석 구간 (현재 + 직전 9개)
 
     /**
      * SMA(Simple Moving Average) 계산
@@ -26,7 +27,7 @@ public class IndicatorCalculationService {
      * @param request 분석 요청 객체
      * @return SMA 계산 결과 맵
      */
-    public Map<String, Object> calculateSMA(List<StandardExchangeData> history, AnalysisRequest request) {
+    public Map<String, Object> calculateSMA(TimeSeriesView history, AnalysisRequest request) {
         Map<String, Object> results = new HashMap<>();
         
         // 데이터가 최소 2개 이상 있으면 계산 시도
@@ -37,7 +38,7 @@ public class IndicatorCalculationService {
         
         try {
             // 현재 가격
-            double currentPrice = history.get(history.size() - 1).getPrice().doubleValue();
+            double currentPrice = history.priceAt(history.size() - 1);
             
             // SMA 기간 설정
             int shortPeriod = request.getSmaShortPeriod() * 60; // 분 단위로 변환
@@ -50,8 +51,8 @@ public class IndicatorCalculationService {
             double longSMA = 0.0;
             
             // 단순 평균 계산 (데이터가 적을 경우)
-            double simpleAvg = history.stream()
-                .mapToDouble(d -> d.getPrice().doubleValue())
+            double simpleAvg = IntStream.range(0, history.size())
+                .mapToDouble(history::priceAt)
                 .average()
                 .orElse(currentPrice);
             
@@ -79,30 +80,7 @@ public class IndicatorCalculationService {
                 longSMA = calculateMovingAverage(history, longPeriod);
             }
             
-            // 현재 가격과 각 SMA의 차이 계산 (%)
-            double shortDiff = calculatePercentageChange(currentPrice, shortSMA);
-            double mediumDiff = calculatePercentageChange(currentPrice, mediumSMA);
-            double longDiff = calculatePercentageChange(currentPrice, longSMA);
-            
-            // SMA 돌파 여부 확인
-            boolean breakout = isSMABreakout(shortDiff, longDiff);
-            
-            // SMA 신호 결정
-            String signal = calculateSMASignal(shortDiff, mediumDiff, longDiff);
-            
-            // SMA 매수 신호 강도 계산 (0-100%)
-            double signalStrength = calculateSMASignalStrength(signal, shortDiff);
-            
-            // 결과 저장
-            results.put("shortDiff", shortDiff);
-            results.put("mediumDiff", mediumDiff);
-            results.put("longDiff", longDiff);
-            results.put("breakout", breakout);
-            results.put("smaSignal", signal);
-            results.put("smaSignalStrength", signalStrength);
-            
-            log.debug("SMA 계산 결과: shortDiff={}, mediumDiff={}, longDiff={}, breakout={}, signal={}, signalStrength={}",
-                shortDiff, mediumDiff, longDiff, breakout, signal, signalStrength);
+            putSMAResults(results, currentPrice, shortSMA, mediumSMA, longSMA);
                 
         } catch (Exception e) {
             log.error("SMA 계산 중 오류 발생: {}", e.getMessage(), e);
@@ -111,13 +89,43 @@ public class IndicatorCalculationService {
         return results;
     }
     
+    /**
+     * SMA 값으로부터 신호/강도 결과 생성 (증분 엔진과 공유)
+     */
+    void putSMAResults(Map<String, Object> results, double currentPrice, double shortSMA, double mediumSMA, double longSMA) {
+        // 현재 가격과 각 SMA의 차이 계산 (%)
+        double shortDiff = calculatePercentageChange(currentPrice, shortSMA);
+        double mediumDiff = calculatePercentageChange(currentPrice, mediumSMA);
+        double longDiff = calculatePercentageChange(currentPrice, longSMA);
+        
+        // SMA 돌파 여부 확인
+        boolean breakout = isSMABreakout(shortDiff, longDiff);
+        
+        // SMA 신호 결정
+        String signal = calculateSMASignal(shortDiff, mediumDiff, longDiff);
+        
+        // SMA 매수 신호 강도 계산 (0-100%)
+        double signalStrength = calculateSMASignalStrength(signal, shortDiff);
+        
+        // 결과 저장
+        results.put("shortDiff", shortDiff);
+        results.put("mediumDiff", mediumDiff);
+        results.put("longDiff", longDiff);
+        results.put("breakout", breakout);
+        results.put("smaSignal", signal);
+        results.put("smaSignalStrength", signalStrength);
+        
+        log.debug("SMA 계산 결과: shortDiff={}, mediumDiff={}, longDiff={}, breakout={}, signal={}, signalStrength={}",
+            shortDiff, mediumDiff, longDiff, breakout, signal, signalStrength);
+    }
+    
     /**
      * RSI(Relative Strength Index) 계산
      * @param history 가격 히스토리 데이터
      * @param request 분석 요청 객체
      * @return RSI 계산 결과 맵
      */
-    public Map<String, Object> calculateRSI(List<StandardExchangeData> history, AnalysisRequest request) {
+    public Map<String, Object> calculateRSI(TimeSeriesView history, AnalysisRequest request) {
         Map<String, Object> results = new HashMap<>();
         
         int period = request.getRsiPeriod();
@@ -131,40 +139,17 @@ public class IndicatorCalculationService {
         }
         
         try {
-            // RSI 계산을 위한 가격 데이터 추출
-            List<Double> prices = history.stream()
-                                       .map(data -> data.getPrice().doubleValue())
-                                       .collect(Collectors.toList());
-            
             // 간소화된 RSI 계산 (데이터가 적을 경우)
             double rsi;
             if (history.size() < period + 1) {
                 log.debug("RSI 계산: 제한된 데이터로 간소화된 계산을 수행합니다. (데이터 수: {})", history.size());
-                rsi = calculateSimplifiedRSI(prices);
+                rsi = calculateSimplifiedRSI(history);
             } else {
                 // 충분한 데이터가 있으면 정상 RSI 계산
-                rsi = calculateRSI(prices, period);
-            }
-            
-            // RSI 신호 결정
-            String signal;
-            if (rsi >= overbought) {
-                signal = "OVERBOUGHT";
-            } else if (rsi <= oversold) {
-                signal = "OVERSOLD";
-            } else {
-                signal = "NEUTRAL";
+                rsi = calculateRSI(history, period);
             }
             
-            // RSI 매수 신호 강도 계산 (0-100%)
-            double signalStrength = calculateRSISignalStrength(rsi, oversold, overbought);
-            
-            // 결과 저장
-            results.put("rsiValue", rsi);
-            results.put("rsiSignal", signal);
-            results.put("rsiSignalStrength", signalStrength);
-            
-            log.debug("RSI 계산 결과: value={}, signal={}, signalStrength={}", rsi, signal, signalStrength);
+            putRSIResults(results, rsi, overbought, oversold);
             
         } catch (Exception e) {
             log.error("RSI 계산 중 오류 발생: {}", e.getMessage(), e);
@@ -173,13 +158,38 @@ public class IndicatorCalculationService {
         return results;
     }
     
+    /**
+     * RSI 값으로부터 신호/강도 결과 생성 (증분 엔진과 공유)
+     */
+    void putRSIResults(Map<String, Object> results, double rsi, int overbought, int oversold) {
+        // RSI 신호 결정
+        String signal;
+        if (rsi >= overbought) {
+            signal = "OVERBOUGHT";
+        } else if (rsi <= oversold) {
+            signal = "OVERSOLD";
+        } else {
+            signal = "NEUTRAL";
+        }
+        
+        // RSI 매수 신호 강도 계산 (0-100%)
+        double signalStrength = calculateRSISignalStrength(rsi, oversold, overbought);
+        
+        // 결과 저장
+        results.put("rsiValue", rsi);
+        results.put("rsiSignal", signal);
+        results.put("rsiSignalStrength", signalStrength);
+        
+        log.debug("RSI 계산 결과: value={}, signal={}, signalStrength={}", rsi, signal, signalStrength);
+    }
+    
     /**
      * 볼린저 밴드 계산
      * @param history 가격 히스토리 데이터
      * @param request 분석 요청 객체
      * @return 볼린저 밴드 계산 결과 맵
      */
-    public Map<String, Object> calculateBollingerBands(List<StandardExchangeData> history, AnalysisRequest request) {
+    public Map<String, Object> calculateBollingerBands(TimeSeriesView history, AnalysisRequest request) {
         Map<String, Object> results = new HashMap<>();
         
         int period = request.getBollingerPeriod();
@@ -193,33 +203,28 @@ public class IndicatorCalculationService {
         
         try {
             // 현재 가격
-            double currentPrice = history.get(history.size() - 1).getPrice().doubleValue();
+            double currentPrice = history.priceAt(history.size() - 1);
             
             // 간소화된 볼린저 밴드 계산 (데이터가 적을 경우)
-            double middleBand, upperBand, lowerBand, bandWidth;
+            double middleBand, stdDev;
             
             if (history.size() < period) {
                 log.debug("볼린저 밴드 계산: 제한된 데이터로 간소화된 계산을 수행합니다. (데이터 수: {})", history.size());
                 
                 // 단순 이동평균 계산
                 double sum = 0;
-                for (StandardExchangeData data : history) {
-                    sum += data.getPrice().doubleValue();
+                for (int i = 0; i < history.size(); i++) {
+                    sum += history.priceAt(i);
                 }
                 middleBand = sum / history.size();
                 
                 // 단순 표준편차 계산
                 double sumSquaredDiff = 0;
-                for (StandardExchangeData data : history) {
-                    double diff = data.getPrice().doubleValue() - middleBand;
+                for (int i = 0; i < history.size(); i++) {
+                    double diff = history.priceAt(i) - middleBand;
                     sumSquaredDiff += diff * diff;
                 }
-                double stdDev = Math.sqrt(sumSquaredDiff / history.size());
-                
-                // 밴드 계산
-                upperBand = middleBand + (stdDev * deviation);
-                lowerBand = middleBand - (stdDev * deviation);
-                bandWidth = ((upperBand - lowerBand) / middleBand) * 100;
+                stdDev = Math.sqrt(sumSquaredDiff / history.size());
             } else {
                 // 충분한 데이터가 있으면 정상 볼린저 밴드 계산
                 middleBand = calculateMovingAverage(history, period * 60);
@@ -227,35 +232,13 @@ public class IndicatorCalculationService {
                 // 표준 편차 계산
                 double sum = 0;
                 for (int i = Math.max(0, history.size() - period); i < history.size(); i++) {
-                    double price = history.get(i).getPrice().doubleValue();
+                    double price = history.priceAt(i);
                     sum += Math.pow(price - middleBand, 2);
                 }
-                double stdDev = Math.sqrt(sum / Math.min(period, history.size()));
-                
-                // 상단 및 하단 밴드
-                upperBand = middleBand + (stdDev * deviation);
-                lowerBand = middleBand - (stdDev * deviation);
-                
-                // 밴드 폭 (변동성 지표)
-                bandWidth = ((upperBand - lowerBand) / middleBand) * 100;
+                stdDev = Math.sqrt(sum / Math.min(period, history.size()));
             }
             
-            // 볼린저 밴드 신호 결정
-            String signal = determineBollingerSignal(currentPrice, upperBand, middleBand, lowerBand);
-            
-            // 볼린저 밴드 매수 신호 강도 계산 (0-100%)
-            double signalStrength = calculateBollingerSignalStrength(signal, currentPrice, upperBand, middleBand, lowerBand, bandWidth);
-            
-            // 결과 저장
-            results.put("bollingerUpper", upperBand);
-            results.put("bollingerMiddle", middleBand);
-            results.put("bollingerLower", lowerBand);
-            results.put("bollingerWidth", bandWidth);
-            results.put("bollingerSignal", signal);
-            results.put("bbSignalStrength", signalStrength);
-            
-            log.debug("볼린저 밴드 계산 결과: upper={}, middle={}, lower={}, width={}, signal={}, signalStrength={}",
-                upperBand, middleBand, lowerBand, bandWidth, signal, signalStrength);
+            putBollingerResults(results, currentPrice, middleBand, stdDev, deviation);
                 
         } catch (Exception e) {
             log.error("볼린저 밴드 계산 중 오류 발생: {}", e.getMessage(), e);
@@ -264,64 +247,103 @@ public class IndicatorCalculationService {
         return results;
     }
     
+    /**
+     * 중심선/표준편차로부터 밴드 및 신호/강도 결과 생성 (증분 엔진과 공유)
+     */
+    void putBollingerResults(Map<String, Object> results, double currentPrice, double middleBand, double stdDev, double deviation) {
+        // 상단 및 하단 밴드
+        double upperBand = middleBand + (stdDev * deviation);
+        double lowerBand = middleBand - (stdDev * deviation);
+        
+        // 밴드 폭 (변동성 지표)
+        double bandWidth = ((upperBand - lowerBand) / middleBand) * 100;
+        
+        // 볼린저 밴드 신호 결정
+        String signal = determineBollingerSignal(currentPrice, upperBand, middleBand, lowerBand);
+        
+        // 볼린저 밴드 매수 신호 강도 계산 (0-100%)
+        double signalStrength = calculateBollingerSignalStrength(signal, currentPrice, upperBand, middleBand, lowerBand, bandWidth);
+        
+        // 결과 저장
+        results.put("bollingerUpper", upperBand);
+        results.put("bollingerMiddle", middleBand);
+        results.put("bollingerLower", lowerBand);
+        results.put("bollingerWidth", bandWidth);
+        results.put("bollingerSignal", signal);
+        results.put("bbSignalStrength", signalStrength);
+        
+        log.debug("볼린저 밴드 계산 결과: upper={}, middle={}, lower={}, width={}, signal={}, signalStrength={}",
+            upperBand, middleBand, lowerBand, bandWidth, signal, signalStrength);
+    }
+    
     /**
      * 거래량 분석
      * @param history 가격 히스토리 데이터
      * @return 거래량 분석 결과 맵
      */
-    public Map<String, Object> analyzeVolume(List<StandardExchangeData> history) {
+    public Map<String, Object> analyzeVolume(TimeSeriesView history) {
         Map<String, Object> results = new HashMap<>();
         
         // 충분한 데이터가 없으면 기본값 반환
-        if (history.size() < 10) {
-            results.put("volumeChangePercent", 0.0);
-            results.put("volumeSignalStrength", 50.0);
+        if (history.size() < VOLUME_WINDOW) {
+            putDefaultVolumeResults(results);
             return results;
         }
         
         try {
             // 현재 거래량
-            double currentVolume = history.get(history.size() - 1).getVolume().doubleValue();
+            double currentVolume = history.volumeAt(history.size() - 1);
             
             // 이전 거래량 평균 (최근 10개 데이터)
-            double avgVolume = history.subList(history.size() - 10, history.size() - 1).stream()
-                .mapToDouble(data -> data.getVolume().doubleValue())
+            double avgVolume = IntStream.range(history.size() - VOLUME_WINDOW, history.size() - 1)
+                .mapToDouble(history::volumeAt)
                 .average()
                 .orElse(0.0);
             
-            // 거래량 변화율 계산
-            double volumeChangePercent = 0.0;
-            if (avgVolume > 0) {
-                volumeChangePercent = ((currentVolume - avgVolume) / avgVolume) * 100;
-            }
-            
-            // 거래량 신호 강도 계산 (0-100%)
-            double signalStrength = calculateVolumeSignalStrength(volumeChangePercent);
-            
-            // 결과 저장
-            results.put("volumeChangePercent", volumeChangePercent);
-            results.put("volumeSignalStrength", signalStrength);
-            
-            log.debug("거래량 분석 결과: changePercent={}, signalStrength={}", volumeChangePercent, signalStrength);
+            putVolumeResults(results, currentVolume, avgVolume);
             
         } catch (Exception e) {
             log.error("거래량 분석 중 오류 발생: {}", e.getMessage(), e);
-            results.put("volumeChangePercent", 0.0);
-            results.put("volumeSignalStrength", 50.0);
+            putDefaultVolumeResults(results);
         }
         
         return results;
     }
     
+    /**
+     * 현재/평균 거래량으로부터 변화율 및 신호 강도 결과 생성 (증분 엔진과 공유)
+     */
+    void putVolumeResults(Map<String, Object> results, double currentVolume, double avgVolume) {
+        // 거래량 변화율 계산
+        double volumeChangePercent = 0.0;
+        if (avgVolume > 0) {
+            volumeChangePercent = ((currentVolume - avgVolume) / avgVolume) * 100;
+        }
+        
+        // 거래량 신호 강도 계산 (0-100%)
+        double signalStrength = calculateVolumeSignalStrength(volumeChangePercent);
+        
+        // 결과 저장
+        results.put("volumeChangePercent", volumeChangePercent);
+        results.put("volumeSignalStrength", signalStrength);
+        
+        log.debug("거래량 분석 결과: changePercent={}, signalStrength={}", volumeChangePercent, signalStrength);
+    }
+    
+    void putDefaultVolumeResults(Map<String, Object> results) {
+        results.put("volumeChangePercent", 0.0);
+        results.put("volumeSignalStrength", 50.0);
+    }
+    
     /**
      * 단순 이동평균 계산
      */
-    private double calculateMovingAverage(List<StandardExchangeData> data, int seconds) {
+    private double calculateMovingAverage(TimeSeriesView data, int seconds) {
         int dataPoints = Math.min(seconds, data.size());
         if (dataPoints == 0) return 0.0;
         
-        return data.subList(data.size() - dataPoints, data.size()).stream()
-            .mapToDouble(d -> d.getPrice().doubleValue())
+        return IntStream.range(data.size() - dataPoints, data.size())
+            .mapToDouble(data::priceAt)
             .average()
             .orElse(0.0);
     }
@@ -391,7 +413,7 @@ public class IndicatorCalculationService {
     /**
      * 간소화된 RSI 계산 (데이터가 적을 경우)
      */
-    private double calculateSimplifiedRSI(List<Double> prices) {
+    private double calculateSimplifiedRSI(TimeSeriesView prices) {
         if (prices.size() < 2) return 50.0;
         
         // 가격 변화 계산
@@ -400,7 +422,7 @@ public class IndicatorCalculationService {
         int count = 0;
         
         for (int i = 1; i < prices.size(); i++) {
-            double change = prices.get(i) - prices.get(i - 1);
+            double change = prices.priceAt(i) - prices.priceAt(i - 1);
             if (change > 0) {
                 totalGain += change;
             } else {
@@ -422,7 +444,7 @@ public class IndicatorCalculationService {
     /**
      * RSI 계산
      */
-    private double calculateRSI(List<Double> prices, int period) {
+    private double calculateRSI(TimeSeriesView prices, int period) {
         if (prices.size() <= period) {
             return 50.0; // 충분한 데이터가 없으면 중립값 반환
         }
@@ -432,7 +454,7 @@ public class IndicatorCalculationService {
         
         // 첫 번째 평균 이득/손실 계산
         for (int i = 1; i <= period; i++) {
-            double change = prices.get(i) - prices.get(i - 1);
+            double change = prices.priceAt(i) - prices.priceAt(i - 1);
             if (change > 0) {
                 avgGain += change;
             } else {
@@ -445,7 +467,7 @@ public class IndicatorCalculationService {
         
         // 나머지 기간에 대한 평균 이득/손실 계산
         for (int i = period + 1; i < prices.size(); i++) {
-            double change = prices.get(i) - prices.get(i - 1);
+            double change = prices.priceAt(i) - prices.priceAt(i - 1);
             
             if (change > 0) {
                 avgGain = (avgGain * (period - 1) + change) / period;
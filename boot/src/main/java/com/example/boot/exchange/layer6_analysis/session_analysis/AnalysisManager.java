@@ -11,14 +11,17 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
 import com.example.boot.exchange.layer6_analysis.service.CryptoAnalysisService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 /**
  * 분석 관리자
  * 카드 ID 기반 분석 요청 관리 및 세션 연결 해제 시 자원 정리를 담당합니다.
+ * 카드의 분석 스트림(hot, 최신 결과 재생)은 등록과 함께 시작되고 등록 해제 시 완료됩니다.
  */
 @Slf4j
 @Service
@@ -36,6 +39,20 @@ public class AnalysisManager {
     // 세션 ID -> 카드 ID 세트 매핑
     private final Map<String, Set<String>> sessionToCardsMap = new ConcurrentHashMap<>();
     
+    // 카드 ID -> 공유 분석 스트림
+    private final Map<String, Flux<AnalysisResponse>> cardToStreamMap = new ConcurrentHashMap<>();
+    
+    /**
+     * 분석 요청 등록 및 분석 시작
+     * @return 카드의 공유 분석 스트림 (여러 번 구독해도 분석 파이프라인은 하나)
+     */
+    public Flux<AnalysisResponse> startAnalysis(String cardId, AnalysisRequest request, String sessionId) {
+        registerAnalysis(cardId, request, sessionId);
+        Flux<AnalysisResponse> stream = analysisService.startAnalysis(request);
+        cardToStreamMap.put(cardId, stream);
+        return stream;
+    }
+    
     /**
      * 분석 요청 등록
      */
@@ -67,7 +84,8 @@ public class AnalysisManager {
             }
         }
         
-        // 요청 맵에서 제거
+        // 요청 맵에서 제거 (스트림은 분석 중지 시 완료됨)
+        cardToStreamMap.remove(cardId);
         AnalysisRequest request = cardToRequestMap.remove(cardId);
         if (request != null) {
             // 실행 중인 분석 중지
@@ -128,6 +146,20 @@ public class AnalysisManager {
         return cardToRequestMap.get(cardId);
     }
     
+    /**
+     * 카드를 등록한 세션 ID (등록되지 않은 카드이면 null)
+     */
+    public String getSessionId(String cardId) {
+        return cardToSessionMap.get(cardId);
+    }
+    
+    /**
+     * 카드의 공유 분석 스트림 (실행 중이 아니면 빈 Flux)
+     */
+    public Flux<AnalysisResponse> getAnalysisStream(String cardId) {
+        return cardToStreamMap.getOrDefault(cardId, Flux.empty());
+    }
+    
     /**
      * 활성 분석 수 반환
      */
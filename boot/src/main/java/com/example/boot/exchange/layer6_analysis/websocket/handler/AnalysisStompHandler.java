@@ -8,7 +8,6 @@ import org.springframework.stereotype.Component;
 
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
-import com.example.boot.exchange.layer6_analysis.service.CryptoAnalysisService;
 import com.example.boot.exchange.layer6_analysis.session_analysis.AnalysisManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -24,7 +23,6 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AnalysisStompHandler {
 
-    private final CryptoAnalysisService analysisService;
     private final SimpMessagingTemplate messagingTemplate;
     private final ObjectMapper objectMapper;
     private final AnalysisManager analysisManager;
@@ -45,9 +43,9 @@ public class AnalysisStompHandler {
         final String cardId = request.getCardId();
         
         // 이미 동일한 분석이 실행 중인지 확인
-        if (isDuplicateAnalysis(request)) {
-            log.warn("Duplicate analysis request detected for {}-{}", 
-                    request.getExchange(), request.getCurrencyPair());
+        if (isDuplicateAnalysis(request, sessionId)) {
+            log.warn("Duplicate analysis request detected for {}-{} ({}) in session {}", 
+                    request.getExchange(), request.getCurrencyPair(), request.getTradingStyle(), sessionId);
             sendErrorMessage(cardId, "이미 동일한 거래소와 코인에 대한 분석이 실행 중입니다.");
             return;
         }
@@ -63,14 +61,11 @@ public class AnalysisStompHandler {
                 request.getExchange(), request.getCurrencyPair(), request.getTradingStyle(), 
                 cardId, sessionId);
         
-        // 분석 요청 등록
-        analysisManager.registerAnalysis(cardId, request, sessionId);
-        
         // 초기 응답 전송
         sendInitialResponse(cardId, request);
         
-        // 분석 구독 시작
-        analysisService.startAnalysis(request)
+        // 분석 요청 등록 및 공유 분석 스트림 구독 (분석 파이프라인은 카드당 하나)
+        analysisManager.startAnalysis(cardId, request, sessionId)
             .subscribe(
                 response -> {
                     try {
@@ -247,19 +242,24 @@ public class AnalysisStompHandler {
     
     /**
      * 중복 분석 요청 확인
+     * 같은 세션에서 같은 거래소-통화쌍, 같은 트레이딩 스타일의 카드가 이미 있으면 중복입니다.
+     * 다른 세션의 카드나 다른 스타일의 카드는 허용합니다 (같은 파이프라인이면 분석 결과를 공유).
      * 
-     * @param request 분석 요청 객체
+     * @param request   분석 요청 객체
+     * @param sessionId 세션 ID
      * @return 중복 여부
      */
-    private boolean isDuplicateAnalysis(AnalysisRequest request) {
+    private boolean isDuplicateAnalysis(AnalysisRequest request, String sessionId) {
         String requestKey = (request.getExchange() + "-" + request.getCurrencyPair()).toLowerCase();
         
-        // 활성 분석 중에 동일한 거래소-통화쌍이 있는지 확인
+        // 같은 세션의 활성 분석 중에 동일한 거래소-통화쌍/스타일이 있는지 확인
         return analysisManager.getAllActiveRequests().stream()
             .filter(req -> !req.getCardId().equals(request.getCardId())) // 자기 자신 제외
+            .filter(req -> sessionId != null && sessionId.equals(analysisManager.getSessionId(req.getCardId())))
             .anyMatch(req -> {
                 String key = (req.getExchange() + "-" + req.getCurrencyPair()).toLowerCase();
-                return key.equals(requestKey);
+                return key.equals(requestKey)
+                    && String.valueOf(req.getTradingStyle()).equalsIgnoreCase(String.valueOf(request.getTradingStyle()));
             });
     }
     
@@ -10,7 +10,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Service;
 
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
-import com.example.boot.exchange.layer6_analysis.service.CryptoAnalysisService;
 import com.example.boot.exchange.layer6_analysis.session_analysis.AnalysisManager;
 import com.example.boot.exchange.layer6_analysis.websocket.handler.AnalysisStompHandler;
 
@@ -28,7 +27,6 @@ import lombok.extern.slf4j.Slf4j;
 public class CardService {
 
     private final AnalysisManager analysisManager;
-    private final CryptoAnalysisService analysisService;
     private final AnalysisStompHandler analysisStompHandler;
     
     // 메모리 기반 카드 저장소 (카드 ID -> 분석 요청)
@@ -75,11 +73,8 @@ public class CardService {
         
         // 필요한 경우 분석 시작
         if (startAnalysis) {
-            // 분석 세션 등록
-            analysisManager.registerAnalysis(cardId, request, sessionId);
-            
-            // 분석 시작
-            analysisService.startAnalysis(request);
+            // 분석 세션 등록 및 분석 시작
+            analysisManager.startAnalysis(cardId, request, sessionId);
         }
         
         return request;
@@ -115,8 +110,7 @@ public class CardService {
         // 상태에 따른 액션 수행
         if ("RUNNING".equals(status) && !"RUNNING".equals(currentStatus)) {
             // 분석 시작
-            analysisManager.registerAnalysis(cardId, card, sessionId);
-            analysisService.startAnalysis(card);
+            analysisManager.startAnalysis(cardId, card, sessionId);
             log.info("Analysis started for card: {}", cardId);
         } else if ("STOPPED".equals(status) && "RUNNING".equals(currentStatus)) {
             // 분석 중지
@@ -0,0 +1,19 @@
+package com.example.boot.web.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * /ws/exchange 구독 요청
+ * 예: {"action": "subscribe", "topics": ["binance:USDT-BTC", "upbit:*"]}
+ */
+@Getter
+@Setter
+@ToString
+public class SubscriptionRequest {
+    private String action;        // subscribe, unsubscribe, list
+    private List<String> topics;  // exchange:pair ("*" 와일드카드 허용)
+}
@@ -1,40 +1,69 @@
 package com.example.boot.web.websocket.handler;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.boot.common.session.model.ClientSession;
 import com.example.boot.common.session.registry.SessionRegistry;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.factory.ClientDeliveryQueueFactory;
 import com.example.boot.exchange.layer4_distribution.common.factory.DistributionServiceFactory;
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.model.WireFormat;
+import com.example.boot.exchange.layer4_distribution.common.service.BroadcastFrameEncoder;
+import com.example.boot.exchange.layer4_distribution.common.service.ClientDeliveryQueue;
 import com.example.boot.exchange.layer4_distribution.common.service.DistributionService;
+import com.example.boot.exchange.layer4_distribution.common.service.LatestTickTable;
+import com.example.boot.exchange.layer4_distribution.common.service.SessionFrameWriter;
+import com.example.boot.exchange.layer4_distribution.common.service.SubscriptionIndex;
 import com.example.boot.exchange.layer4_distribution.direct.service.DirectDistributionService;
 import com.example.boot.exchange.layer4_distribution.kafka.service.KafkaDistributionService;
+import com.example.boot.web.dto.SubscriptionRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Sinks;
 
 @Slf4j
 @Component
 public class FrontendWebSocketHandler extends TextWebSocketHandler {
     private final DistributionServiceFactory distributionServiceFactory;
     private final SessionRegistry sessionRegistry;
+    private final ClientDeliveryQueueFactory deliveryQueueFactory;
+    private final SubscriptionIndex subscriptionIndex;
+    private final LatestTickTable latestTickTable;
+    private final BroadcastFrameEncoder frameEncoder;
     private final ObjectMapper objectMapper;
 
     public FrontendWebSocketHandler(
         DistributionServiceFactory distributionServiceFactory,
         SessionRegistry sessionRegistry,
+        ClientDeliveryQueueFactory deliveryQueueFactory,
+        SubscriptionIndex subscriptionIndex,
+        LatestTickTable latestTickTable,
+        BroadcastFrameEncoder frameEncoder,
         ObjectMapper objectMapper
     ) {
         this.distributionServiceFactory = distributionServiceFactory;
         this.sessionRegistry = sessionRegistry;
+        this.deliveryQueueFactory = deliveryQueueFactory;
+        this.subscriptionIndex = subscriptionIndex;
+        this.latestTickTable = latestTickTable;
+        this.frameEncoder = frameEncoder;
         this.objectMapper = objectMapper;
     }
 
@@ -43,20 +72,52 @@ public class FrontendWebSocketHandler extends TextWebSocketHandler {
         String sessionId = session.getId();
         log.info("WebSocket connection established - Session ID: {}", sessionId);
         
+        WireFormat format;
         try {
-            // 1. 세션 등록
+            format = negotiateFormat(session);
+        } catch (IllegalArgumentException e) {
+            log.info("Rejecting session {}: {}", sessionId, e.getMessage());
+            try {
+                session.close(CloseStatus.BAD_DATA.withReason(e.getMessage()));
+            } catch (IOException ex) {
+                log.error("Error closing WebSocket session", ex);
+            }
+            return;
+        }
+
+        try {
+            // 1. 세션 등록 (모든 전송은 전송 시간/버퍼 한도를 검사하는 데코레이터를 거침)
+            WebSocketSession sendSession = deliveryQueueFactory.decorate(session);
             ClientSession clientSession = ClientSession.builder()
                 .sessionId(sessionId)
                 .clientId(sessionId)
                 .sessionType(ClientSession.SessionType.WEBSOCKET)
-                .session(session)
+                .session(sendSession)
                 .build();
             sessionRegistry.registerSession(sessionId, clientSession);
+            // 구독 메시지를 보내기 전까지는 전체 구독 (기존 클라이언트 호환)
+            subscriptionIndex.registerSession(sessionId);
             
-            // 2. 현재 서비스에 Sink 생성 및 등록
+            // 2. 현재 서비스에 세션 전송 큐 생성 및 등록
+            //    브로드캐스트 스레드는 큐에 넣기만 하고, 전송은 전송 워커에서 세션 단위로 수행
+            //    (직렬화된 메시지를 그대로 공유, 느린 세션은 거래쌍별 최신 틱만 받음)
+            //    협상한 형식에 맞는 메시지를 고르고, delta 형식이면 직전에 보낸 틱 대비 바뀐 필드만 보냄
             DistributionService currentService = distributionServiceFactory.getCurrentService();
             if (currentService != null) {
-                Sinks.Many<StandardExchangeData> sink = Sinks.many().multicast().onBackpressureBuffer();
+                ClientDeliveryQueue sink = deliveryQueueFactory.create(sessionId,
+                    new SessionFrameWriter(format, message -> sendMessage(sendSession, message)),
+                    () -> closeSession(sendSession, CloseStatus.SESSION_NOT_RELIABLE));
+
+                // 3. 구독 거래쌍의 최신 틱을 스냅샷 프레임 하나로 먼저 넣어 실시간 틱보다 앞서 전송
+                //    (재접속한 클라이언트가 초기 상태를 REST/Redis로 따로 조회하지 않아도 됨)
+                StandardExchangeData[] snapshot = latestTickTable.snapshot();
+                List<StandardExchangeData> initial = subscribedTicks(sessionId, Arrays.asList(snapshot));
+                if (!initial.isEmpty()) {
+                    BroadcastFrame snapshotFrame = frameEncoder.encodeSnapshot(initial);
+                    if (snapshotFrame != null) {
+                        sink.offer(snapshotFrame);
+                    }
+                }
                 
                 // 대신 DirectDistributionService의 clientSinks에 직접 추가해야 합니다
                 if (currentService instanceof DirectDistributionService) {
@@ -64,20 +125,17 @@ public class FrontendWebSocketHandler extends TextWebSocketHandler {
                 } else if (currentService instanceof KafkaDistributionService) {
                     ((KafkaDistributionService) currentService).addClientSink(sessionId, sink);
                 }
+
+                // 4. 스냅샷 이후 등록 전까지 바뀐 거래쌍 보충 (등록 후의 틱은 브로드캐스트로 받음)
+                for (StandardExchangeData data : subscribedTicks(sessionId, latestTickTable.changedSince(snapshot))) {
+                    BroadcastFrame frame = frameEncoder.encode(data);
+                    if (frame != null) {
+                        sink.offer(frame);
+                    }
+                }
                 
-                // 3. Sink를 통해 데이터 수신 및 클라이언트로 전송
-                sink.asFlux()
-                    .doOnNext(data -> {
-                        try {
-                            String jsonData = objectMapper.writeValueAsString(data);
-                            session.sendMessage(new TextMessage(jsonData));
-                        } catch (Exception e) {
-                            log.error("Error sending message to client: {}", e.getMessage());
-                        }
-                    })
-                    .subscribe();
-                
-                log.info("Client sink created and registered - Session ID: {}", sessionId);
+                log.info("Client sink created and registered - Session ID: {}, format: {}, snapshot pairs: {}",
+                    sessionId, format, initial.size());
             } else {
                 log.warn("No active distribution service found");
             }
@@ -96,20 +154,177 @@ public class FrontendWebSocketHandler extends TextWebSocketHandler {
         String sessionId = session.getId();
         log.info("WebSocket connection closed - Session ID: {}, Status: {}", sessionId, status);
         
-        // 1. 세션 제거
+        // 1. 세션 및 구독 제거
         sessionRegistry.removeSession(sessionId);
+        subscriptionIndex.removeSession(sessionId);
         
-        // 2. Sink 제거
+        // 2. 서비스에서 전송 큐 제거 후 닫기 (대기 프레임 폐기)
         DistributionService currentService = distributionServiceFactory.getCurrentService();
         if (currentService != null) {
-            Map<String, Sinks.Many<StandardExchangeData>> sinks = currentService.getActiveSinks();
-            sinks.remove(sessionId);
+            ClientDeliveryQueue sink = currentService.removeClientSink(sessionId);
+            if (sink != null) {
+                sink.close();
+            }
         }
     }
 
+    /**
+     * 구독 요청 처리
+     * {"action": "subscribe" | "unsubscribe" | "list", "topics": ["binance:USDT-BTC", "upbit:*", "*:KRW-ETH"]}
+     * 처리 후 현재 구독 목록을 {"type": "subscriptions", "topics": [...]} 로 응답합니다.
+     * 구독으로 새로 받게 된 거래쌍은 최신 틱을 스냅샷 프레임 하나로 전송 큐에 넣습니다 (접속 시 스냅샷과 같은 방식).
+     */
     @Override
-    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
-        log.debug("Received message from client {}: {}", session.getId(), message.getPayload());
+    protected void handleTextMessage(WebSocketSession rawSession, TextMessage message) {
+        WebSocketSession session = sendSession(rawSession);
+        String sessionId = session.getId();
+        log.debug("Received message from client {}: {}", sessionId, message.getPayload());
+
+        try {
+            SubscriptionRequest request = objectMapper.readValue(message.getPayload(), SubscriptionRequest.class);
+            String action = request.getAction() != null ? request.getAction() : "";
+
+            Set<String> topics;
+            switch (action) {
+                case "subscribe":
+                    StandardExchangeData[] snapshot = latestTickTable.snapshot();
+                    List<StandardExchangeData> before = subscribedTicks(sessionId, Arrays.asList(snapshot));
+                    topics = subscriptionIndex.subscribe(sessionId, request.getTopics());
+                    sendSubscribeSnapshot(sessionId, snapshot, before);
+                    break;
+                case "unsubscribe":
+                    topics = subscriptionIndex.unsubscribe(sessionId, request.getTopics());
+                    break;
+                case "list":
+                    topics = subscriptionIndex.getTopics(sessionId);
+                    break;
+                default:
+                    sendError(session, "Unknown action: " + action);
+                    return;
+            }
+
+            log.info("Subscription updated - Session ID: {}, Action: {}, Topics: {}", sessionId, action, topics);
+            sendMessage(session, new TextMessage(objectMapper.writeValueAsString(
+                Map.of("type", "subscriptions", "topics", topics))));
+        } catch (IllegalArgumentException e) {
+            sendError(session, e.getMessage());
+        } catch (IOException e) {
+            log.debug("Invalid message from client {}: {}", sessionId, e.getMessage());
+            sendError(session, "Invalid subscription message");
+        }
+    }
+
+    /**
+     * 구독으로 새로 받게 된 거래쌍의 스냅샷 전송 (세션 전송 큐로, 실시간 틱과 같은 순서)
+     * 구독 변경 후 이미 큐에 들어간 실시간 틱보다 오래된 스냅샷이 뒤에 갈 수 있으므로,
+     * 스냅샷 이후 바뀐 거래쌍은 접속 시와 같이 최신 틱으로 다시 보충합니다.
+     * @param before 구독 변경 전에 받고 있던 틱 (이미 실시간으로 받고 있으므로 제외)
+     */
+    private void sendSubscribeSnapshot(String sessionId, StandardExchangeData[] snapshot,
+            List<StandardExchangeData> before) {
+        DistributionService currentService = distributionServiceFactory.getCurrentService();
+        ClientDeliveryQueue sink = currentService != null ? currentService.getClientSink(sessionId) : null;
+        if (sink == null) {
+            return;
+        }
+        Set<String> received = new HashSet<>();
+        before.forEach(data -> received.add(pairKey(data)));
+
+        List<StandardExchangeData> added = newlySubscribed(sessionId, Arrays.asList(snapshot), received);
+        if (added.isEmpty()) {
+            return;
+        }
+        BroadcastFrame snapshotFrame = frameEncoder.encodeSnapshot(added);
+        if (snapshotFrame != null) {
+            sink.offer(snapshotFrame);
+        }
+        for (StandardExchangeData data : newlySubscribed(sessionId, latestTickTable.changedSince(snapshot), received)) {
+            BroadcastFrame frame = frameEncoder.encode(data);
+            if (frame != null) {
+                sink.offer(frame);
+            }
+        }
+        log.info("Sent subscribe snapshot - Session ID: {}, new pairs: {}", sessionId, added.size());
+    }
+
+    private List<StandardExchangeData> newlySubscribed(String sessionId, List<StandardExchangeData> ticks,
+            Set<String> received) {
+        List<StandardExchangeData> result = subscribedTicks(sessionId, ticks);
+        result.removeIf(data -> received.contains(pairKey(data)));
+        return result;
+    }
+
+    private static String pairKey(StandardExchangeData data) {
+        return data.getExchange().toLowerCase() + ":" + data.getCurrencyPair();
+    }
+
+    /**
+     * 접속 URL 쿼리로 전송 형식 결정 (?encoding=json|cbor&delta=true|false, 없으면 기존 JSON)
+     */
+    private WireFormat negotiateFormat(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return WireFormat.LEGACY;
+        }
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams();
+        return WireFormat.negotiate(params.getFirst("encoding"), params.getFirst("delta"));
+    }
+
+    /**
+     * 세션이 구독한 거래쌍의 틱만 선택 (null 슬롯은 건너뜀)
+     */
+    private List<StandardExchangeData> subscribedTicks(String sessionId, List<StandardExchangeData> ticks) {
+        List<StandardExchangeData> result = new ArrayList<>();
+        for (StandardExchangeData data : ticks) {
+            if (data != null && subscriptionIndex.getSubscribers(data).contains(sessionId)) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 등록 시 만든 전송용 데코레이터 (등록 전이면 원본 세션)
+     */
+    private WebSocketSession sendSession(WebSocketSession session) {
+        ClientSession clientSession = sessionRegistry.getSession(session.getId());
+        if (clientSession != null && clientSession.getSession() instanceof WebSocketSession sendSession) {
+            return sendSession;
+        }
+        return session;
+    }
+
+    /**
+     * 전송이 밀린 세션 종료 (브로드캐스트/전송 워커 스레드에서 호출되므로 예외를 밖으로 던지지 않음)
+     */
+    private void closeSession(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.error("Error closing slow session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private void sendError(WebSocketSession session, String error) {
+        try {
+            sendMessage(session, new TextMessage(objectMapper.writeValueAsString(
+                Map.of("type", "error", "error", error))));
+        } catch (IOException e) {
+            log.error("Error sending error message to client {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 데코레이터가 전송 워커와 요청 처리 스레드의 전송을 세션 단위로 직렬화
+     * 블로킹된 전송이 전송 시간 한도를 넘거나 버퍼가 한도를 넘으면 세션을 종료
+     */
+    private void sendMessage(WebSocketSession session, WebSocketMessage<?> message) throws IOException {
+        try {
+            session.sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            log.warn("Closing slow session {}: {}", session.getId(), e.getMessage());
+            closeSession(session, e.getStatus());
+            throw e;
+        }
     }
 
     @Override
@@ -0,0 +1,85 @@
+package com.example.boot.exchange.layer1_core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 심볼 완전 해시 테이블 테스트 (seed 탐색/크기 확장, 문자 버퍼와 String 조회)
+ */
+public class SymbolTableTest {
+
+    @Test
+    public void testEmptyTable() {
+        SymbolTable table = SymbolTable.build(Map.of());
+
+        assertSame(SymbolTable.EMPTY, table);
+        assertNull(table.get("BTCUSDT"));
+        assertNull(table.get("BTCUSDT".toCharArray(), 0, 7));
+    }
+
+    @Test
+    public void testFindsEverySymbolBothWays() {
+        Map<String, TradingPair> symbols = symbols(300);
+        SymbolTable table = SymbolTable.build(symbols);
+
+        symbols.forEach((symbol, pair) -> {
+            assertSame(pair, table.get(symbol), symbol);
+            // 앞뒤에 다른 문자가 있는 파서 버퍼 안의 심볼
+            char[] buffer = ("{\"s\":\"" + symbol + "\"}").toCharArray();
+            assertSame(pair, table.get(buffer, 6, symbol.length()), symbol);
+        });
+    }
+
+    @Test
+    public void testUnknownSymbolsReturnNull() {
+        SymbolTable table = SymbolTable.build(symbols(300));
+
+        for (int i = 0; i < 1000; i++) {
+            String unknown = "X" + i + "EUR";
+            assertNull(table.get(unknown), unknown);
+            assertNull(table.get(unknown.toCharArray(), 0, unknown.length()), unknown);
+        }
+        // 등록된 심볼의 앞부분/확장
+        assertNull(table.get("S0USD"));
+        assertNull(table.get("S0USDTX"));
+        assertNull(table.get("S0USDT".toCharArray(), 0, 5));
+        assertNull(table.get(""));
+    }
+
+    @Test
+    public void testGrowsTableWhenNoSeedFits() {
+        // 64개를 128칸에 충돌 없이 넣는 seed는 사실상 없으므로 크기를 늘려야 함
+        Map<String, TradingPair> symbols = symbols(64);
+        SymbolTable table = SymbolTable.build(symbols);
+
+        assertTrue(table.capacity() > 128, "capacity " + table.capacity());
+        assertEquals(0, table.capacity() & (table.capacity() - 1));
+        symbols.forEach((symbol, pair) -> assertSame(pair, table.get(symbol)));
+    }
+
+    @Test
+    public void testSmallTableFitsInitialSize() {
+        Map<String, TradingPair> symbols = symbols(1);
+        SymbolTable table = SymbolTable.build(symbols);
+
+        assertEquals(2, table.capacity());
+        assertEquals(1, table.seed());
+        assertSame(symbols.get("S0USDT"), table.get("S0USDT"));
+    }
+
+    private static Map<String, TradingPair> symbols(int count) {
+        Map<String, TradingPair> symbols = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            TradingPair pair = new TradingPair(i, "binance", new CurrencyPair("USDT", "S" + i), 8, 8);
+            symbols.put(pair.nativeSymbol(), pair);
+        }
+        return symbols;
+    }
+}
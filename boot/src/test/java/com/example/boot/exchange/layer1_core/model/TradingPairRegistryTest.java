@@ -0,0 +1,195 @@
+package com.example.boot.exchange.layer1_core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.config.ExchangeConfig;
+
+/**
+ * 거래쌍 레지스트리 테스트 (설정 거래쌍 id, 실행 중 등록과 심볼 테이블 재생성, 거래쌍별 소수 자릿수)
+ */
+public class TradingPairRegistryTest {
+
+    @Test
+    public void testRegistersConfiguredPairsInOrder() {
+        TradingPairRegistry registry = new TradingPairRegistry(createConfig(List.of("BTC", "ETH")), 8, 8);
+
+        // binance(BTC x USDT/BTC, ETH x USDT/BTC), upbit(KRW), bithumb(KRW)
+        assertEquals(8, registry.size());
+        assertEquals("binance:USDT-BTC", registry.get(0).topicKey());
+        assertEquals("binance:BTC-ETH", registry.get(3).topicKey());
+        assertEquals("upbit:KRW-ETH", registry.get(5).topicKey());
+        assertEquals("bithumb:KRW-ETH", registry.get(7).topicKey());
+        for (int id = 0; id < registry.size(); id++) {
+            TradingPair pair = registry.get(id);
+            assertEquals(id, pair.id());
+            assertTrue(registry.isConfigured(pair));
+            assertSame(pair, registry.register(pair.exchange(), pair.currencyPair()));
+            assertSame(pair, find(registry, pair.exchange(), pair.nativeSymbol()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> registry.get(8));
+        assertNull(find(registry, "binance", "SOLUSDT"));
+        assertNull(find(registry, "okx", "BTC-USDT"));
+    }
+
+    @Test
+    public void testRuntimeRegistrationRebuildsSymbolTable() {
+        TradingPairRegistry registry = new TradingPairRegistry(createConfig(List.of("BTC", "ETH")), 8, 8);
+        TradingPair btc = find(registry, "binance", "BTCUSDT");
+
+        TradingPair sol = registry.resolveSymbol("binance", "SOLUSDT", symbol -> new CurrencyPair("USDT", "SOL"));
+
+        assertEquals(8, sol.id());
+        assertFalse(registry.isConfigured(sol));
+        assertSame(sol, find(registry, "binance", "SOLUSDT"));
+        assertSame(sol, registry.register("binance", new CurrencyPair("USDT", "SOL")));
+        // 재생성된 테이블에서도 기존 심볼 조회
+        assertSame(btc, find(registry, "binance", "BTCUSDT"));
+        // 이미 등록된 심볼은 splitter를 다시 호출하지 않음
+        assertSame(sol, registry.resolveSymbol("binance", "SOLUSDT", symbol -> {
+            throw new AssertionError("splitter called for a registered symbol");
+        }));
+        // 지원하지 않는 심볼은 등록하지 않음
+        assertNull(registry.resolveSymbol("binance", "SOLEUR", symbol -> null));
+        assertEquals(9, registry.size());
+
+        // 처음 보는 거래소도 등록
+        TradingPair okx = registry.register("okx", new CurrencyPair("USDT", "BTC"));
+        assertSame(okx, find(registry, "okx", "USDT-BTC"));
+    }
+
+    @Test
+    public void testRuntimePairIdsMayDifferBetweenNodes() {
+        TradingPairRegistry node1 = new TradingPairRegistry(createConfig(List.of("BTC", "ETH")), 8, 8);
+        TradingPairRegistry node2 = new TradingPairRegistry(createConfig(List.of("BTC", "ETH")), 8, 8);
+
+        // 같은 설정이면 설정 거래쌍 id는 같음
+        for (int id = 0; id < node1.size(); id++) {
+            assertEquals(node1.get(id).topicKey(), node2.get(id).topicKey());
+        }
+
+        // 실행 중 등록 순서가 다르면 id가 달라짐
+        TradingPair sol1 = node1.register("binance", new CurrencyPair("USDT", "SOL"));
+        node1.register("upbit", new CurrencyPair("KRW", "SOL"));
+        node2.register("upbit", new CurrencyPair("KRW", "SOL"));
+        TradingPair sol2 = node2.register("binance", new CurrencyPair("USDT", "SOL"));
+
+        assertEquals(sol1.topicKey(), sol2.topicKey());
+        assertNotEquals(sol1.id(), sol2.id());
+        assertFalse(node1.isConfigured(sol1));
+        assertFalse(node2.isConfigured(sol2));
+        // 다른 노드의 거래쌍 인스턴스는 설정 거래쌍으로 보지 않음
+        assertFalse(node1.isConfigured(node2.get(0)));
+    }
+
+    @Test
+    public void testConcurrentRegistrationReturnsOnePair() throws Exception {
+        TradingPairRegistry registry = new TradingPairRegistry(null, 8, 8);
+        int threads = 8;
+        TradingPair[][] results = new TradingPair[threads][];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                results[index] = new TradingPair[50];
+                for (int i = 0; i < 50; i++) {
+                    results[index][i] = registry.register("binance", new CurrencyPair("USDT", "C" + i));
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(50, registry.size());
+        for (int i = 0; i < 50; i++) {
+            TradingPair pair = results[0][i];
+            for (int t = 1; t < threads; t++) {
+                assertSame(pair, results[t][i]);
+            }
+            assertSame(pair, registry.get(pair.id()));
+            assertSame(pair, find(registry, "binance", "C" + i + "USDT"));
+        }
+    }
+
+    @Test
+    public void testResolvesScalesPerPair() {
+        ExchangeConfig config = createConfig(List.of("BTC", "DOGE"));
+        ExchangeConfig.Tick tick = new ExchangeConfig.Tick();
+        tick.setQuotes(Map.of("krw", scale(null, 6)));
+        tick.setBases(Map.of("DOGE", scale(null, 4), "SHIB", scale(6, 2)));
+        config.setTick(tick);
+
+        TradingPairRegistry registry = new TradingPairRegistry(config, 8, 8);
+
+        // 기본값
+        assertScales(registry.register("binance", new CurrencyPair("USDT", "BTC")), 8, 8);
+        // 기준통화별 (지정하지 않은 가격 자릿수는 기본값)
+        assertScales(registry.register("upbit", new CurrencyPair("KRW", "BTC")), 8, 6);
+        // 코인별 설정이 기준통화별보다 우선
+        assertScales(registry.register("upbit", new CurrencyPair("KRW", "DOGE")), 8, 4);
+        assertScales(registry.register("binance", new CurrencyPair("USDT", "DOGE")), 8, 4);
+        // 실행 중 등록되는 거래쌍도 같은 규칙
+        assertScales(registry.register("binance", new CurrencyPair("USDT", "SHIB")), 6, 2);
+        assertScales(registry.resolveSymbol("bithumb", "SHIB_KRW", symbol -> new CurrencyPair("KRW", "SHIB")), 6, 2);
+    }
+
+    @Test
+    public void testRejectsInvalidScale() {
+        ExchangeConfig config = createConfig(List.of("BTC"));
+        ExchangeConfig.Tick tick = new ExchangeConfig.Tick();
+        tick.setBases(Map.of("SHIB", scale(null, 19)));
+        config.setTick(tick);
+
+        assertThrows(IllegalArgumentException.class, () -> new TradingPairRegistry(config, 8, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TradingPairRegistry(null, -1, 8));
+    }
+
+    private static TradingPair find(TradingPairRegistry registry, String exchange, String symbol) {
+        char[] buffer = (" " + symbol + " ").toCharArray();
+        return registry.findSymbol(exchange, buffer, 1, symbol.length());
+    }
+
+    private static void assertScales(TradingPair pair, int priceScale, int volumeScale) {
+        assertEquals(priceScale, pair.priceScale(), pair + " price scale");
+        assertEquals(volumeScale, pair.volumeScale(), pair + " volume scale");
+    }
+
+    private static ExchangeConfig.Scale scale(Integer priceScale, Integer volumeScale) {
+        ExchangeConfig.Scale scale = new ExchangeConfig.Scale();
+        scale.setPriceScale(priceScale);
+        scale.setVolumeScale(volumeScale);
+        return scale;
+    }
+
+    private static ExchangeConfig createConfig(List<String> symbols) {
+        ExchangeConfig config = new ExchangeConfig();
+        ExchangeConfig.Common common = new ExchangeConfig.Common();
+        common.setSupportedSymbols(symbols);
+        config.setCommon(common);
+
+        ExchangeConfig.Exchanges exchanges = new ExchangeConfig.Exchanges();
+        exchanges.setBinance(exchange("USDT", "BTC"));
+        exchanges.setUpbit(exchange("KRW"));
+        exchanges.setBithumb(exchange("KRW"));
+        config.setExchanges(exchanges);
+        return config;
+    }
+
+    private static ExchangeConfig.Exchange exchange(String... currencies) {
+        ExchangeConfig.Exchange exchange = new ExchangeConfig.Exchange();
+        exchange.setSupportedCurrencies(List.of(currencies));
+        return exchange;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.boot.exchange.layer3_data_converter.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 고정소수점 변환 테스트 (pack/toScaled: 반올림, 지수 표기, 17자리 초과 소수 버림, 범위 초과)
+ */
+public class StreamingJsonSupportTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testPacksPlainDecimals() {
+        assertEquals(12_345L, scaled("123.45", 2));
+        assertEquals(9_512_345_000_000L, scaled("95123.45000000", 8));
+        assertEquals(-12_345_000_000L, scaled("-123.45", 8));
+        assertEquals(100L, scaled("+1", 2));
+        assertEquals(0L, scaled("0.000", 8));
+        assertEquals(5L, scaled("5", 0));
+    }
+
+    @Test
+    public void testRoundsHalfUpWhenDroppingDigits() {
+        assertEquals(12_346L, scaled("123.455", 2));
+        assertEquals(12_345L, scaled("123.4549", 2));
+        // 음수는 0에서 먼 쪽으로 (BigDecimal HALF_UP과 같음)
+        assertEquals(-12_346L, scaled("-123.455", 2));
+        assertEquals(-12_345L, scaled("-123.4549", 2));
+
+        for (String value : new String[] {"0.123456785", "-0.000000015", "99999.999999995", "1.5", "-2.5"}) {
+            for (int scale = 0; scale <= 8; scale++) {
+                long expected = new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+                assertEquals(expected, scaled(value, scale), value + " @" + scale);
+            }
+        }
+    }
+
+    @Test
+    public void testReadsExponentNotation() {
+        assertEquals(120_000_000_000_000_000L, scaled("1.2E9", 8));
+        assertEquals(1_200_000_000L, scaled("1.2e9", 0));
+        assertEquals(150_000L, scaled("1.5e-3", 8));
+        assertEquals(2L, scaled("1.5E-8", 8));
+        assertEquals(-3_000L, scaled("-3E+3", 0));
+        assertEquals(0L, scaled("0E+30", 8));
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("1e", 8));
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("1e1000", 8));
+    }
+
+    @Test
+    public void testTruncatesDigitsBeyondPrecision() {
+        // 유효 자릿수 약 17~18자리를 넘는 소수 자리는 버림 (반올림하지 않음)
+        assertEquals(123_456_789_012_345_678L, scaled("0.12345678901234567890", 18));
+        assertEquals(12_345_679L, scaled("0.12345678901234567890", 8));
+        // 18번째 자리까지만 보관하고 나머지(9999)는 반올림 없이 버림
+        assertEquals(1_234_567_890_123_456_780L, scaled("12345678901.23456789999", 8));
+        // 긴 소수 (보관 범위 밖의 0은 버리고, 63자리를 넘는 소수 자릿수는 줄여서 반올림)
+        assertEquals(5L, scaled("0.00000005" + "0".repeat(70), 8));
+        assertEquals(0L, scaled("0." + "0".repeat(70) + "1", 8));
+        assertEquals(1L, scaled("0." + "0".repeat(62) + "05", 63));
+    }
+
+    @Test
+    public void testOverflowThrows() {
+        // 정수부가 묶음 범위(약 1.4e17)를 넘음
+        assertThrows(ArithmeticException.class, () -> StreamingJsonSupportTest.scaled("999999999999999999999", 0));
+        assertThrows(ArithmeticException.class, () -> StreamingJsonSupportTest.scaled("1e30", 0));
+        // 묶음은 되지만 scale을 맞추면 long 범위를 넘음 (scale 8 기준 약 9.2e10)
+        assertEquals(9_200_000_000_000_000_000L, scaled("92000000000", 8));
+        assertThrows(ArithmeticException.class, () -> StreamingJsonSupportTest.scaled("100000000000", 8));
+        assertThrows(ArithmeticException.class, () -> StreamingJsonSupportTest.scaled("1", 19 + 18));
+        assertEquals(0L, scaled("0", 40));
+    }
+
+    @Test
+    public void testRejectsInvalidInput() {
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("", 8));
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("-", 8));
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("1.2.3", 8));
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("12a", 8));
+        assertThrows(NumberFormatException.class, () -> StreamingJsonSupportTest.scaled("e5", 8));
+    }
+
+    @Test
+    public void testReadsPackedFromParserBuffer() throws Exception {
+        // 파서 문자 버퍼의 오프셋 위치에서 읽음 (문자열과 숫자 토큰 모두)
+        JsonParser parser = objectMapper.getFactory().createParser("{\"a\":\"12.5\",\"b\":-0.25,\"c\":null,\"d\":true}");
+        parser.nextToken();
+        parser.nextToken();
+        parser.nextToken();
+        assertEquals(1_250L, StreamingJsonSupport.toScaled(StreamingJsonSupport.readPacked(parser), 2));
+        parser.nextToken();
+        parser.nextToken();
+        assertEquals(-25L, StreamingJsonSupport.toScaled(StreamingJsonSupport.readPacked(parser), 2));
+        parser.nextToken();
+        parser.nextToken();
+        assertEquals(StreamingJsonSupport.MISSING, StreamingJsonSupport.readPacked(parser));
+        parser.nextToken();
+        parser.nextToken();
+        assertThrows(IllegalStateException.class, () -> StreamingJsonSupport.readPacked(parser));
+    }
+
+    private static long scaled(String value, int scale) {
+        // 앞뒤에 다른 문자가 있는 버퍼에서 읽기
+        char[] chars = ("[" + value + "]").toCharArray();
+        return StreamingJsonSupport.toScaled(StreamingJsonSupport.pack(chars, 1, value.length()), scale);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.boot.exchange.layer3_data_converter.converter.binance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 바이낸스 Ticker 스트리밍 변환 테스트 (필드 순서 무관, Ticker 외 메시지, 필수 필드 누락)
+ */
+public class BinanceConverterImplTest {
+    private static final String TICKER = "{\"e\":\"24hrTicker\",\"E\":1735689600123,\"s\":\"BTCUSDT\","
+        + "\"p\":\"-123.45000000\",\"P\":\"-0.129\",\"w\":\"95000.1\",\"c\":\"95123.45000000\","
+        + "\"Q\":\"0.01\",\"h\":\"96000.00\",\"l\":\"94000.00\",\"v\":\"12345.6789\",\"q\":\"1.2E9\","
+        + "\"O\":1735603200000,\"C\":1735689600000,\"F\":1,\"L\":2,\"n\":2}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TradingPair pair;
+    private BinanceConverterImpl converter;
+
+    @BeforeEach
+    public void setup() {
+        TradingPairRegistry registry = new TradingPairRegistry(null, 8, 8);
+        pair = registry.register("binance", new CurrencyPair("USDT", "BTC"));
+        converter = new BinanceConverterImpl(objectMapper, registry);
+    }
+
+    @Test
+    public void testConvertsTicker() throws Exception {
+        StandardExchangeData data = parse(TICKER);
+
+        assertSame(pair, data.tradingPair());
+        assertEquals(Instant.ofEpochMilli(1735689600123L), data.getTimestamp());
+        assertEquals(new BigDecimal("95123.45"), data.getPrice());
+        assertEquals(new BigDecimal("12345.6789"), data.getVolume());
+        assertEquals(new BigDecimal("12345.6789"), data.getVolume24h());
+        assertEquals(new BigDecimal("96000"), data.getHighPrice());
+        assertEquals(new BigDecimal("94000"), data.getLowPrice());
+        assertEquals(new BigDecimal("-123.45"), data.getPriceChange());
+        assertEquals(new BigDecimal("-0.129"), data.getPriceChangePercent());
+    }
+
+    @Test
+    public void testFieldOrderDoesNotMatter() throws Exception {
+        String reordered = "{\"n\":2,\"v\":\"12345.6789\",\"l\":\"94000.00\",\"x\":{\"nested\":[1,2]},"
+            + "\"c\":\"95123.45000000\",\"P\":\"-0.129\",\"h\":\"96000.00\",\"s\":\"BTCUSDT\","
+            + "\"p\":\"-123.45000000\",\"E\":1735689600123,\"e\":\"24hrTicker\"}";
+
+        assertEquals(parse(TICKER).compact(), parse(reordered).compact());
+    }
+
+    @Test
+    public void testUnregisteredSymbolIsResolved() throws Exception {
+        StandardExchangeData data = parse(TICKER.replace("BTCUSDT", "ETHBTC"));
+
+        assertEquals("binance:BTC-ETH", data.tradingPair().topicKey());
+        assertNull(parse(TICKER.replace("BTCUSDT", "ETHEUR")));
+    }
+
+    @Test
+    public void testNonTickerFrameReturnsNull() throws Exception {
+        assertNull(parse("{\"result\":null,\"id\":1}"));
+        assertNull(parse("{\"e\":\"trade\",\"E\":1735689600123,\"s\":\"BTCUSDT\",\"p\":\"95123.45\"}"));
+        assertNull(parse("[]"));
+        assertNull(converter.convert(message("{\"result\":null,\"id\":1}")).block());
+    }
+
+    @Test
+    public void testMissingRequiredFieldFails() {
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace("\"c\":\"95123.45000000\",", "")));
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace("\"E\":1735689600123,", "")));
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace("\"s\":\"BTCUSDT\",", "")));
+
+        // 변환 스트림에서는 로그만 남기고 건너뜀
+        assertNull(converter.convert(message(TICKER.replace("\"v\":\"12345.6789\",", ""))).block());
+    }
+
+    private StandardExchangeData parse(String json) throws Exception {
+        return converter.parse(objectMapper.getFactory().createParser(json));
+    }
+
+    private static ExchangeMessage message(String json) {
+        return new ExchangeMessage("binance", json, Instant.now(), ExchangeMessage.MessageType.TICKER);
+    }
+}
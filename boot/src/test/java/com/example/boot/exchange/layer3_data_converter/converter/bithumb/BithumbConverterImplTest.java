@@ -0,0 +1,107 @@
+package com.example.boot.exchange.layer3_data_converter.converter.bithumb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 빗썸 Ticker 스트리밍 변환 테스트 (type/content 순서 무관, Ticker 외 메시지, 필수 필드 누락)
+ */
+public class BithumbConverterImplTest {
+    private static final String CONTENT = "{\"tickType\":\"24H\",\"date\":\"20250101\",\"time\":\"090000\","
+        + "\"openPrice\":\"139000000\",\"closePrice\":\"139500000\",\"lowPrice\":\"138000000\","
+        + "\"highPrice\":\"140500000\",\"value\":\"172000000000.5\",\"volume\":\"1234.56789012\","
+        + "\"sellVolume\":\"600.1\",\"buyVolume\":\"634.4\",\"prevClosePrice\":\"139100000\","
+        + "\"chgRate\":\"0.29\",\"chgAmt\":\"400000\",\"volumePower\":\"105.7\",\"symbol\":\"BTC_KRW\"}";
+    private static final String TICKER = "{\"type\":\"ticker\",\"content\":" + CONTENT + "}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TradingPair pair;
+    private BithumbConverterImpl converter;
+
+    @BeforeEach
+    public void setup() {
+        TradingPairRegistry registry = new TradingPairRegistry(null, 8, 8);
+        pair = registry.register("bithumb", new CurrencyPair("KRW", "BTC"));
+        converter = new BithumbConverterImpl(objectMapper, registry);
+    }
+
+    @Test
+    public void testConvertsTicker() throws Exception {
+        StandardExchangeData data = parse(TICKER);
+
+        assertSame(pair, data.tradingPair());
+        assertEquals(new BigDecimal("139500000"), data.getPrice());
+        assertEquals(new BigDecimal("1234.56789012"), data.getVolume());
+        assertEquals(new BigDecimal("1234.56789012"), data.getVolume24h());
+        assertEquals(new BigDecimal("140500000"), data.getHighPrice());
+        assertEquals(new BigDecimal("138000000"), data.getLowPrice());
+        assertEquals(new BigDecimal("400000"), data.getPriceChange());
+        assertEquals(new BigDecimal("0.29"), data.getPriceChangePercent());
+    }
+
+    @Test
+    public void testFieldOrderDoesNotMatter() throws Exception {
+        // content가 type보다 먼저 오고, content 안의 필드 순서도 다름
+        String reordered = "{\"content\":{\"symbol\":\"BTC_KRW\",\"chgAmt\":\"400000\",\"chgRate\":\"0.29\","
+            + "\"extra\":[{\"a\":1}],\"volume\":\"1234.56789012\",\"highPrice\":\"140500000\","
+            + "\"lowPrice\":\"138000000\",\"closePrice\":\"139500000\"},\"type\":\"ticker\"}";
+
+        StandardExchangeData expected = parse(TICKER);
+        StandardExchangeData actual = parse(reordered);
+        assertSame(expected.tradingPair(), actual.tradingPair());
+        assertEquals(expected.compact().price(), actual.compact().price());
+        assertEquals(expected.compact().volume(), actual.compact().volume());
+        assertEquals(expected.compact().highPrice(), actual.compact().highPrice());
+        assertEquals(expected.compact().lowPrice(), actual.compact().lowPrice());
+        assertEquals(expected.compact().priceChange(), actual.compact().priceChange());
+        assertEquals(expected.compact().priceChangePercent(), actual.compact().priceChangePercent());
+    }
+
+    @Test
+    public void testUnregisteredSymbolIsResolved() throws Exception {
+        StandardExchangeData data = parse(TICKER.replace("BTC_KRW", "XRP_KRW"));
+
+        assertEquals("bithumb:KRW-XRP", data.tradingPair().topicKey());
+    }
+
+    @Test
+    public void testNonTickerFrameReturnsNull() throws Exception {
+        assertNull(parse("{\"status\":\"0000\",\"resmsg\":\"Connected Successfully\"}"));
+        assertNull(parse("{\"content\":" + CONTENT + ",\"type\":\"transaction\"}"));
+        assertNull(converter.convert(message("{\"status\":\"0000\",\"resmsg\":\"Filter Registered Successfully\"}")).block());
+    }
+
+    @Test
+    public void testMissingRequiredFieldFails() {
+        assertThrows(IllegalStateException.class, () -> parse("{\"type\":\"ticker\"}"));
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace("\"closePrice\":\"139500000\",", "")));
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace(",\"symbol\":\"BTC_KRW\"", "")));
+
+        // 변환 스트림에서는 로그만 남기고 건너뜀
+        assertNull(converter.convert(message(TICKER.replace("\"volume\":\"1234.56789012\",", ""))).block());
+    }
+
+    private StandardExchangeData parse(String json) throws Exception {
+        return converter.parse(objectMapper.getFactory().createParser(json));
+    }
+
+    private static ExchangeMessage message(String json) {
+        return new ExchangeMessage("bithumb", json, Instant.now(), ExchangeMessage.MessageType.TICKER);
+    }
+}
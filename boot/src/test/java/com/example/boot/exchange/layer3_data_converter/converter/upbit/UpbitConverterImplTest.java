@@ -0,0 +1,99 @@
+package com.example.boot.exchange.layer3_data_converter.converter.upbit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.ExchangeMessage;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 업비트 Ticker(SIMPLE 포맷) 스트리밍 변환 테스트 (필드 순서 무관, Ticker 외 메시지, 필수 필드 누락)
+ */
+public class UpbitConverterImplTest {
+    private static final String TICKER = "{\"ty\":\"ticker\",\"cd\":\"KRW-BTC\",\"op\":139000000,"
+        + "\"hp\":140500000.0,\"lp\":138000000,\"tp\":139500000.5,\"pcp\":139100000,\"c\":\"RISE\","
+        + "\"cp\":400000.5,\"scp\":400000,\"cr\":0.0028,\"scr\":0.0028,\"tv\":0.00123456,"
+        + "\"atv\":1234.56789012,\"atv24h\":2345.6,\"tms\":1735689600123,\"st\":\"REALTIME\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TradingPair pair;
+    private UpbitConverterImpl converter;
+
+    @BeforeEach
+    public void setup() {
+        TradingPairRegistry registry = new TradingPairRegistry(null, 8, 8);
+        pair = registry.register("upbit", new CurrencyPair("KRW", "BTC"));
+        converter = new UpbitConverterImpl(objectMapper, registry);
+    }
+
+    @Test
+    public void testConvertsTicker() throws Exception {
+        StandardExchangeData data = parse(TICKER);
+
+        assertSame(pair, data.tradingPair());
+        assertEquals(Instant.ofEpochMilli(1735689600123L), data.getTimestamp());
+        // 숫자 토큰은 double을 거치지 않고 원문 그대로
+        assertEquals(new BigDecimal("139500000.5"), data.getPrice());
+        assertEquals(new BigDecimal("0.00123456"), data.getVolume());
+        assertEquals(new BigDecimal("1234.56789012"), data.getVolume24h());
+        assertEquals(new BigDecimal("140500000"), data.getHighPrice());
+        assertEquals(new BigDecimal("138000000"), data.getLowPrice());
+        assertEquals(new BigDecimal("400000.5"), data.getPriceChange());
+        assertEquals(new BigDecimal("0.0028"), data.getPriceChangePercent());
+    }
+
+    @Test
+    public void testFieldOrderDoesNotMatter() throws Exception {
+        String reordered = "{\"st\":\"REALTIME\",\"tms\":1735689600123,\"atv\":1234.56789012,"
+            + "\"tv\":0.00123456,\"cr\":0.0028,\"cp\":400000.5,\"tp\":139500000.5,\"lp\":138000000,"
+            + "\"ext\":{\"a\":[1,{\"b\":2}]},\"hp\":140500000.0,\"cd\":\"KRW-BTC\",\"ty\":\"ticker\"}";
+
+        assertEquals(parse(TICKER).compact(), parse(reordered).compact());
+    }
+
+    @Test
+    public void testUnregisteredCodeIsResolved() throws Exception {
+        StandardExchangeData data = parse(TICKER.replace("KRW-BTC", "KRW-XRP"));
+
+        assertEquals("upbit:KRW-XRP", data.tradingPair().topicKey());
+    }
+
+    @Test
+    public void testNonTickerFrameReturnsNull() throws Exception {
+        assertNull(parse("{\"status\":\"UP\"}"));
+        assertNull(parse("{\"ty\":\"trade\",\"cd\":\"KRW-BTC\",\"tp\":139500000}"));
+        assertNull(parse("\"PONG\""));
+        assertNull(converter.convert(message("{\"status\":\"UP\"}")).block());
+    }
+
+    @Test
+    public void testMissingRequiredFieldFails() {
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace("\"tp\":139500000.5,", "")));
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace(",\"tms\":1735689600123", "")));
+        assertThrows(IllegalStateException.class, () -> parse(TICKER.replace("\"cd\":\"KRW-BTC\",", "")));
+
+        // 변환 스트림에서는 로그만 남기고 건너뜀
+        assertNull(converter.convert(message(TICKER.replace("\"atv\":1234.56789012,", ""))).block());
+    }
+
+    private StandardExchangeData parse(String json) throws Exception {
+        return converter.parse(objectMapper.getFactory().createParser(json));
+    }
+
+    private static ExchangeMessage message(String json) {
+        return new ExchangeMessage("upbit", json, Instant.now(), ExchangeMessage.MessageType.TICKER);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 세션 전송 큐 테스트 (conflation 순서, 전송률 제한, 대기 시간 초과 종료)
+ */
+public class ClientDeliveryQueueTest {
+    private Scheduler scheduler;
+    private DataFlowMonitor dataFlowMonitor;
+    private List<BroadcastFrame> sent;
+    private AtomicInteger overflows;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = Schedulers.newSingle("delivery-test");
+        dataFlowMonitor = mock(DataFlowMonitor.class);
+        sent = new CopyOnWriteArrayList<>();
+        overflows = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testConflatedFrameKeepsFirstPosition() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ClientDeliveryQueue queue = queue(0, 0, frame -> {
+            if (sent.isEmpty()) {
+                sending.countDown();
+                await(release);
+            }
+            sent.add(frame);
+        });
+
+        BroadcastFrame first = frame("binance:USDT-BTC");
+        queue.offer(first);
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+        // 첫 프레임 전송이 막힌 동안 쌓인 프레임
+        BroadcastFrame eth1 = frame("upbit:KRW-ETH");
+        BroadcastFrame btc = frame("binance:USDT-BTC");
+        BroadcastFrame eth2 = frame("upbit:KRW-ETH");
+        BroadcastFrame xrp = frame("bithumb:KRW-XRP");
+        queue.offer(eth1);
+        queue.offer(btc);
+        queue.offer(eth2);
+        queue.offer(xrp);
+        assertEquals(3, queue.getPendingCount());
+
+        release.countDown();
+        awaitSent(4);
+
+        // 교체된 ETH는 처음 들어온 자리에서 최신 값으로 전송
+        assertEquals(List.of(first, eth2, btc, xrp), sent);
+        verify(dataFlowMonitor, times(1)).incrementDeliveryConflated();
+    }
+
+    @Test
+    public void testMaxRateSpacesSends() throws Exception {
+        ClientDeliveryQueue queue = queue(0, 20, sent::add);  // 최소 간격 50ms
+        long start = System.nanoTime();
+
+        queue.offer(frame("binance:USDT-BTC"));
+        queue.offer(frame("upbit:KRW-ETH"));
+        queue.offer(frame("bithumb:KRW-XRP"));
+        awaitSent(3);
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(95),
+            "3 frames at 20/s should take at least two intervals");
+    }
+
+    @Test
+    public void testPendingAgeOverflowClosesQueue() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ClientDeliveryQueue queue = queue(100, 0, frame -> {
+            sending.countDown();
+            await(release);  // 멈춘 브라우저: 전송이 돌아오지 않음
+            sent.add(frame);
+        });
+
+        assertTrue(queue.offer(frame("binance:USDT-BTC")));
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+        // 대기 거래쌍 수는 그대로여도 (conflation) 대기 시간은 계속 늘어남
+        assertTrue(queue.offer(frame("upbit:KRW-ETH")));
+        assertTrue(queue.offer(frame("upbit:KRW-ETH")));
+        assertEquals(1, queue.getPendingCount());
+        Thread.sleep(150);
+
+        assertFalse(queue.offer(frame("upbit:KRW-ETH")));
+        assertTrue(queue.isClosed());
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(1, overflows.get());
+
+        assertFalse(queue.offer(frame("bithumb:KRW-XRP")));
+        assertEquals(1, overflows.get());
+        verify(dataFlowMonitor, times(1)).incrementDeliveryOverflow();
+        release.countDown();
+    }
+
+    @Test
+    public void testHealthySessionWithinPendingAge() throws Exception {
+        ClientDeliveryQueue queue = queue(100, 0, sent::add);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(frame("binance:USDT-BTC")));
+            awaitSent(i + 1);
+            Thread.sleep(40);
+        }
+
+        assertFalse(queue.isClosed());
+        assertEquals(0, overflows.get());
+    }
+
+    private ClientDeliveryQueue queue(long maxPendingAgeMillis, int maxRate, ClientDeliveryQueue.Sender sender) {
+        return new ClientDeliveryQueue("session-1", maxPendingAgeMillis, maxRate, scheduler,
+            sender, overflows::incrementAndGet, dataFlowMonitor);
+    }
+
+    private static BroadcastFrame frame(String key) {
+        return new BroadcastFrame(null, key, null, 0, null, List.of());
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, sent.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.boot.exchange.layer4_distribution.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.example.boot.exchange.layer1_core.config.ExchangeConfig;
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.model.WireFormat;
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 협상 형식별 프론트엔드 프레임 전송 테스트 (delta 기준 순번 추적)
+ */
+public class SessionFrameWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TradingPair pair;
+    private BroadcastFrameEncoder encoder;
+
+    @BeforeEach
+    public void setup() {
+        pair = new TradingPairRegistry(new ExchangeConfig(), 8, 8).register("binance", new CurrencyPair("USDT", "BTC"));
+        encoder = new BroadcastFrameEncoder(objectMapper, new DataFlowMonitor(null, null, null, null, null));
+    }
+
+    @Test
+    public void testDeltaCarriesOnlyChangedFields() throws Exception {
+        List<WebSocketMessage<?>> sent = new ArrayList<>();
+        SessionFrameWriter writer = new SessionFrameWriter(WireFormat.negotiate("json", "true"), sent::add);
+
+        writer.send(encoder.encode(tick(0, 9_500_000_000_000L)));
+        writer.send(encoder.encode(tick(1, 9_500_100_000_000L)));
+
+        JsonNode full = json(sent.get(0));
+        JsonNode delta = json(sent.get(1));
+        assertEquals("binance:USDT-BTC", full.get("k").asText());
+        assertEquals(1, full.get("s").asLong());
+        assertTrue(full.has("h"));
+        assertEquals(2, delta.get("s").asLong());
+        assertTrue(delta.get("d").asBoolean());
+        assertEquals(95001.0, delta.get("c").asDouble());
+        assertFalse(delta.has("h"));
+        assertFalse(delta.has("v24"));
+    }
+
+    @Test
+    public void testSkippedTickFallsBackToFullFrame() throws Exception {
+        List<WebSocketMessage<?>> sent = new ArrayList<>();
+        SessionFrameWriter writer = new SessionFrameWriter(WireFormat.negotiate("json", "true"), sent::add);
+
+        writer.send(encoder.encode(tick(0, 9_500_000_000_000L)));
+        encoder.encode(tick(1, 9_500_100_000_000L));  // conflation으로 이 세션에는 전송되지 않음
+        writer.send(encoder.encode(tick(2, 9_500_200_000_000L)));
+
+        JsonNode second = json(sent.get(1));
+        assertEquals(3, second.get("s").asLong());
+        assertFalse(second.has("d"));
+        assertTrue(second.has("h"));
+    }
+
+    @Test
+    public void testFormatsShareFrameAndLegacyIsUnchanged() throws Exception {
+        StandardExchangeData data = tick(0, 9_500_000_000_000L);
+        BroadcastFrame frame = encoder.encode(data);
+
+        List<WebSocketMessage<?>> legacy = new ArrayList<>();
+        List<WebSocketMessage<?>> cbor = new ArrayList<>();
+        new SessionFrameWriter(WireFormat.LEGACY, legacy::add).send(frame);
+        new SessionFrameWriter(WireFormat.negotiate("cbor", null), cbor::add).send(frame);
+
+        assertSame(frame, encoder.encode(data));
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(data)), json(legacy.get(0)));
+        assertInstanceOf(BinaryMessage.class, cbor.get(0));
+        assertSame(frame.message(WireFormat.LEGACY, false), legacy.get(0));
+    }
+
+    private JsonNode json(WebSocketMessage<?> message) throws Exception {
+        return objectMapper.readTree(((TextMessage) message).getPayload());
+    }
+
+    private StandardExchangeData tick(int offset, long price) {
+        return StandardExchangeData.from(new CompactTick(
+            pair,
+            1_735_689_600_000L + offset,
+            price,
+            1_250_000L,
+            9_600_000_000_000L,
+            9_400_000_000_000L,
+            -12_345_000_000L,
+            -129_000_000L,
+            1_234_567_890_000L
+        ));
+    }
+}
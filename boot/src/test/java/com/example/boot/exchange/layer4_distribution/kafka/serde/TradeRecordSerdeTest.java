@@ -0,0 +1,159 @@
+package com.example.boot.exchange.layer4_distribution.kafka.serde;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.config.ExchangeConfig;
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.CompactTick;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+
+/**
+ * trades 토픽 바이너리/JSON 레코드 직렬화 테스트
+ */
+public class TradeRecordSerdeTest {
+    private static final String TOPIC = "exchange.trades";
+
+    private TradingPairRegistry registry;
+    private TickBinaryCodec codec;
+    private TradeRecordSerializer binarySerializer;
+    private TradeRecordSerializer jsonSerializer;
+    private TradeRecordDeserializer deserializer;
+
+    @BeforeEach
+    public void setup() {
+        registry = createRegistry(List.of("BTC", "ETH"));
+        codec = new TickBinaryCodec(registry);
+        binarySerializer = new TradeRecordSerializer(TradeRecordFormat.BINARY, codec);
+        jsonSerializer = new TradeRecordSerializer(TradeRecordFormat.JSON, codec);
+        deserializer = new TradeRecordDeserializer(codec);
+    }
+
+    @Test
+    public void testBinaryRoundTripKeepsCompactTick() {
+        StandardExchangeData data = createTick(registry.register("binance", new CurrencyPair("USDT", "BTC")));
+
+        byte[] bytes = binarySerializer.serialize(TOPIC, new RecordHeaders(), data);
+        StandardExchangeData decoded = deserializer.deserialize(TOPIC, new RecordHeaders(), bytes);
+
+        assertEquals(TickBinaryCodec.FIXED_SIZE, bytes.length);
+        assertNotNull(decoded.compact());
+        assertSame(data.tradingPair(), decoded.tradingPair());
+        assertEquals(data.compact(), decoded.compact());
+        assertEquals(data.getPrice(), decoded.getPrice());
+        assertEquals(data.getTimestamp(), decoded.getTimestamp());
+    }
+
+    @Test
+    public void testRuntimePairIsSentByName() {
+        TradingPair pair = registry.register("binance", new CurrencyPair("USDT", "SOL"));
+        StandardExchangeData data = createTick(pair);
+
+        byte[] bytes = binarySerializer.serialize(TOPIC, data);
+
+        // 다른 노드: 같은 설정이지만 실행 중 등록된 거래쌍의 id가 다름
+        TradingPairRegistry otherRegistry = createRegistry(List.of("BTC", "ETH"));
+        otherRegistry.register("upbit", new CurrencyPair("KRW", "SOL"));
+        StandardExchangeData decoded = new TradeRecordDeserializer(new TickBinaryCodec(otherRegistry))
+            .deserialize(TOPIC, bytes);
+
+        assertTrue(bytes.length > TickBinaryCodec.FIXED_SIZE);
+        assertNotSame(pair, decoded.tradingPair());
+        assertEquals("binance:USDT-SOL", decoded.tradingPair().topicKey());
+        assertEquals(data.compact().price(), decoded.compact().price());
+    }
+
+    @Test
+    public void testMissingFieldsRoundTripAsNull() {
+        StandardExchangeData data = StandardExchangeData.builder()
+            .exchange("upbit")
+            .currencyPair(new CurrencyPair("KRW", "ETH"))
+            .price(new BigDecimal("4123000.5"))
+            .volume(new BigDecimal("0.0042"))
+            .build();
+
+        StandardExchangeData decoded = deserializer.deserialize(TOPIC, binarySerializer.serialize(TOPIC, data));
+
+        assertNull(decoded.compact());
+        assertEquals(data.getPrice(), decoded.getPrice());
+        assertEquals(data.getVolume(), decoded.getVolume());
+        assertNull(decoded.getHighPrice());
+        assertNull(decoded.getTimestamp());
+    }
+
+    @Test
+    public void testReadsJsonRecords() {
+        StandardExchangeData data = createTick(registry.register("bithumb", new CurrencyPair("KRW", "BTC")));
+        RecordHeaders headers = new RecordHeaders();
+
+        byte[] bytes = jsonSerializer.serialize(TOPIC, headers, data);
+        StandardExchangeData decoded = deserializer.deserialize(TOPIC, headers, bytes);
+
+        assertEquals('{', bytes[0]);
+        assertEquals(data.getExchange(), decoded.getExchange());
+        assertEquals(data.getCurrencyPair(), decoded.getCurrencyPair());
+        assertEquals(data.getPrice(), decoded.getPrice());
+        assertEquals(data.getVolume24h(), decoded.getVolume24h());
+    }
+
+    @Test
+    public void testMismatchedPairConfigIsSkipped() {
+        byte[] bytes = binarySerializer.serialize(TOPIC,
+            createTick(registry.register("binance", new CurrencyPair("USDT", "ETH"))));
+
+        // 설정 순서가 다른 노드에서는 같은 id가 다른 거래쌍
+        TradingPairRegistry otherRegistry = createRegistry(List.of("ETH", "BTC"));
+        TradeRecordDeserializer otherDeserializer = new TradeRecordDeserializer(new TickBinaryCodec(otherRegistry));
+
+        assertNull(otherDeserializer.deserialize(TOPIC, bytes));
+        assertEquals(1, otherDeserializer.getFailedCount());
+    }
+
+    private static StandardExchangeData createTick(TradingPair pair) {
+        return StandardExchangeData.from(new CompactTick(
+            pair,
+            Instant.parse("2025-01-01T00:00:00Z").toEpochMilli(),
+            9_512_345_000_000L,   // 95123.45
+            1_250_000L,           // 0.0125
+            9_600_000_000_000L,
+            9_400_000_000_000L,
+            -12_345_000_000L,
+            -129_000_000L,
+            1_234_567_890_000L
+        ));
+    }
+
+    private static TradingPairRegistry createRegistry(List<String> symbols) {
+        ExchangeConfig config = new ExchangeConfig();
+        ExchangeConfig.Common common = new ExchangeConfig.Common();
+        common.setSupportedSymbols(symbols);
+        config.setCommon(common);
+
+        ExchangeConfig.Exchanges exchanges = new ExchangeConfig.Exchanges();
+        exchanges.setBinance(exchange("USDT", "BTC"));
+        exchanges.setUpbit(exchange("KRW"));
+        exchanges.setBithumb(exchange("KRW"));
+        config.setExchanges(exchanges);
+        return new TradingPairRegistry(config, 8, 8);
+    }
+
+    private static ExchangeConfig.Exchange exchange(String... currencies) {
+        ExchangeConfig.Exchange exchange = new ExchangeConfig.Exchange();
+        exchange.setSupportedCurrencies(List.of(currencies));
+        return exchange;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.boot.exchange.layer4_distribution.kafka.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.monitoring.DataFlowMonitor;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+/**
+ * trades 토픽 발행 단계 테스트 (ack 받은 틱만 하류로, fail 정책 버퍼 초과 후 backoff 재시작/중단)
+ * 브로커는 첫 send 호출에서 ack를 주지 않고(정체), 이후 호출부터 바로 ack하는 KafkaSender mock으로 대신합니다.
+ */
+public class KafkaTradePublisherTest {
+    private static final Duration BACKOFF = Duration.ofMillis(10);
+
+    private final AtomicInteger sendCalls = new AtomicInteger();
+    private final List<SenderRecord<String, StandardExchangeData, ?>> sentRecords = new CopyOnWriteArrayList<>();
+    private final AtomicInteger tickSubscriptions = new AtomicInteger();
+
+    private KafkaSender<String, StandardExchangeData> sender;
+    private DataFlowMonitor monitor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        sender = mock(KafkaSender.class);
+        monitor = mock(DataFlowMonitor.class);
+        doAnswer(invocation -> {
+            Publisher<SenderRecord<String, StandardExchangeData, Object>> records = invocation.getArgument(0);
+            if (sendCalls.incrementAndGet() == 1) {
+                // 정체된 브로커: 하나만 요청하고 ack를 주지 않음
+                return Flux.from(records).concatMap(record -> Mono.never(), 1);
+            }
+            return Flux.from(records)
+                .doOnNext(sentRecords::add)
+                .map(KafkaTradePublisherTest::acked);
+        }).when(sender).send(any());
+    }
+
+    @Test
+    public void testEmitsAckedTradesOnly() {
+        sendCalls.set(1);  // 정상 브로커부터 시작
+        KafkaTradePublisher publisher = createPublisher("drop-oldest", "exchange.latest");
+
+        List<StandardExchangeData> published = publisher.publish(Flux.just(tick(1), tick(2), tick(3)))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // trades와 latest 토픽에 모두 보내지만 하류로는 trades ack만
+        assertEquals(3, published.size());
+        assertEquals(6, sentRecords.size());
+        assertEquals("exchange.trades", sentRecords.get(0).topic());
+        assertEquals("exchange.latest", sentRecords.get(1).topic());
+        assertEquals("binance:USDT-BTC", sentRecords.get(0).key());
+        verify(monitor, times(3)).incrementKafkaSent();
+    }
+
+    @Test
+    public void testFailPolicyRestartsAfterOverflow() {
+        KafkaTradePublisher publisher = createPublisher("fail", null);
+
+        List<StandardExchangeData> published = publisher.publishWithRestart(ticks(), () -> true)
+            .take(3)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // 정체로 버퍼가 넘쳐 중단된 뒤 다시 구독해 발행을 이어감
+        assertEquals(3, published.size());
+        assertEquals(2, sendCalls.get());
+        assertEquals(2, tickSubscriptions.get());
+        verify(monitor, atLeastOnce()).incrementKafkaSendDropped();
+        verify(monitor).incrementKafkaPublishRestart();
+    }
+
+    @Test
+    public void testFailPolicyStopsWhenInactive() {
+        KafkaTradePublisher publisher = createPublisher("fail", null);
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+            () -> publisher.publishWithRestart(ticks(), () -> false).blockLast(Duration.ofSeconds(5)));
+
+        // 리더가 아니거나 분배가 멈춘 경우에는 재시작하지 않고 오류로 종료
+        assertTrue(Exceptions.isOverflow(error), error.toString());
+        assertEquals(1, sendCalls.get());
+        verify(monitor, never()).incrementKafkaPublishRestart();
+    }
+
+    private KafkaTradePublisher createPublisher(String overflowPolicy, String latestTopic) {
+        return new KafkaTradePublisher(sender, "exchange.trades", latestTopic, overflowPolicy, 4,
+            BACKOFF, BACKOFF, monitor);
+    }
+
+    /**
+     * 요청량과 관계없이 밀어 넣는 상류 (첫 구독은 버퍼를 넘칠 만큼, 이후 구독은 3개만 보내고 열어 둠)
+     */
+    private Flux<StandardExchangeData> ticks() {
+        return Flux.create(sink -> {
+            int count = tickSubscriptions.incrementAndGet() == 1 ? 1000 : 3;
+            for (int i = 0; i < count; i++) {
+                sink.next(tick(i));
+            }
+        }, FluxSink.OverflowStrategy.IGNORE);
+    }
+
+    private static StandardExchangeData tick(int price) {
+        return StandardExchangeData.builder()
+            .exchange("binance")
+            .currencyPair(new CurrencyPair("USDT", "BTC"))
+            .price(BigDecimal.valueOf(price))
+            .build();
+    }
+
+    private static <T> SenderResult<T> acked(SenderRecord<String, StandardExchangeData, T> record) {
+        return new SenderResult<>() {
+            @Override
+            public RecordMetadata recordMetadata() {
+                return null;
+            }
+
+            @Override
+            public Exception exception() {
+                return null;
+            }
+
+            @Override
+            public T correlationMetadata() {
+                return record.correlationMetadata();
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.boot.exchange.layer5_price_cache.redis.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.monitor.RedisCacheMonitor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 시장 데이터 구독 허브 테스트 (채널 참조 카운트, 마지막 채널 해제 시 패턴 구독 중지, 다음 구독 시 재시작)
+ * Redis 패턴 구독은 테스트에서 직접 메시지를 넣을 수 있는 sink로 대신합니다.
+ */
+public class MarketDataSubscriptionHubTest {
+    private static final String PATTERN = "market-data:*";
+    private static final String BTC = "market-data:binance:USDT-BTC";
+    private static final String ETH = "market-data:binance:USDT-ETH";
+
+    private final AtomicInteger patternSubscribes = new AtomicInteger();
+    private final AtomicInteger patternCancels = new AtomicInteger();
+    private volatile Sinks.Many<ReactiveSubscription.Message<String, String>> redis;
+
+    private RedisCacheMonitor monitor;
+    private MarketDataSubscriptionHub hub;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ReactiveRedisTemplate<String, String> template = mock(ReactiveRedisTemplate.class);
+        doAnswer(invocation -> {
+            redis = Sinks.many().multicast().directBestEffort();
+            return redis.asFlux()
+                .doOnSubscribe(subscription -> patternSubscribes.incrementAndGet())
+                .doOnCancel(patternCancels::incrementAndGet);
+        }).when(template).listenToPattern(PATTERN);
+
+        monitor = mock(RedisCacheMonitor.class);
+        hub = new MarketDataSubscriptionHub(template, new ObjectMapper(), monitor);
+    }
+
+    @Test
+    public void testSubscribersShareChannelAndPatternSubscription() {
+        List<StandardExchangeData> first = new CopyOnWriteArrayList<>();
+        List<StandardExchangeData> second = new CopyOnWriteArrayList<>();
+        List<StandardExchangeData> other = new CopyOnWriteArrayList<>();
+        hub.subscribe(BTC).subscribe(first::add);
+        hub.subscribe(BTC).subscribe(second::add);
+        hub.subscribe(ETH).subscribe(other::add);
+
+        assertEquals(1, patternSubscribes.get());
+        assertEquals(2, hub.getChannelCount());
+        assertEquals(3, hub.getSubscriberCount());
+
+        // 한 번 파싱해 같은 채널 구독자 모두에게 전달
+        publish(BTC, "{\"exchange\":\"binance\",\"price\":95123.45}");
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertTrue(other.isEmpty());
+        verify(monitor).recordPubSubDispatch(2);
+    }
+
+    @Test
+    public void testLastReleaseClosesChannelAndStopsPattern() {
+        Disposable first = hub.subscribe(BTC).subscribe();
+        Disposable second = hub.subscribe(BTC).subscribe();
+        Disposable other = hub.subscribe(ETH).subscribe();
+
+        first.dispose();
+        assertEquals(2, hub.getChannelCount());
+        assertEquals(2, hub.getSubscriberCount());
+
+        second.dispose();
+        assertEquals(1, hub.getChannelCount());
+        assertEquals(0, patternCancels.get());
+
+        // 구독자가 없는 채널 메시지는 파싱하지 않음
+        publish(BTC, "not json");
+        verify(monitor, never()).incrementCacheError();
+        verify(monitor, never()).recordPubSubDispatch(anyInt());
+
+        other.dispose();
+        assertEquals(0, hub.getChannelCount());
+        assertEquals(0, hub.getSubscriberCount());
+        assertEquals(1, patternCancels.get());
+    }
+
+    @Test
+    public void testNextSubscribeRestartsPattern() {
+        hub.subscribe(BTC).subscribe().dispose();
+        assertEquals(1, patternSubscribes.get());
+        assertEquals(1, patternCancels.get());
+
+        List<StandardExchangeData> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(BTC).subscribe(received::add);
+        assertEquals(2, patternSubscribes.get());
+        assertEquals(1, hub.getChannelCount());
+
+        publish(BTC, "{\"exchange\":\"binance\",\"price\":95000}");
+        assertEquals(1, received.size());
+        assertEquals("binance", received.get(0).getExchange());
+    }
+
+    @Test
+    public void testUnparsableMessageIsCountedAndSkipped() {
+        List<StandardExchangeData> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(BTC).subscribe(received::add);
+
+        publish(BTC, "not json");
+        publish(BTC, "{\"exchange\":\"binance\",\"price\":95000}");
+
+        verify(monitor).incrementCacheError();
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testShutdownCompletesSubscribers() {
+        AtomicInteger completed = new AtomicInteger();
+        hub.subscribe(BTC).subscribe(data -> { }, error -> { }, completed::incrementAndGet);
+        hub.subscribe(ETH).subscribe(data -> { }, error -> { }, completed::incrementAndGet);
+
+        hub.shutdown();
+
+        assertEquals(2, completed.get());
+        assertEquals(1, patternCancels.get());
+        assertEquals(0, hub.getChannelCount());
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    private void publish(String channel, String payload) {
+        redis.tryEmitNext(new ReactiveSubscription.PatternMessage<>(PATTERN, channel, payload));
+    }
+}
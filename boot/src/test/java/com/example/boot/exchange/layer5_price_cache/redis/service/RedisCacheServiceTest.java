@@ -0,0 +1,97 @@
+package com.example.boot.exchange.layer5_price_cache.redis.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.example.boot.common.logging.ScheduledLogger;
+import com.example.boot.exchange.layer5_price_cache.redis.monitor.RedisCacheMonitor;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleResolution;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 캔들 미러 테스트 (키마다 Lua 교체 스크립트 하나, 파이프라인 한 번)
+ * Redis 연결은 파이프라인 콜백에 넘기는 RedisOperations mock으로 대신합니다.
+ */
+public class RedisCacheServiceTest {
+    private StringRedisTemplate redisTemplate;
+    private RedisOperations<String, String> operations;
+    private RedisCacheMonitor monitor;
+    private RedisCacheService cacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        operations = mock(RedisOperations.class);
+        doAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+            return List.of();
+        }).when(redisTemplate).executePipelined(any(SessionCallback.class));
+
+        monitor = mock(RedisCacheMonitor.class);
+        cacheService = new RedisCacheService(redisTemplate, new ObjectMapper(), monitor,
+            mock(ScheduledLogger.class), mock(AnalysisKeyIndex.class), mock(RedisWriteBehindBuffer.class),
+            mock(MarketDataSubscriptionHub.class));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testMirrorsEachSeriesWithOneScript() {
+        cacheService.mirrorCandles(List.of(
+            new RedisCacheService.CandleBatch("Binance", "USDT-BTC", CandleResolution.S1, List.of(
+                new RedisCacheService.CandleBar(1_000L, "1000,1.0,2.0,0.5,1.5,3.0"),
+                new RedisCacheService.CandleBar(2_000L, "2000,1.5,1.5,1.5,1.5,0.0"))),
+            new RedisCacheService.CandleBatch("upbit", "KRW-BTC", CandleResolution.M1, List.of(
+                new RedisCacheService.CandleBar(60_000L, "60000,1.0,1.0,1.0,1.0,0.1")))));
+
+        ArgumentCaptor<RedisScript> scripts = ArgumentCaptor.forClass(RedisScript.class);
+        ArgumentCaptor<List> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(operations, times(2)).execute(scripts.capture(), keys.capture(), args.capture());
+        verify(operations, never()).opsForZSet();
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(monitor).incrementCacheOperation(true);
+
+        // 같은 스크립트가 제거/추가/잘라내기/만료를 한 번에
+        String script = scripts.getAllValues().get(0).getScriptAsString();
+        assertTrue(script.contains("ZREMRANGEBYSCORE") && script.contains("ZADD")
+            && script.contains("ZREMRANGEBYRANK") && script.contains("PEXPIRE"), script);
+        assertEquals(scripts.getAllValues().get(0), scripts.getAllValues().get(1));
+
+        assertEquals(List.of("candles:binance:USDT-BTC:" + CandleResolution.S1.key()), keys.getAllValues().get(0));
+        long s1Ttl = CandleResolution.S1.millis() * CandleResolution.S1.windowSize();
+        assertArrayEquals(new Object[] {
+            "1000", "2000", String.valueOf(CandleResolution.S1.windowSize()), String.valueOf(s1Ttl),
+            "1000", "1000,1.0,2.0,0.5,1.5,3.0",
+            "2000", "2000,1.5,1.5,1.5,1.5,0.0"
+        }, args.getAllValues().get(0));
+
+        assertEquals(List.of("candles:upbit:KRW-BTC:" + CandleResolution.M1.key()), keys.getAllValues().get(1));
+        assertEquals(6, args.getAllValues().get(1).length);
+    }
+
+    @Test
+    public void testEmptyMirrorSkipsRedis() {
+        cacheService.mirrorCandles(List.of());
+
+        verifyNoInteractions(redisTemplate);
+    }
+}
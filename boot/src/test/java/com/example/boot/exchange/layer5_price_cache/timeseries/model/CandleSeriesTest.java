@@ -0,0 +1,85 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 다중 해상도 캔들 집계 테스트 (경계 완성, 빈 구간 채움, 늦은 틱)
+ */
+public class CandleSeriesTest {
+    private static final long BASE = 1_735_689_600_000L;  // 2025-01-01T00:00:00Z
+
+    private CandleSeries series;
+
+    @BeforeEach
+    public void setup() {
+        series = new CandleSeries();
+    }
+
+    @Test
+    public void testBarsSealOnTimeBoundaries() {
+        series.append(BASE + 100, 100.0, 1.0);
+        series.append(BASE + 400, 105.0, 2.0);
+        series.append(BASE + 900, 98.0, 0.5);
+        series.append(BASE + 59_000, 101.0, 1.0);
+        assertEquals(0, series.view(CandleResolution.M1).size());
+
+        series.append(BASE + 60_500, 102.0, 1.0);  // 다음 1분 구간의 틱이 이전 봉을 완성
+
+        CandleView minute = series.view(CandleResolution.M1);
+        assertEquals(1, minute.size());
+        assertEquals(BASE, minute.openTimeAt(0));
+        assertEquals(100.0, minute.openAt(0));
+        assertEquals(105.0, minute.highAt(0));
+        assertEquals(98.0, minute.lowAt(0));
+        assertEquals(101.0, minute.closeAt(0));
+        assertEquals(4.5, minute.volumeAt(0));
+        assertEquals(101.0, minute.priceAt(0));
+
+        // 틱 없이 경계(+유예)를 지나면 주기 호출로 완성
+        assertEquals(0, series.sealUpTo(BASE + 60_999));
+        series.sealUpTo(BASE + 120_000 + CandleSeries.SEAL_GRACE_MILLIS);
+        assertEquals(2, series.view(CandleResolution.M1).size());
+        assertEquals(102.0, series.view(CandleResolution.M1).closeAt(1));
+        assertEquals(0, series.view(CandleResolution.M5).size());
+    }
+
+    @Test
+    public void testGapFilledWithFlatBarsAndLateTicksDropped() {
+        series.append(BASE + 100, 100.0, 1.0);
+        series.append(BASE + 3_100, 110.0, 2.0);  // 1s: 1~2초 구간은 틱 없음
+
+        CandleView seconds = series.view(CandleResolution.S1);
+        assertEquals(3, seconds.size());
+        assertEquals(BASE + 1_000, seconds.openTimeAt(1));
+        assertEquals(100.0, seconds.closeAt(1));
+        assertEquals(100.0, seconds.highAt(2));
+        assertEquals(0.0, seconds.volumeAt(2));
+
+        series.append(BASE + 500, 50.0, 1.0);  // 이미 완성된 1초 구간의 늦은 틱
+        series.append(BASE + 4_100, 111.0, 1.0);
+
+        seconds = series.view(CandleResolution.S1);
+        assertEquals(4, seconds.size());
+        assertEquals(100.0, seconds.lowAt(0));
+        assertEquals(1, series.getLateTickCount());
+        assertEquals(3, series.viewSince(CandleResolution.S1, 1).size());
+        assertEquals(1, series.viewSince(CandleResolution.S1, 1).startSequence());
+    }
+
+    @Test
+    public void testViewIsLimitedToWindow() {
+        int window = CandleResolution.S1.windowSize();
+        for (int i = 0; i <= window + 10; i++) {
+            series.append(BASE + i * 1_000L, 100.0 + i, 1.0);
+        }
+
+        CandleView seconds = series.view(CandleResolution.S1);
+        assertEquals(window, seconds.size());
+        assertEquals(10, seconds.startSequence());
+        assertEquals(BASE + 10_000L, seconds.openTimeAt(0));
+        assertEquals(100.0 + window + 9, seconds.closeAt(window - 1));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleResolution;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.CandleView;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 캔들 집계기 테스트 (거래소별 틱 체결량 산출, 미러 봉 시작 시각, 복원 중 도착한 틱)
+ */
+public class CandleAggregatorTest {
+    private static final long BASE = 1_735_689_600_000L;  // 2025-01-01T00:00:00Z
+
+    private RedisCacheService cacheService;
+    private CandleAggregator aggregator;
+
+    @BeforeEach
+    public void setup() {
+        cacheService = mock(RedisCacheService.class);
+        aggregator = new CandleAggregator(cacheService, Schedulers.immediate());
+    }
+
+    @Test
+    public void testCumulativeVolumeUsesClampedDelta() {
+        // Binance(v)/Bithumb(volume): 거래량 필드가 24시간 누적값
+        CurrencyPair pair = new CurrencyPair("USDT", "BTC");
+        aggregator.append(tick("binance", pair, BASE + 100, "1000", "1000"));     // 첫 틱: 기준값만 기록
+        aggregator.append(tick("binance", pair, BASE + 200, "1001.5", "1001.5"));
+        aggregator.append(tick("binance", pair, BASE + 300, "1001.0", "1001.0")); // 창에서 빠져나가 감소: 0
+        aggregator.append(tick("binance", pair, BASE + 1_100, "1003.0", "1003.0"));
+        aggregator.sealAndMirror();
+
+        CandleView seconds = aggregator.getCandles("binance", pair.toString(), CandleResolution.S1);
+        assertEquals(2, seconds.size());
+        assertEquals(1.5, seconds.volumeAt(0), 1e-9);
+        assertEquals(2.0, seconds.volumeAt(1), 1e-9);
+    }
+
+    @Test
+    public void testPerTradeVolumeUsedAsIs() {
+        // Upbit: 체결량(tv)과 누적 거래량(atv)이 따로 옴
+        CurrencyPair pair = new CurrencyPair("KRW", "BTC");
+        aggregator.append(tick("upbit", pair, BASE + 100, "0.3", "500.0"));
+        aggregator.append(tick("upbit", pair, BASE + 200, "0.2", "500.2"));
+        aggregator.sealAndMirror();
+
+        CandleView seconds = aggregator.getCandles("upbit", pair.toString(), CandleResolution.S1);
+        assertEquals(1, seconds.size());
+        assertEquals(0.5, seconds.volumeAt(0), 1e-9);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSealedBarsMirroredOnceWithOpenTime() {
+        CurrencyPair pair = new CurrencyPair("USDT", "BTC");
+        aggregator.append(tick("binance", pair, BASE + 100, "1000", "1000"));
+        aggregator.append(tick("binance", pair, BASE + 1_100, "1001", "1001"));
+        aggregator.sealAndMirror();
+        aggregator.sealAndMirror();  // 이미 미러한 봉은 다시 보내지 않음
+
+        ArgumentCaptor<List<RedisCacheService.CandleBatch>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cacheService, times(2)).mirrorCandles(captor.capture());
+        assertTrue(captor.getAllValues().get(1).isEmpty());
+
+        RedisCacheService.CandleBatch seconds = captor.getAllValues().get(0).stream()
+            .filter(batch -> batch.resolution() == CandleResolution.S1)
+            .findFirst().orElseThrow();
+        assertEquals(2, seconds.bars().size());
+        assertEquals(BASE, seconds.bars().get(0).openTime());
+        assertEquals(BASE + 1_000, seconds.bars().get(1).openTime());
+        assertTrue(seconds.bars().get(1).value().startsWith((BASE + 1_000) + ","));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRestoreRunsOffCallerAndReplaysPendingTicks() {
+        CurrencyPair pair = new CurrencyPair("USDT", "BTC");
+        when(cacheService.getCandles(anyString(), anyString(), any())).thenReturn(List.of());
+        when(cacheService.getCandles("binance", pair.toString(), CandleResolution.S1))
+            .thenReturn(List.of(BASE + ",100.0,101.0,99.0,100.0,5.0"));
+        List<Runnable> restores = new ArrayList<>();
+        aggregator = new CandleAggregator(cacheService, Schedulers.fromExecutor(restores::add));
+
+        // 틱을 넣는 스레드에서는 Redis를 조회하지 않고, 복원 전 틱은 모아 둠
+        aggregator.append(tick("binance", pair, BASE + 1_100, "1000", "1000"));
+        aggregator.sealAndMirror();
+        verify(cacheService, never()).getCandles(anyString(), anyString(), any());
+        assertEquals(0, aggregator.getCandles("binance", pair.toString(), CandleResolution.S1).size());
+
+        // 복원 후 모아 둔 틱은 복원한 봉 뒤에 반영되고, 새로 완성된 봉만 미러
+        assertEquals(1, restores.size());
+        restores.get(0).run();
+        aggregator.sealAndMirror();
+
+        CandleView seconds = aggregator.getCandles("binance", pair.toString(), CandleResolution.S1);
+        assertEquals(2, seconds.size());
+        assertEquals(BASE, seconds.openTimeAt(0));
+        assertEquals(5.0, seconds.volumeAt(0), 1e-9);
+        assertEquals(BASE + 1_000, seconds.openTimeAt(1));
+
+        ArgumentCaptor<List<RedisCacheService.CandleBatch>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cacheService, times(2)).mirrorCandles(captor.capture());
+        assertTrue(captor.getAllValues().get(0).isEmpty());
+        RedisCacheService.CandleBatch mirrored = captor.getAllValues().get(1).stream()
+            .filter(batch -> batch.resolution() == CandleResolution.S1)
+            .findFirst().orElseThrow();
+        assertEquals(1, mirrored.bars().size());
+        assertEquals(BASE + 1_000, mirrored.bars().get(0).openTime());
+    }
+
+    private static StandardExchangeData tick(String exchange, CurrencyPair pair, long timestamp,
+            String volume, String volume24h) {
+        return StandardExchangeData.builder()
+            .exchange(exchange)
+            .currencyPair(pair)
+            .price(new BigDecimal("100"))
+            .volume(new BigDecimal(volume))
+            .volume24h(new BigDecimal(volume24h))
+            .timestamp(Instant.ofEpochMilli(timestamp))
+            .build();
+    }
+}
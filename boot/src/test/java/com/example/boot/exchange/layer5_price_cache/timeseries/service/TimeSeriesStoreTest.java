@@ -0,0 +1,106 @@
+package com.example.boot.exchange.layer5_price_cache.timeseries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 가격 시계열 저장소 테스트 (Redis 채우기는 틱 스레드 밖에서, 채우는 중 도착한 틱은 히스토리 뒤에)
+ * 채우기 작업은 직접 실행하는 스케줄러로 시점을 제어합니다.
+ */
+public class TimeSeriesStoreTest {
+    private static final long BASE = 1_735_689_600_000L;  // 2025-01-01T00:00:00Z
+    private static final CurrencyPair PAIR = new CurrencyPair("USDT", "BTC");
+
+    private final List<Runnable> hydrations = new ArrayList<>();
+    private RedisCacheService cacheService;
+
+    @BeforeEach
+    public void setup() {
+        cacheService = mock(RedisCacheService.class);
+        when(cacheService.getAnalysisWindow(anyString(), anyString()))
+            .thenReturn(List.of(tick(BASE, "100"), tick(BASE + 1, "101"), tick(BASE + 2, "102")));
+    }
+
+    @Test
+    public void testHydratesOffCallerAndKeepsTickOrder() {
+        TimeSeriesStore store = new TimeSeriesStore(cacheService, 10, Schedulers.fromExecutor(hydrations::add));
+
+        // 틱을 넣는 스레드에서는 Redis를 조회하지 않고, 채우기 전 틱은 모아 둠
+        store.append(tick(BASE + 10, "110"));
+        store.append(tick(BASE + 11, "111"));
+        verify(cacheService, never()).getAnalysisWindow(anyString(), anyString());
+        assertEquals(0, store.getWindow("binance", PAIR.toString()).size());
+
+        assertEquals(1, hydrations.size());
+        hydrations.get(0).run();
+        store.append(tick(BASE + 12, "112"));
+
+        // 히스토리 뒤에 모아 둔 틱, 이후 틱 순서
+        TimeSeriesView window = store.getWindow("binance", PAIR.toString());
+        assertEquals(6, window.size());
+        assertEquals(List.of(100.0, 101.0, 102.0, 110.0, 111.0, 112.0), prices(window));
+        assertEquals(1, store.getSeriesCount());
+        assertEquals(1, hydrations.size());
+    }
+
+    @Test
+    public void testPendingTicksKeepLatestWindow() {
+        TimeSeriesStore store = new TimeSeriesStore(cacheService, 2, Schedulers.fromExecutor(hydrations::add));
+
+        store.append(tick(BASE + 10, "110"));
+        store.append(tick(BASE + 11, "111"));
+        store.append(tick(BASE + 12, "112"));
+        hydrations.get(0).run();
+
+        assertEquals(List.of(111.0, 112.0), prices(store.getWindow("binance", PAIR.toString())));
+    }
+
+    @Test
+    public void testFailedHydrationStillAppliesPendingTicks() {
+        when(cacheService.getAnalysisWindow(anyString(), anyString())).thenThrow(new IllegalStateException("down"));
+        TimeSeriesStore store = new TimeSeriesStore(cacheService, 10, Schedulers.fromExecutor(hydrations::add));
+
+        store.append(tick(BASE + 10, "110"));
+        hydrations.get(0).run();
+        store.append(tick(BASE + 11, "111"));
+
+        assertEquals(List.of(110.0, 111.0), prices(store.getWindow("binance", PAIR.toString())));
+    }
+
+    private static List<Double> prices(TimeSeriesView window) {
+        List<Double> prices = new ArrayList<>();
+        for (int i = 0; i < window.size(); i++) {
+            prices.add(window.priceAt(i));
+        }
+        return prices;
+    }
+
+    private static StandardExchangeData tick(long timestamp, String price) {
+        return StandardExchangeData.builder()
+            .exchange("binance")
+            .currencyPair(PAIR)
+            .price(new BigDecimal(price))
+            .volume(BigDecimal.ONE)
+            .timestamp(Instant.ofEpochMilli(timestamp))
+            .build();
+    }
+}
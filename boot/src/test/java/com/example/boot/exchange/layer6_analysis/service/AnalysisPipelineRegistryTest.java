@@ -0,0 +1,211 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 분석 파이프라인 레지스트리 테스트 (키 정규화, 카드 참조 카운트 연결/분리, 스스로 끝난 파이프라인 재시작)
+ * 파이프라인 원천은 구독/취소 횟수를 세는 Sink로 대신합니다.
+ */
+public class AnalysisPipelineRegistryTest {
+    private static final CurrencyPair BTC_KRW = new CurrencyPair("KRW", "BTC");
+
+    private final AtomicInteger factoryCalls = new AtomicInteger();
+    private final AtomicInteger subscriptions = new AtomicInteger();
+    private final AtomicInteger cancellations = new AtomicInteger();
+    private final List<Sinks.Many<AnalysisResponse>> sources = new CopyOnWriteArrayList<>();
+
+    private AnalysisPipelineRegistry registry;
+    private AnalysisPipelineRegistry.PipelineKey key;
+
+    @BeforeEach
+    public void setup() {
+        registry = new AnalysisPipelineRegistry();
+        key = AnalysisPipelineRegistry.PipelineKey.of(request("upbit", "dayTrading"), BTC_KRW);
+    }
+
+    @Test
+    public void testKeyNormalizesExchangeAndStyle() {
+        AnalysisPipelineRegistry.PipelineKey other =
+            AnalysisPipelineRegistry.PipelineKey.of(request("UPBIT", "daytrading"), BTC_KRW);
+
+        assertEquals(key, other);
+        assertEquals("daytrading", other.tradingStyle());
+        assertNotEquals(key, AnalysisPipelineRegistry.PipelineKey.of(request("upbit", "swing"), BTC_KRW));
+        assertNull(AnalysisPipelineRegistry.PipelineKey.of(request("upbit", null), BTC_KRW).tradingStyle());
+    }
+
+    @Test
+    public void testCardsShareOnePipeline() {
+        List<AnalysisResponse> first = new CopyOnWriteArrayList<>();
+        List<AnalysisResponse> second = new CopyOnWriteArrayList<>();
+
+        registry.attach("card-1", key, this::source).subscribe(first::add);
+        emit(0, "a");
+        registry.attach("card-2", key, this::source).subscribe(second::add);
+        emit(0, "b");
+
+        // 같은 키는 파이프라인 하나, 늦게 붙은 카드는 최신 결과부터
+        assertEquals(1, factoryCalls.get());
+        assertEquals(1, subscriptions.get());
+        assertEquals(1, registry.getPipelineCount());
+        assertEquals(2, registry.getCardCount());
+        assertEquals(List.of("a", "b"), messages(first));
+        assertEquals(List.of("a", "b"), messages(second));
+    }
+
+    @Test
+    public void testLastDetachStopsPipeline() {
+        AtomicBoolean firstCompleted = new AtomicBoolean();
+        registry.attach("card-1", key, this::source).doOnComplete(() -> firstCompleted.set(true)).subscribe();
+        registry.attach("card-2", key, this::source).subscribe();
+
+        // 먼저 떠난 카드는 스트림만 완료, 파이프라인은 유지
+        assertEquals(key, registry.detach("card-1"));
+        assertTrue(firstCompleted.get());
+        assertEquals(0, cancellations.get());
+        assertEquals(1, registry.getPipelineCount());
+        assertTrue(registry.hasPipeline("upbit", BTC_KRW.toString()));
+
+        // 마지막 카드가 떠나면 중지
+        assertEquals(key, registry.detach("card-2"));
+        assertEquals(1, cancellations.get());
+        assertEquals(0, registry.getPipelineCount());
+        assertEquals(0, registry.getCardCount());
+        assertFalse(registry.hasPipeline("upbit", BTC_KRW.toString()));
+        assertNull(registry.detach("card-2"));
+    }
+
+    @Test
+    public void testReattachMovesCard() {
+        AnalysisPipelineRegistry.PipelineKey swing =
+            AnalysisPipelineRegistry.PipelineKey.of(request("upbit", "swing"), BTC_KRW);
+        registry.attach("card-1", key, this::source).subscribe();
+
+        // 같은 카드가 다른 스타일로 다시 붙으면 이전 파이프라인은 마지막 카드를 잃고 중지
+        registry.attach("card-1", swing, this::source).subscribe();
+
+        assertEquals(2, factoryCalls.get());
+        assertEquals(1, cancellations.get());
+        assertEquals(1, registry.getPipelineCount());
+        assertEquals(1, registry.getCardCount());
+        assertEquals(swing, registry.detach("card-1"));
+    }
+
+    @Test
+    public void testTerminatedPipelineRestartsForNextCard() {
+        AtomicBoolean oldCompleted = new AtomicBoolean();
+        registry.attach("card-1", key, this::source).doOnComplete(() -> oldCompleted.set(true)).subscribe();
+
+        // 원천이 스스로 끝나면 레지스트리에서 제거 (카드 연결은 남아 있음)
+        sources.get(0).tryEmitComplete();
+        assertTrue(oldCompleted.get());
+        assertEquals(0, registry.getPipelineCount());
+        assertEquals(1, registry.getCardCount());
+
+        // 다음 카드는 새 파이프라인을 시작하고, 이전 카드 분리가 새 파이프라인을 멈추지 않음
+        List<AnalysisResponse> received = new CopyOnWriteArrayList<>();
+        registry.attach("card-2", key, this::source).subscribe(received::add);
+        registry.detach("card-1");
+        emit(1, "c");
+
+        assertEquals(2, subscriptions.get());
+        assertEquals(0, cancellations.get());
+        assertEquals(1, registry.getPipelineCount());
+        assertEquals(List.of("c"), messages(received));
+    }
+
+    @Test
+    public void testFactoryRunsOutsideLock() {
+        AtomicBoolean heldLock = new AtomicBoolean();
+        Supplier<Flux<AnalysisResponse>> factory = () -> {
+            heldLock.set(Thread.holdsLock(registry));
+            return source();
+        };
+
+        registry.attach("card-1", key, factory).subscribe();
+
+        assertEquals(1, factoryCalls.get());
+        assertFalse(heldLock.get());
+    }
+
+    @Test
+    public void testConcurrentAttachConnectsOnce() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            String cardId = "card-" + t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    registry.attach(cardId, key, this::source).subscribe();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        // 경쟁으로 Flux를 여러 번 만들 수는 있지만 연결(구독)은 하나만
+        assertTrue(factoryCalls.get() >= 1);
+        assertEquals(1, subscriptions.get());
+        assertEquals(1, registry.getPipelineCount());
+        assertEquals(threads, registry.getCardCount());
+
+        for (int t = 0; t < threads; t++) {
+            registry.detach("card-" + t);
+        }
+        assertEquals(1, cancellations.get());
+        assertEquals(0, registry.getPipelineCount());
+    }
+
+    private Flux<AnalysisResponse> source() {
+        factoryCalls.incrementAndGet();
+        Sinks.Many<AnalysisResponse> sink = Sinks.many().multicast().directBestEffort();
+        sources.add(sink);
+        return sink.asFlux()
+            .doOnSubscribe(subscription -> subscriptions.incrementAndGet())
+            .doOnCancel(cancellations::incrementAndGet);
+    }
+
+    private void emit(int source, String message) {
+        sources.get(source).tryEmitNext(AnalysisResponse.builder().message(message).build());
+    }
+
+    private static List<String> messages(List<AnalysisResponse> responses) {
+        return responses.stream().map(AnalysisResponse::getMessage).toList();
+    }
+
+    private static AnalysisRequest request(String exchange, String tradingStyle) {
+        AnalysisRequest request = new AnalysisRequest();
+        request.setExchange(exchange);
+        request.setTradingStyle(tradingStyle);
+        return request;
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
+
+/**
+ * 중앙 분석 스케줄러 테스트 (변경 없음/실행 중 건너뜀, LOW 지연 후 버림, 포화 시 버림, 완료 시 남은 틱 분석)
+ * 스케줄러 스레드는 시작하지 않고 tick(now)을 직접 호출해 주기를 진행합니다.
+ */
+public class AnalysisSchedulerTest {
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 워커 1개, 큐 2칸 (대기 1개부터 과부하, 2개면 포화)
+    private AnalysisScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = new AnalysisScheduler(1, 2, 250);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void testSkipsUnchangedInput() throws Exception {
+        Probe probe = register("unchanged", INTERVAL, AnalysisScheduler.Priority.NORMAL);
+        long due = dueAfter(INTERVAL);
+
+        probe.job.offer(tick(100));
+        scheduler.tick(due);
+        probe.awaitResult();
+
+        // 새 틱이 없으면 워커에 넣지 않음
+        scheduler.tick(due + SECOND);
+        scheduler.tick(due + 2 * SECOND);
+        assertEquals(2, scheduler.getSkippedUnchangedCount());
+
+        probe.job.offer(tick(101));
+        scheduler.tick(due + 3 * SECOND);
+        probe.awaitResult();
+
+        assertEquals(2, scheduler.getRunCount());
+        assertEquals(List.of(100.0, 101.0), probe.prices());
+    }
+
+    @Test
+    public void testSkipsWhilePreviousRunInProgress() throws Exception {
+        Probe probe = register("busy", INTERVAL, AnalysisScheduler.Priority.NORMAL).blocking();
+        long due = dueAfter(INTERVAL);
+
+        probe.job.offer(tick(100));
+        scheduler.tick(due);
+        probe.awaitEntered();
+
+        // 실행 중에 새 틱이 와도 같은 작업을 다시 넣지 않음
+        probe.job.offer(tick(101));
+        scheduler.tick(due + SECOND);
+        assertEquals(1, scheduler.getSkippedBusyCount());
+        assertEquals(0, scheduler.getQueueDepth());
+
+        probe.release();
+        probe.awaitResult();
+        scheduler.tick(due + 2 * SECOND);
+        probe.awaitResult();
+
+        assertEquals(List.of(100.0, 101.0), probe.prices());
+    }
+
+    @Test
+    public void testLowPriorityDelayedThenShedUnderLoad() throws Exception {
+        Probe blocker = occupyWorker();
+        Probe filler = queueOne();
+
+        Duration lowInterval = Duration.ofSeconds(10);
+        Probe low = register("low", lowInterval, AnalysisScheduler.Priority.LOW);
+        long due = dueAfter(lowInterval);
+        low.job.offer(tick(100));
+
+        // 한 주기 안에서는 다음 틱으로 미룸
+        scheduler.tick(due);
+        scheduler.tick(due + 5 * SECOND);
+        assertEquals(2, scheduler.getDelayedCount());
+        assertEquals(0, scheduler.getShedCount());
+
+        // 한 주기가 지나도 밀려 있으면 이번 주기는 버림
+        scheduler.tick(due + 10 * SECOND + 1);
+        assertEquals(1, scheduler.getShedCount());
+        assertEquals(1, scheduler.getQueueDepth());
+
+        blocker.release();
+        filler.awaitResult();
+        assertTrue(low.prices().isEmpty());
+
+        // 부하가 풀리면 다음 주기에 실행
+        scheduler.tick(due + 30 * SECOND);
+        low.awaitResult();
+        assertEquals(List.of(100.0), low.prices());
+    }
+
+    @Test
+    public void testShedsWhenQueueSaturated() throws Exception {
+        Probe blocker = occupyWorker();
+        Probe filler1 = queueOne();
+        Probe filler2 = queueOne();
+        assertEquals(2, scheduler.getQueueDepth());
+
+        Probe normal = register("normal", INTERVAL, AnalysisScheduler.Priority.NORMAL);
+        Probe high = register("high", INTERVAL, AnalysisScheduler.Priority.HIGH);
+        long due = dueAfter(INTERVAL);
+        normal.job.offer(tick(100));
+        high.job.offer(tick(200));
+
+        // NORMAL은 큐에 넣지 않고 버리고, HIGH는 넣으려다 거부되면 버림 (다음 주기에 다시 시도할 수 있어야 함)
+        scheduler.tick(due);
+        assertEquals(2, scheduler.getShedCount());
+        assertEquals(2, scheduler.getQueueDepth());
+
+        blocker.release();
+        filler1.awaitResult();
+        filler2.awaitResult();
+
+        scheduler.tick(due + 5 * SECOND);
+        normal.awaitResult();
+        high.awaitResult();
+        assertEquals(List.of(100.0), normal.prices());
+        assertEquals(List.of(200.0), high.prices());
+    }
+
+    @Test
+    public void testCompleteAnalyzesRemainingTickAfterRunningOne() throws Exception {
+        Probe probe = register("complete", INTERVAL, AnalysisScheduler.Priority.NORMAL).blocking();
+        long due = dueAfter(INTERVAL);
+
+        probe.job.offer(tick(100));
+        scheduler.tick(due);
+        probe.awaitEntered();
+
+        // 실행 중 입력 종료: 실행이 끝나면서 남은 틱을 다시 넣고, 그 분석까지 끝나면 완료
+        probe.job.offer(tick(101));
+        probe.job.complete();
+        assertEquals(1, probe.completed.getCount());
+
+        probe.release();
+        assertTrue(probe.completed.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(100.0, 101.0), probe.prices());
+        assertEquals(2, probe.results.size());
+        assertEquals(0, scheduler.getJobCount());
+    }
+
+    @Test
+    public void testCompleteWithoutPendingTickCompletesImmediately() throws Exception {
+        Probe probe = register("idle", INTERVAL, AnalysisScheduler.Priority.NORMAL);
+        long due = dueAfter(INTERVAL);
+
+        probe.job.offer(tick(100));
+        scheduler.tick(due);
+        probe.awaitResult();
+
+        probe.job.complete();
+        assertTrue(probe.completed.await(1, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.getJobCount());
+        assertEquals(List.of(100.0), probe.prices());
+    }
+
+    /**
+     * 워커 하나를 막는 HIGH 작업 실행
+     */
+    private Probe occupyWorker() throws InterruptedException {
+        Probe blocker = register("blocker", INTERVAL, AnalysisScheduler.Priority.HIGH).blocking();
+        blocker.job.offer(tick(1));
+        scheduler.tick(dueAfter(INTERVAL));
+        blocker.awaitEntered();
+        return blocker;
+    }
+
+    /**
+     * 워커가 막힌 상태에서 큐에 작업 하나 추가
+     */
+    private Probe queueOne() {
+        Probe filler = register("filler", INTERVAL, AnalysisScheduler.Priority.HIGH);
+        filler.job.offer(tick(2));
+        int depth = scheduler.getQueueDepth();
+        scheduler.tick(dueAfter(INTERVAL));
+        assertEquals(depth + 1, scheduler.getQueueDepth());
+        return filler;
+    }
+
+    private Probe register(String name, Duration interval, AnalysisScheduler.Priority priority) {
+        Probe probe = new Probe();
+        probe.job = scheduler.register(name, interval, priority, probe::analyze,
+            probe.results::add, error -> { }, probe.completed::countDown);
+        return probe;
+    }
+
+    /**
+     * 지금 등록한 작업의 첫 주기가 지난 시각
+     */
+    private static long dueAfter(Duration interval) {
+        return System.nanoTime() + interval.toNanos();
+    }
+
+    private static StandardExchangeData tick(double price) {
+        return StandardExchangeData.builder()
+            .exchange("binance")
+            .price(BigDecimal.valueOf(price))
+            .build();
+    }
+
+    private static final class Probe {
+        final List<StandardExchangeData> analyzed = new CopyOnWriteArrayList<>();
+        final BlockingQueue<AnalysisResponse> results = new LinkedBlockingQueue<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+        AnalysisScheduler.Job job;
+        private int taken = 0;
+
+        Probe blocking() {
+            gate = new CountDownLatch(1);
+            return this;
+        }
+
+        AnalysisResponse analyze(StandardExchangeData data) {
+            analyzed.add(data);
+            entered.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return AnalysisResponse.builder().currentPrice(data.priceAsDouble()).build();
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void awaitEntered() throws InterruptedException {
+            assertTrue(entered.await(2, TimeUnit.SECONDS));
+        }
+
+        void awaitResult() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (results.size() <= taken && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(results.size() > taken, "analysis result expected");
+            taken++;
+        }
+
+        List<Double> prices() {
+            return analyzed.stream().map(StandardExchangeData::priceAsDouble).toList();
+        }
+    }
+}
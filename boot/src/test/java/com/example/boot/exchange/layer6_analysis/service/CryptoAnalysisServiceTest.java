@@ -15,10 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import com.example.boot.exchange.layer1_core.model.CurrencyPair;
 import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
 import com.example.boot.exchange.layer5_price_cache.redis.service.RedisCacheService;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+import com.example.boot.exchange.layer5_price_cache.timeseries.service.CandleAggregator;
+import com.example.boot.exchange.layer5_price_cache.timeseries.service.TimeSeriesStore;
 import com.example.boot.exchange.layer6_analysis.config.TradingStyleConfig;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
 import com.example.boot.exchange.layer6_analysis.dto.AnalysisResponse;
@@ -31,15 +35,27 @@ public class CryptoAnalysisServiceTest {
     @Mock
     private RedisCacheService cacheService;
     
+    @Mock
+    private TimeSeriesStore timeSeriesStore;
+    
+    @Mock
+    private CandleAggregator candleAggregator;
+    
     @Mock
     private IndicatorCalculationService indicatorService;
     
+    @Mock
+    private IncrementalIndicatorEngine indicatorEngine;
+    
     @Mock
     private AnalysisResponseConverter responseConverter;
     
     @Mock
     private TradingStyleConfig tradingStyleConfig;
     
+    @Spy
+    private AnalysisScheduler analysisScheduler = new AnalysisScheduler(2, 100, 250);
+    
     @InjectMocks
     private CryptoAnalysisService cryptoAnalysisService;
     
@@ -119,8 +135,14 @@ public class CryptoAnalysisServiceTest {
         when(cacheService.subscribeToMarketData(anyString(), anyString()))
             .thenReturn(Flux.just(marketData));
         
-        when(cacheService.getAnalysisWindow(anyString(), anyString()))
-            .thenReturn(history);
+        when(timeSeriesStore.getWindow(anyString(), anyString()))
+            .thenReturn(TimeSeriesView.of(history));
+        
+        when(indicatorEngine.calculateIndicators(anyString(), any(), any())).thenReturn(Map.of(
+            "rsiValue", 45.0,
+            "rsiSignal", "NEUTRAL",
+            "rsiSignalStrength", 50.0
+        ));
         
         AnalysisResponse expectedResponse = AnalysisResponse.builder()
             .exchange("BINANCE")
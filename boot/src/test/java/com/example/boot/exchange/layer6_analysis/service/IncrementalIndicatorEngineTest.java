@@ -0,0 +1,117 @@
+package com.example.boot.exchange.layer6_analysis.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.PriceTimeSeries;
+import com.example.boot.exchange.layer5_price_cache.timeseries.model.TimeSeriesView;
+import com.example.boot.exchange.layer6_analysis.config.TradingStyleConfig;
+import com.example.boot.exchange.layer6_analysis.dto.AnalysisRequest;
+
+/**
+ * 증분 지표 엔진과 전체 재계산(IndicatorCalculationService) 결과 동등성 테스트
+ */
+public class IncrementalIndicatorEngineTest {
+    private static final int WINDOW_SIZE = 1000;
+    private static final String SERIES_KEY = "binance:USDT-BTC";
+
+    private IndicatorCalculationService indicatorService;
+    private IncrementalIndicatorEngine engine;
+    private TradingStyleConfig tradingStyleConfig;
+
+    @BeforeEach
+    public void setup() {
+        indicatorService = new IndicatorCalculationService();
+        engine = new IncrementalIndicatorEngine(indicatorService, WINDOW_SIZE);
+        tradingStyleConfig = new TradingStyleConfig();
+    }
+
+    @Test
+    public void testMatchesFullRecalculationForAllTradingStyles() {
+        for (String style : new String[] {"scalping", "dayTrading", "swing"}) {
+            AnalysisRequest request = createRequest(style);
+            PriceTimeSeries series = new PriceTimeSeries(WINDOW_SIZE);
+            Random random = new Random(42);
+            double price = 50000.0;
+
+            // 윈도우가 가득 차고 여러 번 밀려나도록 충분히 공급, 조회 간격은 불규칙하게
+            for (int i = 0; i < 3500; i++) {
+                price = Math.max(1.0, price + random.nextGaussian() * 25.0);
+                series.append(i, price, 0.5 + random.nextDouble() * 2.0);
+
+                if (i < 40 || random.nextInt(13) == 0) {
+                    assertEquivalent(style + " tick " + i, series.view(), request);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRebuildsAfterMissingTicksBeyondWindow() {
+        AnalysisRequest request = createRequest("dayTrading");
+        PriceTimeSeries series = new PriceTimeSeries(WINDOW_SIZE);
+        Random random = new Random(7);
+        double price = 100.0;
+
+        for (int i = 0; i < 50; i++) {
+            price += random.nextGaussian();
+            series.append(i, price, 1.0 + random.nextDouble());
+        }
+        assertEquivalent("initial", series.view(), request);
+
+        // 윈도우보다 많은 틱이 조회 없이 추가된 경우
+        for (int i = 50; i < 50 + WINDOW_SIZE * 3; i++) {
+            price += random.nextGaussian();
+            series.append(i, price, 1.0 + random.nextDouble());
+        }
+        assertEquivalent("after gap", series.view(), request);
+    }
+
+    @Test
+    public void testMonotonicPricesWithoutLosses() {
+        AnalysisRequest request = createRequest("scalping");
+        PriceTimeSeries series = new PriceTimeSeries(WINDOW_SIZE);
+
+        for (int i = 0; i < 30; i++) {
+            series.append(i, 100.0 + i, 1.0);
+            assertEquivalent("tick " + i, series.view(), request);
+        }
+    }
+
+    private void assertEquivalent(String label, TimeSeriesView window, AnalysisRequest request) {
+        Map<String, Object> expected = new HashMap<>();
+        expected.putAll(indicatorService.calculateSMA(window, request));
+        expected.putAll(indicatorService.calculateRSI(window, request));
+        expected.putAll(indicatorService.calculateBollingerBands(window, request));
+        expected.putAll(indicatorService.analyzeVolume(window));
+
+        Map<String, Object> actual = engine.calculateIndicators(SERIES_KEY, window, request);
+
+        assertEquals(expected.keySet(), actual.keySet(), label + ": result keys");
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            Object expectedValue = entry.getValue();
+            Object actualValue = actual.get(entry.getKey());
+            if (expectedValue instanceof Double expectedDouble) {
+                double tolerance = 1e-6 * Math.max(1.0, Math.abs(expectedDouble));
+                assertEquals(expectedDouble, (Double) actualValue, tolerance, label + ": " + entry.getKey());
+            } else {
+                assertEquals(expectedValue, actualValue, label + ": " + entry.getKey());
+            }
+        }
+    }
+
+    private AnalysisRequest createRequest(String tradingStyle) {
+        AnalysisRequest request = new AnalysisRequest();
+        request.setExchange("BINANCE");
+        request.setCurrencyPair("USDT-BTC");
+        request.setTradingStyle(tradingStyle);
+        tradingStyleConfig.applyStyleParameters(request);
+        return request;
+    }
+}
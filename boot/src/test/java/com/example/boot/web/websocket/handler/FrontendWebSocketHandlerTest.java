@@ -0,0 +1,121 @@
+package com.example.boot.web.websocket.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.boot.common.session.registry.SessionRegistry;
+import com.example.boot.exchange.layer1_core.model.CurrencyPair;
+import com.example.boot.exchange.layer1_core.model.TradingPairRegistry;
+import com.example.boot.exchange.layer3_data_converter.model.StandardExchangeData;
+import com.example.boot.exchange.layer4_distribution.common.factory.ClientDeliveryQueueFactory;
+import com.example.boot.exchange.layer4_distribution.common.factory.DistributionServiceFactory;
+import com.example.boot.exchange.layer4_distribution.common.model.BroadcastFrame;
+import com.example.boot.exchange.layer4_distribution.common.service.BroadcastFrameEncoder;
+import com.example.boot.exchange.layer4_distribution.common.service.ClientDeliveryQueue;
+import com.example.boot.exchange.layer4_distribution.common.service.DistributionService;
+import com.example.boot.exchange.layer4_distribution.common.service.LatestTickTable;
+import com.example.boot.exchange.layer4_distribution.common.service.SubscriptionIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 구독 요청 처리 테스트 (새로 구독한 거래쌍만 최신 틱 스냅샷으로 전송 큐에 넣음)
+ * 세션 전송 큐와 프레임 인코더는 mock, 구독 인덱스와 최신 틱 테이블은 실제 구현을 사용합니다.
+ */
+public class FrontendWebSocketHandlerTest {
+    private static final String SESSION_ID = "session-1";
+
+    private SubscriptionIndex subscriptionIndex;
+    private LatestTickTable latestTickTable;
+    private BroadcastFrameEncoder frameEncoder;
+    private ClientDeliveryQueue sink;
+    private WebSocketSession session;
+    private FrontendWebSocketHandler handler;
+
+    private StandardExchangeData binanceBtc;
+    private StandardExchangeData upbitBtc;
+
+    @BeforeEach
+    public void setup() {
+        subscriptionIndex = new SubscriptionIndex(256);
+        latestTickTable = new LatestTickTable(new TradingPairRegistry(null, 8, 8));
+        frameEncoder = mock(BroadcastFrameEncoder.class);
+        when(frameEncoder.encodeSnapshot(anyList())).thenReturn(mock(BroadcastFrame.class));
+
+        sink = mock(ClientDeliveryQueue.class);
+        DistributionService service = mock(DistributionService.class);
+        when(service.getClientSink(SESSION_ID)).thenReturn(sink);
+        DistributionServiceFactory serviceFactory = mock(DistributionServiceFactory.class);
+        when(serviceFactory.getCurrentService()).thenReturn(service);
+
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+
+        handler = new FrontendWebSocketHandler(serviceFactory, mock(SessionRegistry.class),
+            mock(ClientDeliveryQueueFactory.class), subscriptionIndex, latestTickTable, frameEncoder,
+            new ObjectMapper());
+
+        binanceBtc = tick("binance", new CurrencyPair("USDT", "BTC"));
+        upbitBtc = tick("upbit", new CurrencyPair("KRW", "BTC"));
+        latestTickTable.update(binanceBtc);
+        latestTickTable.update(upbitBtc);
+        subscriptionIndex.registerSession(SESSION_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSubscribeSendsSnapshotForNewPairsOnly() throws Exception {
+        subscriptionIndex.subscribe(SESSION_ID, List.of("binance:USDT-BTC"));
+
+        handler.handleTextMessage(session, subscribe("binance:*", "upbit:*"));
+
+        // 이미 받고 있던 binance는 제외하고 upbit만 스냅샷으로
+        ArgumentCaptor<List<StandardExchangeData>> snapshot = ArgumentCaptor.forClass(List.class);
+        verify(frameEncoder).encodeSnapshot(snapshot.capture());
+        assertEquals(List.of(upbitBtc), snapshot.getValue());
+        verify(sink, times(1)).offer(any());
+        verify(session).sendMessage(any(TextMessage.class));
+    }
+
+    @Test
+    public void testSubscribeWithoutNewPairsSendsNoSnapshot() throws Exception {
+        // 기본 전체 구독에서 좁히는 경우와 이미 구독한 토픽을 다시 구독하는 경우
+        handler.handleTextMessage(session, subscribe("binance:USDT-BTC"));
+        handler.handleTextMessage(session, subscribe("binance:USDT-BTC"));
+
+        verify(frameEncoder, never()).encodeSnapshot(anyList());
+        verify(sink, never()).offer(any());
+    }
+
+    private static TextMessage subscribe(String... topics) {
+        StringBuilder payload = new StringBuilder("{\"action\":\"subscribe\",\"topics\":[");
+        for (int i = 0; i < topics.length; i++) {
+            payload.append(i > 0 ? "," : "").append('"').append(topics[i]).append('"');
+        }
+        return new TextMessage(payload.append("]}").toString());
+    }
+
+    private static StandardExchangeData tick(String exchange, CurrencyPair pair) {
+        return StandardExchangeData.builder()
+            .exchange(exchange)
+            .currencyPair(pair)
+            .price(new BigDecimal("100"))
+            .timestamp(Instant.parse("2025-01-01T00:00:00Z"))
+            .build();
+    }
+}